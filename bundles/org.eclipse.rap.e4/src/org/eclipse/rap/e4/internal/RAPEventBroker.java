@@ -5,12 +5,14 @@ import java.util.Collection;
 import java.util.Dictionary;
 import java.util.HashMap;
 import java.util.Hashtable;
+import java.util.List;
 import java.util.Map;
 
 import javax.annotation.PreDestroy;
 import javax.inject.Inject;
 import javax.inject.Named;
 
+import org.eclipse.e4.core.contexts.IEclipseContext;
 import org.eclipse.e4.core.di.annotations.Optional;
 import org.eclipse.e4.core.services.events.IEventBroker;
 import org.eclipse.e4.core.services.log.Logger;
@@ -19,9 +21,13 @@ import org.eclipse.e4.ui.internal.workbench.swt.E4Application;
 import org.eclipse.e4.ui.model.application.MApplication;
 import org.eclipse.e4.ui.workbench.IWorkbench;
 import org.eclipse.osgi.util.NLS;
+import org.eclipse.rap.e4.internal.RAPEventBus.Subscription;
 import org.osgi.framework.Bundle;
 import org.osgi.framework.BundleContext;
 import org.osgi.framework.BundleException;
+import org.osgi.framework.Filter;
+import org.osgi.framework.FrameworkUtil;
+import org.osgi.framework.InvalidSyntaxException;
 import org.osgi.framework.ServiceRegistration;
 import org.osgi.service.event.Event;
 import org.osgi.service.event.EventAdmin;
@@ -33,7 +39,19 @@ public class RAPEventBroker implements IEventBroker {
 
 	    private static final String	ASYNC_EVENT = "rap.async.event";
 
-		private Map<EventHandler, Collection<ServiceRegistration<?>>> registrations = new HashMap<EventHandler, Collection<ServiceRegistration<?>>>();
+	    /*
+	     * When enabled, sent and posted events are only passed to the EventAdmin
+	     * if a headless subscription of the application instance matches their
+	     * topic. EventHandler services that are registered with the EventAdmin
+	     * directly for the topics of an instance then no longer receive events.
+	     */
+	    static final String ENABLE_SELECTIVE_EVENT_ADMIN = "org.eclipse.rap.e4.enableSelectiveEventAdmin";
+
+		private final boolean selectiveEventAdmin = Boolean.getBoolean(ENABLE_SELECTIVE_EVENT_ADMIN);
+
+		private Map<EventHandler, Collection<Subscription>> registrations = new HashMap<EventHandler, Collection<Subscription>>();
+
+		private RAPEventBus bus;
 
 		@Inject
 		Logger logger;
@@ -70,8 +88,16 @@ public class RAPEventBroker implements IEventBroker {
 			// placeholder
 		}
 
+		@Inject
+		void setContext(IEclipseContext context) {
+			bus = RAPEventBus.getInstance(context);
+		}
+
 		public boolean send(String topic, Object data) {
 			Event event = constructEvent(topic, data, false);
+			dispatch(topic, event);
+			if (!isForwarded(topic))
+				return true;
 			EventAdmin eventAdmin = Activator.getDefault().getEventAdmin();
 			if (eventAdmin == null) {
 				logger.error(NLS.bind("No EventAdmin", event.toString()));
@@ -83,6 +109,10 @@ public class RAPEventBroker implements IEventBroker {
 
 		public boolean post(String topic, Object data) {
 			Event event = constructEvent(topic, data, true);
+			// the handlers of the broker are UI handlers that defer asynchronous events
+			dispatch(topic, event);
+			if (!isForwarded(topic))
+				return true;
 			EventAdmin eventAdmin = Activator.getDefault().getEventAdmin();
 			if (eventAdmin == null) {
 				logger.error(NLS.bind("No EventAdmin", event.toString()));
@@ -92,6 +122,24 @@ public class RAPEventBroker implements IEventBroker {
 			return true;
 		}
 
+		private boolean isForwarded(String topic) {
+			return !selectiveEventAdmin || bus.hasEventAdminSubscriptions(topic);
+		}
+
+		private void dispatch(String topic, Event event) {
+			List<Subscription> matching = new ArrayList<Subscription>();
+			bus.collect(topic, matching);
+			for (Subscription subscription : matching) {
+				if (subscription.accepts(event)) {
+					try {
+						subscription.handler.handleEvent(event);
+					} catch (RuntimeException exception) {
+						logger.error(exception, NLS.bind("Exception while delivering event {0}", event.toString()));
+					}
+				}
+			}
+		}
+
 		@SuppressWarnings("unchecked")
 		private Event constructEvent(String topic, Object data, boolean async) {
 			topic = rapifyTopic(instanceId, topic);
@@ -123,51 +171,85 @@ public class RAPEventBroker implements IEventBroker {
 		}
 
 		public boolean subscribe(String topic, String filter, EventHandler eventHandler, boolean headless) {
-			topic = rapifyTopic(instanceId, topic);
+			if (headless || uiSync == null) {
+				// headless handlers expect posted events to be delivered asynchronously
+				return subscribeEventAdmin(topic, filter, new RAPUIEventHandler(eventHandler, null), eventHandler);
+			}
+			Filter parsedFilter = null;
+			if (filter != null) {
+				try {
+					parsedFilter = FrameworkUtil.createFilter(filter);
+				} catch (InvalidSyntaxException exception) {
+					logger.error(exception, NLS.bind("Invalid event filter {0}", filter));
+					return false;
+				}
+			}
+			EventHandler wrappedHandler = new RAPUIEventHandler(eventHandler, uiSync);
+			addSubscription(eventHandler, new Subscription(topic, parsedFilter, wrappedHandler, null));
+			return true;
+		}
+
+		/**
+		 * Subscribes a handler that is called in the thread that sends or posts
+		 * the event, the handler has to defer the processing of asynchronous
+		 * events itself.
+		 */
+		boolean subscribeDirect(String topic, EventHandler eventHandler) {
+			addSubscription(eventHandler, new Subscription(topic, null, eventHandler, null));
+			return true;
+		}
+
+		private boolean subscribeEventAdmin(String topic, String filter, EventHandler wrappedHandler, EventHandler eventHandler) {
 			BundleContext bundleContext = Activator.getDefault().getBundleContext();
 			if (bundleContext == null) {
 				logger.error(NLS.bind("No EventAdmin", topic));
 				return false;
 			}
-			String[] topics = new String[] {topic};
+			String[] topics = new String[] {rapifyTopic(instanceId, topic)};
 			Dictionary<String, Object> d = new Hashtable<String, Object>();
 			d.put(EventConstants.EVENT_TOPIC, topics);
 			if (filter != null)
 				d.put(EventConstants.EVENT_FILTER, filter);
-			EventHandler wrappedHandler = new RAPUIEventHandler(eventHandler, headless ? null : uiSync);
 			ServiceRegistration<?> registration = bundleContext.registerService(
 					EventHandler.class.getName(), wrappedHandler, d);
-			Collection<ServiceRegistration<?>> handled = registrations
-					.get(eventHandler);
-			if (handled == null) {
-				registrations.put(eventHandler,
-						handled = new ArrayList<ServiceRegistration<?>>());
-			}
-			handled.add(registration);
+			addSubscription(eventHandler, new Subscription(topic, null, wrappedHandler, registration));
 			return true;
 		}
 
+		private void addSubscription(EventHandler eventHandler, Subscription subscription) {
+			synchronized (registrations) {
+				Collection<Subscription> handled = registrations.get(eventHandler);
+				if (handled == null) {
+					registrations.put(eventHandler, handled = new ArrayList<Subscription>());
+				}
+				handled.add(subscription);
+			}
+			bus.add(subscription);
+		}
+
 		public boolean unsubscribe(EventHandler eventHandler) {
-			Collection<ServiceRegistration<?>> handled = registrations
-					.remove(eventHandler);
+			Collection<Subscription> handled;
+			synchronized (registrations) {
+				handled = registrations.remove(eventHandler);
+			}
 			if (handled == null || handled.isEmpty())
 				return false;
-			for (ServiceRegistration<?> r : handled) {
-				r.unregister();
+			for (Subscription subscription : handled) {
+				bus.remove(subscription);
 			}
 			return true;
 		}
 
 		@PreDestroy
 		void dispose() {
-			Collection<Collection<ServiceRegistration<?>>> values = new ArrayList<Collection<ServiceRegistration<?>>>(
-					registrations.values());
-			registrations.clear();
-			for (Collection<ServiceRegistration<?>> handled : values) {
-				for (ServiceRegistration<?> registration : handled) {
-					// System.out.println("EventBroker dispose:" + registration[i] +
-					// ")");
-					registration.unregister();
+			Collection<Collection<Subscription>> values;
+			synchronized (registrations) {
+				values = new ArrayList<Collection<Subscription>>(registrations.values());
+				registrations.clear();
+			}
+			for (Collection<Subscription> handled : values) {
+				for (Subscription subscription : handled) {
+					bus.remove(subscription);
 				}
 			}
 		}
@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.rap.e4.internal;
+
+import java.util.Collection;
+
+import org.eclipse.e4.core.contexts.IEclipseContext;
+import org.eclipse.e4.ui.internal.workbench.swt.E4Application;
+import org.osgi.framework.Filter;
+import org.osgi.framework.ServiceRegistration;
+import org.osgi.service.event.Event;
+import org.osgi.service.event.EventHandler;
+
+/**
+ * The subscriptions of all event brokers of an application instance, that is
+ * of a session. Subscriptions are matched against the topics of the instance
+ * without the instance prefix that is used for the EventAdmin.
+ * <p>
+ * Subscriptions that are delivered by the broker itself are kept apart from
+ * the subscriptions that are registered with the EventAdmin. If enabled, see
+ * RAPEventBroker#ENABLE_SELECTIVE_EVENT_ADMIN, an event is only passed to the
+ * EventAdmin if one of the latter matches its topic.
+ * </p>
+ */
+@SuppressWarnings("restriction")
+final class RAPEventBus {
+
+	private static final Object LOCK = new Object();
+
+	private final TopicTrie<Subscription> subscriptions;
+	private final TopicTrie<Subscription> eventAdminSubscriptions;
+
+	/**
+	 * Returns the bus of the application instance that the given context
+	 * belongs to.
+	 */
+	static RAPEventBus getInstance(IEclipseContext context) {
+		IEclipseContext instanceContext = context;
+		while (instanceContext != null && instanceContext.getLocal(E4Application.INSTANCEID) == null) {
+			instanceContext = instanceContext.getParent();
+		}
+		if (instanceContext == null) {
+			// outside of an application instance the bus must not be shared
+			instanceContext = context;
+		}
+		synchronized (LOCK) {
+			RAPEventBus result = instanceContext.getLocal(RAPEventBus.class);
+			if (result == null) {
+				result = new RAPEventBus();
+				instanceContext.set(RAPEventBus.class, result);
+			}
+			return result;
+		}
+	}
+
+	RAPEventBus() {
+		subscriptions = new TopicTrie<Subscription>();
+		eventAdminSubscriptions = new TopicTrie<Subscription>();
+	}
+
+	void add(Subscription subscription) {
+		if (subscription.registration == null) {
+			subscriptions.add(subscription.topic, subscription);
+		} else {
+			eventAdminSubscriptions.add(subscription.topic, subscription);
+		}
+	}
+
+	void remove(Subscription subscription) {
+		if (subscription.registration == null) {
+			subscriptions.remove(subscription.topic, subscription);
+		} else {
+			eventAdminSubscriptions.remove(subscription.topic, subscription);
+			subscription.registration.unregister();
+		}
+	}
+
+	/**
+	 * Adds the subscriptions that are delivered by the broker and that match
+	 * the given topic to the given collection.
+	 */
+	void collect(String topic, Collection<Subscription> result) {
+		subscriptions.collect(topic, result);
+	}
+
+	/**
+	 * Returns whether a subscription that is registered with the EventAdmin
+	 * matches the given topic.
+	 */
+	boolean hasEventAdminSubscriptions(String topic) {
+		return eventAdminSubscriptions.matches(topic);
+	}
+
+	static final class Subscription {
+
+		final String topic;
+		final Filter filter;
+		final EventHandler handler;
+		final ServiceRegistration<?> registration;
+
+		Subscription(String topic, Filter filter, EventHandler handler, ServiceRegistration<?> registration) {
+			this.topic = topic;
+			this.filter = filter;
+			this.handler = handler;
+			this.registration = registration;
+		}
+
+		boolean accepts(Event event) {
+			return filter == null || event.matches(filter);
+		}
+	}
+}
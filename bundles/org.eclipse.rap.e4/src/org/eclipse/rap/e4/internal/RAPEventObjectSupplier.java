@@ -16,11 +16,13 @@ import javax.inject.Named;
 
 import org.eclipse.e4.core.di.IInjector;
 import org.eclipse.e4.core.di.InjectionException;
+import org.eclipse.e4.core.di.annotations.Optional;
 import org.eclipse.e4.core.di.extensions.EventTopic;
 import org.eclipse.e4.core.di.internal.extensions.util.EventUtils;
 import org.eclipse.e4.core.di.suppliers.ExtendedObjectSupplier;
 import org.eclipse.e4.core.di.suppliers.IObjectDescriptor;
 import org.eclipse.e4.core.di.suppliers.IRequestor;
+import org.eclipse.e4.core.services.events.IEventBroker;
 import org.eclipse.e4.ui.internal.workbench.swt.E4Application;
 import org.osgi.framework.Bundle;
 import org.osgi.framework.BundleContext;
@@ -127,12 +129,18 @@ public class RAPEventObjectSupplier extends ExtendedObjectSupplier {
 
 	}
 
-	private Map<Subscriber, ServiceRegistration> registrations = new HashMap<Subscriber, ServiceRegistration>();
+	// the values are either handlers subscribed with the RAP event broker or
+	// service registrations of handlers with the EventAdmin
+	private Map<Subscriber, Object> registrations = new HashMap<Subscriber, Object>();
 
 	@Inject
 	@Named(E4Application.INSTANCEID)
 	protected String instanceId;
 
+	@Inject
+	@Optional
+	protected IEventBroker eventBroker;
+
 	protected void addCurrentEvent(String topic, Event event) {
 		synchronized (currentEvents) {
 			currentEvents.put(topic, event);
@@ -155,7 +163,7 @@ public class RAPEventObjectSupplier extends ExtendedObjectSupplier {
 			return IInjector.NOT_A_VALUE;
 
 		if (track)
-			subscribe(topic, eventAdmin, requestor);
+			subscribe(topic, getEventTopic(descriptor), requestor);
 		else
 			unsubscribe(requestor);
 
@@ -169,12 +177,32 @@ public class RAPEventObjectSupplier extends ExtendedObjectSupplier {
 		return currentEvents.get(topic).getProperty(EventUtils.DATA);
 	}
 
-	private void subscribe(String topic, EventAdmin eventAdmin, IRequestor requestor) {
+	private void subscribe(String topic, String eventTopic, IRequestor requestor) {
 		Subscriber subscriber = new Subscriber(requestor, topic);
 		synchronized (registrations) {
 			if (registrations.containsKey(subscriber))
 				return;
 		}
+		EventHandler wrappedHandler = makeHandler(topic, requestor);
+		Object registration;
+		if (eventBroker instanceof RAPEventBroker) {
+			if (!subscribe((RAPEventBroker) eventBroker, eventTopic, wrappedHandler))
+				throw new InjectionException("Unable to subscribe to events: org.eclipse.e4.core.di.extensions bundle is not activated"); //$NON-NLS-1$
+			registration = wrappedHandler;
+		} else {
+			registration = registerEventHandler(topic, wrappedHandler);
+		}
+		// due to the way requestors are constructed this limited synch should be OK
+		synchronized (registrations) {
+			registrations.put(subscriber, registration);
+		}
+	}
+
+	/**
+	 * Registers the handler as a service with the EventAdmin, used when the
+	 * event broker of the instance is not a RAP event broker.
+	 */
+	private ServiceRegistration<?> registerEventHandler(String topic, EventHandler handler) {
 		BundleContext bundleContext = Activator.getDefault().getBundleContext();
 		if (bundleContext == null)
 			throw new InjectionException("Unable to subscribe to events: org.eclipse.e4.core.di.extensions bundle is not activated"); //$NON-NLS-1$
@@ -182,12 +210,16 @@ public class RAPEventObjectSupplier extends ExtendedObjectSupplier {
 		String[] topics = new String[] {topic};
 		Dictionary<String, Object> d = new Hashtable<String, Object>();
 		d.put(EventConstants.EVENT_TOPIC, topics);
-		EventHandler wrappedHandler = makeHandler(topic, requestor);
-		ServiceRegistration registration = bundleContext.registerService(EventHandler.class.getName(), wrappedHandler, d);
-		// due to the way requestors are constructed this limited synch should be OK
-		synchronized (registrations) {
-			registrations.put(subscriber, registration);
-		}
+		return bundleContext.registerService(EventHandler.class.getName(), handler, d);
+	}
+
+	/**
+	 * Subscribes the handler with the event broker of the instance. The
+	 * handlers of this supplier are called in the thread that sends or posts
+	 * the event, like the handlers of the EventAdmin.
+	 */
+	protected boolean subscribe(RAPEventBroker broker, String eventTopic, EventHandler handler) {
+		return broker.subscribe(eventTopic, null, handler, true);
 	}
 
 	protected EventHandler makeHandler(String topic, IRequestor requestor) {
@@ -197,12 +229,19 @@ public class RAPEventObjectSupplier extends ExtendedObjectSupplier {
 	protected String getTopic(IObjectDescriptor descriptor) {
 		if (descriptor == null)
 			return null;
-		EventTopic qualifier = descriptor.getQualifier(EventTopic.class);
-		String topic = qualifier.value();
+		String topic = getEventTopic(descriptor);
 		topic = RAPEventBroker.rapifyTopic(instanceId, topic);
 		return topic;
 	}
 
+	/**
+	 * Returns the topic of the descriptor without the instance prefix.
+	 */
+	protected String getEventTopic(IObjectDescriptor descriptor) {
+		EventTopic qualifier = descriptor.getQualifier(EventTopic.class);
+		return qualifier.value();
+	}
+
 	static private EventAdmin getEventAdmin() {
 		return Activator.getDefault().getEventAdmin();
 	}
@@ -211,14 +250,13 @@ public class RAPEventObjectSupplier extends ExtendedObjectSupplier {
 		if (requestor == null)
 			return;
 		synchronized (registrations) {
-			Iterator<Entry<Subscriber, ServiceRegistration>> i = registrations.entrySet().iterator();
+			Iterator<Entry<Subscriber, Object>> i = registrations.entrySet().iterator();
 			while (i.hasNext()) {
-				Entry<Subscriber, ServiceRegistration> entry = i.next();
+				Entry<Subscriber, Object> entry = i.next();
 				Subscriber key = entry.getKey();
 				if (!requestor.equals(key.getRequestor()))
 					continue;
-				ServiceRegistration registration = entry.getValue();
-				registration.unregister();
+				unregister(entry.getValue());
 				i.remove();
 			}
 		}
@@ -226,17 +264,24 @@ public class RAPEventObjectSupplier extends ExtendedObjectSupplier {
 
 	@PreDestroy
 	public void dispose() {
-		ServiceRegistration[] array;
+		Object[] array;
 		synchronized (registrations) {
-			Collection<ServiceRegistration> values = registrations.values();
-			array = values.toArray(new ServiceRegistration[values.size()]);
+			Collection<Object> values = registrations.values();
+			array = values.toArray(new Object[values.size()]);
 			registrations.clear();
 		}
 		for (int i = 0; i < array.length; i++) {
-			array[i].unregister();
+			unregister(array[i]);
 		}
 	}
 
+	private void unregister(Object registration) {
+		if (registration instanceof ServiceRegistration<?>)
+			((ServiceRegistration<?>) registration).unregister();
+		else
+			eventBroker.unsubscribe((EventHandler) registration);
+	}
+
 	private Class<?> getDesiredClass(Type desiredType) {
 		if (desiredType instanceof Class<?>)
 			return (Class<?>) desiredType;
@@ -71,12 +71,15 @@ public class RAPUIEventObjectSupplier extends RAPEventObjectSupplier {
   }
 
   @Override
-  protected String getTopic(IObjectDescriptor descriptor) {
-    if (descriptor == null) {
-      return null;
-    }
+  protected boolean subscribe(RAPEventBroker broker, String eventTopic, EventHandler handler) {
+    // the handler defers the execution to the UI thread itself
+    return broker.subscribeDirect(eventTopic, handler);
+  }
+
+  @Override
+  protected String getEventTopic(IObjectDescriptor descriptor) {
     UIEventTopic qualifier = descriptor.getQualifier(UIEventTopic.class);
-    return RAPEventBroker.rapifyTopic(instanceId, qualifier.value());
+    return qualifier.value();
   }
 
 }
@@ -0,0 +1,194 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.rap.e4.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maps event topics to subscribers, using the topic syntax of the OSGi
+ * EventAdmin. A subscription topic is either a topic like <code>a/b/c</code>,
+ * a topic that ends with a wildcard like <code>a/b/*</code>, which matches all
+ * topics that start with <code>a/b/</code>, or a single <code>*</code>, which
+ * matches all topics.
+ * <p>
+ * The topics are split into their segments and stored in a trie, hence
+ * resolving the subscribers of a topic only depends on the number of its
+ * segments and not on the number of subscriptions. Instances are thread-safe.
+ * </p>
+ *
+ * @param <T> the type of the subscribers
+ */
+final class TopicTrie<T> {
+
+	private static final String WILDCARD = "*"; //$NON-NLS-1$
+	private static final char SEPARATOR = '/';
+
+	private final Node<T> root;
+	private int size;
+
+	TopicTrie() {
+		root = new Node<T>();
+	}
+
+	/**
+	 * Adds a subscriber for the given topic. A subscriber that is added twice
+	 * for the same topic is also found twice.
+	 */
+	synchronized void add(String topic, T subscriber) {
+		Node<T> node = root;
+		int start = 0;
+		int end = topic.indexOf(SEPARATOR);
+		while (end != -1) {
+			node = node.getOrCreateChild(topic.substring(start, end));
+			start = end + 1;
+			end = topic.indexOf(SEPARATOR, start);
+		}
+		String lastSegment = topic.substring(start);
+		if (WILDCARD.equals(lastSegment)) {
+			node.wildcardSubscribers = add(node.wildcardSubscribers, subscriber);
+		} else {
+			node = node.getOrCreateChild(lastSegment);
+			node.subscribers = add(node.subscribers, subscriber);
+		}
+		size++;
+	}
+
+	/**
+	 * Removes one subscription of the given subscriber for the given topic.
+	 *
+	 * @return <code>true</code> if a subscription has been removed
+	 */
+	synchronized boolean remove(String topic, T subscriber) {
+		boolean result = remove(root, topic, 0, subscriber);
+		if (result) {
+			size--;
+		}
+		return result;
+	}
+
+	/**
+	 * Adds the subscribers of all subscriptions that match the given topic to
+	 * the given collection.
+	 *
+	 * @return <code>true</code> if at least one subscriber has been added
+	 */
+	synchronized boolean collect(String topic, Collection<? super T> result) {
+		int initialSize = result.size();
+		Node<T> node = root;
+		int start = 0;
+		while (node != null) {
+			// a wildcard subscription requires at least one more segment
+			if (node.wildcardSubscribers != null) {
+				result.addAll(node.wildcardSubscribers);
+			}
+			int end = topic.indexOf(SEPARATOR, start);
+			if (end == -1) {
+				node = node.getChild(topic.substring(start));
+				if (node != null && node.subscribers != null) {
+					result.addAll(node.subscribers);
+				}
+				node = null;
+			} else {
+				node = node.getChild(topic.substring(start, end));
+				start = end + 1;
+			}
+		}
+		return result.size() > initialSize;
+	}
+
+	/**
+	 * Returns whether at least one subscription matches the given topic.
+	 */
+	boolean matches(String topic) {
+		return collect(topic, new ArrayList<T>(0));
+	}
+
+	/**
+	 * Returns the number of subscriptions.
+	 */
+	synchronized int size() {
+		return size;
+	}
+
+	synchronized void clear() {
+		root.children = null;
+		root.subscribers = null;
+		root.wildcardSubscribers = null;
+		size = 0;
+	}
+
+	private boolean remove(Node<T> node, String topic, int start, T subscriber) {
+		boolean result;
+		int end = topic.indexOf(SEPARATOR, start);
+		String segment = end == -1 ? topic.substring(start) : topic.substring(start, end);
+		if (end == -1 && WILDCARD.equals(segment)) {
+			result = node.wildcardSubscribers != null && node.wildcardSubscribers.remove(subscriber);
+			if (result && node.wildcardSubscribers.isEmpty()) {
+				node.wildcardSubscribers = null;
+			}
+		} else {
+			Node<T> child = node.getChild(segment);
+			if (child == null) {
+				result = false;
+			} else if (end == -1) {
+				result = child.subscribers != null && child.subscribers.remove(subscriber);
+				if (result && child.subscribers.isEmpty()) {
+					child.subscribers = null;
+				}
+			} else {
+				result = remove(child, topic, end + 1, subscriber);
+			}
+			if (result && child.isEmpty()) {
+				node.children.remove(segment);
+			}
+		}
+		return result;
+	}
+
+	private static <T> List<T> add(List<T> list, T subscriber) {
+		List<T> result = list == null ? new ArrayList<T>(2) : list;
+		result.add(subscriber);
+		return result;
+	}
+
+	private static final class Node<T> {
+
+		Map<String, Node<T>> children;
+		List<T> subscribers;
+		List<T> wildcardSubscribers;
+
+		Node<T> getChild(String segment) {
+			return children == null ? null : children.get(segment);
+		}
+
+		Node<T> getOrCreateChild(String segment) {
+			if (children == null) {
+				children = new HashMap<String, Node<T>>(4);
+			}
+			Node<T> result = children.get(segment);
+			if (result == null) {
+				result = new Node<T>();
+				children.put(segment, result);
+			}
+			return result;
+		}
+
+		boolean isEmpty() {
+			return (children == null || children.isEmpty())
+					&& subscribers == null
+					&& wildcardSubscribers == null;
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2018 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,15 +10,21 @@
  ******************************************************************************/
 package org.eclipse.rap.fileupload;
 
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
 import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.io.OutputStream;
 import java.io.PrintWriter;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -31,6 +37,7 @@ public class DiskFileUploadReceiver extends FileUploadReceiver {
   private static final String DEFAULT_CONTENT_TYPE_FILE_NAME = "content-type.tmp";
   private static final String DEFAULT_TARGET_FILE_NAME = "upload.tmp";
   private static final String TEMP_DIRECTORY_PREFIX = "fileupload_";
+  private static final long TRANSFER_SIZE = 1024 * 1024;
 
   private final List<File> targetFiles;
   private File contentTypeFile;
@@ -44,11 +51,9 @@ public class DiskFileUploadReceiver extends FileUploadReceiver {
   @Override
   public void receive( InputStream dataStream, FileDetails details ) throws IOException {
     File targetFile = createTargetFile( details );
-    FileOutputStream outputStream = new FileOutputStream( targetFile );
-    try {
-      copy( dataStream, outputStream );
-    } finally {
-      outputStream.close();
+    Path targetPath = targetFile.toPath();
+    try( FileChannel channel = FileChannel.open( targetPath, CREATE, WRITE, TRUNCATE_EXISTING ) ) {
+      transfer( Channels.newChannel( dataStream ), channel );
     }
     targetFiles.add( targetFile );
     contentTypeFile = createContentTypeFile( targetFile, details );
@@ -181,18 +186,18 @@ public class DiskFileUploadReceiver extends FileUploadReceiver {
     return result;
   }
 
-  private static void copy( InputStream inputStream, OutputStream outputStream )
+  /*
+   * Lets the file channel read from the source channel. If the data stream is a plain file input
+   * stream, the source is a file channel as well and the data is copied without passing the heap.
+   */
+  private static void transfer( ReadableByteChannel source, FileChannel target )
     throws IOException
   {
-    byte[] buffer = new byte[ 8192 ];
-    boolean finished = false;
-    while( !finished ) {
-      int bytesRead = inputStream.read( buffer );
-      if( bytesRead != -1 ) {
-        outputStream.write( buffer, 0, bytesRead );
-      } else {
-        finished = true;
-      }
+    long position = 0;
+    long transferred = target.transferFrom( source, position, TRANSFER_SIZE );
+    while( transferred > 0 ) {
+      position += transferred;
+      transferred = target.transferFrom( source, position, TRANSFER_SIZE );
     }
   }
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2013 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -57,6 +57,18 @@ public abstract class FileUploadEvent extends EventObject {
    */
   public abstract Exception getException();
 
+  /**
+   * The average number of bytes that have been received per second since the upload request has
+   * been started. For a chunked upload, only the bytes received by the current request are taken
+   * into account.
+   *
+   * @return the throughput in bytes per second or -1 if unknown
+   * @since 3.26
+   */
+  public long getBytesPerSecond() {
+    return -1;
+  }
+
   protected void dispatchProgress() {
     ( ( FileUploadHandler )source ).getListeners().notifyUploadProgress( this );
   }
@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.fileupload.internal;
+
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+
+
+/**
+ * The state of a file that is uploaded in chunks, possibly spread over several requests. The
+ * chunks are written to a temporary file that is handed over to the receiver once all bytes have
+ * been received.
+ * <p>
+ * Chunks must be written in order, callers have to synchronize on the upload.
+ * </p>
+ */
+final class ChunkedUpload {
+
+  private static final String PART_FILE_PREFIX = "fileupload_";
+  private static final String PART_FILE_SUFFIX = ".part";
+
+  private final String fileName;
+  private final String contentType;
+  private final long totalSize;
+  private final File partFile;
+  private final long startTime;
+  private long bytesReceived;
+  private boolean discarded;
+
+  ChunkedUpload( String fileName, String contentType, long totalSize ) throws IOException {
+    this.fileName = fileName;
+    this.contentType = contentType;
+    this.totalSize = totalSize;
+    startTime = System.currentTimeMillis();
+    partFile = File.createTempFile( PART_FILE_PREFIX, PART_FILE_SUFFIX );
+    partFile.deleteOnExit();
+  }
+
+  String getFileName() {
+    return fileName;
+  }
+
+  String getContentType() {
+    return contentType;
+  }
+
+  long getTotalSize() {
+    return totalSize;
+  }
+
+  /**
+   * Returns the time at which the upload has been started, in milliseconds.
+   */
+  long getStartTime() {
+    return startTime;
+  }
+
+  long getBytesReceived() {
+    return bytesReceived;
+  }
+
+  boolean isComplete() {
+    return bytesReceived == totalSize;
+  }
+
+  boolean isDiscarded() {
+    return discarded;
+  }
+
+  File getPartFile() {
+    return partFile;
+  }
+
+  /**
+   * Opens a channel to write the received data to the temporary file. The channel has to be
+   * closed by the caller.
+   */
+  FileChannel openPartFile() throws IOException {
+    return FileChannel.open( partFile.toPath(), WRITE );
+  }
+
+  /**
+   * Appends up to <code>maxCount</code> bytes read from the given source to the received data,
+   * using a channel that has been opened with {@link #openPartFile()}. Returns the number of bytes
+   * appended, which is zero if the source has no more data.
+   */
+  long append( FileChannel target, ReadableByteChannel source, long maxCount )
+    throws IOException
+  {
+    long count = Math.min( maxCount, totalSize - bytesReceived );
+    long transferred = 0;
+    if( count > 0 ) {
+      transferred = target.transferFrom( source, bytesReceived, count );
+      bytesReceived += transferred;
+    }
+    return transferred;
+  }
+
+  void discard() {
+    discarded = true;
+    partFile.delete();
+  }
+
+}
@@ -0,0 +1,223 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.fileupload.internal;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.rap.fileupload.FileDetails;
+import org.eclipse.rap.fileupload.FileUploadHandler;
+import org.eclipse.rap.fileupload.UploadSizeLimitExceededException;
+import org.eclipse.rap.fileupload.UploadTimeLimitExceededException;
+
+
+/**
+ * Processes a request that carries a chunk of a file upload. The body of such a request is the
+ * raw content of the chunk, its position within the file is given by the
+ * <code>Content-Range</code> header, e.g. <code>Content-Range: bytes 0-1048575/4000000</code>.
+ * A request with a <code>Content-Range</code> of <code>bytes &#42;/4000000</code> and an empty
+ * body queries the state of an upload.
+ * <p>
+ * As long as the upload is incomplete, the response has the status 308 and a <code>Range</code>
+ * header with the bytes received so far, e.g. <code>Range: bytes=0-1048575</code>. A client can
+ * resume an interrupted upload by sending the next chunk starting after the last received byte.
+ * Once the last chunk has been received, the file is passed to the receiver of the upload
+ * handler.
+ * </p>
+ */
+final class ChunkedUploadProcessor {
+
+  static final String HEADER_CONTENT_RANGE = "Content-Range";
+  static final String HEADER_RANGE = "Range";
+  static final String PARAMETER_FILE_NAME = "fileName";
+  static final int SC_RESUME_INCOMPLETE = 308;
+
+  private static final Pattern CONTENT_RANGE
+    = Pattern.compile( "bytes\\s+(?:(\\d+)-(\\d+)|\\*)/(\\d+)" );
+  private static final long SLICE_SIZE = 64 * 1024;
+
+  private final FileUploadHandler handler;
+  private final String token;
+  private final FileUploadTracker tracker;
+
+  ChunkedUploadProcessor( FileUploadHandler handler, String token ) {
+    this.handler = handler;
+    this.token = token;
+    tracker = new FileUploadTracker( handler );
+  }
+
+  static boolean isChunkedUpload( HttpServletRequest request ) {
+    return request.getHeader( HEADER_CONTENT_RANGE ) != null;
+  }
+
+  void handleChunk( HttpServletRequest request, HttpServletResponse response ) throws IOException {
+    String fileName = getFileName( request );
+    Matcher range = CONTENT_RANGE.matcher( request.getHeader( HEADER_CONTENT_RANGE ).trim() );
+    if( fileName == null || fileName.isEmpty() || !range.matches() || !isValid( range ) ) {
+      response.sendError( HttpServletResponse.SC_BAD_REQUEST, "Invalid chunked upload request" );
+      return;
+    }
+    long totalSize = Long.parseLong( range.group( 3 ) );
+    long maxFileSize = handler.getMaxFileSize();
+    if( maxFileSize >= 0 && totalSize > maxFileSize ) {
+      Exception exception = new UploadSizeLimitExceededException( maxFileSize, fileName );
+      fail( exception, HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE, response );
+      return;
+    }
+    FileUploadHandlerStore store = FileUploadHandlerStore.getInstance();
+    boolean stateQuery = range.group( 1 ) == null;
+    if( stateQuery && totalSize > 0 && store.findChunkedUpload( token, fileName ) == null ) {
+      // a state query for an unknown upload must not start a new upload
+      response.setStatus( SC_RESUME_INCOMPLETE );
+      return;
+    }
+    ChunkedUpload upload;
+    try {
+      upload = store.getChunkedUpload( token, fileName, request.getContentType(), totalSize );
+    } catch( IOException exception ) {
+      fail( exception, HttpServletResponse.SC_INTERNAL_SERVER_ERROR, response );
+      return;
+    }
+    synchronized( upload ) {
+      if( upload.isDiscarded() || upload.getTotalSize() != totalSize ) {
+        response.sendError( HttpServletResponse.SC_CONFLICT, "Upload does not match" );
+      } else if( !stateQuery ) {
+        handleChunk( upload, Long.parseLong( range.group( 1 ) ), range, request, response );
+      } else {
+        handleState( upload, response );
+      }
+    }
+  }
+
+  private void handleChunk( ChunkedUpload upload,
+                            long first,
+                            Matcher range,
+                            HttpServletRequest request,
+                            HttpServletResponse response )
+    throws IOException
+  {
+    if( first != upload.getBytesReceived() ) {
+      // the client has to continue after the last byte received
+      sendResumeIncomplete( upload, response );
+      return;
+    }
+    long length = Long.parseLong( range.group( 2 ) ) - first + 1;
+    tracker.setContentLength( upload.getTotalSize() );
+    tracker.setInitialBytesRead( upload.getBytesReceived() );
+    try {
+      receive( upload, request.getInputStream(), length );
+    } catch( UploadTimeLimitExceededException exception ) {
+      discard( upload );
+      fail( exception, HttpServletResponse.SC_REQUEST_TIMEOUT, response );
+      return;
+    }
+    handleState( upload, response );
+  }
+
+  private void handleState( ChunkedUpload upload, HttpServletResponse response )
+    throws IOException
+  {
+    if( upload.isComplete() ) {
+      finish( upload, response );
+    } else {
+      sendResumeIncomplete( upload, response );
+    }
+  }
+
+  private void receive( ChunkedUpload upload, InputStream stream, long length )
+    throws IOException, UploadTimeLimitExceededException
+  {
+    // a failure to read the request is not fatal, the client can resume the upload
+    ReadableByteChannel source = Channels.newChannel( stream );
+    // the time limit applies to the whole upload, not to a single chunk
+    long timeLimit = handler.getUploadTimeLimit();
+    long deadline = timeLimit > 0 ? upload.getStartTime() + timeLimit : -1;
+    try( FileChannel target = upload.openPartFile() ) {
+      long remaining = length;
+      long transferred = 1;
+      while( remaining > 0 && transferred > 0 ) {
+        transferred = upload.append( target, source, Math.min( remaining, SLICE_SIZE ) );
+        remaining -= transferred;
+        if( deadline > 0 && System.currentTimeMillis() > deadline ) {
+          throw new UploadTimeLimitExceededException( timeLimit, upload.getFileName() );
+        }
+        tracker.setBytesRead( upload.getBytesReceived() );
+        tracker.handleProgress();
+      }
+    }
+  }
+
+  private void finish( ChunkedUpload upload, HttpServletResponse response ) throws IOException {
+    FileDetails details = new FileDetailsImpl( upload.getFileName(), upload.getContentType() );
+    try {
+      try( InputStream stream = new FileInputStream( upload.getPartFile() ) ) {
+        handler.getReceiver().receive( stream, details );
+      }
+    } catch( Exception exception ) {
+      fail( exception, HttpServletResponse.SC_INTERNAL_SERVER_ERROR, response );
+      return;
+    } finally {
+      discard( upload );
+    }
+    tracker.setContentLength( upload.getTotalSize() );
+    tracker.setBytesRead( upload.getTotalSize() );
+    tracker.addFile( details );
+    tracker.handleFinished();
+  }
+
+  private void discard( ChunkedUpload upload ) {
+    FileUploadHandlerStore.getInstance().removeChunkedUpload( token, upload );
+  }
+
+  private void fail( Exception exception, int errorCode, HttpServletResponse response )
+    throws IOException
+  {
+    tracker.setException( exception );
+    tracker.handleFailed();
+    response.sendError( errorCode, exception.getMessage() );
+  }
+
+  private static void sendResumeIncomplete( ChunkedUpload upload, HttpServletResponse response ) {
+    response.setStatus( SC_RESUME_INCOMPLETE );
+    if( upload.getBytesReceived() > 0 ) {
+      response.setHeader( HEADER_RANGE, "bytes=0-" + ( upload.getBytesReceived() - 1 ) );
+    }
+  }
+
+  private static String getFileName( HttpServletRequest request ) {
+    String fileName = request.getParameter( PARAMETER_FILE_NAME );
+    return fileName == null ? null : FileUploadProcessor.stripFileName( fileName );
+  }
+
+  private static boolean isValid( Matcher range ) {
+    try {
+      long total = Long.parseLong( range.group( 3 ) );
+      if( range.group( 1 ) == null ) {
+        return true;
+      }
+      long first = Long.parseLong( range.group( 1 ) );
+      long last = Long.parseLong( range.group( 2 ) );
+      return first <= last && last < total;
+    } catch( @SuppressWarnings( "unused" ) NumberFormatException exception ) {
+      return false;
+    }
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2014 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,9 +12,13 @@ package org.eclipse.rap.fileupload.internal;
 
 import static org.eclipse.rap.rwt.SingletonUtil.getUniqueInstance;
 
+import java.io.IOException;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.rap.fileupload.FileUploadHandler;
 import org.eclipse.rap.rwt.RWT;
@@ -23,9 +27,11 @@ import org.eclipse.rap.rwt.RWT;
 public final class FileUploadHandlerStore {
 
   private final Map<String, FileUploadHandler> handlers;
+  private final Map<String, ChunkedUpload> chunkedUploads;
 
   private FileUploadHandlerStore() {
     handlers = Collections.synchronizedMap( new HashMap<String, FileUploadHandler>() );
+    chunkedUploads = new ConcurrentHashMap<>();
     RWT.getServiceManager().registerServiceHandler( FileUploadServiceHandler.SERVICE_HANDLER_ID,
                                                     new FileUploadServiceHandler() );
   }
@@ -40,12 +46,65 @@ public final class FileUploadHandlerStore {
 
   public void deregisterHandler( String token ) {
     handlers.remove( token );
+    String prefix = getChunkedUploadKey( token, "" );
+    Iterator<Entry<String, ChunkedUpload>> iterator = chunkedUploads.entrySet().iterator();
+    while( iterator.hasNext() ) {
+      Entry<String, ChunkedUpload> entry = iterator.next();
+      if( entry.getKey().startsWith( prefix ) ) {
+        iterator.remove();
+        ChunkedUpload upload = entry.getValue();
+        synchronized( upload ) {
+          upload.discard();
+        }
+      }
+    }
   }
 
   public FileUploadHandler getHandler( String token ) {
     return handlers.get( token );
   }
 
+  /**
+   * Returns the incomplete chunked upload of the given file, or <code>null</code> if there is
+   * none.
+   */
+  ChunkedUpload findChunkedUpload( String token, String fileName ) {
+    return chunkedUploads.get( getChunkedUploadKey( token, fileName ) );
+  }
+
+  /**
+   * Returns the incomplete chunked upload of the given file, a new upload is created if there is
+   * none.
+   */
+  ChunkedUpload getChunkedUpload( String token, String fileName, String contentType, long size )
+    throws IOException
+  {
+    String key = getChunkedUploadKey( token, fileName );
+    ChunkedUpload result = chunkedUploads.get( key );
+    if( result == null ) {
+      ChunkedUpload upload = new ChunkedUpload( fileName, contentType, size );
+      result = chunkedUploads.putIfAbsent( key, upload );
+      if( result == null ) {
+        result = upload;
+      } else {
+        upload.discard();
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Removes and discards the given chunked upload.
+   */
+  void removeChunkedUpload( String token, ChunkedUpload upload ) {
+    chunkedUploads.remove( getChunkedUploadKey( token, upload.getFileName() ), upload );
+    upload.discard();
+  }
+
+  private static String getChunkedUploadKey( String token, String fileName ) {
+    return token + "/" + fileName;
+  }
+
   public static String createToken() {
     int random1 = ( int )( Math.random() * 0xfffffff );
     int random2 = ( int )( Math.random() * 0xfffffff );
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 EclipseSource and others.
+ * Copyright (c) 2002, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -47,6 +47,9 @@ public final class FileUploadServiceHandler implements ServiceHandler {
       } else if( !"POST".equals( request.getMethod().toUpperCase() ) ) {
         String message = "Only POST requests allowed";
         response.sendError( HttpServletResponse.SC_METHOD_NOT_ALLOWED, message );
+      } else if( ChunkedUploadProcessor.isChunkedUpload( request ) ) {
+        ChunkedUploadProcessor processor = new ChunkedUploadProcessor( registeredHandler, token );
+        processor.handleChunk( request, response );
       } else if( !ServletFileUpload.isMultipartContent( request ) ) {
         String message = "Content must be in multipart type";
         response.sendError( HttpServletResponse.SC_UNSUPPORTED_MEDIA_TYPE, message );
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,6 +12,7 @@ package org.eclipse.rap.fileupload.internal;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.rap.fileupload.FileDetails;
 import org.eclipse.rap.fileupload.FileUploadEvent;
@@ -20,15 +21,29 @@ import org.eclipse.rap.fileupload.FileUploadHandler;
 
 final class FileUploadTracker {
 
+  /** Minimal interval between two progress events in milliseconds */
+  static final long PROGRESS_INTERVAL = 200;
+
   private final FileUploadHandler handler;
   private final List<FileDetails> files;
+  private final long progressInterval;
+  private final long startTime;
   private long contentLength;
   private long bytesRead;
+  private long initialBytesRead;
+  private long lastProgressTime;
+  private boolean progressDispatched;
   private Exception exception;
 
   FileUploadTracker( FileUploadHandler handler ) {
+    this( handler, PROGRESS_INTERVAL );
+  }
+
+  FileUploadTracker( FileUploadHandler handler, long progressInterval ) {
     this.handler = handler;
+    this.progressInterval = TimeUnit.MILLISECONDS.toNanos( progressInterval );
     files = new ArrayList<>();
+    startTime = System.nanoTime();
   }
 
   void addFile( FileDetails details ) {
@@ -47,12 +62,33 @@ final class FileUploadTracker {
     this.bytesRead = bytesRead;
   }
 
+  /**
+   * Sets the number of bytes that had already been received before this tracker was created, e.g.
+   * by previous requests of a chunked upload. These bytes are not taken into account for the
+   * throughput.
+   */
+  void setInitialBytesRead( long initialBytesRead ) {
+    this.initialBytesRead = initialBytesRead;
+    bytesRead = initialBytesRead;
+  }
+
   void setException( Exception exception ) {
     this.exception = exception;
   }
 
+  /**
+   * Notifies the listeners about the progress. As this method may be called for every network
+   * packet, listeners are notified at most once per progress interval, except for the first and
+   * the last progress.
+   */
   void handleProgress() {
-    new InternalFileUploadEvent( handler ).dispatchAsProgress();
+    long now = System.nanoTime();
+    boolean complete = contentLength >= 0 && bytesRead >= contentLength;
+    if( !progressDispatched || complete || now - lastProgressTime >= progressInterval ) {
+      progressDispatched = true;
+      lastProgressTime = now;
+      new InternalFileUploadEvent( handler ).dispatchAsProgress();
+    }
   }
 
   void handleFinished() {
@@ -63,12 +99,23 @@ final class FileUploadTracker {
     new InternalFileUploadEvent( handler ).dispatchAsFailed();
   }
 
+  private long computeBytesPerSecond() {
+    long elapsed = System.nanoTime() - startTime;
+    if( elapsed <= 0 ) {
+      return -1;
+    }
+    return ( long )( ( bytesRead - initialBytesRead ) * 1e9 / elapsed );
+  }
+
   private final class InternalFileUploadEvent extends FileUploadEvent {
 
     private static final long serialVersionUID = 1L;
 
+    private final long bytesPerSecond;
+
     private InternalFileUploadEvent( FileUploadHandler source ) {
       super( source );
+      bytesPerSecond = computeBytesPerSecond();
     }
 
     @Override
@@ -91,6 +138,11 @@ final class FileUploadTracker {
       return exception;
     }
 
+    @Override
+    public long getBytesPerSecond() {
+      return bytesPerSecond;
+    }
+
     void dispatchAsProgress() {
       super.dispatchProgress();
     }
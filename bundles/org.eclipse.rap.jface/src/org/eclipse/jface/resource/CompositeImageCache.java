@@ -0,0 +1,166 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.jface.resource;
+
+import java.util.Arrays;
+
+import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.SingletonUtil;
+import org.eclipse.rap.rwt.internal.util.LRUCache;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.internal.graphics.InternalImage;
+
+
+/**
+ * Application wide cache for the images composed by {@link CompositeImageDescriptor}s.
+ * <p>
+ * The composed images are registered as resources once and are never unregistered, the cache maps
+ * the components of a composite image to its registered internal image. The cache is bounded by
+ * the number of entries, when it is full the least recently used entry is evicted. Only components
+ * that do not refer to a session are cached, that is images, image descriptors that load the
+ * image from a file or a URL and values like <code>Point</code>s.
+ * </p>
+ *
+ * @since 3.26
+ * @noinstantiate This class is not intended to be instantiated by clients.
+ */
+public final class CompositeImageCache {
+
+  static final int DEFAULT_MAX_COUNT = 1000;
+
+  private final LRUCache<Key,InternalImage> cache;
+
+  /**
+   * Returns the cache of the current application.
+   */
+  public static CompositeImageCache getInstance() {
+    return SingletonUtil.getUniqueInstance( CompositeImageCache.class,
+                                            RWT.getApplicationContext() );
+  }
+
+  private CompositeImageCache() {
+    this( DEFAULT_MAX_COUNT );
+  }
+
+  CompositeImageCache( int maxCount ) {
+    cache = new LRUCache<>( maxCount );
+  }
+
+  synchronized InternalImage get( Object key ) {
+    return cache.get( key );
+  }
+
+  synchronized void put( Object key, InternalImage internalImage ) {
+    cache.put( ( Key )key, internalImage );
+  }
+
+  /**
+   * Returns the number of composed images that were found in the cache.
+   */
+  public synchronized long getHitCount() {
+    return cache.getHitCount();
+  }
+
+  /**
+   * Returns the number of composed images that were not found in the cache.
+   */
+  public synchronized long getMissCount() {
+    return cache.getMissCount();
+  }
+
+  /**
+   * Returns the share of the lookups that found the composed image in the cache, a value between
+   * 0 and 1.
+   */
+  public synchronized double getHitRate() {
+    long hitCount = cache.getHitCount();
+    long lookups = hitCount + cache.getMissCount();
+    return lookups == 0 ? 0 : ( double )hitCount / lookups;
+  }
+
+  /**
+   * Returns the number of entries that have been evicted to stay within the maximum count.
+   */
+  public synchronized long getEvictionCount() {
+    return cache.getEvictionCount();
+  }
+
+  /**
+   * Returns the number of cached composed images.
+   */
+  public synchronized int getCount() {
+    return cache.size();
+  }
+
+  public int getMaxCount() {
+    return ( int )cache.getMaxWeight();
+  }
+
+  /**
+   * Returns a key for the given components, or <code>null</code> if a component refers to a
+   * session and the composed image must not be cached.
+   */
+  static Object createKey( Object[] components ) {
+    Object[] parts = new Object[ components.length ];
+    for( int i = 0; i < components.length; i++ ) {
+      Object part = toKeyPart( components[ i ] );
+      if( part == null && components[ i ] != null ) {
+        return null;
+      }
+      parts[ i ] = part;
+    }
+    return new Key( parts );
+  }
+
+  private static Object toKeyPart( Object component ) {
+    if( component instanceof Image ) {
+      // internal images are shared by all sessions and are unique for their content
+      return ( ( Image )component ).internalImage;
+    }
+    if( component instanceof CompositeImageDescriptor ) {
+      Object[] components = ( ( CompositeImageDescriptor )component ).getComponents();
+      return components == null ? null : createKey( components );
+    }
+    if( component instanceof ImageDescriptor ) {
+      boolean shared =    component instanceof FileImageDescriptor
+                       || component instanceof URLImageDescriptor
+                       || component instanceof MissingImageDescriptor;
+      return shared ? component : null;
+    }
+    return component;
+  }
+
+  private static final class Key {
+
+    private final Object[] parts;
+    private final int hashCode;
+
+    Key( Object[] parts ) {
+      this.parts = parts;
+      hashCode = Arrays.hashCode( parts );
+    }
+
+    @Override
+    public boolean equals( Object object ) {
+      return    object == this
+             || object != null
+                && object.getClass() == getClass()
+                && Arrays.equals( parts, ( ( Key )object ).parts );
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+
+  }
+
+}
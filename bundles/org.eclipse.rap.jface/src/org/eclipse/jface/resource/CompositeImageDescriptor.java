@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2007 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,10 +10,15 @@
  *******************************************************************************/
 package org.eclipse.jface.resource;
 
+import org.eclipse.swt.SWTException;
+import org.eclipse.swt.graphics.Device;
+import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.ImageData;
 import org.eclipse.swt.graphics.PaletteData;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.graphics.RGB;
+import org.eclipse.swt.internal.graphics.ImageUtil;
+import org.eclipse.swt.internal.graphics.InternalImage;
 
 /**
  * Abstract base class for image descriptors that synthesize an image from other
@@ -180,6 +185,49 @@ public abstract class CompositeImageDescriptor extends ImageDescriptor {
 		return imageData;
 	}
 
+	/*
+	 * RAP: the image is composed only once per application if the descriptor has components that
+	 * can be cached, see getComponents()
+	 */
+	public Image createImage(boolean returnMissingImageOnError, Device device) {
+		Object[] components = getComponents();
+		Object key = components == null ? null : CompositeImageCache.createKey(components);
+		if (key != null) {
+			CompositeImageCache cache = CompositeImageCache.getInstance();
+			InternalImage internalImage = cache.get(key);
+			if (internalImage != null) {
+				return ImageUtil.createImage(device, internalImage);
+			}
+			try {
+				Image image = new Image(device, getImageData());
+				cache.put(key, image.internalImage);
+				return image;
+			} catch (SWTException exception) {
+				// fall back to the default handling of errors
+			}
+		}
+		return super.createImage(returnMissingImageOnError, device);
+	}
+
+	/**
+	 * Returns the images and values this image is composed of, or <code>null</code>
+	 * if the composed image cannot be shared. Descriptors with equal components
+	 * must compose the same image. Images may be given as <code>Image</code> or as
+	 * <code>ImageDescriptor</code>, other values must implement
+	 * <code>equals</code> and <code>hashCode</code> and must not be modified later.
+	 * <p>
+	 * If the components are known, the composed image is shared by all sessions
+	 * of the application, see {@link CompositeImageCache}. The default
+	 * implementation returns <code>null</code>.
+	 * </p>
+	 *
+	 * @return the components of the composed image or <code>null</code>
+	 * @since 3.26
+	 */
+	protected Object[] getComponents() {
+		return null;
+	}
+
 	/**
 	 * Return the transparent pixel for the receiver.
 	 * <strong>NOTE</strong> This value is not currently in use in the
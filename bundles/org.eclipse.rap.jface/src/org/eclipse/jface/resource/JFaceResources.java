@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2008 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -166,13 +166,35 @@ public class JFaceResources {
     private final ImageRegistry imageRegistry;
     private ImageRegistryStore() {
       imageRegistry = new ImageRegistry();
-      initializeDefaultImages();
+      Map defaults = DefaultImageDescriptors.getInstance().getDescriptors();
+      Iterator iterator = defaults.entrySet().iterator();
+      while( iterator.hasNext() ) {
+        Map.Entry entry = ( Map.Entry )iterator.next();
+        imageRegistry.put( ( String )entry.getKey(), ( ImageDescriptor )entry.getValue() );
+      }
     }
     public static ImageRegistryStore getInstance() {
       return SingletonUtil.getSessionInstance( ImageRegistryStore.class );
     }
     public ImageRegistry getImageRegistry() {
       return imageRegistry;
+    }
+  }
+
+  // RAP: the default image descriptors do not depend on the session, they are resolved once
+  // per application and put into the image registry of each session
+  private final static class DefaultImageDescriptors {
+    private final Map descriptors;
+    private DefaultImageDescriptors() {
+      descriptors = new HashMap();
+      initializeDefaultImages();
+    }
+    public static DefaultImageDescriptors getInstance() {
+      return SingletonUtil.getUniqueInstance( DefaultImageDescriptors.class,
+                                              RWT.getApplicationContext() );
+    }
+    public Map getDescriptors() {
+      return Collections.unmodifiableMap( descriptors );
     }
     
 	/**
@@ -251,7 +273,7 @@ public class JFaceResources {
 		if (descriptor == null)
 			descriptor = ImageDescriptor.createFromFile(fallback, fallbackPath);
 
-		imageRegistry.put(key, descriptor);
+		descriptors.put(key, descriptor);
 
 	}
   }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2023 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -16,8 +16,11 @@ import static org.eclipse.swt.internal.widgets.MarkupUtil.MarkupTarget.TEXT;
 
 import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
+import org.eclipse.nebula.widgets.grid.internal.CellSelection;
 import org.eclipse.nebula.widgets.grid.internal.IGridAdapter;
 import org.eclipse.nebula.widgets.grid.internal.IScrollBarProxy;
 import org.eclipse.nebula.widgets.grid.internal.NullScrollBarProxy;
@@ -72,8 +75,10 @@ public class Grid extends Composite {
 
   private List<GridItem> items = new ArrayList<GridItem>();
   private List<GridItem> rootItems = new ArrayList<GridItem>();
-  private List<GridItem> selectedItems = new ArrayList<GridItem>();
-  private List<Point> selectedCells = new ArrayList<Point>();
+  // items before this index have an up to date flat index
+  private int firstInvalidFlatIndex;
+  private Set<GridItem> selectedItems = new LinkedHashSet<GridItem>();
+  private CellSelection selectedCells = new CellSelection();
   private List<GridColumn> columns = new ArrayList<GridColumn>();
   private List<GridColumn> displayOrderedColumns = new ArrayList<GridColumn>();
   private List<GridColumnGroup> columnGroups = new ArrayList<GridColumnGroup>();
@@ -453,7 +458,7 @@ public class Grid extends Composite {
     if( item == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
-    return item.getParent() == this ? items.indexOf( item ) : -1;
+    return item.getParent() == this ? internalIndexOf( item ) : -1;
   }
 
   /**
@@ -521,7 +526,7 @@ public class Grid extends Composite {
   public GridItem getNextVisibleItem( GridItem item ) {
     checkWidget();
     GridItem result = null;
-    int index = items.indexOf( item );
+    int index = internalIndexOf( item );
     if( index != items.size() - 1 ) {
       result = items.get( index + 1 );
       while( result != null && !result.isVisible() ) {
@@ -556,7 +561,7 @@ public class Grid extends Composite {
     if( item == null ) {
       index = items.size();
     } else {
-      index = items.indexOf( item );
+      index = internalIndexOf( item );
     }
     if( index > 0 ) {
       result = items.get( index - 1 );
@@ -1776,7 +1781,7 @@ public class Grid extends Composite {
           if( item.isDisposed() ) {
             SWT.error( SWT.ERROR_INVALID_ARGUMENT );
           }
-          internalSelect( this.items.indexOf( item ) );
+          internalSelect( internalIndexOf( item ) );
         }
       }
     }
@@ -1805,14 +1810,8 @@ public class Grid extends Composite {
     checkWidget();
     if( cellSelectionEnabled ) {
       List<GridItem> items = new ArrayList<>();
-      int itemCount = getItemCount();
-      for( Point cell : selectedCells ) {
-        if( cell.y >= 0 && cell.y < itemCount ) {
-          GridItem item = getItem( cell.y );
-          if( !items.contains( item ) ) {
-            items.add( item );
-          }
-        }
+      for( int row : getSelectedRows() ) {
+        items.add( getItem( row ) );
       }
       return items.toArray( new GridItem[] {} );
     }
@@ -1834,14 +1833,7 @@ public class Grid extends Composite {
   public int getSelectionCount() {
     checkWidget();
     if( cellSelectionEnabled ) {
-      List<GridItem> items = new ArrayList<>();
-      for( Point cell : selectedCells ) {
-        GridItem item = getItem( cell.y );
-        if( !items.contains( item ) ) {
-          items.add( item );
-        }
-      }
-      return items.size();
+      return getSelectedRows().length;
     }
     return selectedItems.size();
   }
@@ -1965,7 +1957,7 @@ public class Grid extends Composite {
    */
   public Point[] getCellSelection() {
     checkWidget();
-    return selectedCells.toArray( new Point[ selectedCells.size() ] );
+    return selectedCells.toArray();
   }
 
   /**
@@ -1986,11 +1978,11 @@ public class Grid extends Composite {
     int result = -1;
     if( cellSelectionEnabled ) {
       if( selectedCells.size() != 0 ) {
-        result = selectedCells.get( 0 ).y;
+        result = selectedCells.getFirst().y;
       }
     } else {
       if( selectedItems.size() != 0 ) {
-        result = items.indexOf( selectedItems.get( 0 ) );
+        result = internalIndexOf( selectedItems.iterator().next() );
       }
     }
     return result;
@@ -2019,23 +2011,12 @@ public class Grid extends Composite {
     checkWidget();
     int[] result = new int[ 0 ];
     if( cellSelectionEnabled ) {
-      List<GridItem> selectedRows = new ArrayList<GridItem>();
-      for( Point cell : selectedCells ) {
-        GridItem item = getItem( cell.y );
-        if( !selectedRows.contains( item ) ) {
-          selectedRows.add( item );
-        }
-      }
-      result = new int[ selectedRows.size() ];
-      for( int i = 0; i < result.length; i++ ) {
-        GridItem item = selectedRows.get( i );
-        result[ i ] = items.indexOf( item );
-      }
+      result = getSelectedRows();
     } else {
       result = new int[ selectedItems.size() ];
-      for( int i = 0; i < result.length; i++ ) {
-        GridItem item = selectedItems.get( i );
-        result[ i ] = items.indexOf( item );
+      int i = 0;
+      for( GridItem item : selectedItems ) {
+        result[ i++ ] = internalIndexOf( item );
       }
     }
     return result;
@@ -2061,11 +2042,7 @@ public class Grid extends Composite {
     boolean result = false;
     if( isValidItemIndex( index ) ) {
       if( cellSelectionEnabled ) {
-        for( Point cell : selectedCells ) {
-          if( cell.y == index ) {
-            result = true;
-          }
-        }
+        result = selectedCells.isRowSelected( index );
       } else {
         result = isSelected( items.get( index ) );
       }
@@ -2097,13 +2074,9 @@ public class Grid extends Composite {
     }
     boolean result = false;
     if( cellSelectionEnabled ) {
-      int index = items.indexOf( item );
+      int index = internalIndexOf( item );
       if( index != -1 ) {
-        for( Point cell : selectedCells ) {
-          if( cell.y == index ) {
-            result = true;
-          }
-        }
+        result = selectedCells.isRowSelected( index );
       }
     } else {
       result = selectedItems.contains( item );
@@ -2698,7 +2671,7 @@ public class Grid extends Composite {
             if( item.isVisible() ) {
               row--;
               if( row == 0 ) {
-                firstVisibleIndex = items.indexOf( item );
+                firstVisibleIndex = internalIndexOf( item );
               }
             }
           }
@@ -2746,7 +2719,7 @@ public class Grid extends Composite {
           parent = parent.getParentItem();
         }
         if( !isShown( item ) ) {
-          setTopIndex( items.indexOf( item ) );
+          setTopIndex( internalIndexOf( item ) );
         }
       }
     }
@@ -2814,7 +2787,7 @@ public class Grid extends Composite {
     GridItem item = null;
     if( cellSelectionEnabled ) {
       if( selectedCells.size() != 0 ) {
-        Point cell = selectedCells.get( 0 );
+        Point cell = selectedCells.getFirst();
         item = getItem( cell.y );
         showItem( item );
         GridColumn column = getColumn( cell.x );
@@ -2822,7 +2795,7 @@ public class Grid extends Composite {
       }
     } else {
       if( selectedItems.size() != 0 ) {
-        item = selectedItems.get( 0 );
+        item = selectedItems.iterator().next();
         showItem( item );
       }
     }
@@ -3049,7 +3022,7 @@ public class Grid extends Composite {
       if( index >= rootItems.size() ) {
         flatIndex = -1;
       } else {
-        flatIndex = items.indexOf( rootItems.get( index ) );
+        flatIndex = internalIndexOf( rootItems.get( index ) );
       }
     } else if( !root ) {
       if( index >= parentItem.getItemCount() || index == -1 ) {
@@ -3058,9 +3031,9 @@ public class Grid extends Composite {
           int lastChildIndex = rightMostDescendent.getItemCount() - 1;
           rightMostDescendent = rightMostDescendent.getItem( lastChildIndex );
         }
-        flatIndex = items.indexOf( rightMostDescendent ) + 1;
+        flatIndex = internalIndexOf( rightMostDescendent ) + 1;
       } else {
-        flatIndex = items.indexOf( parentItem.getItem( index ) );
+        flatIndex = internalIndexOf( parentItem.getItem( index ) );
       }
     }
     if( flatIndex == -1 ) {
@@ -3070,6 +3043,12 @@ public class Grid extends Composite {
       items.add( flatIndex, item );
       row = flatIndex;
     }
+    item.flatIndex = row;
+    if( row == firstInvalidFlatIndex && row == items.size() - 1 ) {
+      firstInvalidFlatIndex++;
+    } else {
+      firstInvalidFlatIndex = Math.min( firstInvalidFlatIndex, row );
+    }
     updateVisibleItems( 1 );
     scheduleRedraw();
     return row;
@@ -3077,6 +3056,7 @@ public class Grid extends Composite {
 
   void removeItem( int index ) {
     GridItem item = items.remove( index );
+    firstInvalidFlatIndex = Math.min( firstInvalidFlatIndex, index );
     if( !disposing ) {
       selectedItems.remove (item );
       Point[] cells = getCells( item );
@@ -3140,20 +3120,7 @@ public class Grid extends Composite {
   void removeColumn( GridColumn column ) {
     int index = columns.indexOf( column );
     if( cellSelectionEnabled ) {
-      List<Point> removeSelectedCells = new ArrayList<>();
-      for( Point cell : selectedCells ) {
-        if( cell.x == index ) {
-          removeSelectedCells.add( cell );
-        }
-      }
-      if( removeSelectedCells.size() > 0 ) {
-        selectedCells.removeAll( removeSelectedCells );
-      }
-      for( Point cell : selectedCells ) {
-        if( cell.x >= index ) {
-          cell.x-- ;
-        }
-      }
+      selectedCells.removeColumn( index );
     }
     columns.remove( index );
     displayOrderedColumns.remove( column );
@@ -3241,7 +3208,7 @@ public class Grid extends Composite {
         y += getHeaderHeight();
       }
       int topIndex = getTopIndex();
-      int itemIndex = items.indexOf( item );
+      int itemIndex = internalIndexOf( item );
       if( itemIndex == -1 ) {
         SWT.error( SWT.ERROR_INVALID_ARGUMENT );
       }
@@ -3268,7 +3235,7 @@ public class Grid extends Composite {
     checkWidget();
     boolean result = false;
     if( item.isVisible() ) {
-      int itemIndex = items.indexOf( item );
+      int itemIndex = internalIndexOf( item );
       if( itemIndex == -1 ) {
         SWT.error( SWT.ERROR_INVALID_ARGUMENT );
       }
@@ -3483,7 +3450,7 @@ public class Grid extends Composite {
       GridItem item = items.get( index );
       if( cellSelectionEnabled ) {
         selectCells( getCells( item ) );
-      } else if( !selectedItems.contains( item ) ) {
+      } else {
         selectedItems.add( item );
       }
     }
@@ -3503,7 +3470,7 @@ public class Grid extends Composite {
       GridItem item = items.get( index );
       if( cellSelectionEnabled ) {
         deselectCells( getCells( item ) );
-      } else if( selectedItems.contains( item ) ) {
+      } else {
         selectedItems.remove( item );
       }
     }
@@ -3519,7 +3486,7 @@ public class Grid extends Composite {
 
   private Point[] getCells( GridItem item ) {
     List<Point> cells = new ArrayList<>();
-    int itemIndex = items.indexOf( item );
+    int itemIndex = internalIndexOf( item );
     int span = 0;
     for( GridColumn nextCol : displayOrderedColumns ) {
       if( span > 0 ) {
@@ -3594,16 +3561,7 @@ public class Grid extends Composite {
     if( newCell.y < 0 || newCell.y >= items.size() ) {
       return;
     }
-    Iterator<Point> it = selectedCells.iterator();
-    boolean found = false;
-    while( it.hasNext() ) {
-      Point p = it.next();
-      if( newCell.equals( p ) ) {
-        found = true;
-        break;
-      }
-    }
-    if( !found ) {
+    if( !selectedCells.contains( newCell ) ) {
       if( selectionType == SWT.SINGLE && selectedCells.size() > 0 ) {
         return;
       }
@@ -4035,7 +3993,41 @@ public class Grid extends Composite {
   }
 
   int internalIndexOf( GridItem item ) {
-    return items.indexOf( item );
+    int result = -1;
+    if( item != null ) {
+      if( item.flatIndex >= firstInvalidFlatIndex ) {
+        updateFlatIndices();
+      }
+      int index = item.flatIndex;
+      if( index >= 0 && index < items.size() && items.get( index ) == item ) {
+        result = index;
+      }
+    }
+    return result;
+  }
+
+  private void updateFlatIndices() {
+    for( int i = firstInvalidFlatIndex; i < items.size(); i++ ) {
+      items.get( i ).flatIndex = i;
+    }
+    firstInvalidFlatIndex = items.size();
+  }
+
+  private int[] getSelectedRows() {
+    int[] rows = selectedCells.getRows();
+    int[] result = new int[ rows.length ];
+    int count = 0;
+    for( int row : rows ) {
+      if( isValidItemIndex( row ) ) {
+        result[ count++ ] = row;
+      }
+    }
+    if( count < result.length ) {
+      int[] validRows = new int[ count ];
+      System.arraycopy( result, 0, validRows, 0, count );
+      result = validRows;
+    }
+    return result;
   }
 
   void scheduleRedraw() {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2020 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -59,6 +59,8 @@ public class GridItem extends Item {
   private boolean cached;
   private transient IGridItemAdapter gridItemAdapter;
   int index;
+  // index in the flat list of all grid items, maintained lazily by the grid
+  int flatIndex;
 
   /**
    * Creates a new instance of this class and places the item at the end of
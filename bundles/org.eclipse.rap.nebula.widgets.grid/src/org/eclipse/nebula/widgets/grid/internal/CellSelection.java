@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.grid.internal;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.internal.SerializableCompatibility;
+
+
+/**
+ * The selected cells of a grid, where the x value of a cell is the column index and the y value
+ * is the item index. Cells are kept in selection order and can be looked up in constant time,
+ * also per row.
+ * <p>
+ * Cells are copied when they are added and returned, as the hash of a mutable point must not
+ * change while it is contained in the selection.
+ * </p>
+ */
+@SuppressWarnings( "restriction" )
+public class CellSelection implements SerializableCompatibility {
+
+  private final Set<Point> cells;
+  // number of selected cells per row, in the order the rows were first selected
+  private final Map<Integer, Integer> rows;
+
+  public CellSelection() {
+    cells = new LinkedHashSet<>();
+    rows = new LinkedHashMap<>();
+  }
+
+  public int size() {
+    return cells.size();
+  }
+
+  public boolean isEmpty() {
+    return cells.isEmpty();
+  }
+
+  public boolean contains( Point cell ) {
+    return cells.contains( cell );
+  }
+
+  public boolean add( Point cell ) {
+    boolean result = cells.add( new Point( cell.x, cell.y ) );
+    if( result ) {
+      Integer row = Integer.valueOf( cell.y );
+      Integer count = rows.get( row );
+      rows.put( row, Integer.valueOf( count == null ? 1 : count.intValue() + 1 ) );
+    }
+    return result;
+  }
+
+  public boolean remove( Point cell ) {
+    boolean result = cells.remove( cell );
+    if( result ) {
+      Integer row = Integer.valueOf( cell.y );
+      int count = rows.get( row ).intValue();
+      if( count == 1 ) {
+        rows.remove( row );
+      } else {
+        rows.put( row, Integer.valueOf( count - 1 ) );
+      }
+    }
+    return result;
+  }
+
+  public void clear() {
+    cells.clear();
+    rows.clear();
+  }
+
+  /**
+   * Returns a copy of the first selected cell, or <code>null</code> if no cell is selected.
+   */
+  public Point getFirst() {
+    Point result = null;
+    if( !cells.isEmpty() ) {
+      Point first = cells.iterator().next();
+      result = new Point( first.x, first.y );
+    }
+    return result;
+  }
+
+  public Point[] toArray() {
+    Point[] result = new Point[ cells.size() ];
+    int index = 0;
+    for( Point cell : cells ) {
+      result[ index++ ] = new Point( cell.x, cell.y );
+    }
+    return result;
+  }
+
+  /**
+   * Returns <code>true</code> if at least one cell in the given row is selected.
+   */
+  public boolean isRowSelected( int row ) {
+    return rows.containsKey( Integer.valueOf( row ) );
+  }
+
+  /**
+   * Returns the rows that contain at least one selected cell.
+   */
+  public int[] getRows() {
+    int[] result = new int[ rows.size() ];
+    int index = 0;
+    for( Integer row : rows.keySet() ) {
+      result[ index++ ] = row.intValue();
+    }
+    return result;
+  }
+
+  /**
+   * Deselects all cells of the given column and moves the cells of the following columns one
+   * column to the left.
+   */
+  public void removeColumn( int column ) {
+    List<Point> remaining = new ArrayList<>( cells.size() );
+    for( Point cell : cells ) {
+      if( cell.x != column ) {
+        remaining.add( new Point( cell.x > column ? cell.x - 1 : cell.x, cell.y ) );
+      }
+    }
+    clear();
+    for( Point cell : remaining ) {
+      add( cell );
+    }
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2018 Frank Appel and others.
+ * Copyright (c) 2011, 2026 Frank Appel and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,6 +12,8 @@
 package org.eclipse.rap.rwt.osgi.internal;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 
 import javax.servlet.ServletContext;
 import javax.servlet.http.HttpServlet;
@@ -19,6 +21,8 @@ import javax.servlet.http.HttpServlet;
 import org.eclipse.rap.rwt.application.ApplicationConfiguration;
 import org.eclipse.rap.rwt.application.ApplicationRunner;
 import org.eclipse.rap.rwt.engine.RWTServlet;
+import org.eclipse.rap.rwt.internal.RWTProperties;
+import org.eclipse.rap.rwt.internal.resources.ResourceServlet;
 import org.eclipse.rap.rwt.osgi.ApplicationReference;
 import org.eclipse.rap.rwt.service.ApplicationContext;
 import org.osgi.framework.BundleContext;
@@ -42,6 +46,8 @@ class ApplicationReferenceImpl implements ApplicationReference {
   private ApplicationRunner applicationRunner;
   private ApplicationLauncherImpl applicationLauncher;
   private ServiceRegistration<?> serviceRegistration;
+  private HttpWhiteboardContext whiteboardContext;
+  private final Map<String, ServiceRegistration<?>> whiteboardRegistrations;
   private volatile boolean alive;
 
   ApplicationReferenceImpl( ApplicationConfiguration configuration,
@@ -57,6 +63,7 @@ class ApplicationReferenceImpl implements ApplicationReference {
     this.contextLocation = contextLocation;
     this.contextName = contextName;
     this.applicationLauncher = applicationLauncher;
+    whiteboardRegistrations = new HashMap<>();
   }
 
   void start() {
@@ -85,13 +92,35 @@ class ApplicationReferenceImpl implements ApplicationReference {
   private void registerServlets() {
     Collection<String> aliases = getServletPaths();
     if( aliases.isEmpty() ) {
-      registerServlet( DEFAULT_ALIAS, new RWTServlet() );
+      registerRWTServlet( DEFAULT_ALIAS );
     }
     for( String alias : aliases ) {
+      registerRWTServlet( alias );
+    }
+  }
+
+  private void registerRWTServlet( String alias ) {
+    if( getWhiteboardContext() != null ) {
+      registerAsyncServlet( alias, new RWTServlet() );
+    } else {
       registerServlet( alias, new RWTServlet() );
     }
   }
 
+  /*
+   * The HttpService does not support asynchronous requests. With async server push enabled, the
+   * RWTServlet is registered with the Http Whiteboard runtime of the HttpService instead. If there
+   * is no such runtime, or the HttpService has not been obtained by this bundle, the servlet is
+   * still registered with the HttpService and server push requests block a container thread.
+   */
+  private HttpWhiteboardContext getWhiteboardContext() {
+    if( whiteboardContext == null && RWTProperties.isAsyncServerPushEnabled() ) {
+      BundleContext bundleContext = getBundleContext();
+      whiteboardContext = HttpWhiteboardContext.create( bundleContext, httpService, httpContext );
+    }
+    return whiteboardContext;
+  }
+
   @Override
   public void stopApplication() {
     if( !hasBeenStopped() ) {
@@ -127,6 +156,14 @@ class ApplicationReferenceImpl implements ApplicationReference {
     applicationRunner.stop();
     unregisterServlets( aliases );
     unregisterResourcesDirectory();
+    disposeWhiteboardContext();
+  }
+
+  private void disposeWhiteboardContext() {
+    if( whiteboardContext != null ) {
+      whiteboardContext.dispose();
+      whiteboardContext = null;
+    }
   }
 
   private void unregisterServlets( Collection<String> aliases ) {
@@ -195,11 +232,22 @@ class ApplicationReferenceImpl implements ApplicationReference {
     }
   }
 
+  private void registerAsyncServlet( String alias, HttpServlet servlet ) {
+    HttpServlet wrapper = new CutOffContextPathWrapper( servlet, servletContextWrapper, alias );
+    String path = getContextSegment() + alias;
+    whiteboardRegistrations.put( alias, whiteboardContext.registerAsyncServlet( path, wrapper ) );
+  }
+
   private void registerResourceDirectory() {
     String alias = ApplicationRunner.RESOURCES;
     String location = contextLocation + "/" + alias;
     try {
-      httpService.registerResources( getContextSegment() + "/" + alias, location, httpContext );
+      if( RWTProperties.isHashedResourcesEnabled() ) {
+        HttpServlet servlet = createResourceServlet();
+        httpService.registerServlet( getContextSegment() + "/" + alias, servlet, null, httpContext );
+      } else {
+        httpService.registerResources( getContextSegment() + "/" + alias, location, httpContext );
+      }
     } catch( RuntimeException rte ) {
       throw rte;
     } catch( Exception shouldNotHappen ) {
@@ -207,6 +255,17 @@ class ApplicationReferenceImpl implements ApplicationReference {
     }
   }
 
+  private HttpServlet createResourceServlet() {
+    // not wrapped with CutOffContextPathWrapper, as resource requests must not create sessions
+    final ServletContext servletContext = servletContextWrapper;
+    return new ResourceServlet() {
+      @Override
+      public ServletContext getServletContext() {
+        return servletContext;
+      }
+    };
+  }
+
   private void clearFields() {
     applicationRunner = null;
     httpService = null;
@@ -219,7 +278,12 @@ class ApplicationReferenceImpl implements ApplicationReference {
   }
 
   private void unregisterServlet( String alias ) {
-    httpService.unregister( getContextSegment() + alias );
+    ServiceRegistration<?> registration = whiteboardRegistrations.remove( alias );
+    if( registration != null ) {
+      registration.unregister();
+    } else {
+      httpService.unregister( getContextSegment() + alias );
+    }
   }
 
   private void unregisterResourcesDirectory() {
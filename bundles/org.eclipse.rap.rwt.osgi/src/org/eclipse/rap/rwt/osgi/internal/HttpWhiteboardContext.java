@@ -0,0 +1,188 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.osgi.internal;
+
+import static org.osgi.service.http.runtime.HttpServiceRuntimeConstants.HTTP_SERVICE_ID;
+import static org.osgi.service.http.whiteboard.HttpWhiteboardConstants.HTTP_WHITEBOARD_CONTEXT_NAME;
+import static org.osgi.service.http.whiteboard.HttpWhiteboardConstants.HTTP_WHITEBOARD_CONTEXT_PATH;
+import static org.osgi.service.http.whiteboard.HttpWhiteboardConstants.HTTP_WHITEBOARD_CONTEXT_SELECT;
+import static org.osgi.service.http.whiteboard.HttpWhiteboardConstants.HTTP_WHITEBOARD_SERVLET_ASYNC_SUPPORTED;
+import static org.osgi.service.http.whiteboard.HttpWhiteboardConstants.HTTP_WHITEBOARD_SERVLET_PATTERN;
+import static org.osgi.service.http.whiteboard.HttpWhiteboardConstants.HTTP_WHITEBOARD_TARGET;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.Dictionary;
+import java.util.Hashtable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.servlet.Servlet;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.Constants;
+import org.osgi.framework.InvalidSyntaxException;
+import org.osgi.framework.ServiceReference;
+import org.osgi.framework.ServiceRegistration;
+import org.osgi.service.http.HttpContext;
+import org.osgi.service.http.HttpService;
+import org.osgi.service.http.context.ServletContextHelper;
+
+
+/*
+ * Registers servlets of an application with the Http Whiteboard runtime that backs the HttpService
+ * of the application. The servlets are bound to a servlet context helper that delegates to the
+ * HttpContext of the application, so that its security handling applies to them as well.
+ *
+ * A whiteboard context is only available if the Http Whiteboard packages are wired and the
+ * HttpService is provided by the bundle context of this bundle and backed by an Http Whiteboard
+ * runtime. Otherwise the servlets have to be registered with the HttpService.
+ */
+class HttpWhiteboardContext {
+
+  // referenced by name, as the Http Whiteboard packages are optional
+  static final String SERVLET_CONTEXT_HELPER_CLASS_NAME
+    = "org.osgi.service.http.context.ServletContextHelper";
+  static final String HTTP_SERVICE_RUNTIME_CLASS_NAME
+    = "org.osgi.service.http.runtime.HttpServiceRuntime";
+  static final String CONTEXT_NAME_PREFIX = "org.eclipse.rap.rwt.osgi.context";
+
+  private static final AtomicInteger CONTEXT_COUNT = new AtomicInteger();
+
+  private final BundleContext bundleContext;
+  private final String target;
+  private final String contextName;
+  private final ServiceRegistration<?> contextRegistration;
+
+  static HttpWhiteboardContext create( BundleContext bundleContext,
+                                       HttpService httpService,
+                                       HttpContext httpContext )
+  {
+    HttpWhiteboardContext result = null;
+    if( isWhiteboardAvailable() ) {
+      Object serviceId = getServiceId( bundleContext, httpService );
+      if( serviceId != null ) {
+        String target = "(" + HTTP_SERVICE_ID + "=" + serviceId + ")";
+        if( hasRuntime( bundleContext, target ) ) {
+          result = new HttpWhiteboardContext( bundleContext, target, httpContext );
+        }
+      }
+    }
+    return result;
+  }
+
+  private HttpWhiteboardContext( BundleContext bundleContext,
+                                 String target,
+                                 HttpContext httpContext )
+  {
+    this.bundleContext = bundleContext;
+    this.target = target;
+    contextName = CONTEXT_NAME_PREFIX + CONTEXT_COUNT.incrementAndGet();
+    Dictionary<String, Object> properties = new Hashtable<>();
+    properties.put( HTTP_WHITEBOARD_CONTEXT_NAME, contextName );
+    properties.put( HTTP_WHITEBOARD_CONTEXT_PATH, "/" );
+    properties.put( HTTP_WHITEBOARD_TARGET, target );
+    Object helper = new HttpContextHelper( httpContext );
+    contextRegistration
+      = bundleContext.registerService( SERVLET_CONTEXT_HELPER_CLASS_NAME, helper, properties );
+  }
+
+  ServiceRegistration<?> registerAsyncServlet( String path, HttpServlet servlet ) {
+    Dictionary<String, Object> properties = new Hashtable<>();
+    properties.put( HTTP_WHITEBOARD_SERVLET_PATTERN, new String[] { path, path + "/*" } );
+    properties.put( HTTP_WHITEBOARD_SERVLET_ASYNC_SUPPORTED, Boolean.TRUE );
+    properties.put( HTTP_WHITEBOARD_CONTEXT_SELECT,
+                    "(" + HTTP_WHITEBOARD_CONTEXT_NAME + "=" + contextName + ")" );
+    properties.put( HTTP_WHITEBOARD_TARGET, target );
+    return bundleContext.registerService( Servlet.class.getName(), servlet, properties );
+  }
+
+  void dispose() {
+    contextRegistration.unregister();
+  }
+
+  private static boolean isWhiteboardAvailable() {
+    try {
+      ClassLoader classLoader = HttpWhiteboardContext.class.getClassLoader();
+      Class.forName( SERVLET_CONTEXT_HELPER_CLASS_NAME, false, classLoader );
+      return true;
+    } catch( @SuppressWarnings( "unused" ) ClassNotFoundException | LinkageError exception ) {
+      return false;
+    }
+  }
+
+  private static Object getServiceId( BundleContext bundleContext, HttpService httpService ) {
+    ServiceReference<?>[] references = getServiceReferences( bundleContext,
+                                                             HttpService.class.getName(),
+                                                             null );
+    if( references != null ) {
+      for( ServiceReference<?> reference : references ) {
+        Object service = bundleContext.getService( reference );
+        try {
+          if( service == httpService ) {
+            return reference.getProperty( Constants.SERVICE_ID );
+          }
+        } finally {
+          bundleContext.ungetService( reference );
+        }
+      }
+    }
+    return null;
+  }
+
+  private static boolean hasRuntime( BundleContext bundleContext, String target ) {
+    ServiceReference<?>[] references = getServiceReferences( bundleContext,
+                                                             HTTP_SERVICE_RUNTIME_CLASS_NAME,
+                                                             target );
+    return references != null && references.length > 0;
+  }
+
+  private static ServiceReference<?>[] getServiceReferences( BundleContext bundleContext,
+                                                             String clazz,
+                                                             String filter )
+  {
+    try {
+      return bundleContext.getServiceReferences( clazz, filter );
+    } catch( InvalidSyntaxException shouldNotHappen ) {
+      throw new RuntimeException( shouldNotHappen );
+    }
+  }
+
+  private static class HttpContextHelper extends ServletContextHelper {
+
+    private final HttpContext httpContext;
+
+    HttpContextHelper( HttpContext httpContext ) {
+      this.httpContext = httpContext;
+    }
+
+    @Override
+    public boolean handleSecurity( HttpServletRequest request, HttpServletResponse response )
+      throws IOException
+    {
+      return httpContext.handleSecurity( request, response );
+    }
+
+    @Override
+    public URL getResource( String name ) {
+      return httpContext.getResource( name );
+    }
+
+    @Override
+    public String getMimeType( String name ) {
+      return httpContext.getMimeType( name );
+    }
+
+  }
+
+}
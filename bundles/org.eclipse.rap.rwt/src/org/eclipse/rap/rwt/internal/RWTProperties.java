@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2022 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -20,6 +20,88 @@ public final class RWTProperties {
   public static final String TEXT_SIZE_STORE_SIZE = "org.eclipse.rap.rwt.textSizeStoreSize";
   public static final String ENABLE_LOAD_TESTS = "org.eclipse.rap.rwt.enableLoadTests";
 
+  /*
+   * When enabled, only widgets that were accessed during the current request are preserved and
+   * rendered instead of walking the complete widget tree.
+   */
+  public static final String ENABLE_DIRTY_RENDERING = "org.eclipse.rap.rwt.enableDirtyRendering";
+
+  /*
+   * When enabled, the operations of a response message are serialized to a UTF-8 byte buffer as
+   * soon as they are complete, instead of building a JSON object tree for the entire message.
+   */
+  public static final String ENABLE_STREAMING_RESPONSE = "org.eclipse.rap.rwt.enableStreamingResponse";
+
+  /*
+   * When enabled, the response that is kept in the UI session to answer a duplicate request is
+   * held as serialized bytes instead of the response message with all its operations.
+   */
+  public static final String ENABLE_BUFFERED_RESPONSE = "org.eclipse.rap.rwt.enableBufferedResponse";
+
+  /*
+   * The maximum size in bytes of a buffered response. Larger responses are not kept, a duplicate
+   * request then fails with an error. Only applies when buffered responses are enabled.
+   */
+  public static final String BUFFERED_RESPONSE_LIMIT = "org.eclipse.rap.rwt.bufferedResponseLimit";
+
+  /*
+   * When enabled, a buffered response is stored compressed. Only applies when buffered responses
+   * are enabled.
+   */
+  public static final String COMPRESS_BUFFERED_RESPONSE = "org.eclipse.rap.rwt.compressBufferedResponse";
+
+  /*
+   * When enabled, the UI thread of a session is a virtual thread in SWT_COMPATIBILITY mode (if the
+   * runtime supports virtual threads) and control is handed between the request thread and the UI
+   * thread by parking the threads instead of waiting on a monitor.
+   */
+  public static final String ENABLE_VIRTUAL_UI_THREADS = "org.eclipse.rap.rwt.enableVirtualUIThreads";
+
+  /*
+   * The path of a file that the measured text sizes are persisted to. When set, the text sizes
+   * are loaded when the application starts and saved in the background, so that they do not
+   * have to be measured again after a restart.
+   */
+  public static final String TEXT_SIZE_STORE_FILE = "org.eclipse.rap.rwt.textSizeStoreFile";
+
+  /*
+   * The interval in seconds in which the persisted text sizes are saved. With a value of zero or
+   * less, the text sizes are only saved when the application is stopped.
+   */
+  public static final String TEXT_SIZE_STORE_FLUSH_INTERVAL = "org.eclipse.rap.rwt.textSizeStoreFlushInterval";
+
+  /*
+   * When enabled, a hash of the content is appended to the location of every registered resource
+   * and compressible resources are stored gzip compressed. When the resource directory is served
+   * by the ResourceServlet, the resources can then be cached by clients forever.
+   */
+  public static final String ENABLE_HASHED_RESOURCES = "org.eclipse.rap.rwt.enableHashedResources";
+
+  /*
+   * The maximum number of bytes of decoded image data that is cached per application. When set,
+   * the least recently used image data is evicted to stay within this budget. By default, only
+   * small image data is cached.
+   */
+  public static final String IMAGE_DATA_CACHE_SIZE = "org.eclipse.rap.rwt.imageDataCacheSize";
+
+  /*
+   * The maximum number of resolved theme values that are cached per theme adapter. A value of 0
+   * disables the cache, the theme values are then selected from the style sheet rules every time.
+   */
+  public static final String THEME_VALUE_CACHE_SIZE = "org.eclipse.rap.rwt.themeValueCacheSize";
+
+  /*
+   * When enabled, a server push request that has to wait for pending runnables is suspended using
+   * the asynchronous processing of Servlet 3 instead of blocking a container thread. The RWTServlet
+   * registrations of the servlet context are configured with async support when the application
+   * starts. In OSGi, the RWTServlet is registered with the Http Whiteboard runtime that backs the
+   * HttpService, in a servlet context that delegates to the HttpContext of the application. If the
+   * HttpService is not backed by an Http Whiteboard runtime, the RWTServlet is still registered
+   * with the HttpService and server push requests block. All filters in front of the servlet need
+   * async support too, otherwise the request still blocks.
+   */
+  public static final String ENABLE_ASYNC_SERVER_PUSH = "org.eclipse.rap.rwt.enableAsyncServerPush";
+
   /*
    * Used in conjunction with <code>WidgetUtil#CUSTOM_WIDGET_ID</code>,
    * to activate support for custom widget ids.</p>
@@ -46,10 +128,58 @@ public final class RWTProperties {
     return getIntProperty( TEXT_SIZE_STORE_SIZE, defaultValue );
   }
 
+  public static String getTextSizeStoreFile() {
+    return System.getProperty( TEXT_SIZE_STORE_FILE );
+  }
+
+  public static int getTextSizeStoreFlushInterval( int defaultValue ) {
+    return getIntProperty( TEXT_SIZE_STORE_FLUSH_INTERVAL, defaultValue );
+  }
+
+  public static int getImageDataCacheSize( int defaultValue ) {
+    return getIntProperty( IMAGE_DATA_CACHE_SIZE, defaultValue );
+  }
+
+  public static int getThemeValueCacheSize( int defaultValue ) {
+    return getIntProperty( THEME_VALUE_CACHE_SIZE, defaultValue );
+  }
+
+  public static boolean isHashedResourcesEnabled() {
+    return getBooleanProperty( ENABLE_HASHED_RESOURCES, false );
+  }
+
   public static boolean isLoadTestsEnabled() {
     return getBooleanProperty( ENABLE_LOAD_TESTS, false );
   }
 
+  public static boolean isDirtyRenderingEnabled() {
+    return getBooleanProperty( ENABLE_DIRTY_RENDERING, false );
+  }
+
+  public static boolean isStreamingResponseEnabled() {
+    return getBooleanProperty( ENABLE_STREAMING_RESPONSE, false );
+  }
+
+  public static boolean isBufferedResponseEnabled() {
+    return getBooleanProperty( ENABLE_BUFFERED_RESPONSE, false );
+  }
+
+  public static int getBufferedResponseLimit() {
+    return getIntProperty( BUFFERED_RESPONSE_LIMIT, Integer.MAX_VALUE );
+  }
+
+  public static boolean isBufferedResponseCompressionEnabled() {
+    return getBooleanProperty( COMPRESS_BUFFERED_RESPONSE, false );
+  }
+
+  public static boolean isVirtualUIThreadsEnabled() {
+    return getBooleanProperty( ENABLE_VIRTUAL_UI_THREADS, false );
+  }
+
+  public static boolean isAsyncServerPushEnabled() {
+    return getBooleanProperty( ENABLE_ASYNC_SERVER_PUSH, false );
+  }
+
   public static boolean getBooleanProperty( String name, boolean defaultValue ) {
     String value = System.getProperty( name );
     return value == null ? defaultValue : value.equalsIgnoreCase( "true" );
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 Frank Appel and others.
+ * Copyright (c) 2011, 2026 Frank Appel and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,6 +11,7 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.application;
 
+import java.io.File;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -23,6 +24,7 @@ import javax.servlet.ServletContext;
 
 import org.eclipse.rap.rwt.application.ApplicationConfiguration;
 import org.eclipse.rap.rwt.application.ExceptionHandler;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.client.ClientSelector;
 import org.eclipse.rap.rwt.internal.lifecycle.EntryPointManager;
 import org.eclipse.rap.rwt.internal.lifecycle.LifeCycleFactory;
@@ -42,8 +44,11 @@ import org.eclipse.rap.rwt.internal.service.RWTMessageHandler;
 import org.eclipse.rap.rwt.internal.service.ServiceManagerImpl;
 import org.eclipse.rap.rwt.internal.service.SettingStoreManager;
 import org.eclipse.rap.rwt.internal.service.StartupPage;
+import org.eclipse.rap.rwt.internal.textsize.FileTextSizePersistence;
 import org.eclipse.rap.rwt.internal.textsize.ProbeStore;
+import org.eclipse.rap.rwt.internal.textsize.TextSizePersistence;
 import org.eclipse.rap.rwt.internal.textsize.TextSizeStorage;
+import org.eclipse.rap.rwt.internal.textsize.TextSizeStoragePersister;
 import org.eclipse.rap.rwt.internal.theme.ThemeManager;
 import org.eclipse.rap.rwt.internal.util.ParamCheck;
 import org.eclipse.rap.rwt.internal.util.SerializableLock;
@@ -61,6 +66,7 @@ import org.eclipse.swt.internal.graphics.ImageFactory;
 import org.eclipse.swt.internal.graphics.InternalImageFactory;
 import org.eclipse.swt.internal.graphics.ResourceFactory;
 import org.eclipse.swt.internal.widgets.DisplaysHolder;
+import org.eclipse.swt.internal.widgets.TimerExecService;
 
 
 public class ApplicationContextImpl implements ApplicationContext {
@@ -99,6 +105,7 @@ public class ApplicationContextImpl implements ApplicationContext {
   private final FontDataFactory fontDataFactory;
   private final StartupPage startupPage;
   private final DisplaysHolder displaysHolder;
+  private final TimerExecService timerExecService;
   private final TextSizeStorage textSizeStorage;
   private final ProbeStore probeStore;
   private final ServletContext servletContext;
@@ -108,6 +115,7 @@ public class ApplicationContextImpl implements ApplicationContext {
   private final SerializableLock listenersLock;
   private final AtomicReference<State> state;
   private ExceptionHandler exceptionHandler;
+  private TextSizeStoragePersister textSizeStoragePersister;
 
   public ApplicationContextImpl( ApplicationConfiguration applicationConfiguration,
                                  ServletContext servletContext )
@@ -133,6 +141,7 @@ public class ApplicationContextImpl implements ApplicationContext {
     startupPage = new StartupPage( this );
     serviceManager = createServiceManager();
     displaysHolder = new DisplaysHolder();
+    timerExecService = new TimerExecService();
     textSizeStorage = new TextSizeStorage();
     probeStore = new ProbeStore( textSizeStorage );
     clientSelector = new ClientSelector();
@@ -150,6 +159,15 @@ public class ApplicationContextImpl implements ApplicationContext {
     return new ResourceManagerImpl( resourceDirectory );
   }
 
+  /**
+   * Returns the persistence for the measured text sizes, or <code>null</code> if the text sizes
+   * are not persisted.
+   */
+  protected TextSizePersistence createTextSizePersistence() {
+    String fileName = RWTProperties.getTextSizeStoreFile();
+    return fileName == null ? null : new FileTextSizePersistence( new File( fileName ) );
+  }
+
   public static ApplicationContextImpl getFrom( ServletContext servletContext ) {
     return ( ApplicationContextImpl )servletContext.getAttribute( ATTR_APPLICATION_CONTEXT );
   }
@@ -332,6 +350,10 @@ public class ApplicationContextImpl implements ApplicationContext {
     return displaysHolder;
   }
 
+  public TimerExecService getTimerExecService() {
+    return timerExecService;
+  }
+
   public TextSizeStorage getTextSizeStorage() {
     return textSizeStorage;
   }
@@ -369,6 +391,9 @@ public class ApplicationContextImpl implements ApplicationContext {
   void doActivate() {
     themeManager.initialize();
     applicationConfiguration.configure( new ApplicationImpl( this, applicationConfiguration ) );
+    if( RWTProperties.isAsyncServerPushEnabled() ) {
+      new AsyncSupportConfigurator( servletContext ).configure();
+    }
     resourceDirectory.configure( getContextDirectory() );
     addInternalServiceHandlers();
     setInternalSettingStoreFactory();
@@ -382,9 +407,12 @@ public class ApplicationContextImpl implements ApplicationContext {
     }
     resourceRegistry.registerResources();
     clientSelector.activate();
+    activateTextSizeStoragePersister();
   }
 
   void doDeactivate() {
+    deactivateTextSizeStoragePersister();
+    timerExecService.deactivate();
     startupPage.deactivate();
     lifeCycleFactory.deactivate();
     serviceManager.clear();
@@ -424,6 +452,23 @@ public class ApplicationContextImpl implements ApplicationContext {
     }
   }
 
+  private void activateTextSizeStoragePersister() {
+    TextSizePersistence persistence = createTextSizePersistence();
+    if( persistence != null ) {
+      long flushInterval = RWTProperties.getTextSizeStoreFlushInterval( 60 ) * 1000L;
+      textSizeStoragePersister
+        = new TextSizeStoragePersister( textSizeStorage, persistence, flushInterval );
+      textSizeStoragePersister.activate();
+    }
+  }
+
+  private void deactivateTextSizeStoragePersister() {
+    if( textSizeStoragePersister != null ) {
+      textSizeStoragePersister.deactivate();
+      textSizeStoragePersister = null;
+    }
+  }
+
   private void fireBeforeDestroy() {
     ApplicationContextEvent event = new ApplicationContextEvent( this );
     for( ApplicationContextListener listener : copyListeners() ) {
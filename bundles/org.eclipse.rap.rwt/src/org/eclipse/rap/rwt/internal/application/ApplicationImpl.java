@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 Frank Appel and others.
+ * Copyright (c) 2011, 2026 Frank Appel and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -20,8 +20,10 @@ import org.eclipse.rap.rwt.application.ApplicationConfiguration;
 import org.eclipse.rap.rwt.application.EntryPoint;
 import org.eclipse.rap.rwt.application.EntryPointFactory;
 import org.eclipse.rap.rwt.application.ExceptionHandler;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.client.ClientProvider;
 import org.eclipse.rap.rwt.internal.lifecycle.RWTLifeCycle;
+import org.eclipse.rap.rwt.internal.lifecycle.VirtualThreadLifeCycle;
 import org.eclipse.rap.rwt.internal.theme.Theme;
 import org.eclipse.rap.rwt.internal.theme.ThemeManager;
 import org.eclipse.rap.rwt.internal.theme.css.CssFileReader;
@@ -53,7 +55,7 @@ public class ApplicationImpl implements Application {
       case JEE_COMPATIBILITY:
         break;
       case SWT_COMPATIBILITY:
-        applicationContext.getLifeCycleFactory().configure( RWTLifeCycle.class );
+        applicationContext.getLifeCycleFactory().configure( getSWTCompatibleLifeCycleClass() );
         break;
       case SESSION_FAILOVER:
         new SessionFailoverConfigurator( applicationContext ).configure();
@@ -63,6 +65,13 @@ public class ApplicationImpl implements Application {
     }
   }
 
+  private static Class<? extends RWTLifeCycle> getSWTCompatibleLifeCycleClass() {
+    if( RWTProperties.isVirtualUIThreadsEnabled() ) {
+      return VirtualThreadLifeCycle.class;
+    }
+    return RWTLifeCycle.class;
+  }
+
   @Override
   public void setSettingStoreFactory( SettingStoreFactory settingStoreFactory ) {
     ParamCheck.notNull( settingStoreFactory, "settingStoreFactory" );
@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.application;
+
+import java.util.Map;
+
+import javax.servlet.ServletContext;
+import javax.servlet.ServletRegistration;
+
+import org.eclipse.rap.rwt.engine.RWTServlet;
+
+/*
+ * Enables the asynchronous processing of Servlet 3 for the registrations of the RWT servlet, see
+ * RWTProperties#ENABLE_ASYNC_SERVER_PUSH. Only registrations that can still be changed while the
+ * servlet context is initialized are configured, requests to other registrations keep blocking.
+ */
+class AsyncSupportConfigurator {
+  private final ServletContext servletContext;
+
+  AsyncSupportConfigurator( ServletContext servletContext ) {
+    this.servletContext = servletContext;
+  }
+
+  void configure() {
+    if( servletContext.getMajorVersion() >= 3 ) {
+      Map<String, ? extends ServletRegistration> registrations = getServletRegistrations();
+      if( registrations != null ) {
+        for( ServletRegistration registration : registrations.values() ) {
+          if( isRWTServlet( registration ) && registration instanceof ServletRegistration.Dynamic ) {
+            setAsyncSupported( ( ServletRegistration.Dynamic )registration );
+          }
+        }
+      }
+    }
+  }
+
+  private Map<String, ? extends ServletRegistration> getServletRegistrations() {
+    try {
+      return servletContext.getServletRegistrations();
+    } catch( @SuppressWarnings( "unused" ) UnsupportedOperationException exception ) {
+      return null;
+    }
+  }
+
+  private static void setAsyncSupported( ServletRegistration.Dynamic registration ) {
+    try {
+      registration.setAsyncSupported( true );
+    } catch( @SuppressWarnings( "unused" ) IllegalStateException exception ) {
+      // the servlet context has already been initialized
+    }
+  }
+
+  private static boolean isRWTServlet( ServletRegistration registration ) {
+    return RWTServlet.class.getName().equals( registration.getClassName() );
+  }
+}
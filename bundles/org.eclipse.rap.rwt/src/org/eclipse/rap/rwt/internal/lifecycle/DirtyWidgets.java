@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.lifecycle;
+
+import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getAdapter;
+import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getLCA;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.swt.internal.widgets.WidgetRemoteAdapter;
+import org.eclipse.swt.widgets.Widget;
+
+
+/**
+ * Keeps track of the widgets that were accessed between the preserve and the render phase of a
+ * request. A widget is marked as dirty right before it is modified, its values are preserved at
+ * this very moment. Hence, only dirty widgets need to be rendered.
+ * <p>
+ * A widget that is marked as dirty also marks its parent as dirty, since the parent state often
+ * depends on the state of its children (e.g. the children order or the item metrics).
+ * </p>
+ */
+public final class DirtyWidgets {
+
+  private final Map<Widget, Boolean> widgets;
+  private final List<Widget> pending;
+  private boolean started;
+  private boolean tracking;
+
+  public DirtyWidgets() {
+    widgets = new IdentityHashMap<>();
+    pending = new ArrayList<>();
+  }
+
+  public void startTracking() {
+    started = true;
+    tracking = true;
+    for( Widget widget : pending ) {
+      if( !widget.isDisposed() ) {
+        markDirty( widget );
+      }
+    }
+    pending.clear();
+  }
+
+  public void stopTracking() {
+    tracking = false;
+  }
+
+  public boolean isTracking() {
+    return tracking;
+  }
+
+  public boolean hasStarted() {
+    return started;
+  }
+
+  /**
+   * Remembers a widget that has to be marked as dirty as soon as tracking starts, e.g. a widget
+   * that received operations from the client.
+   */
+  public void markDirtyOnStart( Widget widget ) {
+    pending.add( widget );
+  }
+
+  public void markDirty( Widget widget ) {
+    if( tracking && !widgets.containsKey( widget ) ) {
+      widgets.put( widget, Boolean.TRUE );
+      WidgetRemoteAdapter adapter = ( WidgetRemoteAdapter )getAdapter( widget );
+      if( adapter.isInitialized() ) {
+        adapter.clearPreserved();
+        getLCA( widget ).preserveValues( widget );
+      }
+      Widget parent = adapter.getParent();
+      if( parent != null && !parent.isDisposed() ) {
+        markDirty( parent );
+      }
+    }
+  }
+
+  public boolean isDirty( Widget widget ) {
+    return widgets.containsKey( widget );
+  }
+
+  public List<Widget> getAll() {
+    if( widgets.isEmpty() ) {
+      return Collections.emptyList();
+    }
+    return new ArrayList<>( widgets.keySet() );
+  }
+
+}
@@ -0,0 +1,254 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.lifecycle;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.locks.LockSupport;
+
+import org.eclipse.rap.rwt.internal.lifecycle.UIThread.UIThreadTerminatedError;
+import org.eclipse.rap.rwt.internal.service.ContextProvider;
+import org.eclipse.rap.rwt.internal.service.ServiceContext;
+import org.eclipse.rap.rwt.internal.service.ServletLog;
+import org.eclipse.rap.rwt.service.UISession;
+
+
+/**
+ * A UI thread holder that hands control between the request thread and the UI thread by parking
+ * the thread that gives up control, instead of waiting on an object monitor. Exactly one of both
+ * threads is running at any time, the other one is parked in <code>switchThread()</code>.
+ * <p>
+ * The UI thread is a virtual thread if the runtime supports them (Java 21 and later) and a
+ * platform daemon thread otherwise. As virtual threads are pinned to their carrier thread while
+ * holding a monitor, no monitor must be held when calling <code>switchThread()</code>.
+ * </p>
+ */
+@SuppressWarnings( "deprecation" )
+final class ParkingUIThread implements IUIThreadHolder, ISessionShutdownAdapter {
+
+  private static final ThreadLocal<ParkingUIThread> CURRENT = new ThreadLocal<>();
+  private static final VirtualThreadFactory VIRTUAL_THREAD_FACTORY = VirtualThreadFactory.create();
+
+  private final Thread thread;
+  private final Object lock;
+  private volatile boolean uiThreadTurn;
+  private volatile Thread requestThread;
+  private volatile boolean uiThreadTerminating;
+  private ServiceContext serviceContext;
+  private UISession uiSession;
+  private Runnable shutdownCallback;
+
+  ParkingUIThread( final Runnable runnable ) {
+    this( runnable, VIRTUAL_THREAD_FACTORY != null );
+  }
+
+  ParkingUIThread( final Runnable runnable, boolean virtual ) {
+    lock = new Object();
+    Runnable body = new Runnable() {
+      @Override
+      public void run() {
+        runUIThread( runnable );
+      }
+    };
+    thread = virtual ? VIRTUAL_THREAD_FACTORY.newThread( body ) : new Thread( body );
+  }
+
+  /**
+   * Returns the holder of the UI thread that is currently running, or <code>null</code> if the
+   * current thread is not a UI thread created by this class.
+   */
+  static ParkingUIThread getCurrent() {
+    return CURRENT.get();
+  }
+
+  static boolean isVirtualThreadSupported() {
+    return VIRTUAL_THREAD_FACTORY != null;
+  }
+
+  //////////////////////////
+  // interface IThreadHolder
+
+  @Override
+  public void setServiceContext( ServiceContext serviceContext ) {
+    this.serviceContext = serviceContext;
+  }
+
+  @Override
+  public void updateServiceContext() {
+    if( ContextProvider.hasContext() ) {
+      ContextProvider.releaseContextHolder();
+    }
+    ContextProvider.setContext( serviceContext );
+  }
+
+  @Override
+  public void switchThread() {
+    checkAndReportTerminatedUIThread();
+    if( Thread.currentThread() == thread ) {
+      uiThreadTurn = false;
+      LockSupport.unpark( requestThread );
+      awaitTurn( true );
+    } else {
+      requestThread = Thread.currentThread();
+      uiThreadTurn = true;
+      LockSupport.unpark( thread );
+      awaitTurn( false );
+      requestThread = null;
+    }
+  }
+
+  @Override
+  public void terminateThread() {
+    // Prepare a service context to be used by the UI thread that continues to run as a result of
+    // the termination request
+    ServiceContext serviceContext = ContextUtil.createFakeContext( uiSession );
+    setServiceContext( serviceContext );
+    // the UI thread is not interrupted, as that would also abort blocking calls of a UI thread
+    // that is still running, instead it checks the flag when it parks the next time
+    uiThreadTerminating = true;
+    LockSupport.unpark( thread );
+    try {
+      thread.join();
+    } catch( InterruptedException e ) {
+      String msg = "Received InterruptedException while terminating UIThread";
+      ServletLog.log( msg, e );
+    }
+    uiThreadTerminating = false;
+  }
+
+  @Override
+  public Thread getThread() {
+    return thread;
+  }
+
+  @Override
+  public Object getLock() {
+    return lock;
+  }
+
+  ////////////////////////////////////
+  // interface ISessionShutdownAdapter
+
+  @Override
+  public void setUISession( UISession uiSession ) {
+    this.uiSession = uiSession;
+  }
+
+  @Override
+  public void setShutdownCallback( Runnable shutdownCallback ) {
+    this.shutdownCallback = shutdownCallback;
+  }
+
+  @Override
+  public void interceptShutdown() {
+    terminateThread();
+  }
+
+  @Override
+  public void processShutdown() {
+    updateServiceContext();
+    UIThread.processShutdown( uiSession, shutdownCallback );
+  }
+
+  //////////////////
+  // helping methods
+
+  private void runUIThread( Runnable runnable ) {
+    CURRENT.set( this );
+    try {
+      awaitTurn( true );
+      runnable.run();
+    } finally {
+      CURRENT.remove();
+      // release a request thread that may still wait for this thread
+      uiThreadTurn = false;
+      LockSupport.unpark( requestThread );
+    }
+  }
+
+  private void awaitTurn( boolean uiThread ) {
+    while( true ) {
+      if( uiThreadTerminating && Thread.currentThread() == thread ) {
+        handleTerminationInSwitchThread();
+      }
+      if( uiThreadTurn == uiThread ) {
+        break;
+      }
+      LockSupport.park( this );
+      if( Thread.interrupted() ) {
+        handleInterruptInSwitchThread();
+      }
+    }
+  }
+
+  private void handleTerminationInSwitchThread() throws UIThreadTerminatedError {
+    // Equip the UI thread that is continuing its execution with a
+    // service context and the proper phase (see terminateThread).
+    updateServiceContext();
+    CurrentPhase.set( PhaseId.PROCESS_ACTION );
+    uiThreadTerminating = false;
+    throw new UIThreadTerminatedError();
+  }
+
+  private void handleInterruptInSwitchThread() {
+    if( Thread.currentThread() != thread ) {
+      String msg = "Received InterruptedException on request thread";
+      ServletLog.log( msg, new InterruptedException() );
+    }
+  }
+
+  private void checkAndReportTerminatedUIThread() {
+    if( thread.getState() == Thread.State.TERMINATED ) {
+      String msg
+        = "Thread '"
+        + Thread.currentThread()
+        + "' is waiting for already terminated UIThread";
+      ServletLog.log( "", new RuntimeException( msg ) );
+    }
+  }
+
+  /*
+   * Creates virtual threads through reflection, as the bundle is compiled against Java 8.
+   */
+  static final class VirtualThreadFactory {
+
+    private final Method ofVirtual;
+    private final Method unstarted;
+
+    private VirtualThreadFactory( Method ofVirtual, Method unstarted ) {
+      this.ofVirtual = ofVirtual;
+      this.unstarted = unstarted;
+    }
+
+    static VirtualThreadFactory create() {
+      try {
+        Method ofVirtual = Thread.class.getMethod( "ofVirtual" );
+        // fails for Java versions where virtual threads are a preview feature
+        ofVirtual.invoke( null );
+        Class<?> builderType = Class.forName( "java.lang.Thread$Builder" );
+        Method unstarted = builderType.getMethod( "unstarted", Runnable.class );
+        return new VirtualThreadFactory( ofVirtual, unstarted );
+      } catch( @SuppressWarnings( "unused" ) Exception exception ) {
+        return null;
+      }
+    }
+
+    Thread newThread( Runnable runnable ) {
+      try {
+        // thread builders are not thread-safe, hence a new one is used for every thread
+        return ( Thread )unstarted.invoke( ofVirtual.invoke( null ), runnable );
+      } catch( Exception exception ) {
+        throw new IllegalStateException( "Failed to create virtual thread", exception );
+      }
+    }
+
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -187,10 +187,7 @@ public class RWTLifeCycle extends LifeCycle {
       uiThread = createUIThread();
       // The serviceContext MUST be set before thread.start() is called
       uiThread.setServiceContext( context );
-      synchronized( uiThread.getLock() ) {
-        uiThread.getThread().start();
-        uiThread.switchThread();
-      }
+      startUIThread( uiThread );
     } else {
       uiThread.setServiceContext( context );
       // See bug 354368
@@ -235,9 +232,61 @@ public class RWTLifeCycle extends LifeCycle {
     continueLifeCycle();
   }
 
+  /**
+   * Starts the given UI thread and hands control over to it. Must be called from the request
+   * thread, returns as soon as the UI thread switches back.
+   */
+  void startUIThread( IUIThreadHolder uiThread ) {
+    synchronized( uiThread.getLock() ) {
+      uiThread.getThread().start();
+      uiThread.switchThread();
+    }
+  }
+
+  /**
+   * Runs the life cycle on the given UI thread. Must be called from the UI thread.
+   */
+  void runUIThread( IUIThreadHolder uiThread ) {
+    // [rh] sync exception handling and switchThread (see bug 316676)
+    synchronized( uiThread.getLock() ) {
+      processUIThread( uiThread );
+    }
+  }
+
+  IUIThreadHolder newUIThread( Runnable runnable ) {
+    return new UIThread( runnable );
+  }
+
+  IUIThreadHolder getCurrentUIThread() {
+    return ( IUIThreadHolder )Thread.currentThread();
+  }
+
+  final void processUIThread( IUIThreadHolder uiThread ) {
+    try {
+      uiThread.updateServiceContext();
+      ServerPushManager.getInstance().notifyUIThreadStart();
+      continueLifeCycle();
+      createUI();
+      continueLifeCycle();
+      ServerPushManager.getInstance().notifyUIThreadEnd();
+    } catch( UIThreadTerminatedError thr ) {
+      throw thr;
+    } catch( Throwable thr ) {
+      ServiceStore serviceStore = ContextProvider.getServiceStore();
+      serviceStore.setAttribute( UI_THREAD_THROWABLE, thr );
+    }
+    // We have to prevent the ui thread from waking up at that point, otherwise
+    // processShutdown would never be executed and session store would not be cleared.
+    // See bug 354368
+    UISession uiSession = ContextProvider.getUISession();
+    uiSession.setAttribute( UI_THREAD_WAITING_FOR_TERMINATION, Boolean.TRUE );
+    // In any case: wait for the thread to be terminated by session timeout
+    uiThread.switchThread();
+  }
+
   private IUIThreadHolder createUIThread() {
     UISession uiSession = ContextProvider.getUISession();
-    IUIThreadHolder result = new UIThread( uiRunnable );
+    IUIThreadHolder result = newUIThread( uiRunnable );
     result.getThread().setDaemon( true );
     result.getThread().setName( "UIThread [" + uiSession.getId() + "]" );
     LifeCycleUtil.setUIThread( uiSession, result );
@@ -279,31 +328,9 @@ public class RWTLifeCycle extends LifeCycle {
   private final class UIThreadController implements Runnable {
     @Override
     public void run() {
-      IUIThreadHolder uiThread = ( IUIThreadHolder )Thread.currentThread();
+      IUIThreadHolder uiThread = getCurrentUIThread();
       try {
-        // [rh] sync exception handling and switchThread (see bug 316676)
-        synchronized( uiThread.getLock() ) {
-          try {
-            uiThread.updateServiceContext();
-            ServerPushManager.getInstance().notifyUIThreadStart();
-            continueLifeCycle();
-            createUI();
-            continueLifeCycle();
-            ServerPushManager.getInstance().notifyUIThreadEnd();
-          } catch( UIThreadTerminatedError thr ) {
-            throw thr;
-          } catch( Throwable thr ) {
-            ServiceStore serviceStore = ContextProvider.getServiceStore();
-            serviceStore.setAttribute( UI_THREAD_THROWABLE, thr );
-          }
-          // We have to prevent the ui thread from waking up at that point, otherwise
-          // processShutdown would never be executed and session store would not be cleared.
-          // See bug 354368
-          UISession uiSession = ContextProvider.getUISession();
-          uiSession.setAttribute( UI_THREAD_WAITING_FOR_TERMINATION, Boolean.TRUE );
-          // In any case: wait for the thread to be terminated by session timeout
-          uiThread.switchThread();
-        }
+        runUIThread( uiThread );
       } catch( @SuppressWarnings( "unused" ) UIThreadTerminatedError e ) {
         // If we get here, the session is being invalidated, see UIThread#terminateThread()
         ( ( ISessionShutdownAdapter )uiThread ).processShutdown();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2008, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -163,6 +163,14 @@ final class UIThread extends Thread implements IUIThreadHolder, ISessionShutdown
   @Override
   public void processShutdown() {
     updateServiceContext();
+    processShutdown( uiSession, shutdownCallback );
+  }
+
+  /*
+   * Disposes of the session display and runs the shutdown callback. Expects the service context
+   * to be set up for the calling thread and disposes of it afterwards.
+   */
+  static void processShutdown( UISession uiSession, Runnable shutdownCallback ) {
     try {
       // Simulate PROCESS_ACTION phase if the session times out
       CurrentPhase.set( PhaseId.PROCESS_ACTION );
@@ -175,7 +183,7 @@ final class UIThread extends Thread implements IUIThreadHolder, ISessionShutdown
       //                deactivation of ApplicationContext instances. In case the HttpService
       //                gets halted the corresponding ApplicationContext instances have already
       //                been deactivated and this will cause a NPE.
-      if( isApplicationContextActive() && display != null ) {
+      if( isApplicationContextActive( uiSession ) && display != null ) {
         display.dispose();
       }
       shutdownCallback.run();
@@ -184,7 +192,7 @@ final class UIThread extends Thread implements IUIThreadHolder, ISessionShutdown
     }
   }
 
-  private boolean isApplicationContextActive() {
+  private static boolean isApplicationContextActive( UISession uiSession ) {
     ApplicationContextImpl applicationContext = ( ( UISessionImpl )uiSession ).getApplicationContext();
     return applicationContext != null && applicationContext.isActive();
   }
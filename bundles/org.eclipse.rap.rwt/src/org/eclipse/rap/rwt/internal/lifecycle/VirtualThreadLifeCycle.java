@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.lifecycle;
+
+import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
+
+
+/**
+ * A variant of the {@link RWTLifeCycle} that runs the UI thread of a session as a virtual thread,
+ * if supported by the runtime, and switches between the request thread and the UI thread by
+ * parking instead of waiting on the UI thread lock. See {@link ParkingUIThread}.
+ * <p>
+ * This life cycle is used in <code>SWT_COMPATIBILITY</code> mode when the system property
+ * <code>org.eclipse.rap.rwt.enableVirtualUIThreads</code> is set.
+ * </p>
+ */
+public class VirtualThreadLifeCycle extends RWTLifeCycle {
+
+  public VirtualThreadLifeCycle( ApplicationContextImpl applicationContext ) {
+    super( applicationContext );
+  }
+
+  @Override
+  void startUIThread( IUIThreadHolder uiThread ) {
+    uiThread.getThread().start();
+    uiThread.switchThread();
+  }
+
+  @Override
+  void runUIThread( IUIThreadHolder uiThread ) {
+    processUIThread( uiThread );
+  }
+
+  @Override
+  IUIThreadHolder newUIThread( Runnable runnable ) {
+    return new ParkingUIThread( runnable );
+  }
+
+  @Override
+  IUIThreadHolder getCurrentUIThread() {
+    return ParkingUIThread.getCurrent();
+  }
+
+}
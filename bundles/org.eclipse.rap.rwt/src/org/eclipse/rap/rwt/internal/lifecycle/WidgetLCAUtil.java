@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -24,6 +24,8 @@ import static org.eclipse.rap.rwt.remote.JsonMapping.toJson;
 import static org.eclipse.swt.internal.events.EventLCAUtil.containsEvent;
 import static org.eclipse.swt.internal.events.EventLCAUtil.isListening;
 import static org.eclipse.swt.internal.widgets.MarkupUtil.isToolTipMarkupEnabledFor;
+import static org.eclipse.swt.internal.widgets.PreservedValues.getProperty;
+import static org.eclipse.swt.internal.widgets.PreservedValues.getSlot;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -46,6 +48,7 @@ import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.graphics.RGB;
 import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.internal.widgets.IWidgetGraphicsAdapter;
+import org.eclipse.swt.internal.widgets.PreservedValues;
 import org.eclipse.swt.internal.widgets.Props;
 import org.eclipse.swt.internal.widgets.WidgetRemoteAdapter;
 import org.eclipse.swt.widgets.Menu;
@@ -330,11 +333,27 @@ public final class WidgetLCAUtil {
   }
 
   public static void preserveProperty( Widget widget, String property, int value ) {
-    preserveProperty( widget, property, Integer.valueOf( value ) );
+    getRemoteAdapter( widget ).preserve( getSlot( property ), value );
   }
 
   public static void preserveProperty( Widget widget, String property, boolean value ) {
-    preserveProperty( widget, property, Boolean.valueOf( value ) );
+    getRemoteAdapter( widget ).preserve( getSlot( property ), value );
+  }
+
+  /**
+   * Preserves the value of the property with the given slot, see
+   * {@link PreservedValues#getSlot(String)}.
+   */
+  public static void preserveProperty( Widget widget, int slot, Object value ) {
+    getRemoteAdapter( widget ).preserve( slot, value );
+  }
+
+  public static void preserveProperty( Widget widget, int slot, int value ) {
+    getRemoteAdapter( widget ).preserve( slot, value );
+  }
+
+  public static void preserveProperty( Widget widget, int slot, boolean value ) {
+    getRemoteAdapter( widget ).preserve( slot, value );
   }
 
   public static void renderProperty( Widget widget,
@@ -396,11 +415,7 @@ public final class WidgetLCAUtil {
                                      int newValue,
                                      int defaultValue )
   {
-    Integer newValueObject = Integer.valueOf( newValue );
-    Integer defaultValueObject = Integer.valueOf( defaultValue );
-    if( hasChanged( widget, property, newValueObject, defaultValueObject ) ) {
-      getRemoteObject( widget ).set( property, newValue );
-    }
+    renderProperty( widget, getSlot( property ), newValue, defaultValue );
   }
 
   public static void renderProperty( Widget widget,
@@ -408,10 +423,32 @@ public final class WidgetLCAUtil {
                                      boolean newValue,
                                      boolean defaultValue )
   {
-    Boolean newValueObject = Boolean.valueOf( newValue );
-    Boolean defaultValueObject = Boolean.valueOf( defaultValue );
-    if( hasChanged( widget, property, newValueObject, defaultValueObject ) ) {
-      getRemoteObject( widget ).set( property, newValue );
+    renderProperty( widget, getSlot( property ), newValue, defaultValue );
+  }
+
+  public static void renderProperty( Widget widget, int slot, int newValue, int defaultValue ) {
+    if( hasChanged( widget, slot, newValue, defaultValue ) ) {
+      getRemoteObject( widget ).set( getProperty( slot ), newValue );
+    }
+  }
+
+  public static void renderProperty( Widget widget,
+                                     int slot,
+                                     boolean newValue,
+                                     boolean defaultValue )
+  {
+    if( hasChanged( widget, slot, newValue, defaultValue ) ) {
+      getRemoteObject( widget ).set( getProperty( slot ), newValue );
+    }
+  }
+
+  public static void renderProperty( Widget widget,
+                                     int slot,
+                                     String newValue,
+                                     String defaultValue )
+  {
+    if( hasChanged( widget, slot, newValue, defaultValue ) ) {
+      getRemoteObject( widget ).set( getProperty( slot ), newValue );
     }
   }
 
@@ -547,7 +584,7 @@ public final class WidgetLCAUtil {
   }
 
   public static void preserveListener( Widget widget, String listener, boolean value ) {
-    getAdapter( widget ).preserve( listener, Boolean.valueOf( value ) );
+    getRemoteAdapter( widget ).preserve( getSlot( listener ), value );
   }
 
   public static void renderListener( Widget widget,
@@ -555,9 +592,7 @@ public final class WidgetLCAUtil {
                                      boolean newValue,
                                      boolean defaultValue )
   {
-    Boolean newValueObject = Boolean.valueOf( newValue );
-    Boolean defaultValueObject = Boolean.valueOf( defaultValue );
-    if( hasChanged( widget, listener, newValueObject, defaultValueObject ) ) {
+    if( hasChanged( widget, getSlot( listener ), newValue, defaultValue ) ) {
       getRemoteObject( widget ).listen( listener, newValue );
     }
   }
@@ -617,6 +652,35 @@ public final class WidgetLCAUtil {
     return changed( widget, actualValue, preservedValue, defaultValue );
   }
 
+  public static boolean hasChanged( Widget widget,
+                                    int slot,
+                                    Object actualValue,
+                                    Object defaultValue )
+  {
+    Object preservedValue = getRemoteAdapter( widget ).getPreserved( slot );
+    return changed( widget, actualValue, preservedValue, defaultValue );
+  }
+
+  public static boolean hasChanged( Widget widget, int slot, int actualValue, int defaultValue ) {
+    WidgetRemoteAdapter adapter = getRemoteAdapter( widget );
+    if( adapter.isInitialized() ) {
+      return !adapter.isPreserved( slot, actualValue );
+    }
+    return actualValue != defaultValue;
+  }
+
+  public static boolean hasChanged( Widget widget,
+                                    int slot,
+                                    boolean actualValue,
+                                    boolean defaultValue )
+  {
+    WidgetRemoteAdapter adapter = getRemoteAdapter( widget );
+    if( adapter.isInitialized() ) {
+      return !adapter.isPreserved( slot, actualValue );
+    }
+    return actualValue != defaultValue;
+  }
+
   static boolean changed( Widget widget,
                           Object actualValue,
                           Object preservedValue,
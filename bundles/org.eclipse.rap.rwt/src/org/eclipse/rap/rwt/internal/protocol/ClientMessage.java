@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2015 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,6 +10,7 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.protocol;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -22,9 +23,13 @@ import org.eclipse.rap.rwt.internal.protocol.Operation.NotifyOperation;
 import org.eclipse.rap.rwt.internal.protocol.Operation.SetOperation;
 
 
+/**
+ * A request message with its operations indexed by target. The last set operation per property
+ * and the last notify operation per event of a target are looked up in constant time.
+ */
 public class ClientMessage extends RequestMessage {
 
-  private Map<String, List<Operation>> index;
+  private Map<String, TargetOperations> index;
 
   public ClientMessage( JsonObject json ) {
     super( json );
@@ -36,30 +41,39 @@ public class ClientMessage extends RequestMessage {
     createOperationsIndex();
   }
 
+  ClientMessage( JsonObject head, List<Operation> operations ) {
+    super( head, operations );
+    createOperationsIndex();
+  }
+
   private void createOperationsIndex() {
     index = new HashMap<>();
     for( Operation operation : getOperations() ) {
       String target = operation.getTarget();
-      List<Operation> targetOperations = index.get( target );
+      TargetOperations targetOperations = index.get( target );
       if( targetOperations == null ) {
-        targetOperations = new ArrayList<>();
+        targetOperations = new TargetOperations();
+        index.put( target, targetOperations );
       }
       targetOperations.add( operation );
-      index.put( target, targetOperations );
     }
   }
 
   public List<Operation> getAllOperationsFor( String target ) {
-    List<Operation> operations = index.get( target );
-    if( operations == null ) {
+    TargetOperations targetOperations = index.get( target );
+    if( targetOperations == null ) {
       return Collections.emptyList();
     }
-    return Collections.unmodifiableList( operations );
+    return Collections.unmodifiableList( targetOperations.operations );
   }
 
   public List<CallOperation> getAllCallOperationsFor( String target, String methodName ) {
     List<CallOperation> result = new ArrayList<>();
-    List<Operation> selected = target == null ? getOperations() : index.get( target );
+    List<Operation> selected = getOperations();
+    if( target != null ) {
+      TargetOperations targetOperations = index.get( target );
+      selected = targetOperations == null ? null : targetOperations.operations;
+    }
     if( selected != null ) {
       for( Operation operation : selected ) {
         if( operation instanceof CallOperation ) {
@@ -74,35 +88,94 @@ public class ClientMessage extends RequestMessage {
   }
 
   public SetOperation getLastSetOperationFor( String target, String property ) {
+    if( target == null ) {
+      return findLastSetOperation( property );
+    }
+    TargetOperations targetOperations = index.get( target );
+    return targetOperations == null ? null : targetOperations.getLastSetOperation( property );
+  }
+
+  public NotifyOperation getLastNotifyOperationFor( String target, String eventName ) {
+    if( target == null ) {
+      return findLastNotifyOperation( eventName );
+    }
+    TargetOperations targetOperations = index.get( target );
+    return targetOperations == null ? null : targetOperations.getLastNotifyOperation( eventName );
+  }
+
+  private SetOperation findLastSetOperation( String property ) {
     SetOperation result = null;
-    List<Operation> selected = target == null ? getOperations() : index.get( target );
-    if( selected != null ) {
-      for( Operation operation : selected ) {
-        if( operation instanceof SetOperation ) {
-          SetOperation setOperation = ( SetOperation )operation;
-          if( property == null || setOperation.getProperties().get( property ) != null ) {
-            result = setOperation;
-          }
+    for( Operation operation : getOperations() ) {
+      if( operation instanceof SetOperation ) {
+        SetOperation setOperation = ( SetOperation )operation;
+        if( property == null || setOperation.getProperties().get( property ) != null ) {
+          result = setOperation;
         }
       }
     }
     return result;
   }
 
-  public NotifyOperation getLastNotifyOperationFor( String target, String eventName ) {
+  private NotifyOperation findLastNotifyOperation( String eventName ) {
     NotifyOperation result = null;
-    List<Operation> selected = target == null ? getOperations() : index.get( target );
-    if( selected != null ) {
-      for( Operation operation : selected ) {
-        if( operation instanceof NotifyOperation ) {
-          NotifyOperation currentOperation = ( NotifyOperation )operation;
-          if( eventName == null || currentOperation.getEventName().equals( eventName ) ) {
-            result = currentOperation;
-          }
+    for( Operation operation : getOperations() ) {
+      if( operation instanceof NotifyOperation ) {
+        NotifyOperation currentOperation = ( NotifyOperation )operation;
+        if( eventName == null || currentOperation.getEventName().equals( eventName ) ) {
+          result = currentOperation;
         }
       }
     }
     return result;
   }
 
+  private static final class TargetOperations implements Serializable {
+
+    private final List<Operation> operations;
+    private SetOperation lastSetOperation;
+    private Map<String, SetOperation> lastSetOperations;
+    private NotifyOperation lastNotifyOperation;
+    private Map<String, NotifyOperation> lastNotifyOperations;
+
+    TargetOperations() {
+      operations = new ArrayList<>( 2 );
+    }
+
+    void add( Operation operation ) {
+      operations.add( operation );
+      if( operation instanceof SetOperation ) {
+        SetOperation setOperation = ( SetOperation )operation;
+        lastSetOperation = setOperation;
+        if( lastSetOperations == null ) {
+          lastSetOperations = new HashMap<>();
+        }
+        for( String property : setOperation.getProperties().names() ) {
+          lastSetOperations.put( property, setOperation );
+        }
+      } else if( operation instanceof NotifyOperation ) {
+        NotifyOperation notifyOperation = ( NotifyOperation )operation;
+        lastNotifyOperation = notifyOperation;
+        if( lastNotifyOperations == null ) {
+          lastNotifyOperations = new HashMap<>();
+        }
+        lastNotifyOperations.put( notifyOperation.getEventName(), notifyOperation );
+      }
+    }
+
+    SetOperation getLastSetOperation( String property ) {
+      if( property == null ) {
+        return lastSetOperation;
+      }
+      return lastSetOperations == null ? null : lastSetOperations.get( property );
+    }
+
+    NotifyOperation getLastNotifyOperation( String eventName ) {
+      if( eventName == null ) {
+        return lastNotifyOperation;
+      }
+      return lastNotifyOperations == null ? null : lastNotifyOperations.get( eventName );
+    }
+
+  }
+
 }
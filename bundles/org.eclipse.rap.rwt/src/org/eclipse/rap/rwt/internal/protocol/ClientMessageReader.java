@@ -0,0 +1,475 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.protocol;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.rap.json.JsonArray;
+import org.eclipse.rap.json.JsonObject;
+import org.eclipse.rap.json.JsonValue;
+import org.eclipse.rap.rwt.internal.protocol.Operation.CallOperation;
+import org.eclipse.rap.rwt.internal.protocol.Operation.CreateOperation;
+import org.eclipse.rap.rwt.internal.protocol.Operation.DestroyOperation;
+import org.eclipse.rap.rwt.internal.protocol.Operation.ListenOperation;
+import org.eclipse.rap.rwt.internal.protocol.Operation.NotifyOperation;
+import org.eclipse.rap.rwt.internal.protocol.Operation.SetOperation;
+import org.eclipse.rap.rwt.internal.util.ParamCheck;
+
+
+/**
+ * Reads a client message from a stream of JSON text.
+ * <p>
+ * Unlike reading the message into a <code>JsonObject</code> and creating a
+ * <code>ClientMessage</code> from it, the operations are created while the text is read. No
+ * value is created for the message itself, for the list of operations or for the single
+ * operations, only the head and the properties of the operations are read into JSON values.
+ * </p>
+ */
+public final class ClientMessageReader {
+
+  private static final int BUFFER_SIZE = 1024;
+  // longer integers may not fit into a long
+  private static final int MAX_LONG_DIGITS = 18;
+
+  private final Reader reader;
+  private final char[] buffer;
+  private final StringBuilder captureBuffer;
+  private int bufferOffset;
+  private int index;
+  private int fill;
+  private int current;
+  private int captureStart;
+
+  /**
+   * Reads a client message from the given reader. The reader is not closed.
+   *
+   * @param reader the reader to read the JSON message from
+   * @return the message that has been read
+   * @throws IOException if reading from the reader fails
+   * @throws IllegalArgumentException if the input is not a valid client message
+   */
+  public static ClientMessage readFrom( Reader reader ) throws IOException {
+    ParamCheck.notNull( reader, "reader" );
+    return new ClientMessageReader( reader ).readMessage();
+  }
+
+  private ClientMessageReader( Reader reader ) {
+    this.reader = reader;
+    buffer = new char[ BUFFER_SIZE ];
+    captureBuffer = new StringBuilder();
+    captureStart = -1;
+  }
+
+  private ClientMessage readMessage() throws IOException {
+    read();
+    skipWhiteSpace();
+    readRequiredChar( '{' );
+    JsonObject head = null;
+    List<Operation> operations = null;
+    skipWhiteSpace();
+    if( current != '}' ) {
+      do {
+        skipWhiteSpace();
+        String name = readString();
+        skipWhiteSpace();
+        readRequiredChar( ':' );
+        skipWhiteSpace();
+        if( "head".equals( name ) ) {
+          head = readHead();
+        } else if( "operations".equals( name ) ) {
+          operations = readOperations();
+        } else {
+          readValue();
+        }
+        skipWhiteSpace();
+      } while( readChar( ',' ) );
+    }
+    readRequiredChar( '}' );
+    skipWhiteSpace();
+    if( !isEndOfText() ) {
+      throw error( "Unexpected character" );
+    }
+    if( head == null ) {
+      throw new IllegalArgumentException( "Failed to read head from JSON message" );
+    }
+    if( operations == null ) {
+      throw new IllegalArgumentException( "Failed to read operations from JSON message" );
+    }
+    return new ClientMessage( head, operations );
+  }
+
+  private JsonObject readHead() throws IOException {
+    if( current != '{' ) {
+      throw new IllegalArgumentException( "Failed to read head from JSON message" );
+    }
+    return readObject();
+  }
+
+  private List<Operation> readOperations() throws IOException {
+    if( current != '[' ) {
+      throw new IllegalArgumentException( "Failed to read operations from JSON message" );
+    }
+    read();
+    List<Operation> operations = new ArrayList<>();
+    skipWhiteSpace();
+    if( readChar( ']' ) ) {
+      return operations;
+    }
+    do {
+      skipWhiteSpace();
+      operations.add( readOperation() );
+      skipWhiteSpace();
+    } while( readChar( ',' ) );
+    readRequiredChar( ']' );
+    return operations;
+  }
+
+  private Operation readOperation() throws IOException {
+    if( current != '[' ) {
+      throw expected( "operation" );
+    }
+    read();
+    skipWhiteSpace();
+    String action = readString();
+    readSeparator();
+    String target = readString();
+    Operation operation;
+    if( action.equals( "create" ) ) {
+      readSeparator();
+      String type = readString();
+      readSeparator();
+      operation = new CreateOperation( target, type, readProperties() );
+    } else if( action.equals( "destroy" ) ) {
+      operation = new DestroyOperation( target );
+    } else if( action.equals( "set" ) ) {
+      readSeparator();
+      operation = new SetOperation( target, readProperties() );
+    } else if( action.equals( "call" ) ) {
+      readSeparator();
+      String method = readString();
+      readSeparator();
+      operation = new CallOperation( target, method, readProperties() );
+    } else if( action.equals( "listen" ) ) {
+      readSeparator();
+      operation = new ListenOperation( target, readProperties() );
+    } else if( action.equals( "notify" ) ) {
+      readSeparator();
+      String event = readString();
+      readSeparator();
+      operation = new NotifyOperation( target, event, readProperties() );
+    } else {
+      throw new IllegalArgumentException( "Unknown operation type: " + action );
+    }
+    skipWhiteSpace();
+    // additional elements are ignored, as by OperationReader
+    while( readChar( ',' ) ) {
+      skipWhiteSpace();
+      readValue();
+      skipWhiteSpace();
+    }
+    readRequiredChar( ']' );
+    return operation;
+  }
+
+  private void readSeparator() throws IOException {
+    skipWhiteSpace();
+    readRequiredChar( ',' );
+    skipWhiteSpace();
+  }
+
+  private JsonObject readProperties() throws IOException {
+    if( current != '{' ) {
+      throw expected( "object" );
+    }
+    return readObject();
+  }
+
+  private JsonValue readValue() throws IOException {
+    switch( current ) {
+      case 'n':
+        readLiteral( "null" );
+        return JsonValue.NULL;
+      case 't':
+        readLiteral( "true" );
+        return JsonValue.TRUE;
+      case 'f':
+        readLiteral( "false" );
+        return JsonValue.FALSE;
+      case '"':
+        return JsonValue.valueOf( readString() );
+      case '[':
+        return readArray();
+      case '{':
+        return readObject();
+      case '-':
+      case '0':
+      case '1':
+      case '2':
+      case '3':
+      case '4':
+      case '5':
+      case '6':
+      case '7':
+      case '8':
+      case '9':
+        return readNumber();
+      default:
+        throw expected( "value" );
+    }
+  }
+
+  private JsonArray readArray() throws IOException {
+    read();
+    JsonArray array = new JsonArray();
+    skipWhiteSpace();
+    if( readChar( ']' ) ) {
+      return array;
+    }
+    do {
+      skipWhiteSpace();
+      array.add( readValue() );
+      skipWhiteSpace();
+    } while( readChar( ',' ) );
+    readRequiredChar( ']' );
+    return array;
+  }
+
+  private JsonObject readObject() throws IOException {
+    read();
+    JsonObject object = new JsonObject();
+    skipWhiteSpace();
+    if( readChar( '}' ) ) {
+      return object;
+    }
+    do {
+      skipWhiteSpace();
+      String name = readString();
+      skipWhiteSpace();
+      readRequiredChar( ':' );
+      skipWhiteSpace();
+      object.add( name, readValue() );
+      skipWhiteSpace();
+    } while( readChar( ',' ) );
+    readRequiredChar( '}' );
+    return object;
+  }
+
+  private void readLiteral( String literal ) throws IOException {
+    read();
+    for( int i = 1; i < literal.length(); i++ ) {
+      readRequiredChar( literal.charAt( i ) );
+    }
+  }
+
+  private String readString() throws IOException {
+    if( current != '"' ) {
+      throw expected( "string" );
+    }
+    read();
+    startCapture();
+    while( current != '"' ) {
+      if( current == '\\' ) {
+        pauseCapture();
+        readEscape();
+        startCapture();
+      } else if( current < 0x20 ) {
+        throw expected( "valid string character" );
+      } else {
+        read();
+      }
+    }
+    String string = endCapture();
+    read();
+    return string;
+  }
+
+  private void readEscape() throws IOException {
+    read();
+    switch( current ) {
+      case '"':
+      case '/':
+      case '\\':
+        captureBuffer.append( ( char )current );
+      break;
+      case 'b':
+        captureBuffer.append( '\b' );
+      break;
+      case 'f':
+        captureBuffer.append( '\f' );
+      break;
+      case 'n':
+        captureBuffer.append( '\n' );
+      break;
+      case 'r':
+        captureBuffer.append( '\r' );
+      break;
+      case 't':
+        captureBuffer.append( '\t' );
+      break;
+      case 'u':
+        int value = 0;
+        for( int i = 0; i < 4; i++ ) {
+          read();
+          int digit = Character.digit( current, 16 );
+          if( current > 0x7f || digit == -1 ) {
+            throw expected( "hexadecimal digit" );
+          }
+          value = value * 16 + digit;
+        }
+        captureBuffer.append( ( char )value );
+      break;
+      default:
+        throw expected( "valid escape sequence" );
+    }
+    read();
+  }
+
+  private JsonValue readNumber() throws IOException {
+    startCapture();
+    boolean negative = readChar( '-' );
+    int firstDigit = current;
+    if( !readDigit() ) {
+      throw expected( "digit" );
+    }
+    if( firstDigit != '0' ) {
+      while( readDigit() ) {
+      }
+    }
+    boolean fraction = readFraction();
+    boolean exponent = readExponent();
+    String text = endCapture();
+    int digits = negative ? text.length() - 1 : text.length();
+    if( fraction || exponent || digits > MAX_LONG_DIGITS || negative && firstDigit == '0' ) {
+      // keeps the exact text, e.g. of 1.50 or -0
+      return JsonValue.readFrom( text );
+    }
+    return JsonValue.valueOf( Long.parseLong( text ) );
+  }
+
+  private boolean readFraction() throws IOException {
+    if( !readChar( '.' ) ) {
+      return false;
+    }
+    if( !readDigit() ) {
+      throw expected( "digit" );
+    }
+    while( readDigit() ) {
+    }
+    return true;
+  }
+
+  private boolean readExponent() throws IOException {
+    if( !readChar( 'e' ) && !readChar( 'E' ) ) {
+      return false;
+    }
+    if( !readChar( '+' ) ) {
+      readChar( '-' );
+    }
+    if( !readDigit() ) {
+      throw expected( "digit" );
+    }
+    while( readDigit() ) {
+    }
+    return true;
+  }
+
+  private void readRequiredChar( char ch ) throws IOException {
+    if( !readChar( ch ) ) {
+      throw expected( "'" + ch + "'" );
+    }
+  }
+
+  private boolean readChar( char ch ) throws IOException {
+    if( current != ch ) {
+      return false;
+    }
+    read();
+    return true;
+  }
+
+  private boolean readDigit() throws IOException {
+    if( current < '0' || current > '9' ) {
+      return false;
+    }
+    read();
+    return true;
+  }
+
+  private void skipWhiteSpace() throws IOException {
+    while( current == ' ' || current == '\t' || current == '\n' || current == '\r' ) {
+      read();
+    }
+  }
+
+  private void read() throws IOException {
+    if( isEndOfText() ) {
+      throw error( "Unexpected end of input" );
+    }
+    if( index == fill ) {
+      if( captureStart != -1 ) {
+        captureBuffer.append( buffer, captureStart, fill - captureStart );
+        captureStart = 0;
+      }
+      bufferOffset += fill;
+      fill = reader.read( buffer, 0, buffer.length );
+      index = 0;
+      if( fill == -1 ) {
+        current = -1;
+        return;
+      }
+    }
+    current = buffer[ index++ ];
+  }
+
+  private void startCapture() {
+    captureStart = index - 1;
+  }
+
+  private void pauseCapture() {
+    int end = isEndOfText() ? index : index - 1;
+    captureBuffer.append( buffer, captureStart, end - captureStart );
+    captureStart = -1;
+  }
+
+  private String endCapture() {
+    int end = isEndOfText() ? index : index - 1;
+    String captured;
+    if( captureBuffer.length() > 0 ) {
+      captureBuffer.append( buffer, captureStart, end - captureStart );
+      captured = captureBuffer.toString();
+      captureBuffer.setLength( 0 );
+    } else {
+      captured = new String( buffer, captureStart, end - captureStart );
+    }
+    captureStart = -1;
+    return captured;
+  }
+
+  private IllegalArgumentException expected( String expected ) {
+    if( isEndOfText() ) {
+      return error( "Unexpected end of input" );
+    }
+    return error( "Expected " + expected );
+  }
+
+  private IllegalArgumentException error( String message ) {
+    int offset = bufferOffset + ( isEndOfText() ? index : index - 1 );
+    return new IllegalArgumentException( message + " at offset " + offset );
+  }
+
+  private boolean isEndOfText() {
+    return current == -1;
+  }
+
+}
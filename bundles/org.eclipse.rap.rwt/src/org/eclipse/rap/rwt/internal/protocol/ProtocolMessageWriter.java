@@ -1,5 +1,5 @@
 /*******************************************************************************
-* Copyright (c) 2010, 2015 EclipseSource and others.
+* Copyright (c) 2010, 2026 EclipseSource and others.
 * All rights reserved. This program and the accompanying materials
 * are made available under the terms of the Eclipse Public License v1.0
 * which accompanies this distribution, and is available at
@@ -10,6 +10,13 @@
 *******************************************************************************/
 package org.eclipse.rap.rwt.internal.protocol;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -26,12 +33,37 @@ public class ProtocolMessageWriter {
 
   private final JsonObject head;
   private final List<Operation> operations;
+  private final OperationsBuffer buffer;
+  private final Writer bufferWriter;
+  private int bufferedOperationsCount;
   private Operation pendingOperation;
   private boolean alreadyCreated;
 
   public ProtocolMessageWriter() {
+    this( false );
+  }
+
+  /**
+   * Creates a writer that, when <code>streaming</code> is set, serializes every operation to a
+   * UTF-8 encoded buffer as soon as it cannot receive any more properties. Only the pending
+   * operation is kept as an object, the message created by this writer is a
+   * {@link StreamedResponseMessage}.
+   */
+  public ProtocolMessageWriter( boolean streaming ) {
     head = new JsonObject();
-    operations = new ArrayList<>();
+    if( streaming ) {
+      operations = null;
+      buffer = new OperationsBuffer();
+      bufferWriter = new BufferedWriter( new OutputStreamWriter( buffer, UTF_8 ) );
+    } else {
+      operations = new ArrayList<>();
+      buffer = null;
+      bufferWriter = null;
+    }
+  }
+
+  public boolean isStreaming() {
+    return buffer != null;
   }
 
   public void appendHead( String property, int value ) {
@@ -118,6 +150,10 @@ public class ProtocolMessageWriter {
 
   private ResponseMessage createMessageObject() {
     appendPendingOperation();
+    if( isStreaming() ) {
+      flushBuffer();
+      return new StreamedResponseMessage( head, buffer.getBytes(), buffer.size() );
+    }
     return new ResponseMessage( head, operations );
   }
 
@@ -131,8 +167,49 @@ public class ProtocolMessageWriter {
 
   private void appendPendingOperation() {
     if( pendingOperation != null ) {
-      operations.add( pendingOperation );
+      if( isStreaming() ) {
+        writePendingOperation();
+      } else {
+        operations.add( pendingOperation );
+      }
     }
   }
 
+  private void writePendingOperation() {
+    try {
+      if( bufferedOperationsCount > 0 ) {
+        bufferWriter.write( ',' );
+      }
+      pendingOperation.writeTo( bufferWriter );
+      bufferedOperationsCount++;
+    } catch( IOException exception ) {
+      // the underlying ByteArrayOutputStream does not throw IOExceptions
+      throw new RuntimeException( exception );
+    }
+  }
+
+  private void flushBuffer() {
+    try {
+      bufferWriter.flush();
+    } catch( IOException exception ) {
+      // the underlying ByteArrayOutputStream does not throw IOExceptions
+      throw new RuntimeException( exception );
+    }
+  }
+
+  /*
+   * Exposes the internal byte array to avoid copying the serialized operations.
+   */
+  private static final class OperationsBuffer extends ByteArrayOutputStream {
+
+    OperationsBuffer() {
+      super( 8192 );
+    }
+
+    byte[] getBytes() {
+      return buf;
+    }
+
+  }
+
 }
@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.protocol;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.rap.json.JsonArray;
+import org.eclipse.rap.json.JsonObject;
+
+
+/**
+ * A response message whose operations have already been serialized to UTF-8 encoded JSON by a
+ * streaming {@link ProtocolMessageWriter}. The message is written to an output stream without
+ * building a JSON object tree. Accessing the operations or the JSON representation is supported
+ * but expensive, as the serialized operations have to be parsed again.
+ */
+public class StreamedResponseMessage extends ResponseMessage {
+
+  private static final byte[] MESSAGE_START = "{\"head\":".getBytes( UTF_8 );
+  private static final byte[] OPERATIONS_START = ",\"operations\":[".getBytes( UTF_8 );
+  private static final byte[] MESSAGE_END = "]}".getBytes( UTF_8 );
+
+  private final byte[] operations;
+  private final int length;
+
+  StreamedResponseMessage( JsonObject head, byte[] operations, int length ) {
+    super( head, Collections.<Operation>emptyList() );
+    this.operations = operations;
+    this.length = length;
+  }
+
+  @Override
+  public List<Operation> getOperations() {
+    return new ResponseMessage( toJson() ).getOperations();
+  }
+
+  @Override
+  public JsonObject toJson() {
+    JsonArray operationsArray;
+    try {
+      InputStreamReader reader = new InputStreamReader( getOperationsStream(), UTF_8 );
+      operationsArray = JsonArray.readFrom( reader );
+    } catch( IOException exception ) {
+      throw new IllegalStateException( "Failed to read streamed operations", exception );
+    }
+    return new JsonObject().add( "head", getHead() ).add( "operations", operationsArray );
+  }
+
+  /**
+   * Writes the UTF-8 encoded JSON representation of this message to the given stream. The stream
+   * is flushed but not closed.
+   */
+  public void writeTo( OutputStream stream ) throws IOException {
+    stream.write( MESSAGE_START );
+    Writer writer = new OutputStreamWriter( stream, UTF_8 );
+    getHead().writeTo( writer );
+    writer.flush();
+    stream.write( OPERATIONS_START );
+    stream.write( operations, 0, length );
+    stream.write( MESSAGE_END );
+    stream.flush();
+  }
+
+  private ByteArrayInputStream getOperationsStream() {
+    byte[] array = new byte[ length + 2 ];
+    array[ 0 ] = '[';
+    System.arraycopy( operations, 0, array, 1, length );
+    array[ length + 1 ] = ']';
+    return new ByteArrayInputStream( array );
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -21,10 +21,18 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
 
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.util.ParamCheck;
 import org.eclipse.rap.rwt.internal.util.StreamUtil;
 import org.eclipse.rap.rwt.service.ResourceLoader;
@@ -41,17 +49,39 @@ import org.eclipse.rap.rwt.service.ResourceManager;
  * Implementation as singleton.
  * </p>
  * <p>
+ * When content hashing is enabled, a hash of the content of every resource is computed at
+ * registration time and appended to its location. The location then changes whenever the content
+ * changes, which allows the {@link ResourceServlet} to let clients cache resources forever.
+ * Compressible resources are additionally stored gzip compressed next to the original file.
+ * </p>
+ * <p>
  * This class is not intended to be used by clients.
  * </p>
  */
 public class ResourceManagerImpl implements ResourceManager {
 
+  static final String HASH_PARAMETER = "h";
+  static final String GZIP_SUFFIX = ".gz";
+  private static final String[] COMPRESSIBLE_EXTENSIONS = {
+    ".js", ".css", ".json", ".html", ".htm", ".svg", ".txt", ".xml"
+  };
+
   private final ResourceDirectory resourceDirectory;
   private final Set<String> resources;
+  private final boolean contentHashing;
+  private final Map<String,String> contentHashes;
+  private final Map<String,String> namesByPath;
 
   public ResourceManagerImpl( ResourceDirectory resourceDirectory ) {
+    this( resourceDirectory, RWTProperties.isHashedResourcesEnabled() );
+  }
+
+  public ResourceManagerImpl( ResourceDirectory resourceDirectory, boolean contentHashing ) {
     this.resourceDirectory = resourceDirectory;
+    this.contentHashing = contentHashing;
     resources = Collections.synchronizedSet( new HashSet<String>() );
+    contentHashes = new ConcurrentHashMap<>();
+    namesByPath = new ConcurrentHashMap<>();
   }
 
   /////////////////////////////
@@ -92,6 +122,11 @@ public class ResourceManagerImpl implements ResourceManager {
       result = true;
       File file = getDiskLocation( name );
       file.delete();
+      if( contentHashing ) {
+        contentHashes.remove( name );
+        namesByPath.remove( getRequestPath( name ) );
+        getCompressedDiskLocation( name ).delete();
+      }
     }
     return result;
   }
@@ -108,7 +143,12 @@ public class ResourceManagerImpl implements ResourceManager {
     if( !resources.contains( name ) ) {
       throw new IllegalArgumentException( "Resource does not exist: " + name );
     }
-    return createRequestUrl( name );
+    String result = createRequestUrl( name );
+    String contentHash = contentHashes.get( name );
+    if( contentHash != null ) {
+      result += "?" + HASH_PARAMETER + "=" + contentHash;
+    }
+    return result;
   }
 
   @Override
@@ -126,6 +166,43 @@ public class ResourceManagerImpl implements ResourceManager {
     return result;
   }
 
+  ///////////////////////////
+  // content hashed resources
+
+  public boolean isContentHashingEnabled() {
+    return contentHashing;
+  }
+
+  /**
+   * Returns the name of the resource that is available at the given path relative to the
+   * resource directory, or <code>null</code> if there is no such resource. Only resources that
+   * have been registered with content hashing enabled are found.
+   */
+  String getResourceName( String requestPath ) {
+    return namesByPath.get( requestPath );
+  }
+
+  /**
+   * Returns the hash of the content of the given resource, or <code>null</code> if the resource
+   * has been registered without content hashing.
+   */
+  String getContentHash( String name ) {
+    return contentHashes.get( name );
+  }
+
+  File getResourceFile( String name ) {
+    return getDiskLocation( name );
+  }
+
+  /**
+   * Returns the gzip compressed variant of the given resource, or <code>null</code> if the
+   * resource has not been compressed.
+   */
+  File getCompressedResourceFile( String name ) {
+    File file = getCompressedDiskLocation( name );
+    return contentHashes.containsKey( name ) && file.isFile() ? file : null;
+  }
+
   //////////////////
   // helping methods
 
@@ -133,21 +210,78 @@ public class ResourceManagerImpl implements ResourceManager {
     return new StringBuilder()
       .append( ResourceDirectory.DIRNAME )
       .append( "/" )
-      .append( escapeResourceName( resourceName.replace( '\\', '/' ) ) )
+      .append( getRequestPath( resourceName ) )
       .toString();
   }
 
+  private static String getRequestPath( String resourceName ) {
+    return escapeResourceName( resourceName.replace( '\\', '/' ) );
+  }
+
   private void internalRegister( String name, InputStream inputStream ) {
     File location = getDiskLocation( name );
     try {
       createDirectories( location );
-      writeResource( inputStream, location );
+      if( contentHashing ) {
+        MessageDigest digest = createDigest();
+        writeResource( new DigestInputStream( inputStream, digest ), location );
+        writeCompressedResource( name, location );
+        contentHashes.put( name, toHex( digest.digest() ) );
+        namesByPath.put( getRequestPath( name ), name );
+      } else {
+        writeResource( inputStream, location );
+      }
     } catch ( IOException ioe ) {
       throw new RuntimeException( "Failed to register resource: " + name, ioe );
     }
     resources.add( name );
   }
 
+  private void writeCompressedResource( String name, File location ) throws IOException {
+    File compressedLocation = getCompressedDiskLocation( name );
+    compressedLocation.delete();
+    if( isCompressible( name ) ) {
+      try( InputStream inputStream = new FileInputStream( location ) ) {
+        OutputStream outputStream = new FileOutputStream( compressedLocation );
+        try( OutputStream gzipStream = new GZIPOutputStream( outputStream, 8192 ) ) {
+          copy( inputStream, gzipStream );
+        }
+      }
+      // keep the compressed variant only if it saves a considerable amount of bytes
+      if( compressedLocation.length() > location.length() * 9 / 10 ) {
+        compressedLocation.delete();
+      }
+    }
+  }
+
+  private static boolean isCompressible( String name ) {
+    String lowerCaseName = name.toLowerCase( Locale.ENGLISH );
+    for( String extension : COMPRESSIBLE_EXTENSIONS ) {
+      if( lowerCaseName.endsWith( extension ) ) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static MessageDigest createDigest() {
+    try {
+      return MessageDigest.getInstance( "SHA-256" );
+    } catch( NoSuchAlgorithmException shouldNotHappen ) {
+      throw new RuntimeException( shouldNotHappen );
+    }
+  }
+
+  private static String toHex( byte[] bytes ) {
+    // the first 64 bits of the hash are sufficient to detect changes of a resource
+    StringBuilder result = new StringBuilder( 16 );
+    for( int i = 0; i < 8; i++ ) {
+      result.append( Character.forDigit( ( bytes[ i ] >> 4 ) & 0xF, 16 ) );
+      result.append( Character.forDigit( bytes[ i ] & 0xF, 16 ) );
+    }
+    return result.toString();
+  }
+
   private static void writeResource( InputStream inputStream, File location )
     throws IOException
   {
@@ -165,6 +299,17 @@ public class ResourceManagerImpl implements ResourceManager {
     }
   }
 
+  private static void copy( InputStream inputStream, OutputStream outputStream )
+    throws IOException
+  {
+    byte[] buffer = new byte[ 8192 ];
+    int read = inputStream.read( buffer );
+    while( read != -1 ) {
+      outputStream.write( buffer, 0, read );
+      read = inputStream.read( buffer );
+    }
+  }
+
   private static void createDirectories( File file ) throws IOException {
     File dir = new File( file.getParent() );
     if( !dir.mkdirs() ) {
@@ -179,6 +324,11 @@ public class ResourceManagerImpl implements ResourceManager {
     return new File( resourceDirectory.getDirectory(), escapedResourceName );
   }
 
+  private File getCompressedDiskLocation( String resourceName ) {
+    String escapedResourceName = escapeResourceName( resourceName );
+    return new File( resourceDirectory.getDirectory(), escapedResourceName + GZIP_SUFFIX );
+  }
+
   //////////////////
   // helping methods
 
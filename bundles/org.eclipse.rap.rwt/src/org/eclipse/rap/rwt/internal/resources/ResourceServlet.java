@@ -0,0 +1,166 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.resources;
+
+import static java.nio.file.StandardOpenOption.READ;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+
+import javax.servlet.ServletContext;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
+import org.eclipse.rap.rwt.service.ResourceManager;
+
+
+/**
+ * Serves the resources that have been registered with content hashing enabled (see
+ * {@link ResourceManagerImpl}). A request that contains the current content hash of a resource
+ * is answered with a response that may be cached forever, as the location of the resource
+ * changes with its content. All responses carry an ETag to allow for conditional requests, and
+ * the precompressed variant of a resource is sent to clients that accept gzip encoding.
+ * <p>
+ * The servlet must be mapped to the resource directory, i.e. <code>/rwt-resources/*</code>.
+ * </p>
+ */
+public class ResourceServlet extends HttpServlet {
+
+  static final String CACHE_CONTROL_IMMUTABLE = "public, max-age=31536000, immutable";
+  static final String CACHE_CONTROL_REVALIDATE = "no-cache";
+
+  @Override
+  protected void doGet( HttpServletRequest request, HttpServletResponse response )
+    throws IOException
+  {
+    serve( request, response, true );
+  }
+
+  @Override
+  protected void doHead( HttpServletRequest request, HttpServletResponse response )
+    throws IOException
+  {
+    serve( request, response, false );
+  }
+
+  private void serve( HttpServletRequest request, HttpServletResponse response, boolean sendBody )
+    throws IOException
+  {
+    ResourceManagerImpl resourceManager = getResourceManager();
+    String name = resourceManager == null ? null : getResourceName( request, resourceManager );
+    if( name == null ) {
+      response.sendError( HttpServletResponse.SC_NOT_FOUND );
+      return;
+    }
+    String contentHash = resourceManager.getContentHash( name );
+    String etag = "\"" + contentHash + "\"";
+    response.setHeader( "ETag", etag );
+    response.setHeader( "Cache-Control", getCacheControl( request, contentHash ) );
+    File compressedFile = resourceManager.getCompressedResourceFile( name );
+    if( compressedFile != null ) {
+      response.setHeader( "Vary", "Accept-Encoding" );
+    }
+    if( matches( request.getHeader( "If-None-Match" ), etag ) ) {
+      response.setStatus( HttpServletResponse.SC_NOT_MODIFIED );
+      return;
+    }
+    File file = resourceManager.getResourceFile( name );
+    if( compressedFile != null && acceptsGzip( request ) ) {
+      response.setHeader( "Content-Encoding", "gzip" );
+      file = compressedFile;
+    }
+    String contentType = getServletContext().getMimeType( name );
+    response.setContentType( contentType == null ? "application/octet-stream" : contentType );
+    try( FileChannel channel = FileChannel.open( file.toPath(), READ ) ) {
+      long size = channel.size();
+      response.setHeader( "Content-Length", String.valueOf( size ) );
+      if( sendBody ) {
+        transfer( channel, size, response );
+      }
+    }
+  }
+
+  private ResourceManagerImpl getResourceManager() {
+    ServletContext servletContext = getServletContext();
+    ApplicationContextImpl applicationContext = ApplicationContextImpl.getFrom( servletContext );
+    if( applicationContext != null && applicationContext.isActive() ) {
+      ResourceManager resourceManager = applicationContext.getResourceManager();
+      if( resourceManager instanceof ResourceManagerImpl ) {
+        return ( ResourceManagerImpl )resourceManager;
+      }
+    }
+    return null;
+  }
+
+  private static String getResourceName( HttpServletRequest request,
+                                         ResourceManagerImpl resourceManager )
+  {
+    String pathInfo = request.getPathInfo();
+    if( pathInfo == null || pathInfo.length() < 2 ) {
+      return null;
+    }
+    return resourceManager.getResourceName( pathInfo.substring( 1 ) );
+  }
+
+  private static String getCacheControl( HttpServletRequest request, String contentHash ) {
+    String requestedHash = request.getParameter( ResourceManagerImpl.HASH_PARAMETER );
+    return contentHash.equals( requestedHash ) ? CACHE_CONTROL_IMMUTABLE : CACHE_CONTROL_REVALIDATE;
+  }
+
+  private static boolean matches( String ifNoneMatch, String etag ) {
+    if( ifNoneMatch != null ) {
+      for( String candidate : ifNoneMatch.split( "," ) ) {
+        String value = candidate.trim();
+        if( value.startsWith( "W/" ) ) {
+          value = value.substring( 2 );
+        }
+        if( value.equals( etag ) || value.equals( "*" ) ) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  private static boolean acceptsGzip( HttpServletRequest request ) {
+    String acceptEncoding = request.getHeader( "Accept-Encoding" );
+    if( acceptEncoding != null ) {
+      for( String candidate : acceptEncoding.split( "," ) ) {
+        String[] parts = candidate.trim().split( ";" );
+        if( "gzip".equalsIgnoreCase( parts[ 0 ].trim() ) ) {
+          return parts.length == 1 || !parts[ 1 ].trim().matches( "q\\s*=\\s*0(\\.0*)?" );
+        }
+      }
+    }
+    return false;
+  }
+
+  /*
+   * Lets the file channel transfer the content to the response. Whether this avoids copying the
+   * content to the heap depends on the output stream provided by the servlet container.
+   */
+  private static void transfer( FileChannel channel, long size, HttpServletResponse response )
+    throws IOException
+  {
+    WritableByteChannel target = Channels.newChannel( response.getOutputStream() );
+    long position = 0;
+    while( position < size ) {
+      position += channel.transferTo( position, size - position, target );
+    }
+    response.flushBuffer();
+  }
+
+}
@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.serverpush;
+
+import java.util.concurrent.Future;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
+import org.eclipse.rap.rwt.service.UISession;
+import org.eclipse.rap.rwt.service.UISessionEvent;
+import org.eclipse.rap.rwt.service.UISessionListener;
+
+
+/**
+ * A server push request that is suspended with an {@link AsyncContext} instead of blocking the
+ * request thread. The request is completed by the {@link ServerPushManager} as soon as it can be
+ * released. While it is suspended, the request is checked periodically on the timerExec thread of
+ * the application, like a blocked request checks itself when its wait times out.
+ */
+final class AsyncServerPushRequest implements AsyncListener, UISessionListener, Runnable {
+
+  // the request is bound to the connection and must not be serialized with the UI session
+  private final transient ServerPushManager manager;
+  private final transient AsyncContext asyncContext;
+  private final transient UISession uiSession;
+  private final transient long requestStartTime;
+  private final transient long checkInterval;
+  private transient Future<?> check;
+  private transient boolean completed;
+
+  AsyncServerPushRequest( ServerPushManager manager,
+                          AsyncContext asyncContext,
+                          UISession uiSession,
+                          long requestStartTime,
+                          long checkInterval )
+  {
+    this.manager = manager;
+    this.asyncContext = asyncContext;
+    this.uiSession = uiSession;
+    this.requestStartTime = requestStartTime;
+    this.checkInterval = checkInterval;
+  }
+
+  void attach() {
+    // the request is released by the manager, the container must not time it out
+    asyncContext.setTimeout( 0 );
+    asyncContext.addListener( this );
+    uiSession.addUISessionListener( this );
+    scheduleCheck();
+  }
+
+  void scheduleCheck() {
+    ApplicationContextImpl applicationContext
+      = ( ApplicationContextImpl )uiSession.getApplicationContext();
+    if( applicationContext != null && !completed ) {
+      check = applicationContext.getTimerExecService().schedule( this, checkInterval );
+    }
+  }
+
+  void complete() {
+    if( !completed ) {
+      completed = true;
+      if( check != null ) {
+        check.cancel( false );
+      }
+      uiSession.removeUISessionListener( this );
+      try {
+        asyncContext.complete();
+      } catch( @SuppressWarnings( "unused" ) IllegalStateException exception ) {
+        // the request has already been completed by the container, e.g. after a network error
+      }
+    }
+  }
+
+  UISession getUISession() {
+    return uiSession;
+  }
+
+  long getRequestStartTime() {
+    return requestStartTime;
+  }
+
+  HttpServletResponse getResponse() {
+    return ( HttpServletResponse )asyncContext.getResponse();
+  }
+
+  boolean isCompleted() {
+    return completed;
+  }
+
+  @Override
+  public void run() {
+    if( manager != null ) {
+      manager.checkAsyncRequest( this );
+    }
+  }
+
+  @Override
+  public void beforeDestroy( UISessionEvent event ) {
+    if( manager != null ) {
+      manager.terminateAsyncRequest( this );
+    }
+  }
+
+  @Override
+  public void onComplete( AsyncEvent event ) {
+    manager.terminateAsyncRequest( this );
+  }
+
+  @Override
+  public void onTimeout( AsyncEvent event ) {
+    manager.terminateAsyncRequest( this );
+  }
+
+  @Override
+  public void onError( AsyncEvent event ) {
+    manager.terminateAsyncRequest( this );
+  }
+
+  @Override
+  public void onStartAsync( AsyncEvent event ) {
+    // not used, the request is not restarted
+  }
+
+}
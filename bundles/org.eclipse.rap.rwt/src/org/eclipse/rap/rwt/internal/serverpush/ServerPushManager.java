@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2023 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -14,10 +14,13 @@ package org.eclipse.rap.rwt.internal.serverpush;
 import java.io.IOException;
 import java.io.PrintWriter;
 
+import javax.servlet.AsyncContext;
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpSession;
 
 import org.eclipse.rap.rwt.SingletonUtil;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.service.ContextProvider;
 import org.eclipse.rap.rwt.internal.service.ServiceStore;
 import org.eclipse.rap.rwt.internal.util.SerializableLock;
@@ -43,6 +46,8 @@ public final class ServerPushManager implements SerializableCompatibility {
   private int requestCheckInterval;
   private int requestReleaseInterval;
   private transient ServerPushRequestTracker serverPushRequestTracker;
+  // the suspended request in asynchronous mode, see RWTProperties#ENABLE_ASYNC_SERVER_PUSH
+  private transient AsyncServerPushRequest asyncRequest;
 
   private ServerPushManager() {
     lock = new SerializableLock();
@@ -74,6 +79,9 @@ public final class ServerPushManager implements SerializableCompatibility {
   public void releaseBlockedRequest() {
     synchronized( lock ) {
       lock.notifyAll();
+      if( asyncRequest != null ) {
+        checkAsyncRequest( asyncRequest );
+      }
     }
   }
 
@@ -131,6 +139,14 @@ public final class ServerPushManager implements SerializableCompatibility {
     return isServerPushActive() || forceServerPushForPendingRunnables();
   }
 
+  void processRequest( HttpServletRequest request, HttpServletResponse response ) {
+    if( RWTProperties.isAsyncServerPushEnabled() && request.isAsyncSupported() ) {
+      suspendRequest( request, response );
+    } else {
+      processRequest( response );
+    }
+  }
+
   void processRequest( HttpServletResponse response ) {
     synchronized( lock ) {
       if( isCallBackRequestBlocked() ) {
@@ -156,6 +172,70 @@ public final class ServerPushManager implements SerializableCompatibility {
     }
   }
 
+  private void suspendRequest( HttpServletRequest request, HttpServletResponse response ) {
+    synchronized( lock ) {
+      if( isCallBackRequestBlocked() ) {
+        releaseBlockedRequest();
+      }
+      // a new request supersedes the previous one, the client only waits for the latest
+      if( asyncRequest != null ) {
+        completeAsyncRequest( asyncRequest );
+      }
+      long requestStartTime = System.currentTimeMillis();
+      if( mustBlockCallBackRequest( requestStartTime ) ) {
+        AsyncContext asyncContext = request.startAsync( request, response );
+        asyncRequest = new AsyncServerPushRequest( this,
+                                                   asyncContext,
+                                                   ContextProvider.getUISession(),
+                                                   requestStartTime,
+                                                   requestCheckInterval );
+        asyncRequest.attach();
+      }
+    }
+  }
+
+  void checkAsyncRequest( AsyncServerPushRequest request ) {
+    synchronized( lock ) {
+      if( request == asyncRequest ) {
+        if( canReleaseAsyncRequest( request ) ) {
+          completeAsyncRequest( request );
+        } else {
+          request.scheduleCheck();
+        }
+      }
+    }
+  }
+
+  void terminateAsyncRequest( AsyncServerPushRequest request ) {
+    synchronized( lock ) {
+      if( request == asyncRequest ) {
+        completeAsyncRequest( request );
+      } else {
+        request.complete();
+      }
+    }
+  }
+
+  AsyncServerPushRequest getAsyncRequest() {
+    synchronized( lock ) {
+      return asyncRequest;
+    }
+  }
+
+  private void completeAsyncRequest( AsyncServerPushRequest request ) {
+    asyncRequest = null;
+    request.complete();
+  }
+
+  private boolean canReleaseAsyncRequest( AsyncServerPushRequest request ) {
+    long requestStartTime = request.getRequestStartTime();
+    return    !mustBlockCallBackRequest( requestStartTime )
+           || isSessionExpired( request.getUISession(),
+                                requestStartTime,
+                                System.currentTimeMillis() )
+           || !isConnectionAlive( request.getResponse() );
+  }
+
   private boolean canReleaseBlockedRequest( HttpServletResponse response, long requestStartTime ) {
     boolean result = false;
     if( !mustBlockCallBackRequest( requestStartTime ) ) {
@@ -200,7 +280,10 @@ public final class ServerPushManager implements SerializableCompatibility {
   }
 
   static boolean isSessionExpired( long requestStartTime, long currentTime ) {
-    UISession uiSession = ContextProvider.getUISession();
+    return isSessionExpired( ContextProvider.getUISession(), requestStartTime, currentTime );
+  }
+
+  static boolean isSessionExpired( UISession uiSession, long requestStartTime, long currentTime ) {
     if( uiSession == null ) {
       return true;
     }
@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+
+/**
+ * The serialized content of the last response message of a UI session. It is kept to answer
+ * duplicate requests, e.g. when the client retries a request whose response got lost. Holding
+ * the bytes instead of the message object avoids retaining the operations and their JSON values
+ * between requests.
+ */
+final class BufferedResponse implements Serializable {
+
+  private final byte[] content;
+  private final boolean compressed;
+
+  private BufferedResponse( byte[] content, boolean compressed ) {
+    this.content = content;
+    this.compressed = compressed;
+  }
+
+  /**
+   * Creates a buffered response from the given content. When <code>compress</code> is set, the
+   * content is deflated unless this does not reduce its size.
+   */
+  static BufferedResponse create( byte[] content, boolean compress ) {
+    if( compress ) {
+      byte[] deflated = deflate( content );
+      if( deflated.length < content.length ) {
+        return new BufferedResponse( deflated, true );
+      }
+    }
+    return new BufferedResponse( content, false );
+  }
+
+  boolean isCompressed() {
+    return compressed;
+  }
+
+  /**
+   * Returns the number of bytes held by this buffered response, which is less than the size of
+   * the original content when it is compressed.
+   */
+  int getSize() {
+    return content.length;
+  }
+
+  void writeTo( OutputStream stream ) throws IOException {
+    if( compressed ) {
+      InputStream input = new ByteArrayInputStream( content );
+      try( InputStream inflater = new InflaterInputStream( input ) ) {
+        byte[] buffer = new byte[ 8192 ];
+        int read = inflater.read( buffer );
+        while( read != -1 ) {
+          stream.write( buffer, 0, read );
+          read = inflater.read( buffer );
+        }
+      }
+    } else {
+      stream.write( content );
+    }
+    stream.flush();
+  }
+
+  private static byte[] deflate( byte[] content ) {
+    ByteArrayOutputStream result = new ByteArrayOutputStream( content.length / 4 + 64 );
+    Deflater deflater = new Deflater( Deflater.BEST_SPEED );
+    try( DeflaterOutputStream stream = new DeflaterOutputStream( result, deflater ) ) {
+      stream.write( content );
+    } catch( IOException exception ) {
+      // ByteArrayOutputStream does not throw IOExceptions
+      throw new RuntimeException( exception );
+    } finally {
+      deflater.end();
+    }
+    return result.toByteArray();
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,6 +11,7 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.service;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static javax.servlet.http.HttpServletResponse.SC_FORBIDDEN;
 import static javax.servlet.http.HttpServletResponse.SC_PRECONDITION_FAILED;
 import static org.eclipse.rap.rwt.internal.protocol.ClientMessageConst.REQUEST_COUNTER;
@@ -19,21 +20,27 @@ import static org.eclipse.rap.rwt.internal.service.ContextProvider.getUISession;
 import static org.eclipse.rap.rwt.internal.util.HTTP.CHARSET_UTF_8;
 import static org.eclipse.rap.rwt.internal.util.HTTP.CONTENT_TYPE_JSON;
 
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.Reader;
+import java.io.Writer;
 
 import javax.servlet.ServletResponse;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
-import org.eclipse.rap.json.JsonObject;
 import org.eclipse.rap.json.JsonValue;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.lifecycle.RequestCounter;
-import org.eclipse.rap.rwt.internal.protocol.ClientMessage;
+import org.eclipse.rap.rwt.internal.protocol.ClientMessageReader;
 import org.eclipse.rap.rwt.internal.protocol.ProtocolMessageWriter;
 import org.eclipse.rap.rwt.internal.protocol.RequestMessage;
 import org.eclipse.rap.rwt.internal.protocol.ResponseMessage;
+import org.eclipse.rap.rwt.internal.protocol.StreamedResponseMessage;
 import org.eclipse.rap.rwt.internal.remote.MessageChainReference;
 import org.eclipse.rap.rwt.service.ServiceHandler;
 import org.eclipse.rap.rwt.service.UISession;
@@ -42,8 +49,8 @@ import org.eclipse.rap.rwt.service.UISession;
 public class LifeCycleServiceHandler implements ServiceHandler {
 
   private static final String PROP_ERROR = "error";
-  private static final String ATTR_LAST_RESPONSE_MESSAGE
-    = LifeCycleServiceHandler.class.getName() + "#lastResponseMessage";
+  private static final String ATTR_LAST_RESPONSE
+    = LifeCycleServiceHandler.class.getName() + "#lastResponse";
 
   private final MessageChainReference messageChainReference;
 
@@ -91,7 +98,7 @@ public class LifeCycleServiceHandler implements ServiceHandler {
       shutdownUISession();
       writeEmptyMessage( response );
     } else if( !isRequestCounterValid( requestMessage ) ) {
-      if( isDuplicateRequest( requestMessage ) ) {
+      if( isDuplicateRequest( requestMessage ) && hasBufferedResponse() ) {
         writeBufferedResponse( response );
       } else {
         writeInvalidRequestCounterError( response );
@@ -105,7 +112,7 @@ public class LifeCycleServiceHandler implements ServiceHandler {
 
   private static RequestMessage readRequestMessage( HttpServletRequest request ) {
     try {
-      return new ClientMessage( JsonObject.readFrom( getReader( request ) ) );
+      return ClientMessageReader.readFrom( getReader( request ) );
     } catch( IOException ioe ) {
       throw new IllegalStateException( "Unable to read the json message", ioe );
     }
@@ -185,23 +192,71 @@ public class LifeCycleServiceHandler implements ServiceHandler {
                                             ServletResponse response )
     throws IOException
   {
-    bufferMessage( responseMessage );
-    responseMessage.toJson().writeTo( response.getWriter() );
+    if( RWTProperties.isBufferedResponseEnabled() ) {
+      ByteArrayOutputStream content = serialize( responseMessage );
+      bufferResponse( content );
+      OutputStream stream = response.getOutputStream();
+      content.writeTo( stream );
+      stream.flush();
+    } else {
+      bufferMessage( responseMessage );
+      writeMessage( responseMessage, response );
+    }
   }
 
   private static void writeBufferedResponse( HttpServletResponse response ) throws IOException {
-    getBufferedMessage().toJson().writeTo( response.getWriter() );
+    Object lastResponse = getUISession().getAttribute( ATTR_LAST_RESPONSE );
+    if( lastResponse instanceof BufferedResponse ) {
+      ( ( BufferedResponse )lastResponse ).writeTo( response.getOutputStream() );
+    } else {
+      writeMessage( ( ResponseMessage )lastResponse, response );
+    }
+  }
+
+  private static void writeMessage( ResponseMessage message, ServletResponse response )
+    throws IOException
+  {
+    if( message instanceof StreamedResponseMessage ) {
+      ( ( StreamedResponseMessage )message ).writeTo( response.getOutputStream() );
+    } else {
+      message.toJson().writeTo( response.getWriter() );
+    }
+  }
+
+  private static ByteArrayOutputStream serialize( ResponseMessage message ) throws IOException {
+    ByteArrayOutputStream stream = new ByteArrayOutputStream( 8192 );
+    if( message instanceof StreamedResponseMessage ) {
+      ( ( StreamedResponseMessage )message ).writeTo( stream );
+    } else {
+      Writer writer = new BufferedWriter( new OutputStreamWriter( stream, UTF_8 ) );
+      message.toJson().writeTo( writer );
+      writer.flush();
+    }
+    return stream;
   }
 
   private static void bufferMessage( ResponseMessage responseMessage ) {
     UISession uiSession = getUISession();
     if( uiSession != null ) {
-      uiSession.setAttribute( ATTR_LAST_RESPONSE_MESSAGE, responseMessage );
+      uiSession.setAttribute( ATTR_LAST_RESPONSE, responseMessage );
+    }
+  }
+
+  private static void bufferResponse( ByteArrayOutputStream content ) {
+    UISession uiSession = getUISession();
+    if( uiSession != null ) {
+      if( content.size() <= RWTProperties.getBufferedResponseLimit() ) {
+        boolean compress = RWTProperties.isBufferedResponseCompressionEnabled();
+        BufferedResponse buffered = BufferedResponse.create( content.toByteArray(), compress );
+        uiSession.setAttribute( ATTR_LAST_RESPONSE, buffered );
+      } else {
+        uiSession.removeAttribute( ATTR_LAST_RESPONSE );
+      }
     }
   }
 
-  private static ResponseMessage getBufferedMessage() {
-    return ( ResponseMessage )getUISession().getAttribute( ATTR_LAST_RESPONSE_MESSAGE );
+  private static boolean hasBufferedResponse() {
+    return getUISession().getAttribute( ATTR_LAST_RESPONSE ) != null;
   }
 
 }
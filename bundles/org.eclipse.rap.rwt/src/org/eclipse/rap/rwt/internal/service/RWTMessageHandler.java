@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014, 2015 EclipseSource and others.
+ * Copyright (c) 2014, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -35,13 +35,21 @@ public class RWTMessageHandler implements MessageFilter {
 
   @Override
   public ResponseMessage handleMessage( RequestMessage request, MessageFilterChain chain ) {
-    ClientMessage clientMessage = new ClientMessage( request );
+    ClientMessage clientMessage = toClientMessage( request );
     ProtocolUtil.setClientMessage( clientMessage );
     workAroundMissingReadData( clientMessage );
     executeLifeCycle();
     return getProtocolWriter().createMessage();
   }
 
+  private static ClientMessage toClientMessage( RequestMessage request ) {
+    // messages read by LifeCycleServiceHandler are already indexed
+    if( request instanceof ClientMessage ) {
+      return ( ClientMessage )request;
+    }
+    return new ClientMessage( request );
+  }
+
   private static void workAroundMissingReadData( ClientMessage message ) {
     // TODO [tb] : This is usually done in DisplayLCA#readData, but the ReadData
     // phase is omitted in the first POST request. Since RemoteObjects may already be registered
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2013 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -14,6 +14,7 @@ package org.eclipse.rap.rwt.internal.service;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
 import org.eclipse.rap.rwt.internal.protocol.ProtocolMessageWriter;
 import org.eclipse.rap.rwt.internal.util.ParamCheck;
@@ -86,13 +87,17 @@ public final class ServiceContext {
   public ProtocolMessageWriter getProtocolWriter() {
     checkState();
     if( protocolWriter == null ) {
-      protocolWriter = new ProtocolMessageWriter();
+      protocolWriter = createProtocolWriter();
     }
     return protocolWriter;
   }
 
   public void resetProtocolWriter() {
-    protocolWriter = new ProtocolMessageWriter();
+    protocolWriter = createProtocolWriter();
+  }
+
+  private static ProtocolMessageWriter createProtocolWriter() {
+    return new ProtocolMessageWriter( RWTProperties.isStreamingResponseEnabled() );
   }
 
   public UISession getUISession() {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2020 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -51,6 +51,7 @@ public class SettingStoreManager {
     if( !hasFactory() ) {
       throw new IllegalStateException( "There is no SettingStoreFactory for deregistration." );
     }
+    factory.shutdown();
     factory = null;
   }
 
@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.textsize;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.eclipse.rap.rwt.internal.util.ParamCheck;
+
+
+/**
+ * Persists the text size storage in a file. The content is written to a temporary file first that
+ * replaces the existing file when complete, hence a crash while saving leaves the previous content
+ * intact.
+ */
+public class FileTextSizePersistence implements TextSizePersistence {
+
+  private final File file;
+
+  public FileTextSizePersistence( File file ) {
+    ParamCheck.notNull( file, "file" );
+    this.file = file;
+  }
+
+  public File getFile() {
+    return file;
+  }
+
+  @Override
+  public byte[] load() throws IOException {
+    if( !file.isFile() ) {
+      return null;
+    }
+    return Files.readAllBytes( file.toPath() );
+  }
+
+  @Override
+  public void save( byte[] content ) throws IOException {
+    File directory = file.getAbsoluteFile().getParentFile();
+    if( !directory.isDirectory() && !directory.mkdirs() ) {
+      throw new IOException( "Failed to create directory: " + directory );
+    }
+    Path tempFile = Files.createTempFile( directory.toPath(), file.getName(), ".tmp" );
+    try {
+      write( tempFile, content );
+      replaceFile( tempFile );
+    } finally {
+      Files.deleteIfExists( tempFile );
+    }
+  }
+
+  private static void write( Path path, byte[] content ) throws IOException {
+    try( FileOutputStream fileStream = new FileOutputStream( path.toFile() ) ) {
+      OutputStream stream = new BufferedOutputStream( fileStream );
+      stream.write( content );
+      stream.flush();
+      // the content has to be on disk before it replaces the existing file
+      fileStream.getFD().sync();
+    }
+  }
+
+  private void replaceFile( Path source ) throws IOException {
+    try {
+      Files.move( source, file.toPath(), REPLACE_EXISTING, ATOMIC_MOVE );
+    } catch( @SuppressWarnings( "unused" ) AtomicMoveNotSupportedException exception ) {
+      Files.move( source, file.toPath(), REPLACE_EXISTING );
+    }
+  }
+
+}
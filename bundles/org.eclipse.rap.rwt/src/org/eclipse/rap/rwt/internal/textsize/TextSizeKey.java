@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.textsize;
+
+import org.eclipse.swt.graphics.FontData;
+import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.internal.SerializableCompatibility;
+
+
+/**
+ * The key of a measured text size in the {@link TextSizeStorage}. Unlike a plain hash code, the
+ * key compares all of its components, hence two different texts can never share a stored size.
+ */
+final class TextSizeKey implements SerializableCompatibility {
+
+  private final FontData fontData;
+  private final String probeText;
+  private final Point probeSize;
+  private final String string;
+  private final int wrapWidth;
+  private final int mode;
+  private final int hashCode;
+
+  TextSizeKey( FontData fontData,
+               String probeText,
+               Point probeSize,
+               String string,
+               int wrapWidth,
+               int mode )
+  {
+    this.fontData = fontData;
+    this.probeText = probeText;
+    this.probeSize = new Point( probeSize.x, probeSize.y );
+    this.string = string;
+    this.wrapWidth = wrapWidth;
+    this.mode = mode;
+    hashCode = computeHashCode();
+  }
+
+  FontData getFontData() {
+    return fontData;
+  }
+
+  String getProbeText() {
+    return probeText;
+  }
+
+  Point getProbeSize() {
+    return probeSize;
+  }
+
+  String getString() {
+    return string;
+  }
+
+  int getWrapWidth() {
+    return wrapWidth;
+  }
+
+  int getMode() {
+    return mode;
+  }
+
+  @Override
+  public boolean equals( Object object ) {
+    if( object == this ) {
+      return true;
+    }
+    if( !( object instanceof TextSizeKey ) ) {
+      return false;
+    }
+    TextSizeKey other = ( TextSizeKey )object;
+    return hashCode == other.hashCode
+        && wrapWidth == other.wrapWidth
+        && mode == other.mode
+        && string.equals( other.string )
+        && fontData.equals( other.fontData )
+        && probeSize.equals( other.probeSize )
+        && probeText.equals( other.probeText );
+  }
+
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  @Override
+  public String toString() {
+    return "TextSizeKey{" + fontData + ", " + string + ", " + wrapWidth + ", " + mode + "}";
+  }
+
+  private int computeHashCode() {
+    int result = 1;
+    result = 31 * result + probeText.hashCode();
+    result = 31 * result + probeSize.hashCode();
+    result = 31 * result + fontData.hashCode();
+    result = 31 * result + string.hashCode();
+    result = 31 * result + wrapWidth;
+    result = 31 * result + mode;
+    return result;
+  }
+
+}
@@ -0,0 +1,39 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.textsize;
+
+import java.io.IOException;
+
+
+/**
+ * Stores the content of a {@link TextSizeStorage} outside of the application, e.g. in a file or
+ * in a store that is shared by the nodes of a cluster. Text sizes that have been measured before
+ * a restart can then be used without measuring them again.
+ * <p>
+ * Implementations only need to store and return the given bytes, the format of the content is
+ * defined by the text size storage.
+ * </p>
+ */
+public interface TextSizePersistence {
+
+  /**
+   * Returns the content that has been saved last, or <code>null</code> if nothing has been saved
+   * yet.
+   */
+  byte[] load() throws IOException;
+
+  /**
+   * Replaces the saved content with the given bytes. This method is called from a background
+   * thread.
+   */
+  void save( byte[] content ) throws IOException;
+
+}
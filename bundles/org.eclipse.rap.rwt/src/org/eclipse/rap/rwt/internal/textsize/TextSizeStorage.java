@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2016 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,98 +13,152 @@ package org.eclipse.rap.rwt.internal.textsize;
 
 import static org.eclipse.rap.rwt.internal.RWTProperties.getTextSizeStoreSize;
 
-import java.io.Serializable;
 import java.math.BigDecimal;
 import java.text.MessageFormat;
 import java.util.Arrays;
-import java.util.Comparator;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.eclipse.swt.graphics.FontData;
 import org.eclipse.swt.graphics.Point;
 
 
+/**
+ * Holds the text sizes measured by the client, shared by all UI sessions of an application.
+ * <p>
+ * Lookups and stores do not block each other, the entries are held in a concurrent map. When the
+ * store is full, the least recently used tenth of the entries is evicted by a single thread while
+ * other threads continue to use the store. The eviction selects the oldest entries in linear time
+ * instead of sorting all entries, which amortizes to a constant cost per stored entry.
+ * </p>
+ */
 public final class TextSizeStorage {
 
   public static final int MIN_STORE_SIZE = 1000;
   public static final int DEFAULT_STORE_SIZE = 10000;
 
-  private final Object lock;
-  // access is guarded by 'lock'
   private final Set<FontData> fontDatas;
-  // access is guarded by 'lock'
-  private final Map<Integer,Entry> data;
-  private int maximumStoreSize;
-  private int clearRange;
-  private long clock;
+  private final Map<Object,Entry> data;
+  private final ReentrantLock evictionLock;
+  private final AtomicLong clock;
+  private final LongAdder hitCount;
+  private final LongAdder missCount;
+  private final LongAdder evictionCount;
+  private final LongAdder modificationCount;
+  private volatile int maximumStoreSize;
+  private volatile int clearRange;
 
 
   private static class Entry {
-    private Point point;
-    private long timeStamp;
-  }
-
-  private static class EntryComparator implements Comparator<Entry>, Serializable {
+    private final int width;
+    private final int height;
+    private volatile long timeStamp;
 
-    @Override
-    public int compare( Entry entry1, Entry entry2 ) {
-      int result = 0;
-      if( entry1.timeStamp > entry2.timeStamp ) {
-        result = 1;
-      } else if( entry1.timeStamp < entry2.timeStamp ) {
-        result = -1;
-      }
-      return result;
+    Entry( Point point ) {
+      width = point.x;
+      height = point.y;
     }
   }
 
 
   public TextSizeStorage() {
-    lock = new Object();
-    data = new HashMap<>();
-    fontDatas = new HashSet<>();
+    data = new ConcurrentHashMap<>();
+    fontDatas = ConcurrentHashMap.newKeySet();
+    evictionLock = new ReentrantLock();
+    clock = new AtomicLong();
+    hitCount = new LongAdder();
+    missCount = new LongAdder();
+    evictionCount = new LongAdder();
+    modificationCount = new LongAdder();
     setMaximumStoreSize( getTextSizeStoreSize( DEFAULT_STORE_SIZE ) );
   }
 
   FontData[] getFontList() {
-    FontData[] result;
-    synchronized( lock ) {
-      result = new FontData[ fontDatas.size() ];
-      fontDatas.toArray( result );
-    }
-    return result;
+    return fontDatas.toArray( new FontData[ 0 ] );
   }
 
   void storeFont( FontData fontData ) {
-    synchronized( lock ) {
-      fontDatas.add( fontData );
+    if( fontDatas.add( fontData ) ) {
+      modificationCount.increment();
     }
   }
 
-  Point lookupTextSize( Integer key ) {
+  Point lookupTextSize( Object key ) {
     Point result = null;
-    synchronized( lock ) {
-      Entry entry = data.get( key );
-      if( entry != null ) {
-        updateTimestamp( entry );
-        result = entry.point;
-      }
+    Entry entry = data.get( key );
+    if( entry != null ) {
+      updateTimestamp( entry );
+      result = new Point( entry.width, entry.height );
+      hitCount.increment();
+    } else {
+      missCount.increment();
     }
-    result = defensiveCopy( result );
     return result;
   }
 
-  void storeTextSize( Integer key, Point size ) {
-    Entry entry = new Entry();
-    entry.point = defensiveCopy( size );
+  void storeTextSize( Object key, Point size ) {
+    Entry entry = new Entry( size );
     updateTimestamp( entry );
-    synchronized( lock ) {
-      data.put( key, entry );
-      handleOverFlow();
+    data.put( key, entry );
+    modificationCount.increment();
+    handleOverFlow();
+  }
+
+  /**
+   * Returns a copy of the stored text sizes.
+   */
+  Map<Object,Point> getTextSizes() {
+    Map<Object,Point> result = new HashMap<>();
+    for( Map.Entry<Object,Entry> entry : data.entrySet() ) {
+      Entry value = entry.getValue();
+      result.put( entry.getKey(), new Point( value.width, value.height ) );
     }
+    return result;
+  }
+
+  /**
+   * Returns a counter that is incremented whenever a font or a text size is stored. It is used
+   * to detect changes that have not been persisted yet.
+   */
+  long getModificationCount() {
+    return modificationCount.sum();
+  }
+
+  ///////////
+  // metrics
+
+  /**
+   * Returns the number of lookups that found a stored text size.
+   */
+  public long getHitCount() {
+    return hitCount.sum();
+  }
+
+  /**
+   * Returns the number of lookups that did not find a stored text size.
+   */
+  public long getMissCount() {
+    return missCount.sum();
+  }
+
+  /**
+   * Returns the number of entries that have been evicted because the store was full.
+   */
+  public long getEvictionCount() {
+    return evictionCount.sum();
+  }
+
+  /**
+   * Returns the number of text sizes currently held by this store.
+   */
+  public int size() {
+    return data.size();
   }
 
   ////////////////////
@@ -121,21 +175,82 @@ public final class TextSizeStorage {
   }
 
   private void handleOverFlow() {
-    if( data.size() >= maximumStoreSize ) {
-      Entry[] entries = sortEntries();
-      for( int i = 0; i < clearRange; i++ ) {
-        data.values().remove( entries[ i ] );
+    // only one thread evicts, the others continue without waiting for it
+    if( data.size() >= maximumStoreSize && evictionLock.tryLock() ) {
+      try {
+        if( data.size() >= maximumStoreSize ) {
+          evictOldestEntries( clearRange );
+        }
+      } finally {
+        evictionLock.unlock();
       }
     }
   }
 
-  private Entry[] sortEntries() {
-    Entry[] result = new Entry[ data.size() ];
-    data.values().toArray( result );
-    Arrays.sort( result, new EntryComparator() );
-    return result;
+  private void evictOldestEntries( int count ) {
+    long[] timeStamps = collectTimeStamps();
+    int evictCount = Math.min( count, timeStamps.length );
+    if( evictCount > 0 ) {
+      long threshold = select( timeStamps, evictCount - 1 );
+      int evicted = 0;
+      Iterator<Entry> iterator = data.values().iterator();
+      while( iterator.hasNext() && evicted < evictCount ) {
+        if( iterator.next().timeStamp <= threshold ) {
+          iterator.remove();
+          evicted++;
+        }
+      }
+      evictionCount.add( evicted );
+    }
+  }
+
+  private long[] collectTimeStamps() {
+    long[] result = new long[ data.size() ];
+    int count = 0;
+    for( Entry entry : data.values() ) {
+      if( count == result.length ) {
+        result = Arrays.copyOf( result, result.length * 2 + 1 );
+      }
+      result[ count++ ] = entry.timeStamp;
+    }
+    return count == result.length ? result : Arrays.copyOf( result, count );
   }
 
+  /*
+   * Returns the k-th smallest value (zero-based) in linear average time, reorders the array.
+   */
+  static long select( long[] values, int k ) {
+    int left = 0;
+    int right = values.length - 1;
+    while( left < right ) {
+      long pivot = values[ ( left + right ) >>> 1 ];
+      int i = left;
+      int j = right;
+      while( i <= j ) {
+        while( values[ i ] < pivot ) {
+          i++;
+        }
+        while( values[ j ] > pivot ) {
+          j--;
+        }
+        if( i <= j ) {
+          long swap = values[ i ];
+          values[ i ] = values[ j ];
+          values[ j ] = swap;
+          i++;
+          j--;
+        }
+      }
+      if( k <= j ) {
+        right = j;
+      } else if( k >= i ) {
+        left = i;
+      } else {
+        return values[ k ];
+      }
+    }
+    return values[ k ];
+  }
 
   //////////////////
   // helping methods
@@ -148,12 +263,8 @@ public final class TextSizeStorage {
     }
   }
 
-  private static Point defensiveCopy( Point point ) {
-    return point == null ? null : new Point( point.x, point.y );
-  }
-
   private void updateTimestamp( Entry entry ) {
-    entry.timeStamp = clock++;
+    entry.timeStamp = clock.getAndIncrement();
   }
 
   private void calculateClearRange( int maximumStoreSize ) {
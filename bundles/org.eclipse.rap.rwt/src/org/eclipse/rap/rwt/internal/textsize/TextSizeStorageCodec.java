@@ -0,0 +1,158 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.textsize;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.eclipse.swt.graphics.FontData;
+import org.eclipse.swt.graphics.Point;
+
+
+/**
+ * Converts the fonts and text sizes of a {@link TextSizeStorage} to a compact binary format and
+ * back. Only text sizes with a {@link TextSizeKey} are encoded.
+ */
+final class TextSizeStorageCodec {
+
+  private static final int MAGIC = 0x52545353;
+  private static final int VERSION = 1;
+
+  static byte[] encode( TextSizeStorage storage ) {
+    FontData[] fonts = storage.getFontList();
+    Map<Object,Point> textSizes = storage.getTextSizes();
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream( 64 + textSizes.size() * 48 );
+    try( DataOutputStream output = new DataOutputStream( bytes ) ) {
+      output.writeInt( MAGIC );
+      output.writeInt( VERSION );
+      output.writeInt( fonts.length );
+      for( FontData font : fonts ) {
+        writeFont( output, font );
+      }
+      output.writeInt( countKeys( textSizes ) );
+      for( Entry<Object,Point> entry : textSizes.entrySet() ) {
+        if( entry.getKey() instanceof TextSizeKey ) {
+          writeTextSize( output, ( TextSizeKey )entry.getKey(), entry.getValue() );
+        }
+      }
+    } catch( IOException exception ) {
+      // ByteArrayOutputStream does not throw IOExceptions
+      throw new RuntimeException( exception );
+    }
+    return bytes.toByteArray();
+  }
+
+  /**
+   * Adds the fonts and text sizes encoded in the given content to the storage.
+   *
+   * @throws IOException if the content is not in the expected format
+   */
+  static void decode( byte[] content, TextSizeStorage storage ) throws IOException {
+    DataInputStream input = new DataInputStream( new ByteArrayInputStream( content ) );
+    if( input.readInt() != MAGIC ) {
+      throw new IOException( "Not a text size store" );
+    }
+    int version = input.readInt();
+    if( version != VERSION ) {
+      throw new IOException( "Unsupported text size store version: " + version );
+    }
+    int fontCount = input.readInt();
+    for( int i = 0; i < fontCount; i++ ) {
+      storage.storeFont( readFont( input ) );
+    }
+    int textSizeCount = input.readInt();
+    for( int i = 0; i < textSizeCount; i++ ) {
+      readTextSize( input, storage );
+    }
+  }
+
+  private static void writeTextSize( DataOutput output, TextSizeKey key, Point size )
+    throws IOException
+  {
+    writeFont( output, key.getFontData() );
+    writeString( output, key.getProbeText() );
+    output.writeInt( key.getProbeSize().x );
+    output.writeInt( key.getProbeSize().y );
+    writeString( output, key.getString() );
+    output.writeInt( key.getWrapWidth() );
+    output.writeInt( key.getMode() );
+    output.writeInt( size.x );
+    output.writeInt( size.y );
+  }
+
+  private static void readTextSize( DataInput input, TextSizeStorage storage )
+    throws IOException
+  {
+    FontData fontData = readFont( input );
+    String probeText = readString( input );
+    Point probeSize = new Point( input.readInt(), input.readInt() );
+    String string = readString( input );
+    int wrapWidth = input.readInt();
+    int mode = input.readInt();
+    Point size = new Point( input.readInt(), input.readInt() );
+    TextSizeKey key = new TextSizeKey( fontData, probeText, probeSize, string, wrapWidth, mode );
+    storage.storeTextSize( key, size );
+  }
+
+  private static void writeFont( DataOutput output, FontData font ) throws IOException {
+    writeString( output, font.getName() );
+    output.writeInt( font.getHeight() );
+    output.writeInt( font.getStyle() );
+  }
+
+  private static FontData readFont( DataInput input ) throws IOException {
+    String name = readString( input );
+    int height = input.readInt();
+    int style = input.readInt();
+    return new FontData( name, height, style );
+  }
+
+  // DataOutput#writeUTF is limited to 64k, texts may be longer
+  private static void writeString( DataOutput output, String string ) throws IOException {
+    byte[] bytes = string.getBytes( UTF_8 );
+    output.writeInt( bytes.length );
+    output.write( bytes );
+  }
+
+  private static String readString( DataInput input ) throws IOException {
+    int length = input.readInt();
+    if( length < 0 ) {
+      throw new IOException( "Invalid string length: " + length );
+    }
+    byte[] bytes = new byte[ length ];
+    input.readFully( bytes );
+    return new String( bytes, UTF_8 );
+  }
+
+  private static int countKeys( Map<Object,Point> textSizes ) {
+    int result = 0;
+    for( Object key : textSizes.keySet() ) {
+      if( key instanceof TextSizeKey ) {
+        result++;
+      }
+    }
+    return result;
+  }
+
+  private TextSizeStorageCodec() {
+    // prevent instantiation
+  }
+
+}
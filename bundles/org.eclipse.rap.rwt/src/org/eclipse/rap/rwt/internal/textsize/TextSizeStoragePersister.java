@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.textsize;
+
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.rap.rwt.internal.service.ServletLog;
+import org.eclipse.rap.rwt.internal.util.ParamCheck;
+
+
+/**
+ * Loads the content of a {@link TextSizeStorage} from a {@link TextSizePersistence} when the
+ * application is activated and saves it in the background while the application is running.
+ * The content is only saved when fonts or text sizes have been added since the last save.
+ */
+public final class TextSizeStoragePersister {
+
+  private final TextSizeStorage storage;
+  private final TextSizePersistence persistence;
+  private final long flushInterval;
+  private final Object flushLock;
+  private ScheduledExecutorService executor;
+  private long savedModificationCount;
+
+  /**
+   * @param flushInterval the time between two background saves in milliseconds, with a value of
+   *        zero or less the content is only saved when the persister is deactivated
+   */
+  public TextSizeStoragePersister( TextSizeStorage storage,
+                                   TextSizePersistence persistence,
+                                   long flushInterval )
+  {
+    ParamCheck.notNull( storage, "storage" );
+    ParamCheck.notNull( persistence, "persistence" );
+    this.storage = storage;
+    this.persistence = persistence;
+    this.flushInterval = flushInterval;
+    flushLock = new Object();
+    savedModificationCount = 0;
+  }
+
+  public void activate() {
+    load();
+    if( flushInterval > 0 ) {
+      executor = Executors.newSingleThreadScheduledExecutor( new FlushThreadFactory() );
+      Runnable flush = new Runnable() {
+        @Override
+        public void run() {
+          flush();
+        }
+      };
+      executor.scheduleWithFixedDelay( flush, flushInterval, flushInterval, TimeUnit.MILLISECONDS );
+    }
+  }
+
+  public void deactivate() {
+    if( executor != null ) {
+      executor.shutdown();
+      try {
+        executor.awaitTermination( 10, TimeUnit.SECONDS );
+      } catch( @SuppressWarnings( "unused" ) InterruptedException exception ) {
+        Thread.currentThread().interrupt();
+      }
+      executor = null;
+    }
+    flush();
+  }
+
+  void load() {
+    synchronized( flushLock ) {
+      try {
+        byte[] content = persistence.load();
+        if( content != null ) {
+          TextSizeStorageCodec.decode( content, storage );
+        }
+      } catch( IOException | RuntimeException exception ) {
+        ServletLog.log( "Failed to load persisted text sizes", exception );
+      }
+      savedModificationCount = storage.getModificationCount();
+    }
+  }
+
+  void flush() {
+    synchronized( flushLock ) {
+      long modificationCount = storage.getModificationCount();
+      if( modificationCount != savedModificationCount ) {
+        try {
+          persistence.save( TextSizeStorageCodec.encode( storage ) );
+          savedModificationCount = modificationCount;
+        } catch( IOException | RuntimeException exception ) {
+          ServletLog.log( "Failed to persist text sizes", exception );
+        }
+      }
+    }
+  }
+
+  private static class FlushThreadFactory implements ThreadFactory {
+
+    @Override
+    public Thread newThread( Runnable runnable ) {
+      Thread thread = new Thread( runnable, "RAP text size store" );
+      thread.setDaemon( true );
+      return thread;
+    }
+
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2014 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -24,7 +24,7 @@ final class TextSizeStorageUtil {
     Point result = null;
     if( ProbeResultStore.getInstance().containsProbeResult( fontData ) ) {
       TextSizeStorage textSizeStorage = getApplicationContext().getTextSizeStorage();
-      Integer key = getKey( fontData, string, wrapWidth, mode );
+      TextSizeKey key = getKey( fontData, string, wrapWidth, mode );
       result = textSizeStorage.lookupTextSize( key );
       if( result == null && wrapWidth > 0 ) {
         key = getKey( fontData, string, SWT.DEFAULT, mode );
@@ -46,23 +46,16 @@ final class TextSizeStorageUtil {
                      Point measuredTextSize )
   {
     checkFontExists( fontData );
-    Integer key = getKey( fontData, string, wrapWidth, mode );
+    TextSizeKey key = getKey( fontData, string, wrapWidth, mode );
     getApplicationContext().getTextSizeStorage().storeTextSize( key, measuredTextSize );
   }
 
-  static Integer getKey( FontData fontData, String string, int wrapWidth, int mode ) {
+  static TextSizeKey getKey( FontData fontData, String string, int wrapWidth, int mode ) {
     ProbeResultStore instance = ProbeResultStore.getInstance();
     ProbeResult probeResult = instance.getProbeResult( fontData );
     String probeText = probeResult.getProbe().getText();
     Point probeSize = probeResult.getSize();
-    int hashCode = 1;
-    hashCode = 31 * hashCode + probeText.hashCode();
-    hashCode = 31 * hashCode + probeSize.hashCode();
-    hashCode = 31 * hashCode + fontData.hashCode();
-    hashCode = 31 * hashCode + string.hashCode();
-    hashCode = 31 * hashCode + wrapWidth;
-    hashCode = 31 * hashCode + mode;
-    return Integer.valueOf( hashCode );
+    return new TextSizeKey( fontData, probeText, probeSize, string, wrapWidth, mode );
   }
 
 
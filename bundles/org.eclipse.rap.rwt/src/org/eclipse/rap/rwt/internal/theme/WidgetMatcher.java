@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2008, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,9 +11,12 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.theme;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil;
 import org.eclipse.rap.rwt.internal.theme.css.ConditionalValue;
 import org.eclipse.swt.widgets.Widget;
@@ -21,29 +24,68 @@ import org.eclipse.swt.widgets.Widget;
 
 public final class WidgetMatcher implements ValueSelector {
 
+  static final int DEFAULT_CACHE_SIZE = 4096;
+
+  private static final Constraint[] NO_STATES = new Constraint[ 0 ];
+
   public static interface Constraint {
     boolean matches( Widget widget );
   }
 
   private final Map<String, Constraint> constraintMap;
+  // The values that can match a widget with a given style and variant, by the values of an element
+  // property. The values of every theme are distinct arrays, hence a theme does not need to be
+  // part of the key.
+  private final Map<Key, Resolution> resolutions;
+  private final int cacheSize;
 
   public WidgetMatcher() {
+    this( RWTProperties.getThemeValueCacheSize( DEFAULT_CACHE_SIZE ) );
+  }
+
+  WidgetMatcher( int cacheSize ) {
     // This map is accessed by all UI sessions simultaneously. However, We don't need to
     // synchronize get and put since constraints are deterministic, i.e. in case of concurrent
     // insertions one constraint overwriting the other is not critical.
     constraintMap = new ConcurrentHashMap<>();
+    resolutions = new ConcurrentHashMap<>();
+    this.cacheSize = cacheSize;
   }
 
   public void addStyle( String string, int style ) {
-    constraintMap.put( "[" + string, createStyleConstraint( style ) );
+    constraintMap.put( "[" + string, new StyleConstraint( style ) );
+    resolutions.clear();
   }
 
   public void addState( String string, Constraint constraint ) {
     constraintMap.put( ":" + string, constraint );
+    resolutions.clear();
   }
 
   @Override
   public CssValue select( Widget widget, ConditionalValue... values ) {
+    if( cacheSize <= 0 || widget == null ) {
+      return selectUncached( widget, values );
+    }
+    Key key = new Key( values, widget.getStyle(), WidgetUtil.getVariant( widget ) );
+    Resolution resolution = resolutions.get( key );
+    if( resolution == null ) {
+      resolution = resolve( key );
+      if( resolutions.size() >= cacheSize ) {
+        // Start over rather than tracking the access order, so that lookups remain lock-free. The
+        // cache is refilled quickly since only few combinations are in use at a time.
+        resolutions.clear();
+      }
+      resolutions.put( key, resolution );
+    }
+    return resolution.select( widget );
+  }
+
+  public int getCachedResolutionCount() {
+    return resolutions.size();
+  }
+
+  private CssValue selectUncached( Widget widget, ConditionalValue[] values ) {
     CssValue result = null;
     for( int i = 0; i < values.length && result == null; i++ ) {
       ConditionalValue condValue = values[ i ];
@@ -65,36 +107,163 @@ public final class WidgetMatcher implements ValueSelector {
     return true;
   }
 
+  private Resolution resolve( Key key ) {
+    List<CssValue> candidates = new ArrayList<>();
+    List<Constraint[]> candidateStates = new ArrayList<>();
+    for( ConditionalValue condValue : key.values ) {
+      Constraint[] states = resolveStates( condValue.constraints, key.style, key.variant );
+      // a value of null is never selected, the next matching value is selected instead
+      if( states != null && condValue.value != null ) {
+        candidates.add( condValue.value );
+        candidateStates.add( states );
+        if( states.length == 0 ) {
+          // this value always matches, the following values are never selected
+          break;
+        }
+      }
+    }
+    CssValue[] values = candidates.toArray( new CssValue[ candidates.size() ] );
+    Constraint[][] states = candidateStates.toArray( new Constraint[ candidateStates.size() ][] );
+    return new Resolution( values, states );
+  }
+
+  /*
+   * Returns the state constraints that remain to be checked for a widget with the given style and
+   * variant, or null if the constraints can never match such a widget.
+   */
+  private Constraint[] resolveStates( String[] constraints, int style, String variant ) {
+    List<Constraint> states = null;
+    for( String string : constraints ) {
+      Constraint constraint = getConstraint( string );
+      if( constraint instanceof StyleConstraint ) {
+        if( ( style & ( ( StyleConstraint )constraint ).style ) == 0 ) {
+          return null;
+        }
+      } else if( constraint instanceof VariantConstraint ) {
+        if( !( ( VariantConstraint )constraint ).variant.equals( variant ) ) {
+          return null;
+        }
+      } else if( constraint != null ) {
+        if( states == null ) {
+          states = new ArrayList<>();
+        }
+        states.add( constraint );
+      } else {
+        return null;
+      }
+    }
+    return states == null ? NO_STATES : states.toArray( new Constraint[ states.size() ] );
+  }
+
   private Constraint getConstraint( String string ) {
     Constraint constraint = constraintMap.get( string );
     if( constraint == null && string.startsWith( "." ) ) {
-      constraint = createVariantConstraint( string.substring( 1 ) );
+      constraint = new VariantConstraint( string.substring( 1 ) );
       constraintMap.put( string, constraint );
     }
     return constraint;
   }
 
-  private static Constraint createStyleConstraint( final int style ) {
-    return new Constraint() {
-      @Override
-      public boolean matches( Widget widget ) {
-        return ( widget.getStyle() & style ) != 0;
-      }
-    };
+  private static final class StyleConstraint implements Constraint {
+
+    private final int style;
+
+    StyleConstraint( int style ) {
+      this.style = style;
+    }
+
+    @Override
+    public boolean matches( Widget widget ) {
+      return ( widget.getStyle() & style ) != 0;
+    }
+
   }
 
-  private static Constraint createVariantConstraint( final String variant ) {
-    return new Constraint() {
-      @Override
-      public boolean matches( Widget widget ) {
-        return hasVariant( widget, variant );
+  private static final class VariantConstraint implements Constraint {
+
+    private final String variant;
+
+    VariantConstraint( String variant ) {
+      this.variant = variant;
+    }
+
+    @Override
+    public boolean matches( Widget widget ) {
+      return variant.equals( WidgetUtil.getVariant( widget ) );
+    }
+
+  }
+
+  private static final class Key {
+
+    private final ConditionalValue[] values;
+    private final int style;
+    private final String variant;
+    private final int hashCode;
+
+    Key( ConditionalValue[] values, int style, String variant ) {
+      this.values = values;
+      this.style = style;
+      this.variant = variant;
+      int hash = System.identityHashCode( values );
+      hash = 31 * hash + style;
+      hashCode = 31 * hash + ( variant == null ? 0 : variant.hashCode() );
+    }
+
+    @Override
+    public boolean equals( Object object ) {
+      if( object == this ) {
+        return true;
+      }
+      if( !( object instanceof Key ) ) {
+        return false;
       }
-    };
+      Key other = ( Key )object;
+      return    values == other.values
+             && style == other.style
+             && ( variant == null ? other.variant == null : variant.equals( other.variant ) );
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+
   }
 
-  private static boolean hasVariant( Widget widget, String variant ) {
-    String actualVariant = WidgetUtil.getVariant( widget );
-    return actualVariant != null && actualVariant.equals( variant );
+  /*
+   * The values that match a widget with a given style and variant in the order of precedence,
+   * together with the state constraints that are still to be checked for the widget. Only the
+   * last value can have no state constraints.
+   */
+  private static final class Resolution {
+
+    private final CssValue[] values;
+    private final Constraint[][] states;
+
+    Resolution( CssValue[] values, Constraint[][] states ) {
+      this.values = values;
+      this.states = states;
+    }
+
+    CssValue select( Widget widget ) {
+      for( int i = 0; i < values.length; i++ ) {
+        if( matchesAll( widget, states[ i ] ) ) {
+          return values[ i ];
+        }
+      }
+      return null;
+    }
+
+    private static boolean matchesAll( Widget widget, Constraint[] constraints ) {
+      for( Constraint constraint : constraints ) {
+        if( !constraint.matches( widget ) ) {
+          return false;
+        }
+      }
+      return true;
+    }
+
   }
 
 }
@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.util;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+
+/**
+ * A map that is bounded by the total weight of its entries. When the maximum weight is exceeded,
+ * the least recently used entries are evicted. The weight of an entry is one unless
+ * {@link #getWeight(Object, Object)} is overridden. Lookups and evictions are counted.
+ * <p>
+ * This class is not thread-safe, callers have to synchronize the access.
+ * </p>
+ */
+public class LRUCache<K, V> {
+
+  private final Map<K, V> map;
+  private final long maxWeight;
+  private long weight;
+  private long hitCount;
+  private long missCount;
+  private long evictionCount;
+
+  public LRUCache( long maxWeight ) {
+    if( maxWeight < 0 ) {
+      throw new IllegalArgumentException( "maxWeight must not be negative" );
+    }
+    this.maxWeight = maxWeight;
+    map = new LinkedHashMap<>( 64, 0.75f, true );
+  }
+
+  /**
+   * Returns the value for the given key and marks it as the most recently used one, or
+   * <code>null</code> if there is none.
+   */
+  public V get( Object key ) {
+    V result = map.get( key );
+    if( result != null ) {
+      hitCount++;
+    } else {
+      missCount++;
+    }
+    return result;
+  }
+
+  /**
+   * Puts the given value into the cache and evicts least recently used entries as long as the
+   * maximum weight is exceeded. Returns the value that has been replaced, or <code>null</code>.
+   */
+  public V put( K key, V value ) {
+    V previous = map.put( key, value );
+    if( previous != null ) {
+      weight -= getWeight( key, previous );
+    }
+    weight += getWeight( key, value );
+    evict();
+    return previous;
+  }
+
+  /**
+   * Removes all entries without counting them as evicted.
+   */
+  public void clear() {
+    map.clear();
+    weight = 0;
+  }
+
+  public long getHitCount() {
+    return hitCount;
+  }
+
+  public long getMissCount() {
+    return missCount;
+  }
+
+  public long getEvictionCount() {
+    return evictionCount;
+  }
+
+  public long getWeight() {
+    return weight;
+  }
+
+  public long getMaxWeight() {
+    return maxWeight;
+  }
+
+  public int size() {
+    return map.size();
+  }
+
+  protected long getWeight( K key, V value ) {
+    return 1;
+  }
+
+  private void evict() {
+    Iterator<Map.Entry<K, V>> iterator = map.entrySet().iterator();
+    while( weight > maxWeight && iterator.hasNext() ) {
+      // iteration order of an access ordered LinkedHashMap starts with the least recently used
+      Map.Entry<K, V> eldest = iterator.next();
+      iterator.remove();
+      weight -= getWeight( eldest.getKey(), eldest.getValue() );
+      evictionCount++;
+    }
+  }
+
+}
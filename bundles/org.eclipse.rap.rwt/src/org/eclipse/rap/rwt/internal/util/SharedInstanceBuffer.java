@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,70 +10,139 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.util;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 
+/**
+ * A buffer of shared instances that are created on first access. Every instance is created only
+ * once, concurrent requests for the same key wait for the thread that creates the instance.
+ * Instances for different keys are created in parallel, a slow instance creator does not block
+ * access to other keys.
+ */
 public class SharedInstanceBuffer<K, I> implements Serializable {
 
-  private final Lock readLock;
-  private final Lock writeLock;
-  private final Map<K, I> store;
+  private final ConcurrentMap<Object, Holder<I>> store;
 
   public SharedInstanceBuffer() {
-    ReentrantReadWriteLock readWriteLock = new ReentrantReadWriteLock();
-    readLock = readWriteLock.readLock();
-    writeLock = readWriteLock.writeLock();
-    store = new HashMap<>();
+    store = new ConcurrentHashMap<>();
   }
 
   public I get( K key, InstanceCreator<K, I> instanceCreator ) {
-    I result = getInstance( key );
-    if( result == null ) {
-      result = createInstance( key, instanceCreator );
+    Object storeKey = maskNull( key );
+    while( true ) {
+      Holder<I> holder = store.get( storeKey );
+      if( holder == null ) {
+        Holder<I> newHolder = new Holder<>();
+        holder = store.putIfAbsent( storeKey, newHolder );
+        if( holder == null ) {
+          return createInstance( key, storeKey, newHolder, instanceCreator );
+        }
+      }
+      if( holder.await() ) {
+        return holder.instance;
+      }
+      // the creation has failed in another thread, retry with this thread's instance creator
+      store.remove( storeKey, holder );
     }
-    return result;
   }
 
   public I remove( K key ) {
-    writeLock.lock();
-    try {
-      return store.remove( key );
-    } finally {
-      writeLock.unlock();
-    }
+    Holder<I> holder = store.remove( maskNull( key ) );
+    return holder != null && holder.await() ? holder.instance : null;
   }
 
-  private I getInstance( K key ) {
-    readLock.lock();
+  private I createInstance( K key,
+                            Object storeKey,
+                            Holder<I> holder,
+                            InstanceCreator<K, I> instanceCreator )
+  {
+    I result;
     try {
-      return store.get( key );
-    } finally {
-      readLock.unlock();
+      result = instanceCreator.createInstance( key );
+    } catch( RuntimeException | Error exception ) {
+      store.remove( storeKey, holder );
+      holder.fail();
+      throw exception;
+    }
+    if( result == null ) {
+      // null instances are not buffered
+      store.remove( storeKey, holder );
     }
+    holder.set( result );
+    return result;
   }
 
-  private I createInstance( K key, InstanceCreator<K, I> instanceCreator ) {
-    writeLock.lock();
-    try {
-      // Re-check because another thread might have acquired write lock and created an instance
-      // before we did. See doc on ReentrantReadWriteLock.
-      I result = store.get( key );
-      if( result == null ) {
-        result = instanceCreator.createInstance( key );
-        store.put( key, result );
-      }
-      return result;
-    } finally {
-      writeLock.unlock();
-    }
+  private static Object maskNull( Object key ) {
+    return key == null ? NullKey.INSTANCE : key;
   }
 
   public interface InstanceCreator<K, T> extends Serializable {
     T createInstance( K key );
   }
 
+  private static enum NullKey {
+    INSTANCE
+  }
+
+  private static final class Holder<I> implements Serializable {
+
+    private final transient Thread creator;
+    private volatile boolean done;
+    private transient volatile boolean failed;
+    private I instance;
+
+    Holder() {
+      creator = Thread.currentThread();
+    }
+
+    synchronized void set( I instance ) {
+      this.instance = instance;
+      done = true;
+      notifyAll();
+    }
+
+    synchronized void fail() {
+      failed = true;
+      notifyAll();
+    }
+
+    /**
+     * Waits until the instance is created. Returns <code>false</code> if the creation failed.
+     */
+    boolean await() {
+      return done || awaitCreation();
+    }
+
+    private synchronized boolean awaitCreation() {
+      if( creator == Thread.currentThread() ) {
+        throw new IllegalStateException( "Recursive creation of a shared instance" );
+      }
+      boolean interrupted = false;
+      while( !done && !failed ) {
+        try {
+          wait();
+        } catch( @SuppressWarnings( "unused" ) InterruptedException exception ) {
+          interrupted = true;
+        }
+      }
+      if( interrupted ) {
+        Thread.currentThread().interrupt();
+      }
+      return done;
+    }
+
+    private void readObject( ObjectInputStream stream )
+      throws IOException, ClassNotFoundException
+    {
+      stream.defaultReadObject();
+      // the creating thread does not exist after deserialization
+      failed = !done;
+    }
+
+  }
+
 }
@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.service;
+
+import java.util.Map;
+
+
+/**
+ * Encodes and replays the records of the journal of a {@link JournalingSettingStore}.
+ * <p>
+ * Every record is a single line. A line <code>+name=value</code> stores an attribute, a line
+ * <code>-name</code> removes it. Backslashes, line breaks and equal signs are escaped with a
+ * backslash. A record is only complete with its trailing line break.
+ * </p>
+ */
+final class JournalRecord {
+
+  private static final char SET = '+';
+  private static final char REMOVE = '-';
+
+  private JournalRecord() {
+    // prevent instantiation
+  }
+
+  static void append( StringBuilder builder, String name, String value ) {
+    if( value == null ) {
+      builder.append( REMOVE );
+      escape( builder, name );
+    } else {
+      builder.append( SET );
+      escape( builder, name );
+      builder.append( '=' );
+      escape( builder, value );
+    }
+    builder.append( '\n' );
+  }
+
+  /**
+   * Applies the records of the given journal to the given attributes. Replaying stops at the first
+   * incomplete or malformed record.
+   *
+   * @return the number of records that have been applied, or -1 if the journal contains an
+   *         incomplete or malformed record
+   */
+  static int replay( String journal, Map<String, String> attributes ) {
+    int count = 0;
+    int start = 0;
+    int end = journal.indexOf( '\n' );
+    while( end != -1 ) {
+      if( !apply( journal, start, end, attributes ) ) {
+        return -1;
+      }
+      count++;
+      start = end + 1;
+      end = journal.indexOf( '\n', start );
+    }
+    return start == journal.length() ? count : -1;
+  }
+
+  private static boolean apply( String journal,
+                                int start,
+                                int end,
+                                Map<String, String> attributes )
+  {
+    if( end - start < 2 ) {
+      return false;
+    }
+    char operation = journal.charAt( start );
+    StringBuilder name = new StringBuilder();
+    int index = unescape( journal, start + 1, end, name );
+    if( index == -1 ) {
+      return false;
+    }
+    if( operation == REMOVE && index == end ) {
+      attributes.remove( name.toString() );
+      return true;
+    }
+    if( operation == SET && index < end ) {
+      StringBuilder value = new StringBuilder();
+      if( unescape( journal, index + 1, end, value ) == end ) {
+        attributes.put( name.toString(), value.toString() );
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static void escape( StringBuilder builder, String string ) {
+    for( int i = 0; i < string.length(); i++ ) {
+      char ch = string.charAt( i );
+      switch( ch ) {
+        case '\\':
+          builder.append( "\\\\" );
+        break;
+        case '\n':
+          builder.append( "\\n" );
+        break;
+        case '\r':
+          builder.append( "\\r" );
+        break;
+        case '=':
+          builder.append( "\\=" );
+        break;
+        default:
+          builder.append( ch );
+      }
+    }
+  }
+
+  /**
+   * Unescapes the given range up to the first unescaped equal sign.
+   *
+   * @return the index of the equal sign or the end of the range, -1 if the range is malformed
+   */
+  private static int unescape( String string, int start, int end, StringBuilder builder ) {
+    int index = start;
+    while( index < end ) {
+      char ch = string.charAt( index );
+      if( ch == '=' ) {
+        return index;
+      }
+      if( ch == '\\' ) {
+        if( ++index == end ) {
+          return -1;
+        }
+        char escaped = string.charAt( index );
+        if( escaped == 'n' ) {
+          builder.append( '\n' );
+        } else if( escaped == 'r' ) {
+          builder.append( '\r' );
+        } else if( escaped == '\\' || escaped == '=' ) {
+          builder.append( escaped );
+        } else {
+          return -1;
+        }
+      } else {
+        builder.append( ch );
+      }
+      index++;
+    }
+    return index;
+  }
+
+}
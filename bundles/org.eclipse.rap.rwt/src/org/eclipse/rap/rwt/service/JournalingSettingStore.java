@@ -0,0 +1,346 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+import org.eclipse.rap.rwt.internal.service.ServletLog;
+import org.eclipse.rap.rwt.internal.util.ParamCheck;
+
+
+/**
+ * A setting store that writes its changes to the file system in the background. Instances are
+ * created by a {@link JournalingSettingStoreFactory}.
+ * <p>
+ * Changes are applied in memory and the listeners are notified immediately, the changes are
+ * then appended to a journal file by the background writer of the factory. Several changes of the
+ * same attribute that are made before the writer runs are coalesced into a single journal record.
+ * When the journal has grown large, its content is compacted into a snapshot file that uses the
+ * same format as the files of the {@link FileSettingStore}. Loading a store reads the snapshot
+ * and replays the journal. An incomplete record at the end of the journal, as it is left by a
+ * process that was terminated while writing, is ignored.
+ * </p>
+ * <p>
+ * Unlike with the {@link FileSettingStore}, an attribute is not persisted yet when
+ * {@link #setAttribute(String, String)} returns. Use {@link #flush()} to write the pending
+ * changes immediately.
+ * </p>
+ *
+ * @since 3.26
+ */
+public final class JournalingSettingStore implements SettingStore {
+
+  static final String JOURNAL_SUFFIX = ".journal";
+  static final String TEMP_SUFFIX = ".snapshot";
+
+  private final File workDir;
+  private final JournalingSettingStoreFactory factory;
+  private final Map<String, String> attributes;
+  private final Set<SettingStoreListener> listeners;
+  private final Object writeLock;
+  // changes that are not written yet, a null value stands for a removed attribute
+  private Map<String, String> pendingChanges;
+  private boolean flushScheduled;
+  private int journalRecords;
+  // the journal ends with an incomplete record and has to be compacted before the next write
+  private boolean journalDamaged;
+  private String id;
+
+  JournalingSettingStore( File workDir, JournalingSettingStoreFactory factory ) {
+    this.workDir = workDir;
+    this.factory = factory;
+    attributes = new HashMap<>();
+    listeners = new CopyOnWriteArraySet<>();
+    writeLock = new Object();
+    pendingChanges = new LinkedHashMap<>();
+  }
+
+  @Override
+  public synchronized String getId() {
+    return id;
+  }
+
+  @Override
+  public synchronized String getAttribute( String name ) {
+    ParamCheck.notNull( name, "name" );
+    return attributes.get( name );
+  }
+
+  @Override
+  public synchronized void setAttribute( String name, String value ) {
+    ParamCheck.notNull( name, "name" );
+    if( value == null ) {
+      removeAttribute( name );
+    } else {
+      String oldValue = attributes.put( name, value );
+      if( !value.equals( oldValue ) ) {
+        notifyListeners( name, oldValue, value );
+        addPendingChange( name, value );
+      }
+    }
+  }
+
+  @Override
+  public synchronized Enumeration<String> getAttributeNames() {
+    return Collections.enumeration( new ArrayList<>( attributes.keySet() ) );
+  }
+
+  @Override
+  public void loadById( String id ) throws IOException {
+    ParamCheck.notNullOrEmpty( id, "id" );
+    factory.flushStores( id );
+    synchronized( writeLock ) {
+      flush();
+      synchronized( this ) {
+        notifyForEachAttribute( true );
+        attributes.clear();
+        this.id = id;
+        journalRecords = 0;
+        journalDamaged = false;
+        completeCompaction();
+        readSnapshot();
+        readJournal();
+        notifyForEachAttribute( false );
+      }
+    }
+  }
+
+  @Override
+  public synchronized void removeAttribute( String name ) {
+    ParamCheck.notNull( name, "name" );
+    String oldValue = attributes.remove( name );
+    if( oldValue != null ) {
+      notifyListeners( name, oldValue, null );
+      addPendingChange( name, null );
+    }
+  }
+
+  @Override
+  public void addSettingStoreListener( SettingStoreListener listener ) {
+    ParamCheck.notNull( listener, "listener" );
+    listeners.add( listener );
+  }
+
+  @Override
+  public void removeSettingStoreListener( SettingStoreListener listener ) {
+    ParamCheck.notNull( listener, "listener" );
+    listeners.remove( listener );
+  }
+
+  /**
+   * Writes the pending changes of this store to the journal. The journal is compacted into the
+   * snapshot when it has reached the compaction threshold of the factory.
+   *
+   * @throws IOException if the changes could not be written
+   */
+  public void flush() throws IOException {
+    synchronized( writeLock ) {
+      String storeId;
+      Map<String, String> changes;
+      Properties snapshot = null;
+      synchronized( this ) {
+        flushScheduled = false;
+        if( pendingChanges.isEmpty() ) {
+          return;
+        }
+        storeId = id;
+        changes = pendingChanges;
+        pendingChanges = new LinkedHashMap<>();
+        if( needsCompaction( changes.size() ) ) {
+          snapshot = new Properties();
+          snapshot.putAll( attributes );
+        }
+      }
+      try {
+        if( snapshot == null ) {
+          appendToJournal( storeId, changes );
+        } else {
+          compact( storeId, snapshot );
+        }
+      } catch( IOException exception ) {
+        restorePendingChanges( changes );
+        throw exception;
+      }
+      synchronized( this ) {
+        journalRecords = snapshot == null ? journalRecords + changes.size() : 0;
+      }
+    }
+  }
+
+  //////////////////
+  // helping methods
+
+  private void addPendingChange( String name, String value ) {
+    // a store is not persisted before it has been loaded
+    if( id != null ) {
+      pendingChanges.remove( name );
+      pendingChanges.put( name, value );
+      scheduleFlush();
+    }
+  }
+
+  private synchronized void restorePendingChanges( Map<String, String> changes ) {
+    // a failed write may have left an incomplete record, the journal must not be appended to
+    journalDamaged = true;
+    Map<String, String> newerChanges = pendingChanges;
+    pendingChanges = changes;
+    for( Entry<String, String> entry : newerChanges.entrySet() ) {
+      pendingChanges.remove( entry.getKey() );
+      pendingChanges.put( entry.getKey(), entry.getValue() );
+    }
+    scheduleFlush();
+  }
+
+  private void scheduleFlush() {
+    if( !flushScheduled ) {
+      flushScheduled = true;
+      factory.scheduleFlush( this );
+    }
+  }
+
+  private boolean needsCompaction( int newRecords ) {
+    int records = journalRecords + newRecords;
+    return    journalDamaged
+           || records >= factory.getCompactionThreshold() && records > attributes.size();
+  }
+
+  private void appendToJournal( String storeId, Map<String, String> changes ) throws IOException {
+    StringBuilder records = new StringBuilder();
+    for( Entry<String, String> entry : changes.entrySet() ) {
+      JournalRecord.append( records, entry.getKey(), entry.getValue() );
+    }
+    // a single write per batch, a crash leaves at most one incomplete record at the end
+    try( OutputStream outputStream = new FileOutputStream( getJournalFile( storeId ), true ) ) {
+      outputStream.write( records.toString().getBytes( UTF_8 ) );
+    }
+  }
+
+  /*
+   * The new snapshot is written to a temporary file, then the journal is deleted and finally the
+   * temporary file replaces the snapshot. As long as the journal exists, the temporary file may be
+   * incomplete and is discarded when the store is loaded. Without a journal, the temporary file is
+   * complete and the compaction is completed when the store is loaded.
+   */
+  private void compact( String storeId, Properties snapshot ) throws IOException {
+    File journalFile = getJournalFile( storeId );
+    journalFile.createNewFile();
+    File tempFile = getTempFile( storeId );
+    try( OutputStream outputStream = new BufferedOutputStream( new FileOutputStream( tempFile ) ) )
+    {
+      snapshot.store( outputStream, FileSettingStore.class.getName() );
+    }
+    Files.delete( journalFile.toPath() );
+    synchronized( this ) {
+      journalDamaged = false;
+    }
+    moveTempFile( storeId );
+  }
+
+  private void completeCompaction() throws IOException {
+    File tempFile = getTempFile( id );
+    if( tempFile.exists() ) {
+      if( getJournalFile( id ).exists() ) {
+        Files.delete( tempFile.toPath() );
+      } else {
+        moveTempFile( id );
+      }
+    }
+  }
+
+  private void moveTempFile( String storeId ) throws IOException {
+    Files.move( getTempFile( storeId ).toPath(),
+                getSnapshotFile( storeId ).toPath(),
+                StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE );
+  }
+
+  private void readSnapshot() throws IOException {
+    File file = getSnapshotFile( id );
+    if( file.exists() ) {
+      Properties properties = new Properties();
+      try( InputStream inputStream = new BufferedInputStream( new FileInputStream( file ) ) ) {
+        properties.load( inputStream );
+      }
+      for( String name : properties.stringPropertyNames() ) {
+        attributes.put( name, properties.getProperty( name ) );
+      }
+    }
+  }
+
+  private void readJournal() throws IOException {
+    File file = getJournalFile( id );
+    if( file.exists() ) {
+      String content = new String( Files.readAllBytes( file.toPath() ), UTF_8 );
+      int records = JournalRecord.replay( content, attributes );
+      journalDamaged = records == -1;
+      journalRecords = Math.max( records, 0 );
+    }
+  }
+
+  private File getSnapshotFile( String storeId ) {
+    return new File( workDir, storeId );
+  }
+
+  private File getJournalFile( String storeId ) {
+    return new File( workDir, storeId + JOURNAL_SUFFIX );
+  }
+
+  private File getTempFile( String storeId ) {
+    return new File( workDir, storeId + TEMP_SUFFIX );
+  }
+
+  private void notifyForEachAttribute( boolean removed ) {
+    for( Entry<String, String> entry : new ArrayList<>( attributes.entrySet() ) ) {
+      if( removed ) {
+        notifyListeners( entry.getKey(), entry.getValue(), null );
+      } else {
+        notifyListeners( entry.getKey(), null, entry.getValue() );
+      }
+    }
+  }
+
+  private void notifyListeners( String attribute, String oldValue, String newValue ) {
+    SettingStoreEvent event = new SettingStoreEvent( this, attribute, oldValue, newValue );
+    for( SettingStoreListener listener : listeners ) {
+      try {
+        listener.settingChanged( event );
+      } catch( Exception exc ) {
+        String msg = "Exception when invoking listener " + listener.getClass().getName();
+        ServletLog.log( msg, exc );
+      } catch( LinkageError le ) {
+        String msg = "Linkage error when invoking listener " + listener.getClass().getName();
+        ServletLog.log( msg, le );
+      }
+    }
+  }
+
+}
@@ -0,0 +1,202 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.service;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.rap.rwt.internal.service.ServletLog;
+import org.eclipse.rap.rwt.internal.util.ParamCheck;
+
+
+/**
+ * A setting store factory that creates instances of {@link JournalingSettingStore}. The stores
+ * append their changes to a journal on a background thread instead of rewriting their file on
+ * every change.
+ * <p>
+ * The stores use the same directory as the stores of the {@link FileSettingStoreFactory}, and
+ * they read the files written by a {@link FileSettingStore}. Changes are written after the flush
+ * delay has elapsed, the journal of a store is compacted when it has reached the compaction
+ * threshold. Pending changes are written when the application is stopped.
+ * </p>
+ *
+ * @since 3.26
+ */
+public final class JournalingSettingStoreFactory implements SettingStoreFactory {
+
+  static final long DEFAULT_FLUSH_DELAY = 500;
+  static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+  private static final long SHUTDOWN_TIMEOUT = 10000;
+
+  private final long flushDelay;
+  private final int compactionThreshold;
+  private final Object lock;
+  private final Set<JournalingSettingStore> scheduledStores;
+  private final File directory;
+  private ScheduledThreadPoolExecutor executor;
+  private File workingDir;
+
+  public JournalingSettingStoreFactory() {
+    this( null, DEFAULT_FLUSH_DELAY, DEFAULT_COMPACTION_THRESHOLD );
+  }
+
+  /**
+   * @param flushDelay the time in milliseconds that changes are collected before they are written
+   * @param compactionThreshold the number of journal records after which the journal is compacted
+   */
+  public JournalingSettingStoreFactory( long flushDelay, int compactionThreshold ) {
+    this( null, flushDelay, compactionThreshold );
+  }
+
+  JournalingSettingStoreFactory( File directory, long flushDelay, int compactionThreshold ) {
+    if( flushDelay < 0 ) {
+      throw new IllegalArgumentException( "flushDelay must not be negative" );
+    }
+    if( compactionThreshold < 1 ) {
+      throw new IllegalArgumentException( "compactionThreshold must be positive" );
+    }
+    this.directory = directory;
+    this.flushDelay = flushDelay;
+    this.compactionThreshold = compactionThreshold;
+    lock = new Object();
+    scheduledStores = new LinkedHashSet<>();
+  }
+
+  @Override
+  public SettingStore createSettingStore( String id ) {
+    ParamCheck.notNullOrEmpty( id, "id" );
+    SettingStore store = new JournalingSettingStore( getWorkingDir(), this );
+    try {
+      store.loadById( id );
+    } catch( IOException exception ) {
+      ServletLog.log( exception.getMessage(), exception );
+    }
+    return store;
+  }
+
+  /**
+   * Writes the pending changes of all stores created by this factory, see {@link #flush()}.
+   */
+  @Override
+  public void shutdown() {
+    flush();
+  }
+
+  /**
+   * Writes the pending changes of all stores created by this factory and stops the background
+   * thread. A write that is in progress on the background thread is completed before this method
+   * returns. The thread is started again when the next change is made.
+   */
+  public void flush() {
+    ScheduledThreadPoolExecutor runningExecutor;
+    synchronized( lock ) {
+      runningExecutor = executor;
+      executor = null;
+    }
+    if( runningExecutor != null ) {
+      // delayed writes are dropped and done below, a write in progress must complete first
+      runningExecutor.shutdown();
+      awaitTermination( runningExecutor );
+    }
+    for( JournalingSettingStore store : getScheduledStores() ) {
+      flush( store );
+    }
+  }
+
+  /**
+   * Writes the pending changes of the stores with the given id, so that they can be loaded by
+   * another store.
+   */
+  void flushStores( String id ) {
+    for( JournalingSettingStore store : getScheduledStores() ) {
+      if( id.equals( store.getId() ) ) {
+        flush( store );
+      }
+    }
+  }
+
+  int getCompactionThreshold() {
+    return compactionThreshold;
+  }
+
+  void scheduleFlush( final JournalingSettingStore store ) {
+    synchronized( lock ) {
+      scheduledStores.add( store );
+      Runnable runnable = new Runnable() {
+        @Override
+        public void run() {
+          flush( store );
+        }
+      };
+      getExecutor().schedule( runnable, flushDelay, TimeUnit.MILLISECONDS );
+    }
+  }
+
+  private void flush( JournalingSettingStore store ) {
+    synchronized( lock ) {
+      scheduledStores.remove( store );
+    }
+    try {
+      store.flush();
+    } catch( IOException | RuntimeException exception ) {
+      ServletLog.log( "Failed to write setting store " + store.getId(), exception );
+    }
+  }
+
+  private static void awaitTermination( ScheduledThreadPoolExecutor executor ) {
+    try {
+      if( !executor.awaitTermination( SHUTDOWN_TIMEOUT, TimeUnit.MILLISECONDS ) ) {
+        ServletLog.log( "Timed out waiting for the setting store writer to complete", null );
+      }
+    } catch( @SuppressWarnings( "unused" ) InterruptedException exception ) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private JournalingSettingStore[] getScheduledStores() {
+    synchronized( lock ) {
+      return scheduledStores.toArray( new JournalingSettingStore[ scheduledStores.size() ] );
+    }
+  }
+
+  private ScheduledThreadPoolExecutor getExecutor() {
+    if( executor == null ) {
+      executor = new ScheduledThreadPoolExecutor( 1, new WriterThreadFactory() );
+      executor.setExecuteExistingDelayedTasksAfterShutdownPolicy( false );
+    }
+    return executor;
+  }
+
+  private synchronized File getWorkingDir() {
+    if( workingDir == null ) {
+      workingDir = directory != null ? directory : FileSettingStoreFactory.selectWorkingDir();
+      FileSettingStoreFactory.createDirectory( workingDir );
+    }
+    return workingDir;
+  }
+
+  private static final class WriterThreadFactory implements ThreadFactory {
+
+    @Override
+    public Thread newThread( Runnable runnable ) {
+      Thread thread = new Thread( runnable, "RAP setting store writer" );
+      thread.setDaemon( true );
+      return thread;
+    }
+
+  }
+
+}
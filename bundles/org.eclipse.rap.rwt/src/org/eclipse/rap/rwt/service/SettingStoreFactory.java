@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2012 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -40,4 +40,14 @@ public interface SettingStoreFactory {
    */
   SettingStore createSettingStore( String id );
 
+  /**
+   * Called by the framework when the application is stopped. Factories whose setting stores write
+   * their changes asynchronously must write all pending changes before this method returns. The
+   * default implementation does nothing.
+   *
+   * @since 3.26
+   */
+  default void shutdown() {
+  }
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2012 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2008, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,46 +11,164 @@
  ******************************************************************************/
 package org.eclipse.swt.internal.graphics;
 
-import java.util.HashMap;
-import java.util.Map;
-
+import org.eclipse.rap.rwt.internal.util.LRUCache;
 import org.eclipse.rap.rwt.internal.util.ParamCheck;
 import org.eclipse.swt.graphics.ImageData;
 
 
 /**
- * Cache for small image data, mainly for decorator images.
+ * Cache for decoded image data. By default, only small image data is cached, mainly for decorator
+ * images, and it is kept forever.
+ * <p>
+ * When the cache is created with a budget, it is bounded by the estimated number of bytes held by
+ * the cached image data. When this budget is exceeded the least recently used image data is
+ * evicted. Image data that is larger than an eighth of the budget is not cached at all.
+ * </p>
+ * <p>
+ * The cache takes ownership of the image data that is put into it, hence the image data must not
+ * be modified afterwards. Every lookup returns a copy that may be modified by the caller.
+ * </p>
  */
-final class ImageDataCache {
+public final class ImageDataCache {
 
-  /** Maximum size of image data that is being cached */
+  /** Maximum size of image data that is being cached when the cache has no budget */
   private static final int MAX_DATA_SIZE = 1024;
+  /** Estimated number of bytes occupied by an ImageData apart from its arrays */
+  private static final int IMAGE_DATA_OVERHEAD = 128;
 
-  private final Map<InternalImage,ImageData> cache;
+  private final LRUCache<InternalImage,Entry> cache;
   private final Object cacheLock;
+  private final boolean bounded;
+  private final long maxEntrySize;
 
   ImageDataCache() {
+    this( false, Long.MAX_VALUE );
+  }
+
+  /**
+   * Creates a cache that is bounded by the given budget in bytes.
+   */
+  ImageDataCache( long maxSize ) {
+    this( true, maxSize );
+  }
+
+  private ImageDataCache( boolean bounded, long maxSize ) {
+    cache = new LRUCache<InternalImage,Entry>( maxSize ) {
+      @Override
+      protected long getWeight( InternalImage internalImage, Entry entry ) {
+        return entry.size;
+      }
+    };
+    this.bounded = bounded;
+    maxEntrySize = maxSize / 8;
     cacheLock = new Object();
-    cache = new HashMap<InternalImage,ImageData>( 25 );
   }
 
   ImageData getImageData( InternalImage internalImage ) {
     ParamCheck.notNull( internalImage, "internalImage" );
-    ImageData cached;
+    Entry entry;
     synchronized( cacheLock ) {
-      cached = cache.get( internalImage );
+      entry = cache.get( internalImage );
     }
-    return cached != null ? ( ImageData )cached.clone() : null;
+    // cached image data is never modified, hence it can be copied outside of the lock
+    return entry != null ? ( ImageData )entry.imageData.clone() : null;
   }
 
-  void putImageData( InternalImage internalImage, ImageData imageData ) {
+  /**
+   * Puts the given image data into the cache unless it exceeds the size limit for a single entry.
+   * Returns <code>true</code> if the cache took ownership of the image data.
+   */
+  boolean putImageData( InternalImage internalImage, ImageData imageData ) {
     ParamCheck.notNull( internalImage, "internalImage" );
     ParamCheck.notNull( imageData, "imageData" );
-    if( imageData.data.length <= MAX_DATA_SIZE ) {
+    long entrySize = estimateSize( imageData );
+    if( bounded ? entrySize <= maxEntrySize : imageData.data.length <= MAX_DATA_SIZE ) {
       synchronized( cacheLock ) {
-        // TODO [rst] Implement replacement strategy (LRU or LFU)
-        cache.put( internalImage, ( ImageData )imageData.clone() );
+        cache.put( internalImage, new Entry( imageData, entrySize ) );
       }
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Returns the number of lookups that found cached image data.
+   */
+  public long getHitCount() {
+    synchronized( cacheLock ) {
+      return cache.getHitCount();
+    }
+  }
+
+  /**
+   * Returns the number of lookups that did not find cached image data.
+   */
+  public long getMissCount() {
+    synchronized( cacheLock ) {
+      return cache.getMissCount();
+    }
+  }
+
+  /**
+   * Returns the number of image data that has been evicted to stay within the budget.
+   */
+  public long getEvictionCount() {
+    synchronized( cacheLock ) {
+      return cache.getEvictionCount();
+    }
+  }
+
+  /**
+   * Returns the estimated number of bytes held by the cached image data.
+   */
+  public long getSize() {
+    synchronized( cacheLock ) {
+      return cache.getWeight();
+    }
+  }
+
+  /**
+   * Returns the budget of the cache in bytes, or <code>-1</code> if the cache has no budget.
+   */
+  public long getMaxSize() {
+    return bounded ? cache.getMaxWeight() : -1;
+  }
+
+  /**
+   * Returns the number of cached image data.
+   */
+  public int getCount() {
+    synchronized( cacheLock ) {
+      return cache.size();
+    }
+  }
+
+  static long estimateSize( ImageData imageData ) {
+    long result = IMAGE_DATA_OVERHEAD;
+    result += length( imageData.data );
+    result += length( imageData.alphaData );
+    result += length( imageData.maskData );
+    if( imageData.palette != null && imageData.palette.colors != null ) {
+      // an RGB object with three int fields
+      result += imageData.palette.colors.length * 24;
+    }
+    return result;
+  }
+
+  private static int length( byte[] array ) {
+    return array == null ? 0 : array.length;
+  }
+
+  private static final class Entry {
+
+    final ImageData imageData;
+    final long size;
+
+    Entry( ImageData imageData, long size ) {
+      this.imageData = imageData;
+      this.size = size;
     }
+
   }
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2012 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,6 +13,7 @@ package org.eclipse.swt.internal.graphics;
 
 import java.io.InputStream;
 
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.util.StreamUtil;
 import org.eclipse.rap.rwt.service.ResourceManager;
 import org.eclipse.swt.graphics.ImageData;
@@ -24,7 +25,8 @@ public class ImageDataFactory {
   
   public ImageDataFactory( ResourceManager resourceManager ) {
     this.resourceManager = resourceManager;
-    this.imageDataCache = new ImageDataCache();
+    int cacheSize = RWTProperties.getImageDataCacheSize( -1 );
+    this.imageDataCache = cacheSize < 0 ? new ImageDataCache() : new ImageDataCache( cacheSize );
   }
 
   public ImageData findImageData( InternalImage internalImage ) {
@@ -35,13 +37,18 @@ public class ImageDataFactory {
     result = imageDataCache.getImageData( internalImage );
     if( result == null ) {
       result = createImageData( internalImage );
-      if( result != null ) {
-        imageDataCache.putImageData( internalImage, result );
+      if( result != null && imageDataCache.putImageData( internalImage, result ) ) {
+        // the cache owns the created image data now, the caller gets its own copy
+        result = ( ImageData )result.clone();
       }
     }
     return result;
   }
 
+  public ImageDataCache getImageDataCache() {
+    return imageDataCache;
+  }
+
   private ImageData createImageData( InternalImage internalImage ) {
     ImageData result = null;
     String imagePath = internalImage.getResourceName();
@@ -0,0 +1,32 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.graphics;
+
+import org.eclipse.swt.graphics.Device;
+import org.eclipse.swt.graphics.Image;
+
+
+/**
+ * Gives the friends of this package, see MANIFEST.MF, access to images that share an existing
+ * internal image.
+ *
+ * @noreference This class is not intended to be referenced by clients.
+ */
+public class ImageUtil {
+
+  public static Image createImage( Device device, InternalImage internalImage ) {
+    return ImageFactory.createImageInstance( device, internalImage );
+  }
+
+  private ImageUtil() {
+    // prevent instance creation
+  }
+}
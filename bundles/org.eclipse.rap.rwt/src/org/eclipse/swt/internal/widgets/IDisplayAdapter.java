@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2013 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,6 +11,7 @@
  ******************************************************************************/
 package org.eclipse.swt.internal.widgets;
 
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.rap.rwt.service.UISession;
 import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.widgets.Control;
@@ -39,4 +40,7 @@ public interface IDisplayAdapter {
   void notifyListeners( int eventType, Event event );
   boolean isListening( int eventType );
 
+  void setDirtyWidgets( DirtyWidgets dirtyWidgets );
+  DirtyWidgets getDirtyWidgets();
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2013 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -42,4 +42,6 @@ public interface ITableAdapter {
 
   int getFixedColumns();
   boolean isFixedColumn( TableColumn column );
+
+  IndexSelection getSelectionSnapshot();
 }
\ No newline at end of file
@@ -0,0 +1,306 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.widgets;
+
+import java.util.Arrays;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.internal.SerializableCompatibility;
+
+
+/**
+ * The selected indices of a list of items, stored as a bitset.
+ * <p>
+ * Checking and changing a single index is O(1), ranges are changed a word of 64 indices at a
+ * time. Only the words up to the highest selected index are kept, so copying and comparing a
+ * selection is proportional to the highest selected index, and an empty selection has no words at
+ * all. Inserting or removing an item shifts the indices of the following items.
+ * </p>
+ * <p>
+ * Selections are equal if the same indices are selected. Equal selections may select different
+ * items if indices have been inserted or deleted in between, which can be detected by comparing
+ * the move count of the selections.
+ * </p>
+ */
+public final class IndexSelection implements SerializableCompatibility {
+
+  private static final long[] EMPTY = new long[ 0 ];
+
+  private long[] words;
+  // number of words up to and including the last word that is not zero
+  private int wordsInUse;
+  private int count;
+  // highest index that has ever been selected, moved along with inserted indices
+  private int highestSelected;
+  // number of inserted and deleted indices up to the highest selected index
+  private int moveCount;
+
+  public IndexSelection() {
+    words = EMPTY;
+    highestSelected = -1;
+  }
+
+  public IndexSelection( IndexSelection selection ) {
+    words = Arrays.copyOf( selection.words, selection.wordsInUse );
+    wordsInUse = selection.wordsInUse;
+    count = selection.count;
+    highestSelected = selection.highestSelected;
+    moveCount = selection.moveCount;
+  }
+
+  /**
+   * Returns the number of selected indices.
+   */
+  public int size() {
+    return count;
+  }
+
+  public boolean isEmpty() {
+    return count == 0;
+  }
+
+  /**
+   * Returns the number of indices that have been inserted or deleted at or below the highest index
+   * that has ever been selected. Indices that are inserted or deleted above do not move any item
+   * that is or has been selected and are not counted.
+   */
+  public int getMoveCount() {
+    return moveCount;
+  }
+
+  public boolean contains( int index ) {
+    checkIndex( index );
+    int wordIndex = index >> 6;
+    return wordIndex < wordsInUse && ( words[ wordIndex ] & ( 1L << index ) ) != 0;
+  }
+
+  /**
+   * Selects the given index. Returns <code>true</code> if it was not selected before.
+   */
+  public boolean add( int index ) {
+    boolean result = !contains( index );
+    if( result ) {
+      int wordIndex = index >> 6;
+      ensureCapacity( wordIndex + 1 );
+      words[ wordIndex ] |= 1L << index;
+      wordsInUse = Math.max( wordsInUse, wordIndex + 1 );
+      highestSelected = Math.max( highestSelected, index );
+      count++;
+    }
+    return result;
+  }
+
+  /**
+   * Deselects the given index. Returns <code>true</code> if it was selected before.
+   */
+  public boolean remove( int index ) {
+    boolean result = contains( index );
+    if( result ) {
+      words[ index >> 6 ] &= ~( 1L << index );
+      count--;
+      trim();
+    }
+    return result;
+  }
+
+  /**
+   * Selects all indices from start to end, inclusive.
+   */
+  public void addRange( int start, int end ) {
+    checkRange( start, end );
+    ensureCapacity( ( end >> 6 ) + 1 );
+    wordsInUse = Math.max( wordsInUse, ( end >> 6 ) + 1 );
+    highestSelected = Math.max( highestSelected, end );
+    changeRange( start, end, true );
+  }
+
+  /**
+   * Deselects all indices from start to end, inclusive.
+   */
+  public void removeRange( int start, int end ) {
+    checkRange( start, end );
+    if( ( start >> 6 ) < wordsInUse ) {
+      changeRange( start, Math.min( end, ( wordsInUse << 6 ) - 1 ), false );
+      trim();
+    }
+  }
+
+  public void clear() {
+    words = EMPTY;
+    wordsInUse = 0;
+    count = 0;
+  }
+
+  /**
+   * Returns the first selected index that is greater than or equal to the given index, or
+   * <code>-1</code> if there is no such index.
+   */
+  public int nextSelected( int index ) {
+    checkIndex( index );
+    int wordIndex = index >> 6;
+    if( wordIndex >= wordsInUse ) {
+      return -1;
+    }
+    long word = words[ wordIndex ] & ( -1L << index );
+    while( word == 0 ) {
+      wordIndex++;
+      if( wordIndex == wordsInUse ) {
+        return -1;
+      }
+      word = words[ wordIndex ];
+    }
+    return ( wordIndex << 6 ) + Long.numberOfTrailingZeros( word );
+  }
+
+  /**
+   * Returns the selected indices in ascending order.
+   */
+  public int[] toArray() {
+    int[] result = new int[ count ];
+    int index = 0;
+    for( int i = nextSelected( 0 ); i != -1; i = nextSelected( i + 1 ) ) {
+      result[ index++ ] = i;
+    }
+    return result;
+  }
+
+  /**
+   * Inserts an unselected index. The selected indices greater than or equal to the given index
+   * are moved up by one.
+   */
+  public void insert( int index ) {
+    checkIndex( index );
+    if( index <= highestSelected ) {
+      moveCount++;
+      highestSelected++;
+    }
+    int wordIndex = index >> 6;
+    if( wordIndex < wordsInUse ) {
+      ensureCapacity( wordsInUse + 1 );
+      for( int i = wordsInUse; i > wordIndex; i-- ) {
+        words[ i ] = ( words[ i ] << 1 ) | ( words[ i - 1 ] >>> 63 );
+      }
+      long word = words[ wordIndex ];
+      long lowerBits = ( 1L << index ) - 1;
+      words[ wordIndex ] = ( word & lowerBits ) | ( ( word & ~lowerBits ) << 1 );
+      if( words[ wordsInUse ] != 0 ) {
+        wordsInUse++;
+      }
+    }
+  }
+
+  /**
+   * Deletes the given index. The selected indices greater than the given index are moved down by
+   * one.
+   */
+  public void delete( int index ) {
+    checkIndex( index );
+    if( index <= highestSelected ) {
+      moveCount++;
+    }
+    int wordIndex = index >> 6;
+    if( wordIndex < wordsInUse ) {
+      if( contains( index ) ) {
+        count--;
+      }
+      long word = words[ wordIndex ];
+      long lowerBits = ( 1L << index ) - 1;
+      words[ wordIndex ] = ( word & lowerBits ) | ( ( word >>> 1 ) & ~lowerBits );
+      for( int i = wordIndex; i < wordsInUse - 1; i++ ) {
+        if( i > wordIndex ) {
+          words[ i ] >>>= 1;
+        }
+        words[ i ] |= words[ i + 1 ] << 63;
+      }
+      if( wordsInUse - 1 > wordIndex ) {
+        words[ wordsInUse - 1 ] >>>= 1;
+      }
+      trim();
+    }
+  }
+
+  @Override
+  public boolean equals( Object object ) {
+    if( object == this ) {
+      return true;
+    }
+    if( !( object instanceof IndexSelection ) ) {
+      return false;
+    }
+    IndexSelection other = ( IndexSelection )object;
+    if( count != other.count || wordsInUse != other.wordsInUse ) {
+      return false;
+    }
+    for( int i = 0; i < wordsInUse; i++ ) {
+      if( words[ i ] != other.words[ i ] ) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    int result = 0;
+    for( int i = 0; i < wordsInUse; i++ ) {
+      long word = words[ i ];
+      result = 31 * result + ( int )( word ^ ( word >>> 32 ) );
+    }
+    return result;
+  }
+
+  private void changeRange( int start, int end, boolean selected ) {
+    int startWord = start >> 6;
+    int endWord = end >> 6;
+    for( int i = startWord; i <= endWord; i++ ) {
+      long mask = -1L;
+      if( i == startWord ) {
+        mask &= -1L << start;
+      }
+      if( i == endWord ) {
+        mask &= -1L >>> ( 63 - ( end & 63 ) );
+      }
+      long word = words[ i ];
+      long newWord = selected ? word | mask : word & ~mask;
+      count += Long.bitCount( newWord ) - Long.bitCount( word );
+      words[ i ] = newWord;
+    }
+  }
+
+  private void trim() {
+    while( wordsInUse > 0 && words[ wordsInUse - 1 ] == 0 ) {
+      wordsInUse--;
+    }
+    if( wordsInUse == 0 ) {
+      words = EMPTY;
+    }
+  }
+
+  private void ensureCapacity( int capacity ) {
+    if( capacity > words.length ) {
+      int length = Math.max( capacity, words.length * 2 );
+      words = Arrays.copyOf( words, length );
+    }
+  }
+
+  private static void checkIndex( int index ) {
+    if( index < 0 ) {
+      SWT.error( SWT.ERROR_INVALID_RANGE );
+    }
+  }
+
+  private static void checkRange( int start, int end ) {
+    if( start < 0 || end < start ) {
+      SWT.error( SWT.ERROR_INVALID_RANGE );
+    }
+  }
+
+}
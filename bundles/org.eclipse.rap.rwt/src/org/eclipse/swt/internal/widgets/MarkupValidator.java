@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2018 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -21,6 +21,7 @@ import javax.xml.parsers.SAXParser;
 import javax.xml.parsers.SAXParserFactory;
 
 import org.eclipse.rap.rwt.SingletonUtil;
+import org.eclipse.rap.rwt.internal.service.ContextProvider;
 import org.eclipse.swt.internal.SerializableCompatibility;
 import org.eclipse.swt.widgets.Widget;
 import org.xml.sax.Attributes;
@@ -36,17 +37,36 @@ public class MarkupValidator implements SerializableCompatibility {
 
   private static final String DTD = createDTD();
   private static final Map<String, String[]> SUPPORTED_ELEMENTS = createSupportedElementsMap();
-  private transient final SAXParser saxParser;
+  private static final String[] ELEMENT_NAMES = createElementNames();
+  private static final String[] ENTITY_NAMES = {
+    "quot", "amp", "apos", "lt", "gt", "nbsp", "ensp", "emsp", "ndash", "mdash"
+  };
+  // created on demand, most markup is validated by the MarkupScanner
+  private transient SAXParser saxParser;
 
   public static MarkupValidator getInstance() {
     return SingletonUtil.getSessionInstance( MarkupValidator.class );
   }
 
-  public MarkupValidator() {
-    saxParser = createSAXParser();
+  public void validate( String text ) {
+    if( !MarkupScanner.accepts( String.valueOf( text ) ) ) {
+      ValidatedMarkupCache cache = getCache();
+      if( cache == null || !cache.contains( text ) ) {
+        parse( text );
+        if( cache != null ) {
+          cache.add( text );
+        }
+      }
+    }
   }
 
-  public void validate( String text ) {
+  /*
+   * Validates the given text using the SAX parser only.
+   */
+  void parse( String text ) {
+    if( saxParser == null ) {
+      saxParser = createSAXParser();
+    }
     StringBuilder markup = new StringBuilder();
     markup.append( DTD );
     markup.append( "<html>" );
@@ -66,6 +86,14 @@ public class MarkupValidator implements SerializableCompatibility {
     return Boolean.TRUE.equals( widget.getData( MARKUP_VALIDATION_DISABLED ) );
   }
 
+  static boolean isAcceptedByScanner( String text ) {
+    return MarkupScanner.accepts( text );
+  }
+
+  private static ValidatedMarkupCache getCache() {
+    return ContextProvider.hasContext() ? ValidatedMarkupCache.getInstance() : null;
+  }
+
   private static SAXParser createSAXParser() {
     SAXParser result = null;
     SAXParserFactory parserFactory = SAXParserFactory.newInstance();
@@ -123,6 +151,309 @@ public class MarkupValidator implements SerializableCompatibility {
     return result;
   }
 
+  private static String[] createElementNames() {
+    return SUPPORTED_ELEMENTS.keySet().toArray( new String[ SUPPORTED_ELEMENTS.size() ] );
+  }
+
+  /*
+   * Single pass scanner for the common subset of valid markup: text, character and entity
+   * references and the supported elements with their supported attributes. The scanner rejects
+   * everything else, including comments, CDATA sections and processing instructions. Rejected
+   * markup is validated by the SAX parser, which also reports the errors, hence the scanner must
+   * only accept markup that is accepted by the SAX parser as well.
+   */
+  private static final class MarkupScanner {
+
+    private static final int MAX_REFERENCE_LENGTH = 10;
+
+    private final String text;
+    private final int length;
+    private int position;
+    private String[] openElements;
+    private int depth;
+
+    static boolean accepts( String text ) {
+      return new MarkupScanner( text ).scan();
+    }
+
+    private MarkupScanner( String text ) {
+      this.text = text;
+      length = text.length();
+      openElements = new String[ 8 ];
+    }
+
+    private boolean scan() {
+      while( position < length ) {
+        char ch = text.charAt( position );
+        boolean accepted;
+        if( ch == '<' ) {
+          accepted = position + 1 < length && text.charAt( position + 1 ) == '/'
+                   ? scanEndTag()
+                   : scanStartTag();
+        } else if( ch == '&' ) {
+          accepted = scanReference();
+        } else if( ch == ']' && text.startsWith( "]]>", position ) ) {
+          accepted = false;
+        } else {
+          accepted = scanChar();
+        }
+        if( !accepted ) {
+          return false;
+        }
+      }
+      return depth == 0;
+    }
+
+    private boolean scanStartTag() {
+      position++;
+      int elementIndex = scanName( ELEMENT_NAMES );
+      if( elementIndex == -1 ) {
+        return false;
+      }
+      String element = ELEMENT_NAMES[ elementIndex ];
+      String[] attributes = SUPPORTED_ELEMENTS.get( element );
+      boolean image = "img".equals( element );
+      int scannedAttributes = 0;
+      while( true ) {
+        boolean whitespace = skipWhitespace();
+        if( position >= length ) {
+          return false;
+        }
+        char ch = text.charAt( position );
+        if( ch == '>' ) {
+          position++;
+          push( element );
+          break;
+        }
+        if( ch == '/' ) {
+          if( position + 1 >= length || text.charAt( position + 1 ) != '>' ) {
+            return false;
+          }
+          position += 2;
+          break;
+        }
+        int index = whitespace ? scanName( attributes ) : -1;
+        if( index == -1 || ( scannedAttributes & ( 1 << index ) ) != 0 ) {
+          return false;
+        }
+        scannedAttributes |= 1 << index;
+        String attribute = attributes[ index ];
+        boolean integer = image && ( "width".equals( attribute ) || "height".equals( attribute ) );
+        if( !scanAttributeValue( integer ) ) {
+          return false;
+        }
+      }
+      return !image || hasIntegerAttributes( attributes, scannedAttributes );
+    }
+
+    private boolean scanAttributeValue( boolean integer ) {
+      skipWhitespace();
+      if( position >= length || text.charAt( position ) != '=' ) {
+        return false;
+      }
+      position++;
+      skipWhitespace();
+      if( position >= length ) {
+        return false;
+      }
+      char quote = text.charAt( position );
+      if( quote != '"' && quote != '\'' ) {
+        return false;
+      }
+      position++;
+      int start = position;
+      // references and whitespace would be normalized by the parser
+      boolean normalized = false;
+      while( true ) {
+        if( position >= length ) {
+          return false;
+        }
+        char ch = text.charAt( position );
+        boolean accepted;
+        if( ch == quote ) {
+          break;
+        } else if( ch == '<' ) {
+          accepted = false;
+        } else if( ch == '&' ) {
+          normalized = true;
+          accepted = scanReference();
+        } else {
+          normalized |= ch == '\t' || ch == '\n' || ch == '\r';
+          accepted = scanChar();
+        }
+        if( !accepted ) {
+          return false;
+        }
+      }
+      position++;
+      return !integer || !normalized && isInteger( text.substring( start, position - 1 ) );
+    }
+
+    private boolean scanEndTag() {
+      position += 2;
+      int start = position;
+      boolean delimited = skipLetters();
+      String element = depth > 0 ? openElements[ depth - 1 ] : null;
+      if( !delimited || element == null || !matches( element, start, position ) ) {
+        return false;
+      }
+      skipWhitespace();
+      if( position >= length || text.charAt( position ) != '>' ) {
+        return false;
+      }
+      position++;
+      depth--;
+      return true;
+    }
+
+    private boolean scanReference() {
+      int end = text.indexOf( ';', position + 1 );
+      if( end == -1 || end - position > MAX_REFERENCE_LENGTH ) {
+        return false;
+      }
+      boolean accepted;
+      if( text.charAt( position + 1 ) == '#' ) {
+        accepted = isXmlChar( parseCharReference( position + 2, end ) );
+      } else {
+        accepted = indexOf( ENTITY_NAMES, position + 1, end ) != -1;
+      }
+      position = end + 1;
+      return accepted;
+    }
+
+    private int parseCharReference( int start, int end ) {
+      int radix = 10;
+      int index = start;
+      if( index < end && text.charAt( index ) == 'x' ) {
+        radix = 16;
+        index++;
+      }
+      if( index == end ) {
+        return -1;
+      }
+      int result = 0;
+      for( ; index < end; index++ ) {
+        int digit = toDigit( text.charAt( index ), radix );
+        if( digit == -1 ) {
+          return -1;
+        }
+        result = result * radix + digit;
+      }
+      return result;
+    }
+
+    private boolean scanChar() {
+      char ch = text.charAt( position );
+      if(    Character.isHighSurrogate( ch )
+          && position + 1 < length
+          && Character.isLowSurrogate( text.charAt( position + 1 ) ) )
+      {
+        position += 2;
+        return true;
+      }
+      position++;
+      return isXmlChar( ch );
+    }
+
+    /*
+     * Scans a name that consists of ASCII letters and returns the index of the matching candidate,
+     * or -1 if the name does not match any candidate.
+     */
+    private int scanName( String[] candidates ) {
+      int start = position;
+      return skipLetters() ? indexOf( candidates, start, position ) : -1;
+    }
+
+    /*
+     * Skips ASCII letters, returns false if they are not followed by a delimiter.
+     */
+    private boolean skipLetters() {
+      while( position < length && isAsciiLetter( text.charAt( position ) ) ) {
+        position++;
+      }
+      return position == length || isDelimiter( text.charAt( position ) );
+    }
+
+    private int indexOf( String[] candidates, int start, int end ) {
+      for( int i = 0; i < candidates.length; i++ ) {
+        if( matches( candidates[ i ], start, end ) ) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    private boolean matches( String name, int start, int end ) {
+      return name.length() == end - start && text.regionMatches( start, name, 0, end - start );
+    }
+
+    private boolean skipWhitespace() {
+      int start = position;
+      while( position < length && isWhitespace( text.charAt( position ) ) ) {
+        position++;
+      }
+      return position > start;
+    }
+
+    private void push( String element ) {
+      if( depth == openElements.length ) {
+        openElements = Arrays.copyOf( openElements, depth * 2 );
+      }
+      openElements[ depth++ ] = element;
+    }
+
+    private static boolean hasIntegerAttributes( String[] attributes, int scannedAttributes ) {
+      List<String> attributeList = Arrays.asList( attributes );
+      int width = 1 << attributeList.indexOf( "width" );
+      int height = 1 << attributeList.indexOf( "height" );
+      return ( scannedAttributes & width ) != 0 && ( scannedAttributes & height ) != 0;
+    }
+
+    private static boolean isInteger( String value ) {
+      try {
+        Integer.parseInt( value );
+        return true;
+      } catch( @SuppressWarnings( "unused" ) NumberFormatException exception ) {
+        return false;
+      }
+    }
+
+    private static boolean isXmlChar( int ch ) {
+      return    ch == 0x9
+             || ch == 0xA
+             || ch == 0xD
+             || ch >= 0x20 && ch <= 0xD7FF
+             || ch >= 0xE000 && ch <= 0xFFFD
+             || ch >= 0x10000 && ch <= 0x10FFFF;
+    }
+
+    private static int toDigit( char ch, int radix ) {
+      if( ch >= '0' && ch <= '9' ) {
+        return ch - '0';
+      }
+      if( radix == 16 && ch >= 'a' && ch <= 'f' ) {
+        return ch - 'a' + 10;
+      }
+      if( radix == 16 && ch >= 'A' && ch <= 'F' ) {
+        return ch - 'A' + 10;
+      }
+      return -1;
+    }
+
+    private static boolean isAsciiLetter( char ch ) {
+      return ch >= 'a' && ch <= 'z' || ch >= 'A' && ch <= 'Z';
+    }
+
+    private static boolean isDelimiter( char ch ) {
+      return isWhitespace( ch ) || ch == '>' || ch == '/' || ch == '=';
+    }
+
+    private static boolean isWhitespace( char ch ) {
+      return ch == ' ' || ch == '\t' || ch == '\n' || ch == '\r';
+    }
+
+  }
+
   private static class MarkupHandler extends DefaultHandler {
 
     @Override
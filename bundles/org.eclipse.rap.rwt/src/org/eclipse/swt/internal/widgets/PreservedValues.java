@@ -0,0 +1,177 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.widgets;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+/**
+ * The values of a widget that are preserved during a request, by the slot of their property.
+ * <p>
+ * Every property name is assigned a slot once, LCAs can obtain the slots of their properties up
+ * front using {@link #getSlot(String)}. The values are kept in parallel arrays that are reused
+ * from request to request, int and boolean values are stored without boxing them. A widget
+ * preserves only a few properties, hence a slot is looked up by a linear search.
+ * </p>
+ */
+public final class PreservedValues {
+
+  private static final Map<String, Integer> SLOTS = new ConcurrentHashMap<>();
+  private static volatile String[] properties = new String[ 0 ];
+
+  private static final byte OBJECT = 0;
+  private static final byte INT = 1;
+  private static final byte BOOLEAN = 2;
+  private static final int INITIAL_CAPACITY = 8;
+
+  private int[] slots;
+  private byte[] kinds;
+  private int[] primitives;
+  private Object[] objects;
+  private int size;
+
+  /**
+   * Returns the slot of the given property, a new slot is assigned to a property that has not
+   * been used before.
+   */
+  public static int getSlot( String property ) {
+    Integer slot = SLOTS.get( property );
+    return slot == null ? addSlot( property ) : slot.intValue();
+  }
+
+  /**
+   * Returns the name of the property that the given slot is assigned to.
+   */
+  public static String getProperty( int slot ) {
+    return properties[ slot ];
+  }
+
+  private static synchronized int addSlot( String property ) {
+    Integer slot = SLOTS.get( property );
+    if( slot == null ) {
+      String[] newProperties = Arrays.copyOf( properties, properties.length + 1 );
+      newProperties[ properties.length ] = property;
+      slot = Integer.valueOf( properties.length );
+      properties = newProperties;
+      SLOTS.put( property, slot );
+    }
+    return slot.intValue();
+  }
+
+  public void put( int slot, Object value ) {
+    if( value instanceof Integer ) {
+      putInt( slot, ( ( Integer )value ).intValue() );
+    } else if( value instanceof Boolean ) {
+      putBoolean( slot, ( ( Boolean )value ).booleanValue() );
+    } else {
+      int index = prepare( slot, OBJECT );
+      objects[ index ] = value;
+    }
+  }
+
+  public void putInt( int slot, int value ) {
+    int index = prepare( slot, INT );
+    primitives[ index ] = value;
+    objects[ index ] = null;
+  }
+
+  public void putBoolean( int slot, boolean value ) {
+    int index = prepare( slot, BOOLEAN );
+    primitives[ index ] = value ? 1 : 0;
+    objects[ index ] = null;
+  }
+
+  public boolean contains( int slot ) {
+    return indexOf( slot ) != -1;
+  }
+
+  /**
+   * Returns the value of the given slot, int and boolean values are boxed. Returns
+   * <code>null</code> if no value has been preserved for the slot.
+   */
+  public Object get( int slot ) {
+    int index = indexOf( slot );
+    if( index == -1 ) {
+      return null;
+    }
+    switch( kinds[ index ] ) {
+      case INT:
+        return Integer.valueOf( primitives[ index ] );
+      case BOOLEAN:
+        return Boolean.valueOf( primitives[ index ] != 0 );
+      default:
+        return objects[ index ];
+    }
+  }
+
+  /**
+   * Returns <code>true</code> if the given int value has been preserved for the slot.
+   */
+  public boolean containsInt( int slot, int value ) {
+    int index = indexOf( slot );
+    return index != -1 && kinds[ index ] == INT && primitives[ index ] == value;
+  }
+
+  /**
+   * Returns <code>true</code> if the given boolean value has been preserved for the slot.
+   */
+  public boolean containsBoolean( int slot, boolean value ) {
+    int index = indexOf( slot );
+    return    index != -1
+           && kinds[ index ] == BOOLEAN
+           && primitives[ index ] == ( value ? 1 : 0 );
+  }
+
+  public void clear() {
+    if( objects != null ) {
+      Arrays.fill( objects, 0, size, null );
+    }
+    size = 0;
+  }
+
+  private int indexOf( int slot ) {
+    for( int i = 0; i < size; i++ ) {
+      if( slots[ i ] == slot ) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private int prepare( int slot, byte kind ) {
+    int index = indexOf( slot );
+    if( index == -1 ) {
+      ensureCapacity();
+      index = size++;
+      slots[ index ] = slot;
+    }
+    kinds[ index ] = kind;
+    return index;
+  }
+
+  private void ensureCapacity() {
+    if( slots == null ) {
+      slots = new int[ INITIAL_CAPACITY ];
+      kinds = new byte[ INITIAL_CAPACITY ];
+      primitives = new int[ INITIAL_CAPACITY ];
+      objects = new Object[ INITIAL_CAPACITY ];
+    } else if( size == slots.length ) {
+      int capacity = size * 2;
+      slots = Arrays.copyOf( slots, capacity );
+      kinds = Arrays.copyOf( kinds, capacity );
+      primitives = Arrays.copyOf( primitives, capacity );
+      objects = Arrays.copyOf( objects, capacity );
+    }
+  }
+
+}
@@ -0,0 +1,223 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.widgets;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.internal.SerializableCompatibility;
+
+
+/**
+ * Keeps the number of rows that each item of a list occupies, e.g. an expanded tree item with all
+ * of its visible descendants, and answers prefix sums over these counts in O(log n).
+ * <p>
+ * The counts are stored in a binary indexed (Fenwick) tree. Changing a count and appending or
+ * removing the last count are O(log n). Inserting or removing in the middle of the list shifts
+ * the following counts, the tree is then rebuilt in O(n) on the next query.
+ * </p>
+ */
+public final class RowCountIndex implements SerializableCompatibility {
+
+  private static final int[] EMPTY = new int[ 0 ];
+
+  private int[] counts;
+  private int size;
+  private int total;
+  // one-based fenwick tree over counts, null when it has to be rebuilt
+  private transient int[] tree;
+
+  public RowCountIndex() {
+    counts = EMPTY;
+  }
+
+  /**
+   * Returns the number of items.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns the sum of the row counts of all items.
+   */
+  public int getTotal() {
+    return total;
+  }
+
+  public int get( int index ) {
+    checkIndex( index );
+    return counts[ index ];
+  }
+
+  /**
+   * Sets the row count of the item at the given index and returns the difference to the previous
+   * count.
+   */
+  public int set( int index, int count ) {
+    checkIndex( index );
+    int delta = count - counts[ index ];
+    add( index, delta );
+    return delta;
+  }
+
+  /**
+   * Adds the given delta to the row count of the item at the given index.
+   */
+  public void add( int index, int delta ) {
+    checkIndex( index );
+    if( delta != 0 ) {
+      counts[ index ] += delta;
+      total += delta;
+      if( tree != null ) {
+        for( int i = index + 1; i <= size; i += i & -i ) {
+          tree[ i ] += delta;
+        }
+      }
+    }
+  }
+
+  /**
+   * Inserts an item with the given row count at the given index.
+   */
+  public void insert( int index, int count ) {
+    if( index < 0 || index > size ) {
+      SWT.error( SWT.ERROR_INVALID_RANGE );
+    }
+    ensureCapacity( size + 1 );
+    System.arraycopy( counts, index, counts, index + 1, size - index );
+    counts[ index ] = count;
+    size++;
+    total += count;
+    if( tree != null ) {
+      if( index == size - 1 ) {
+        // the node of an appended item covers the items (size - lowestBit( size ), size]
+        tree[ size ] = count + sumBefore( size - 1 ) - sumBefore( size - ( size & -size ) );
+      } else {
+        tree = null;
+      }
+    }
+  }
+
+  /**
+   * Removes the item at the given index and returns its row count.
+   */
+  public int remove( int index ) {
+    checkIndex( index );
+    int result = counts[ index ];
+    System.arraycopy( counts, index + 1, counts, index, size - index - 1 );
+    size--;
+    counts[ size ] = 0;
+    total -= result;
+    if( index != size ) {
+      tree = null;
+    }
+    return result;
+  }
+
+  /**
+   * Changes the number of items. Added items get the given row count. Returns the difference of
+   * the total row count.
+   */
+  public int setSize( int newSize, int count ) {
+    if( newSize < 0 ) {
+      SWT.error( SWT.ERROR_INVALID_RANGE );
+    }
+    int oldTotal = total;
+    if( newSize < size ) {
+      for( int i = newSize; i < size; i++ ) {
+        total -= counts[ i ];
+        counts[ i ] = 0;
+      }
+      // the nodes up to the new size only cover the remaining items
+      size = newSize;
+    } else if( newSize > size ) {
+      ensureCapacity( newSize );
+      for( int i = size; i < newSize; i++ ) {
+        counts[ i ] = count;
+      }
+      total += ( newSize - size ) * count;
+      size = newSize;
+      tree = null;
+    }
+    return total - oldTotal;
+  }
+
+  /**
+   * Returns the sum of the row counts of all items before the given index.
+   */
+  public int sumBefore( int index ) {
+    if( index < 0 || index > size ) {
+      SWT.error( SWT.ERROR_INVALID_RANGE );
+    }
+    int[] tree = getTree();
+    int result = 0;
+    for( int i = index; i > 0; i -= i & -i ) {
+      result += tree[ i ];
+    }
+    return result;
+  }
+
+  /**
+   * Returns the index of the item that occupies the given row, or <code>-1</code> if the row is
+   * not within the total row count.
+   */
+  public int indexOf( int row ) {
+    if( row < 0 || row >= total ) {
+      return -1;
+    }
+    int[] tree = getTree();
+    int position = 0;
+    int remaining = row;
+    for( int step = Integer.highestOneBit( size ); step > 0; step >>= 1 ) {
+      int next = position + step;
+      if( next <= size && tree[ next ] <= remaining ) {
+        position = next;
+        remaining -= tree[ next ];
+      }
+    }
+    return position;
+  }
+
+  private int[] getTree() {
+    if( tree == null ) {
+      int[] newTree = new int[ counts.length + 1 ];
+      for( int i = 1; i <= size; i++ ) {
+        newTree[ i ] += counts[ i - 1 ];
+        int parent = i + ( i & -i );
+        if( parent <= size ) {
+          newTree[ parent ] += newTree[ i ];
+        }
+      }
+      tree = newTree;
+    }
+    return tree;
+  }
+
+  private void ensureCapacity( int capacity ) {
+    if( capacity > counts.length ) {
+      int length = Math.max( capacity, Math.max( 4, counts.length * 3 / 2 ) );
+      int[] newCounts = new int[ length ];
+      System.arraycopy( counts, 0, newCounts, 0, size );
+      counts = newCounts;
+      if( tree != null ) {
+        int[] newTree = new int[ length + 1 ];
+        System.arraycopy( tree, 0, newTree, 0, size + 1 );
+        tree = newTree;
+      }
+    }
+  }
+
+  private void checkIndex( int index ) {
+    if( index < 0 || index >= size ) {
+      SWT.error( SWT.ERROR_INVALID_RANGE );
+    }
+  }
+
+}
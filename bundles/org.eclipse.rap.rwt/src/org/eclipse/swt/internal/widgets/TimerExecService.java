@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.widgets;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.rap.rwt.internal.service.ServletLog;
+import org.eclipse.rap.rwt.internal.util.ParamCheck;
+
+
+/**
+ * Executes the runnables scheduled with <code>Display.timerExec()</code> for all sessions of an
+ * application on a single thread. The thread is started when the first runnable is scheduled.
+ * <p>
+ * The runnables must not block, they are expected to hand over the actual work to the UI thread
+ * of their session. Cancelled runnables are removed from the queue immediately.
+ * </p>
+ */
+public class TimerExecService {
+
+  private final Object lock;
+  private ScheduledThreadPoolExecutor executor;
+
+  public TimerExecService() {
+    lock = new Object();
+  }
+
+  /**
+   * Schedules the given runnable to be executed after the given delay. The returned future can
+   * be used to cancel the execution.
+   */
+  public Future<?> schedule( Runnable runnable, long delay ) {
+    ParamCheck.notNull( runnable, "runnable" );
+    return getExecutor().schedule( new LoggingRunnable( runnable ),
+                                   Math.max( 0, delay ),
+                                   TimeUnit.MILLISECONDS );
+  }
+
+  /**
+   * Returns the number of runnables that are currently scheduled.
+   */
+  public int getScheduledCount() {
+    synchronized( lock ) {
+      return executor == null ? 0 : executor.getQueue().size();
+    }
+  }
+
+  /**
+   * Discards all scheduled runnables and stops the thread. The service can still be used
+   * afterwards, a new thread is started when the next runnable is scheduled.
+   */
+  public void deactivate() {
+    synchronized( lock ) {
+      if( executor != null ) {
+        executor.shutdownNow();
+        executor = null;
+      }
+    }
+  }
+
+  private ScheduledThreadPoolExecutor getExecutor() {
+    synchronized( lock ) {
+      if( executor == null ) {
+        executor = new ScheduledThreadPoolExecutor( 1, new TimerExecThreadFactory() );
+        executor.setRemoveOnCancelPolicy( true );
+        executor.setExecuteExistingDelayedTasksAfterShutdownPolicy( false );
+      }
+      return executor;
+    }
+  }
+
+  private static final class LoggingRunnable implements Runnable {
+
+    private final Runnable runnable;
+
+    LoggingRunnable( Runnable runnable ) {
+      this.runnable = runnable;
+    }
+
+    @Override
+    public void run() {
+      // an exception would be silently stored in the future that nobody looks at
+      try {
+        runnable.run();
+      } catch( RuntimeException exception ) {
+        ServletLog.log( "Failed to execute timerExec runnable", exception );
+      }
+    }
+
+  }
+
+  private static final class TimerExecThreadFactory implements ThreadFactory {
+
+    @Override
+    public Thread newThread( Runnable runnable ) {
+      Thread thread = new Thread( runnable, "RWT timerExec scheduler" );
+      thread.setDaemon( true );
+      return thread;
+    }
+
+  }
+
+}
@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.widgets;
+
+import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.SingletonUtil;
+import org.eclipse.rap.rwt.internal.util.LRUCache;
+
+
+/**
+ * Application wide cache of markup texts that have been validated by the SAX parser of the
+ * {@link MarkupValidator}. The cache is bounded by the number of characters of the cached texts,
+ * when this budget is exceeded the least recently used text is evicted. Texts that are longer than
+ * an eighth of the budget are not cached at all.
+ */
+public final class ValidatedMarkupCache {
+
+  /** Default budget of the cache in characters */
+  static final int DEFAULT_MAX_SIZE = 512 * 1024;
+
+  private final LRUCache<String, Boolean> cache;
+  private final long maxEntrySize;
+
+  public static ValidatedMarkupCache getInstance() {
+    return SingletonUtil.getUniqueInstance( ValidatedMarkupCache.class,
+                                            RWT.getApplicationContext() );
+  }
+
+  private ValidatedMarkupCache() {
+    this( DEFAULT_MAX_SIZE );
+  }
+
+  ValidatedMarkupCache( long maxSize ) {
+    cache = new LRUCache<String, Boolean>( maxSize ) {
+      @Override
+      protected long getWeight( String markup, Boolean value ) {
+        return markup.length();
+      }
+    };
+    maxEntrySize = maxSize / 8;
+  }
+
+  synchronized boolean contains( String markup ) {
+    return cache.get( markup ) != null;
+  }
+
+  synchronized void add( String markup ) {
+    if( markup.length() <= maxEntrySize ) {
+      cache.put( markup, Boolean.TRUE );
+    }
+  }
+
+  /**
+   * Returns the number of lookups that found a validated text.
+   */
+  public synchronized long getHitCount() {
+    return cache.getHitCount();
+  }
+
+  /**
+   * Returns the number of lookups that did not find a validated text.
+   */
+  public synchronized long getMissCount() {
+    return cache.getMissCount();
+  }
+
+  /**
+   * Returns the number of texts that have been evicted to stay within the budget.
+   */
+  public synchronized long getEvictionCount() {
+    return cache.getEvictionCount();
+  }
+
+  /**
+   * Returns the number of characters of the cached texts.
+   */
+  public synchronized long getSize() {
+    return cache.getWeight();
+  }
+
+  public long getMaxSize() {
+    return cache.getMaxWeight();
+  }
+
+  /**
+   * Returns the number of cached texts.
+   */
+  public synchronized int getCount() {
+    return cache.size();
+  }
+
+}
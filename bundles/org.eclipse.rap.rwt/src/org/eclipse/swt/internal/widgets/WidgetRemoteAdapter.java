@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,9 +11,6 @@
  ******************************************************************************/
 package org.eclipse.swt.internal.widgets;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import org.eclipse.rap.rwt.internal.lifecycle.DisposedWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.RemoteAdapter;
 import org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory;
@@ -33,7 +30,7 @@ public class WidgetRemoteAdapter implements RemoteAdapter, SerializableCompatibi
   private Widget parent;
   private boolean initialized;
   private transient int preserved;
-  private transient Map<String, Object> preservedValues;
+  private transient PreservedValues preservedValues;
   private transient long preservedListeners;
   private transient Runnable[] renderRunnables;
   private transient Object[] data;
@@ -45,7 +42,7 @@ public class WidgetRemoteAdapter implements RemoteAdapter, SerializableCompatibi
   }
 
   void initialize() {
-    preservedValues = new HashMap<>();
+    preservedValues = new PreservedValues();
   }
 
   @Override
@@ -73,12 +70,36 @@ public class WidgetRemoteAdapter implements RemoteAdapter, SerializableCompatibi
 
   @Override
   public void preserve( String propertyName, Object value ) {
-    preservedValues.put( propertyName, value );
+    preservedValues.put( PreservedValues.getSlot( propertyName ), value );
   }
 
   @Override
   public Object getPreserved( String propertyName ) {
-    return preservedValues.get( propertyName );
+    return preservedValues.get( PreservedValues.getSlot( propertyName ) );
+  }
+
+  public void preserve( int slot, Object value ) {
+    preservedValues.put( slot, value );
+  }
+
+  public void preserve( int slot, int value ) {
+    preservedValues.putInt( slot, value );
+  }
+
+  public void preserve( int slot, boolean value ) {
+    preservedValues.putBoolean( slot, value );
+  }
+
+  public Object getPreserved( int slot ) {
+    return preservedValues.get( slot );
+  }
+
+  public boolean isPreserved( int slot, int value ) {
+    return preservedValues.containsInt( slot, value );
+  }
+
+  public boolean isPreserved( int slot, boolean value ) {
+    return preservedValues.containsBoolean( slot, value );
   }
 
   public void preserveListeners( long eventList ) {
@@ -33,6 +33,7 @@ import org.eclipse.rap.rwt.Adaptable;
 import org.eclipse.rap.rwt.application.ExceptionHandler;
 import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
 import org.eclipse.rap.rwt.internal.lifecycle.CurrentPhase;
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.IUIThreadHolder;
 import org.eclipse.rap.rwt.internal.lifecycle.LifeCycle;
 import org.eclipse.rap.rwt.internal.lifecycle.LifeCycleUtil;
@@ -229,6 +230,7 @@ public class Display extends Device implements Adaptable {
   private final Point cursorLocation;
   private Shell activeShell;
   private Collection<Control> redrawControls;
+  private transient DirtyWidgets dirtyWidgets;
   private Control focusControl;
   private EventTable filterTable;
   private EventTable eventTable;
@@ -1318,6 +1320,12 @@ public class Display extends Device implements Adaptable {
     }
   }
 
+  void markDirty( Widget widget ) {
+    if( dirtyWidgets != null ) {
+      dirtyWidgets.markDirty( widget );
+    }
+  }
+
   boolean needsRedraw( Control control ) {
     return redrawControls != null && redrawControls.contains( control );
   }
@@ -1328,6 +1336,7 @@ public class Display extends Device implements Adaptable {
       Iterator<Control> iterator = redrawControls.iterator();
       if( iterator.hasNext() ) {
         Control control = iterator.next();
+        markDirty( control );
         WidgetUtil.getLCA( control ).doRedrawFake( control );
         redrawControls.remove( control );
         result = true;
@@ -2476,6 +2485,16 @@ public class Display extends Device implements Adaptable {
       return Display.this.isListening( eventType );
     }
 
+    @Override
+    public void setDirtyWidgets( DirtyWidgets dirtyWidgets ) {
+      Display.this.dirtyWidgets = dirtyWidgets;
+    }
+
+    @Override
+    public DirtyWidgets getDirtyWidgets() {
+      return dirtyWidgets;
+    }
+
   }
 
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,6 +11,10 @@
  *******************************************************************************/
 package org.eclipse.swt.widgets;
 
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.eclipse.rap.rwt.RWT;
 import org.eclipse.rap.rwt.internal.serverpush.ServerPushManager;
 import org.eclipse.rap.rwt.internal.util.SerializableLock;
@@ -44,14 +48,18 @@ import org.eclipse.swt.internal.SerializableCompatibility;
 public class Synchronizer implements SerializableCompatibility {
 
   Display display;
-  int messageCount;
-  RunnableLock [] messages;
+// RAP Replaced array based queue with a lock-free queue. Background threads that post many
+//     runnables must neither contend with each other nor with the UI thread, and dequeuing
+//     must not copy the whole queue.
+//	int messageCount;
+//	RunnableLock [] messages;
+  final Queue<RunnableLock> messages = new ConcurrentLinkedQueue<>();
+  final AtomicInteger messageCount = new AtomicInteger();
 // RAP [rh] mesageLock must be serializable	(bug 345842)
 //	Object messageLock = new Object ();
+// RAP messageLock only guards the notification of the server push mechanism
   Object messageLock = new SerializableLock();
   Thread syncThread;
-  static final int GROW_SIZE = 4;
-  static final int MESSAGE_LIMIT = 64;
 
   //TEMPORARY CODE
   static final boolean IS_CARBON = "carbon".equals (SWT.getPlatform ());
@@ -68,30 +76,16 @@ public Synchronizer (Display display) {
 }
 
 void addLast (RunnableLock lock) {
-  boolean wake = false;
-  synchronized (messageLock) {
-    if (messages == null) {
-      messages = new RunnableLock [GROW_SIZE];
-    }
-    if (messageCount == messages.length) {
-      RunnableLock[] newMessages = new RunnableLock [messageCount + GROW_SIZE];
-      System.arraycopy (messages, 0, newMessages, 0, messageCount);
-      messages = newMessages;
-    }
-    messages [messageCount++] = lock;
+  // the count is incremented before the runnable becomes visible to the UI thread, hence it never
+  // drops below zero when the runnable is removed
+  boolean wake = messageCount.incrementAndGet () == 1;
+  messages.offer (lock);
 // RAP [rst] Notify server push mechanism when runnable was added to empty queue
-    if( messageCount == 1 ) {
-      RWT.getUISession( display ).exec( new Runnable() {
-        @Override
-        public void run() {
-          ServerPushManager.getInstance().setHasRunnables( true );
-        }
-      } );
-    }
-    runnableAdded( lock.runnable );
-// END RAP
-    wake = messageCount == 1;
+  if (wake) {
+    updateHasRunnables ();
   }
+  runnableAdded( lock.runnable );
+// END RAP
   if (wake) {
     display.wakeThread ();
   }
@@ -124,9 +118,7 @@ protected void asyncExec (Runnable runnable) {
 }
 
 int getMessageCount () {
-  synchronized (messageLock) {
-    return messageCount;
-  }
+  return messageCount.get ();
 }
 
 void releaseSynchronizer () {
@@ -143,35 +135,32 @@ void releaseSynchronizer () {
   }
   // END RAP
 //	display = null;
-  messages = null;
   messageLock = null;
   syncThread = null;
 }
 
 RunnableLock removeFirst () {
-  synchronized (messageLock) {
-    if (messageCount == 0) {
-      return null;
-    }
-    RunnableLock lock = messages [0];
-    System.arraycopy (messages, 1, messages, 0, --messageCount);
-    messages [messageCount] = null;
-    if (messageCount == 0) {
-      if (messages.length > MESSAGE_LIMIT) {
-        messages = null;
-      }
-    }
+  RunnableLock lock = messages.poll ();
 // RAP [rst] Notify server push mechanism when last runnable has been removed
-    if( messageCount == 0 ) {
-      RWT.getUISession( display ).exec( new Runnable() {
-        @Override
-        public void run() {
-          ServerPushManager.getInstance().setHasRunnables( false );
-        }
-      } );
-    }
+  if (lock != null && messageCount.decrementAndGet () == 0) {
+    updateHasRunnables ();
+  }
 // END RAP
-    return lock;
+  return lock;
+}
+
+// RAP Producers and the UI thread may race on the transitions between an empty and a
+//     non-empty queue. Every transition publishes the current state under the lock, hence
+//     the last notification always reflects the actual state of the queue.
+private void updateHasRunnables () {
+  synchronized (messageLock) {
+    final boolean hasRunnables = messageCount.get () > 0;
+    RWT.getUISession( display ).exec( new Runnable() {
+      @Override
+      public void run() {
+        ServerPushManager.getInstance().setHasRunnables( hasRunnables );
+      }
+    } );
   }
 }
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2019 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -42,6 +42,7 @@ import org.eclipse.swt.internal.widgets.ICellToolTipProvider;
 import org.eclipse.swt.internal.widgets.IControlAdapter;
 import org.eclipse.swt.internal.widgets.IItemHolderAdapter;
 import org.eclipse.swt.internal.widgets.ITableAdapter;
+import org.eclipse.swt.internal.widgets.IndexSelection;
 import org.eclipse.swt.internal.widgets.ItemHolder;
 import org.eclipse.swt.internal.widgets.MarkupValidator;
 import org.eclipse.swt.internal.widgets.tablekit.TableLCA;
@@ -289,6 +290,11 @@ public class Table extends Composite {
     public boolean isFixedColumn( TableColumn column ) {
       return Table.this.isFixedColumn( Table.this.indexOf( column ) );
     }
+
+    @Override
+    public IndexSelection getSelectionSnapshot() {
+      return new IndexSelection( selection );
+    }
   }
 
   /**
@@ -300,7 +306,6 @@ public class Table extends Composite {
   public static final String ALWAYS_HIDE_SELECTION = Table.class.getName() + "#alwaysHideSelection";
 
   private static final int GRID_WIDTH = 1;
-  private static final int[] EMPTY_SELECTION = new int[ 0 ];
 
   private transient CompositeItemHolder itemHolder;
   private final ITableAdapter tableAdapter;
@@ -310,7 +315,7 @@ public class Table extends Composite {
   private final ItemHolder<TableColumn> columnHolder;
   private int[] columnImageCount;
   private int[] columnOrder;
-  private int[] selection;
+  private final IndexSelection selection;
   private boolean linesVisible;
   private boolean headerVisible;
   private Color headerBackground;
@@ -367,7 +372,7 @@ public class Table extends Composite {
     tableAdapter = new TableAdapter();
     columnHolder = new ItemHolder<>( TableColumn.class );
     setTableEmpty();
-    selection = EMPTY_SELECTION;
+    selection = new IndexSelection();
     customItemHeight = -1;
     bufferedCellSpacing = -1;
   }
@@ -1072,19 +1077,10 @@ public class Table extends Composite {
   public int getSelectionIndex() {
     checkWidget();
     int result = -1;
-    int topSelectedIndex = -1;
-    for( int i = 0; i < selection.length; i++ ) {
-      if( focusIndex == selection[ i ] ) {
-        result = selection[ i ];
-      }
-      if( topSelectedIndex == -1 ) {
-        topSelectedIndex = selection[ i ];
-      } else {
-        topSelectedIndex = Math.min( topSelectedIndex, selection[ i ] );
-      }
-    }
-    if( result == -1 ) {
-      result = topSelectedIndex;
+    if( focusIndex >= 0 && selection.contains( focusIndex ) ) {
+      result = focusIndex;
+    } else if( !selection.isEmpty() ) {
+      result = selection.nextSelected( 0 );
     }
     return result;
   }
@@ -1123,7 +1119,7 @@ public class Table extends Composite {
    */
   public int getSelectionCount() {
     checkWidget();
-    return selection.length;
+    return selection.size();
   }
 
   /**
@@ -1176,10 +1172,10 @@ public class Table extends Composite {
    */
   public TableItem[] getSelection() {
     checkWidget();
-    int length = selection.length;
-    TableItem[] result = new TableItem[ length ];
-    for( int i = 0; i < selection.length; i++ ) {
-      result[ i ] = _getItem( selection[ i ] );
+    int[] indices = selection.toArray();
+    TableItem[] result = new TableItem[ indices.length ];
+    for( int i = 0; i < indices.length; i++ ) {
+      result[ i ] = _getItem( indices[ i ] );
     }
     return result;
   }
@@ -1300,13 +1296,7 @@ public class Table extends Composite {
    */
   public int[] getSelectionIndices() {
     checkWidget();
-    // TODO [rh] directly return a copy of the selection array
-    TableItem[] currentSelection = getSelection();
-    int[] result = new int[ currentSelection.length ];
-    for( int i = 0; i < currentSelection.length; i++ ) {
-      result[ i ] = indexOf( currentSelection[ i ] );
-    }
-    return result;
+    return selection.toArray();
   }
 
   /**
@@ -1326,9 +1316,7 @@ public class Table extends Composite {
     checkWidget();
     boolean result = false;
     if( index >= 0 && index < itemCount ) {
-      for( int i = 0; !result && i < selection.length; i++ ) {
-        result = selection[ i ] == index;
-      }
+      result = selection.contains( index );
     }
     return result;
   }
@@ -1349,16 +1337,9 @@ public class Table extends Composite {
     checkWidget();
     if( index >= 0 && index < itemCount ) {
       if( ( style & SWT.SINGLE ) != 0 ) {
-        selection = new int[] { index };
-      } else {
-        if( !isSelected( index ) ) {
-          int length = selection.length;
-          int[] newSelection = new int[ length + 1 ];
-          System.arraycopy( selection, 0, newSelection, 0, length );
-          newSelection[ length ] = index;
-          selection = newSelection;
-        }
+        selection.clear();
       }
+      selection.add( index );
     }
   }
 
@@ -1393,10 +1374,10 @@ public class Table extends Composite {
         int adjustedEnd = Math.min( end, itemCount - 1 );
         if( adjustedStart == 0 && adjustedEnd == itemCount - 1 ) {
           selectAll();
+        } else if( adjustedStart == adjustedEnd ) {
+          select( adjustedStart );
         } else {
-          for( int i = adjustedStart; i <= adjustedEnd; i++ ) {
-            select( i );
-          }
+          selection.addRange( adjustedStart, adjustedEnd );
         }
       }
     }
@@ -1449,12 +1430,16 @@ public class Table extends Composite {
    *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
    * </ul>
    */
-  // TODO [rh] revise: a VIRTUAL table would resolve all its items when
-  //      selectAll is called. Compare how SWT handles this.
   public void selectAll() {
     checkWidget();
     if( ( style & SWT.SINGLE ) == 0 ) {
-      setSelection( getItems() );
+      // select the range instead of the items, a VIRTUAL table must not resolve all its items
+      deselectAll();
+      if( itemCount > 0 ) {
+        selection.addRange( 0, itemCount - 1 );
+        setFocusIndex( 0 );
+      }
+      showSelection();
     }
   }
 
@@ -1496,8 +1481,9 @@ public class Table extends Composite {
       deselectAll();
     } else {
       int actualStart = Math.max( 0, start );
-      for( int i = actualStart; i <= end; i++ ) {
-        removeFromSelection( i );
+      int actualEnd = Math.min( end, itemCount - 1 );
+      if( actualStart <= actualEnd ) {
+        selection.removeRange( actualStart, actualEnd );
       }
     }
   }
@@ -1539,7 +1525,7 @@ public class Table extends Composite {
    */
   public void deselectAll() {
     checkWidget();
-    selection = EMPTY_SELECTION;
+    selection.clear();
   }
 
   //////////////////////////////////
@@ -2309,11 +2295,7 @@ public class Table extends Composite {
     itemCount++;
     adjustItemIndices( index );
     // adjust the selection indices
-    for( int i = 0; i < selection.length; i++ ) {
-      if( selection[ i ] >= index ) {
-        selection[ i ] = selection[ i ] + 1;
-      }
-    }
+    selection.insert( index );
     // advance focusIndex when an item is inserted before the focused item
     if( index <= focusIndex ) {
       focusIndex++;
@@ -2323,8 +2305,9 @@ public class Table extends Composite {
 
   final void destroyItem( TableItem item, int index ) {
     if( !isInDispose() ) {
-      removeFromSelection( index );
-      adjustSelectionIdices( index );
+      if( index >= 0 && index < itemCount ) {
+        selection.delete( index );
+      }
       if( item != null ) {
         int columnCount = Math.max( 1, columnHolder.size() );
         for( int i = 0; i < columnCount; i++ ) {
@@ -2671,27 +2654,7 @@ public class Table extends Composite {
 
   private void removeFromSelection( int index ) {
     if( index >= 0 && index < itemCount ) {
-      boolean found = false;
-      for( int i = 0; !found && i < selection.length; i++ ) {
-        if( index == selection[ i ] ) {
-          int length = selection.length;
-          int[] newSel = new int[ length - 1 ];
-          System.arraycopy( selection, 0, newSel, 0, i );
-          if( i < length - 1 ) {
-            System.arraycopy( selection, i + 1, newSel, i, length - i - 1 );
-          }
-          selection = newSel;
-          found = true;
-        }
-      }
-    }
-  }
-
-  private void adjustSelectionIdices( int removedIndex ) {
-    for( int i = 0; i < selection.length; i++ ) {
-      if( selection[ i ] >= removedIndex ) {
-        selection[ i ] = selection[ i ] - 1;
-      }
+      selection.remove( index );
     }
   }
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2017 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -1088,6 +1088,8 @@ public class TableItem extends Item {
   }
 
   final void clear() {
+    // the values are preserved before they are reset when rendering only dirty widgets
+    display.markDirty( this );
     data = null;
     checked = false;
     grayed = false;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2016 EclipseSource and others.
+ * Copyright (c) 2010, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -15,107 +15,99 @@ import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
 import java.io.ObjectInputValidation;
 import java.io.ObjectOutputStream;
-import java.util.Collection;
-import java.util.Date;
-import java.util.LinkedList;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Map;
 
+import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
 import org.eclipse.rap.rwt.internal.engine.PostDeserialization;
 import org.eclipse.rap.rwt.internal.serverpush.ServerPushManager;
 import org.eclipse.rap.rwt.service.UISession;
 import org.eclipse.swt.internal.SerializableCompatibility;
 import org.eclipse.swt.internal.widgets.IDisplayAdapter;
+import org.eclipse.swt.internal.widgets.TimerExecService;
 
 
+/*
+ * Keeps track of the runnables scheduled with Display#timerExec(). The runnables are executed by
+ * the TimerExecService that is shared by all sessions of the application.
+ */
 class TimerExecScheduler implements SerializableCompatibility {
 
   final Display display;
   final ServerPushManager serverPushManager;
-  private final Collection<TimerExecTask> tasks;
-  private transient Timer timer;
+  // timerExec identifies runnables by identity, not by equality
+  private final Map<Runnable,TimerExecTask> tasks;
 
   TimerExecScheduler( Display display ) {
     this.display = display;
     serverPushManager = ServerPushManager.getInstance();
-    tasks = new LinkedList<>();
+    tasks = new IdentityHashMap<>();
   }
 
   void schedule( int milliseconds, Runnable runnable ) {
     synchronized( display.getDeviceLock() ) {
-      initializeTimer();
-      TimerExecTask task = findOrAddTask( runnable );
-      timer.schedule( task, milliseconds );
+      TimerExecTask task = tasks.get( runnable );
+      if( task == null ) {
+        task = createTask( runnable );
+        tasks.put( runnable, task );
+      }
+      task.schedule( getTimerExecService(), milliseconds );
     }
   }
 
   void cancel( Runnable runnable ) {
-    TimerExecTask task = findAndRemoveTask( runnable );
+    TimerExecTask task;
+    synchronized( display.getDeviceLock() ) {
+      task = tasks.remove( runnable );
+    }
     if( task != null ) {
       task.cancel();
     }
   }
 
   void dispose() {
+    ArrayList<TimerExecTask> disposedTasks;
     synchronized( display.getDeviceLock() ) {
-      if( timer != null ) {
-        timer.cancel();
-      }
+      disposedTasks = new ArrayList<>( tasks.values() );
       tasks.clear();
     }
-  }
-
-  private void initializeTimer() {
-    if( timer == null ) {
-      timer = createTimer();
+    for( TimerExecTask task : disposedTasks ) {
+      task.cancel();
     }
   }
 
-  Timer createTimer() {
-    return new Timer( "RWT timerExec scheduler", true );
-  }
-
-  private TimerExecTask findOrAddTask( Runnable runnable ) {
-    synchronized( display.getDeviceLock() ) {
-      for( TimerExecTask task : tasks ) {
-        if( task.getRunnable() == runnable ) {
-          return task;
-        }
-      }
-      TimerExecTask task = createTask( runnable );
-      tasks.add( task );
-      return task;
-    }
+  TimerExecService getTimerExecService() {
+    IDisplayAdapter adapter = display.getAdapter( IDisplayAdapter.class );
+    ApplicationContextImpl applicationContext
+      = ( ApplicationContextImpl )adapter.getUISession().getApplicationContext();
+    return applicationContext.getTimerExecService();
   }
 
   TimerExecTask createTask( Runnable runnable ) {
     return new TimerExecTask( this, runnable );
   }
 
-  private TimerExecTask findAndRemoveTask( Runnable runnable ) {
+  /*
+   * Removes the given task unless it has been replaced or cancelled in the meantime. Returns
+   * whether the task was still scheduled.
+   */
+  boolean removeTask( TimerExecTask task ) {
     synchronized( display.getDeviceLock() ) {
-      for( TimerExecTask task : tasks ) {
-        if( task.getRunnable() == runnable ) {
-          tasks.remove( task );
-          return task;
-        }
+      if( tasks.get( task.getRunnable() ) == task ) {
+        tasks.remove( task.getRunnable() );
+        return true;
       }
-    }
-    return null;
-  }
-
-  void removeTask( TimerTask task ) {
-    synchronized( display.getDeviceLock() ) {
-      tasks.remove( task );
+      return false;
     }
   }
 
   private void rescheduleTasks() {
     synchronized( display.getDeviceLock() ) {
       if( tasks.size() > 0 ) {
-        initializeTimer();
-        for( TimerExecTask task : tasks ) {
-          timer.schedule( task, new Date( task.scheduledExecutionTime() ) );
+        TimerExecService timerExecService = getTimerExecService();
+        for( TimerExecTask task : tasks.values() ) {
+          task.reschedule( timerExecService );
         }
       }
     }
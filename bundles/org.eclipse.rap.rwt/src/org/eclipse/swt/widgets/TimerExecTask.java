@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2012 EclipseSource and others.
+ * Copyright (c) 2010, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,15 +10,18 @@
  ******************************************************************************/
 package org.eclipse.swt.widgets;
 
-import java.util.TimerTask;
+import java.util.concurrent.Future;
 
 import org.eclipse.swt.internal.SerializableCompatibility;
+import org.eclipse.swt.internal.widgets.TimerExecService;
 
 
-class TimerExecTask extends TimerTask implements SerializableCompatibility {
+class TimerExecTask implements Runnable, SerializableCompatibility {
 
   private final TimerExecScheduler scheduler;
   private final Runnable runnable;
+  private long scheduledExecutionTime;
+  private transient Future<?> future;
 
   TimerExecTask( TimerExecScheduler scheduler, Runnable runnable ) {
     this.scheduler = scheduler;
@@ -26,25 +29,44 @@ class TimerExecTask extends TimerTask implements SerializableCompatibility {
     scheduler.serverPushManager.activateServerPushFor( this );
   }
 
+  void schedule( TimerExecService service, long delay ) {
+    cancelFuture();
+    scheduledExecutionTime = System.currentTimeMillis() + delay;
+    future = service.schedule( this, delay );
+  }
+
+  void reschedule( TimerExecService service ) {
+    schedule( service, scheduledExecutionTime - System.currentTimeMillis() );
+  }
+
   @Override
   public void run() {
     synchronized( scheduler.display.getDeviceLock() ) {
-      scheduler.removeTask( this );
-      if( !scheduler.display.isDisposed() ) {
+      // the task may have been cancelled after the service started to execute it
+      if( scheduler.removeTask( this ) && !scheduler.display.isDisposed() ) {
         scheduler.display.asyncExec( runnable );
       }
     }
     scheduler.serverPushManager.deactivateServerPushFor( this );
   }
 
-  @Override
-  public boolean cancel() {
+  boolean cancel() {
     scheduler.serverPushManager.deactivateServerPushFor( this );
-    return super.cancel();
+    return cancelFuture();
   }
 
   Runnable getRunnable() {
     return runnable;
   }
 
+  long getScheduledExecutionTime() {
+    return scheduledExecutionTime;
+  }
+
+  private boolean cancelFuture() {
+    boolean result = future != null && future.cancel( false );
+    future = null;
+    return result;
+  }
+
 }
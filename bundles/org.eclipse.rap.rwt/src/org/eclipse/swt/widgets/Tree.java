@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2019 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -47,6 +47,7 @@ import org.eclipse.swt.internal.widgets.IItemHolderAdapter;
 import org.eclipse.swt.internal.widgets.ITreeAdapter;
 import org.eclipse.swt.internal.widgets.ItemHolder;
 import org.eclipse.swt.internal.widgets.MarkupValidator;
+import org.eclipse.swt.internal.widgets.RowCountIndex;
 import org.eclipse.swt.internal.widgets.WidgetTreeUtil;
 import org.eclipse.swt.internal.widgets.WidgetTreeVisitor;
 import org.eclipse.swt.internal.widgets.treekit.TreeLCA;
@@ -144,7 +145,9 @@ public class Tree extends Composite {
   private Point itemImageSize;
   LayoutCache layoutCache;
   boolean isFlatIndexValid;
-  private int visibleItemsCount;
+  private boolean isTopItemIndexValid;
+  // the number of visible rows of every root item, including its expanded descendants
+  final RowCountIndex rowCounts = new RowCountIndex();
   private int preloadedItems;
 
   /**
@@ -289,6 +292,7 @@ public class Tree extends Composite {
         }
       }
       itemCount = newItemCount;
+      rowCounts.setSize( itemCount, 1 );
       invalidateFlatIndex();
       updateScrollBars();
       redraw();
@@ -431,7 +435,7 @@ public class Tree extends Composite {
       if( items[ i ] != null ) {
         items[ i ].dispose();
       } else {
-        itemCount--;
+        destroyItem( i );
       }
     }
     setTreeEmpty();
@@ -538,8 +542,7 @@ public class Tree extends Composite {
     checkWidget();
     TreeItem result = null;
     if( itemCount > 0 ) {
-      List<TreeItem> visibleItems = collectVisibleItems( null );
-      result = visibleItems.get( getTopItemIndex() );
+      result = getVisibleItem( getTopItemIndex(), false );
     }
     return result;
   }
@@ -553,7 +556,7 @@ public class Tree extends Composite {
   }
 
   int getTopItemIndex() {
-    if( !isVisibleItemsCountValid() ) {
+    if( !isTopItemIndexValid ) {
       adjustTopItemIndex();
     }
     return topItemIndex;
@@ -1012,9 +1015,8 @@ public class Tree extends Composite {
     }
     TreeItem result = null;
     int index = ( point.y - getHeaderHeight() ) / getItemHeight() + getTopItemIndex();
-    List<TreeItem> visibleItems = collectVisibleItems( null );
-    if( 0 <= index && index < visibleItems.size() ) {
-      result = visibleItems.get( index );
+    if( 0 <= index && index < getVisibleItemsCount() ) {
+      result = getVisibleItem( index, false );
     }
     return result;
   }
@@ -2185,6 +2187,7 @@ public class Tree extends Composite {
     if( topItemIndex > visibleItems - visibleRows - correction ) {
       topItemIndex = Math.max( 0, visibleItems - visibleRows - correction );
     }
+    isTopItemIndexValid = true;
   }
 
   final int getVisibleRowCount( boolean includePartlyVisible ) {
@@ -2200,59 +2203,51 @@ public class Tree extends Composite {
     return result;
   }
 
-  private int getVisibleItemsCount() {
-    if( !isVisibleItemsCountValid() ) {
-      visibleItemsCount = collectVisibleItems( null ).size();
-    }
-    return visibleItemsCount;
-  }
-
-  private boolean isVisibleItemsCountValid() {
-    return visibleItemsCount != -1;
-  }
-
-  private List<TreeItem> collectVisibleItems( TreeItem parentItem ) {
-    List<TreeItem> result = new ArrayList<>();
-    TreeItem[] items = parentItem == null ? this.items : parentItem.items;
-    int itemCount = parentItem == null ? this.itemCount : parentItem.itemCount;
-    for( int i = 0; i < itemCount; i++ ) {
-      TreeItem item = items[ i ];
-      result.add( item );
-      if( item != null && item.getExpanded() ) {
-        result.addAll( collectVisibleItems( item ) );
-      }
-    }
-    return result;
+  int getVisibleItemsCount() {
+    return rowCounts.getTotal();
   }
 
   void updateAllItems() {
-    int flatIndex = 0;
-    for( int index = 0; index < itemCount; index++ ) {
-      flatIndex = updateAllItemsRecursively( null, index, flatIndex );
+    if( isVirtual() ) {
+      int flatIndex = Math.max( 0, getTopItemIndex() - preloadedItems );
+      // the visible items are looked up one by one, SetData listeners may change the structure
+      while(    !isDisposed()
+             && flatIndex < getVisibleItemsCount()
+             && shouldResolveItem( flatIndex ) )
+      {
+        TreeItem item = getVisibleItem( flatIndex, true );
+        checkData( item, item.index );
+        flatIndex++;
+      }
     }
     isFlatIndexValid = true;
-    visibleItemsCount = flatIndex;
+    isTopItemIndexValid = true;
   }
 
-  private int updateAllItemsRecursively( TreeItem parent, int index, int flatIndex ) {
-    int newFlatIndex = flatIndex;
-    TreeItem item = parent == null ? items[ index ] : parent.items[ index ];
-    if( shouldResolveItem( flatIndex ) ) {
-      if( item == null ) {
-        item = parent == null ? _getItem( index ) : parent._getItem( index );
-      }
-      checkData( item, index );
-    }
-    if( item != null ) {
-      item.setFlatIndex( newFlatIndex );
-    }
-    newFlatIndex++;
-    if( item != null && item.getExpanded() ) {
-      for( int i = 0; i < item.itemCount; i++ ) {
-        newFlatIndex = updateAllItemsRecursively( item, i, newFlatIndex );
+  /*
+   * Returns the item that is displayed in the given row, starting at the root items and
+   * descending into the expanded item that contains the row. Virtual items that are not yet
+   * created are only created if requested, otherwise null is returned for them.
+   */
+  TreeItem getVisibleItem( int flatIndex, boolean create ) {
+    TreeItem parentItem = null;
+    RowCountIndex counts = rowCounts;
+    int row = flatIndex;
+    while( true ) {
+      int index = counts.indexOf( row );
+      row -= counts.sumBefore( index );
+      TreeItem item = parentItem == null ? items[ index ] : parentItem.items[ index ];
+      if( row == 0 ) {
+        if( item == null && create ) {
+          item = parentItem == null ? _getItem( index ) : parentItem._getItem( index );
+        }
+        return item;
       }
+      // only an expanded item spans more than one row, skip the row of the item itself
+      parentItem = item;
+      counts = item.rowCounts;
+      row--;
     }
-    return newFlatIndex;
   }
 
   private boolean shouldResolveItem( int flatIndex ) {
@@ -2280,7 +2275,7 @@ public class Tree extends Composite {
   }
 
   void invalidateFlatIndex() {
-    visibleItemsCount = -1;
+    isTopItemIndexValid = false;
     isFlatIndexValid = false;
   }
 
@@ -2337,14 +2332,7 @@ public class Tree extends Composite {
 
   boolean needsVScrollBar() {
     int availableHeight = getClientArea().height;
-    int height = getHeaderHeight();
-    height += itemCount * getItemHeight();
-    for( int i = 0; i < itemCount; i++ ) {
-      TreeItem item = items[ i ];
-      if( item != null && item.getExpanded() ) {
-        height += item.getInnerHeight();
-      }
-    }
+    int height = getHeaderHeight() + getVisibleItemsCount() * getItemHeight();
     return height > availableHeight;
   }
 
@@ -2410,11 +2398,13 @@ public class Tree extends Composite {
     System.arraycopy( items, index, items, index + 1, itemCount - index );
     items[ index ] = item;
     itemCount++;
+    rowCounts.insert( index, 1 );
     adjustItemIndices( index );
   }
 
   void destroyItem( int index ) {
     itemCount--;
+    rowCounts.remove( index );
     if( itemCount == 0 ) {
       setTreeEmpty();
     } else {
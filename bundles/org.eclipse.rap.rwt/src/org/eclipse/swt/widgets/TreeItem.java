@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2019 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -32,6 +32,7 @@ import org.eclipse.swt.internal.widgets.ITreeItemAdapter;
 import org.eclipse.swt.internal.widgets.IWidgetColorAdapter;
 import org.eclipse.swt.internal.widgets.IWidgetFontAdapter;
 import org.eclipse.swt.internal.widgets.MarkupValidator;
+import org.eclipse.swt.internal.widgets.RowCountIndex;
 import org.eclipse.swt.internal.widgets.treeitemkit.TreeItemLCA;
 
 
@@ -67,7 +68,8 @@ public class TreeItem extends Item {
   private boolean grayed;
   int depth;
   private boolean cached;
-  private int flatIndex;
+  // the number of visible rows of every child item, including its expanded descendants
+  final RowCountIndex rowCounts;
 
   /**
    * Constructs a new instance of this class given its parent (which must be a
@@ -219,6 +221,7 @@ public class TreeItem extends Item {
     this.parent = parent;
     this.parentItem = parentItem;
     this.index = index;
+    rowCounts = new RowCountIndex();
     if( parentItem != null ) {
       depth = parentItem.depth + 1;
     }
@@ -265,6 +268,8 @@ public class TreeItem extends Item {
     System.arraycopy( items, index, items, index + 1, itemCount - index );
     items[ index ] = item;
     itemCount++;
+    rowCounts.insert( index, 1 );
+    updateChildRowCount( 1 );
     adjustItemIndices( index );
   }
 
@@ -276,6 +281,7 @@ public class TreeItem extends Item {
       System.arraycopy( items, index + 1, items, index, itemCount - index );
       items[ itemCount ] = null;
     }
+    updateChildRowCount( -rowCounts.remove( index ) );
     adjustItemIndices( index );
   }
 
@@ -359,7 +365,9 @@ public class TreeItem extends Item {
   public void setExpanded( boolean expanded ) {
     checkWidget();
     if( this.expanded != expanded && ( !expanded || itemCount > 0 ) ) {
+      int childRows = rowCounts.getTotal();
       this.expanded = expanded;
+      updateRowCount( expanded ? childRows : -childRows );
       if( !expanded ) {
         updateSelection();
       }
@@ -1075,6 +1083,8 @@ public class TreeItem extends Item {
   }
 
   void clear() {
+    // the values are preserved before they are reset when rendering only dirty widgets
+    display.markDirty( this );
     data = null;
     checked = false;
     grayed = false;
@@ -1387,7 +1397,7 @@ public class TreeItem extends Item {
       if( items[ i ] != null ) {
         items[ i ].dispose();
       } else {
-        itemCount--;
+        destroyItem( i );
       }
     }
     setEmpty();
@@ -1426,6 +1436,7 @@ public class TreeItem extends Item {
         }
       }
       itemCount = newItemCount;
+      updateChildRowCount( rowCounts.setSize( itemCount, 1 ) );
       parent.invalidateFlatIndex();
       parent.updateScrollBars();
       parent.redraw();
@@ -1481,11 +1492,35 @@ public class TreeItem extends Item {
     if( !parent.isFlatIndexValid ) {
       parent.updateAllItems();
     }
-    return flatIndex;
+    // sum up the rows before the item on every level, plus one row for every ancestor
+    int result = 0;
+    TreeItem item = this;
+    while( item.parentItem != null ) {
+      result += item.parentItem.rowCounts.sumBefore( item.index ) + 1;
+      item = item.parentItem;
+    }
+    return result + parent.rowCounts.sumBefore( item.index );
+  }
+
+  /*
+   * Propagates a change of the number of visible rows of this item to the ancestors. The rows of
+   * a collapsed item do not change when the rows of its children change.
+   */
+  private void updateRowCount( int delta ) {
+    if( delta != 0 ) {
+      if( parentItem == null ) {
+        parent.rowCounts.add( index, delta );
+      } else {
+        parentItem.rowCounts.add( index, delta );
+        parentItem.updateChildRowCount( delta );
+      }
+    }
   }
 
-  void setFlatIndex( int flatIndex ) {
-    this.flatIndex = flatIndex;
+  private void updateChildRowCount( int delta ) {
+    if( expanded ) {
+      updateRowCount( delta );
+    }
   }
 
   boolean hasPreferredWidthBuffer( int index ) {
@@ -1524,14 +1559,7 @@ public class TreeItem extends Item {
   }
 
   int getInnerHeight() {
-    int innerHeight = itemCount * parent.getItemHeight();
-    for( int i = 0; i < itemCount; i++ ) {
-      TreeItem item = items[ i ];
-      if( item != null && item.getExpanded() ) {
-        innerHeight += item.getInnerHeight();
-      }
-    }
-    return innerHeight;
+    return rowCounts.getTotal() * parent.getItemHeight();
   }
 
   void markCached() {
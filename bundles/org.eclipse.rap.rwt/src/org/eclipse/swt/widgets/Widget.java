@@ -156,6 +156,7 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
     }
     this.style = style;
     display = parent.display;
+    display.markDirty( parent );
     reskinWidget();
     remoteAdapter = new ParentHolderRemoteAdapter( parent );
   }
@@ -182,6 +183,7 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
       return (T) themeManager.getThemeAdapterManager().getThemeAdapter( this );
     }
     if( adapter == IWidgetGraphicsAdapter.class ) {
+      display.markDirty( this );
       if( widgetGraphicsAdapter == null ) {
         widgetGraphicsAdapter = new WidgetGraphicsAdapter();
       }
@@ -958,6 +960,7 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
     if( hasState( DISPOSED ) ) {
       error( SWT.ERROR_WIDGET_DISPOSED );
     }
+    display.markDirty( this );
   }
 
   /*
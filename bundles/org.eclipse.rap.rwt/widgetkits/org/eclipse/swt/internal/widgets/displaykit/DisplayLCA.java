@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2022 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -29,7 +29,9 @@ import java.util.Map;
 import org.eclipse.rap.rwt.RWT;
 import org.eclipse.rap.rwt.client.WebClient;
 import org.eclipse.rap.rwt.client.service.ExitConfirmation;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.DisposedWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.EntryPointManager;
 import org.eclipse.rap.rwt.internal.lifecycle.EntryPointRegistration;
@@ -81,26 +83,31 @@ public class DisplayLCA {
     ActiveKeysUtil.preserveCancelKeys( display );
     ActiveKeysUtil.preserveMnemonicActivator( display );
     if( adapter.isInitialized() ) {
-      for( Shell shell : getShells( display ) ) {
-        WidgetTreeUtil.accept( shell, new WidgetTreeVisitor() {
-          @Override
-          public boolean visit( Widget widget ) {
-            getLCA( widget ).preserveValues( widget );
-            return true;
-          }
-        } );
+      if( RWTProperties.isDirtyRenderingEnabled() ) {
+        startDirtyTracking( display );
+      } else {
+        for( Shell shell : getShells( display ) ) {
+          WidgetTreeUtil.accept( shell, new WidgetTreeVisitor() {
+            @Override
+            public boolean visit( Widget widget ) {
+              getLCA( widget ).preserveValues( widget );
+              return true;
+            }
+          } );
+        }
       }
     }
   }
 
   public void render( Display display ) throws IOException {
+    DirtyWidgets dirtyWidgets = stopDirtyTracking( display );
     renderOverflow( display );
     renderDisableShutdownRequest( display );
     renderReparentControls();
     renderDisposeWidgets();
     renderExitConfirmation( display );
     renderEnableUiTests( display );
-    renderShells( display );
+    renderShells( display, dirtyWidgets );
     renderFocus( display );
     renderBeep( display );
     renderResizeListener( display );
@@ -116,14 +123,18 @@ public class DisplayLCA {
 
   public void clearPreserved( Display display ) {
     ( ( WidgetRemoteAdapter )getAdapter( display ) ).clearPreserved();
-    for( Shell shell : getShells( display ) ) {
-      WidgetTreeUtil.accept( shell, new WidgetTreeVisitor() {
-        @Override
-        public boolean visit( Widget widget ) {
-          ( ( WidgetRemoteAdapter )getAdapter( widget ) ).clearPreserved();
-          return true;
-        }
-      } );
+    if( RWTProperties.isDirtyRenderingEnabled() ) {
+      clearDirtyWidgets( display );
+    } else {
+      for( Shell shell : getShells( display ) ) {
+        WidgetTreeUtil.accept( shell, new WidgetTreeVisitor() {
+          @Override
+          public boolean visit( Widget widget ) {
+            ( ( WidgetRemoteAdapter )getAdapter( widget ) ).clearPreserved();
+            return true;
+          }
+        } );
+      }
     }
   }
 
@@ -139,10 +150,14 @@ public class DisplayLCA {
   }
 
   private static void visitWidgets( Display display ) {
+    final DirtyWidgets dirtyWidgets = createDirtyWidgets( display );
     WidgetTreeVisitor visitor = new WidgetTreeVisitor() {
       @Override
       public boolean visit( Widget widget ) {
         getLCA( widget ).readData( widget );
+        if( dirtyWidgets != null && hasOperations( widget ) ) {
+          dirtyWidgets.markDirtyOnStart( widget );
+        }
         return true;
       }
     };
@@ -151,6 +166,51 @@ public class DisplayLCA {
     }
   }
 
+  private static boolean hasOperations( Widget widget ) {
+    ClientMessage clientMessage = ProtocolUtil.getClientMessage();
+    return !clientMessage.getAllOperationsFor( getId( widget ) ).isEmpty();
+  }
+
+  private static DirtyWidgets createDirtyWidgets( Display display ) {
+    DirtyWidgets dirtyWidgets = null;
+    if( RWTProperties.isDirtyRenderingEnabled() && getAdapter( display ).isInitialized() ) {
+      dirtyWidgets = new DirtyWidgets();
+      getDisplayAdapter( display ).setDirtyWidgets( dirtyWidgets );
+    }
+    return dirtyWidgets;
+  }
+
+  private static void startDirtyTracking( Display display ) {
+    IDisplayAdapter displayAdapter = getDisplayAdapter( display );
+    DirtyWidgets dirtyWidgets = displayAdapter.getDirtyWidgets();
+    if( dirtyWidgets == null ) {
+      dirtyWidgets = new DirtyWidgets();
+      displayAdapter.setDirtyWidgets( dirtyWidgets );
+    }
+    dirtyWidgets.startTracking();
+  }
+
+  private static DirtyWidgets stopDirtyTracking( Display display ) {
+    DirtyWidgets dirtyWidgets = getDisplayAdapter( display ).getDirtyWidgets();
+    if( dirtyWidgets != null && dirtyWidgets.isTracking() ) {
+      dirtyWidgets.stopTracking();
+      return dirtyWidgets;
+    }
+    return null;
+  }
+
+  private static void clearDirtyWidgets( Display display ) {
+    IDisplayAdapter displayAdapter = getDisplayAdapter( display );
+    DirtyWidgets dirtyWidgets = displayAdapter.getDirtyWidgets();
+    if( dirtyWidgets != null && dirtyWidgets.hasStarted() ) {
+      dirtyWidgets.stopTracking();
+      for( Widget widget : dirtyWidgets.getAll() ) {
+        ( ( WidgetRemoteAdapter )getAdapter( widget ) ).clearPreserved();
+      }
+      displayAdapter.setDirtyWidgets( null );
+    }
+  }
+
   private static void renderOverflow( Display display ) {
     if( !getAdapter( display ).isInitialized() ) {
       String overflow = getEntryPointProperties().get( WebClient.PAGE_OVERFLOW );
@@ -180,8 +240,10 @@ public class DisplayLCA {
     return Collections.emptyMap();
   }
 
-  private static void renderShells( Display display ) throws IOException {
-    RenderVisitor visitor = new RenderVisitor();
+  private static void renderShells( Display display, DirtyWidgets dirtyWidgets )
+    throws IOException
+  {
+    RenderVisitor visitor = new RenderVisitor( dirtyWidgets );
     for( Shell shell : getShells( display ) ) {
       WidgetTreeUtil.accept( shell, visitor );
       visitor.reThrowProblem();
@@ -304,13 +366,20 @@ public class DisplayLCA {
 
   private static final class RenderVisitor implements WidgetTreeVisitor {
 
+    private final DirtyWidgets dirtyWidgets;
     private IOException ioProblem;
 
+    RenderVisitor( DirtyWidgets dirtyWidgets ) {
+      this.dirtyWidgets = dirtyWidgets;
+    }
+
     @Override
     public boolean visit( Widget widget ) {
       ioProblem = null;
       try {
-        render( widget );
+        if( needsRender( widget ) ) {
+          render( widget );
+        }
         runRenderRunnables( widget );
       } catch( IOException ioe ) {
         ioProblem = ioe;
@@ -319,6 +388,12 @@ public class DisplayLCA {
       return true;
     }
 
+    private boolean needsRender( Widget widget ) {
+      return    dirtyWidgets == null
+             || dirtyWidgets.isDirty( widget )
+             || !getAdapter( widget ).isInitialized();
+    }
+
     private void reThrowProblem() throws IOException {
       if( ioProblem != null ) {
         throw ioProblem;
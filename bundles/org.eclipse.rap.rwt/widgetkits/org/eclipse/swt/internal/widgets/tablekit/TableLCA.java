@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2018 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -28,6 +28,7 @@ import java.io.IOException;
 
 import org.eclipse.rap.json.JsonArray;
 import org.eclipse.rap.rwt.internal.lifecycle.ControlLCAUtil;
+import org.eclipse.rap.rwt.internal.lifecycle.RemoteAdapter;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil;
 import org.eclipse.rap.rwt.internal.template.TemplateLCAUtil;
@@ -38,6 +39,7 @@ import org.eclipse.swt.internal.widgets.CellToolTipUtil;
 import org.eclipse.swt.internal.widgets.ICellToolTipAdapter;
 import org.eclipse.swt.internal.widgets.IItemHolderAdapter;
 import org.eclipse.swt.internal.widgets.ITableAdapter;
+import org.eclipse.swt.internal.widgets.IndexSelection;
 import org.eclipse.swt.internal.widgets.WidgetRemoteAdapter;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Item;
@@ -88,7 +90,7 @@ public final class TableLCA extends WidgetLCA<Table> {
   private static final String PROP_MARKUP_ENABLED = "markupEnabled";
 
   private static final int ZERO = 0 ;
-  private static final String[] DEFAULT_SELECTION = new String[ 0 ];
+  private static final IndexSelection DEFAULT_SELECTION = new IndexSelection();
   private static final String[] DEFAULT_COLUMN_ORDER = new String[ 0 ];
   private static final String DEFAULT_SORT_DIRECTION = "none";
 
@@ -108,7 +110,7 @@ public final class TableLCA extends WidgetLCA<Table> {
     preserveProperty( table, PROP_TOP_ITEM_INDEX, table.getTopIndex() );
     preserveProperty( table, PROP_FOCUS_ITEM, getFocusItem( table ) );
     preserveProperty( table, PROP_SCROLL_LEFT, getScrollLeft( table ) );
-    preserveProperty( table, PROP_SELECTION, getSelection( table ) );
+    preserveProperty( table, PROP_SELECTION, getSelectionSnapshot( table ) );
     preserveProperty( table, PROP_SORT_DIRECTION, getSortDirection( table ) );
     preserveProperty( table, PROP_SORT_COLUMN, table.getSortColumn() );
     preserveProperty( table, PROP_ALWAYS_HIDE_SELECTION, hasAlwaysHideSelection( table ) );
@@ -162,7 +164,7 @@ public final class TableLCA extends WidgetLCA<Table> {
         renderProperty( table, PROP_TOP_ITEM_INDEX, table.getTopIndex(), ZERO );
         renderProperty( table, PROP_SCROLL_LEFT, getScrollLeft( table ), ZERO );
         renderProperty( table, PROP_FOCUS_ITEM, getFocusItem( table ), null );
-        renderProperty( table, PROP_SELECTION, getSelection( table ), DEFAULT_SELECTION );
+        renderSelection( table );
         renderProperty( table, PROP_SORT_COLUMN, table.getSortColumn(), null );
       }
     } );
@@ -190,13 +192,8 @@ public final class TableLCA extends WidgetLCA<Table> {
     return ( table.getStyle() & SWT.VIRTUAL ) != 0;
   }
 
-  private static String[] getSelection( Table table ) {
-    TableItem[] selection = table.getSelection();
-    String[] result = new String[ selection.length ];
-    for( int i = 0; i < result.length; i++ ) {
-      result[ i ] = getId( selection[ i ] );
-    }
-    return result;
+  private static IndexSelection getSelectionSnapshot( Table table ) {
+    return getTableAdapter( table ).getSelectionSnapshot();
   }
 
   private static String[] getColumnOrder( Table table ) {
@@ -256,6 +253,30 @@ public final class TableLCA extends WidgetLCA<Table> {
     }
   }
 
+  private static void renderSelection( Table table ) {
+    // compare the selected indices, the item ids are only collected when the selection changed
+    IndexSelection selection = getSelectionSnapshot( table );
+    if(    hasChanged( table, PROP_SELECTION, selection, DEFAULT_SELECTION )
+        || hasMovedSelectedItems( table, selection ) )
+    {
+      JsonArray itemIds = new JsonArray();
+      for( TableItem item : table.getSelection() ) {
+        itemIds.add( getId( item ) );
+      }
+      getRemoteObject( table ).set( PROP_SELECTION, itemIds );
+    }
+  }
+
+  private static boolean hasMovedSelectedItems( Table table, IndexSelection selection ) {
+    // the same indices select other items when items have been inserted or removed in between
+    RemoteAdapter adapter = getAdapter( table );
+    if( adapter.isInitialized() && !selection.isEmpty() ) {
+      IndexSelection preserved = ( IndexSelection )adapter.getPreserved( PROP_SELECTION );
+      return preserved != null && preserved.getMoveCount() != selection.getMoveCount();
+    }
+    return false;
+  }
+
   private static void renderItemMetrics( Table table ) {
     ItemMetrics[] itemMetrics = getItemMetrics( table );
     if( hasChanged( table, PROP_ITEM_METRICS, itemMetrics ) ) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -15,10 +15,10 @@ import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.preservePrope
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.renderProperty;
 import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.createRemoteObject;
 import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.getRemoteObject;
+import static org.eclipse.swt.internal.widgets.PreservedValues.getSlot;
 
 import java.io.IOException;
 
-import org.eclipse.rap.rwt.internal.lifecycle.RemoteAdapter;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil;
@@ -54,25 +54,37 @@ public final class TreeItemLCA extends WidgetLCA<TreeItem> {
   static final String PROP_GRAYED = "grayed";
   private static final String PROP_CACHED = "cached";
 
+  private static final int SLOT_INDEX = getSlot( PROP_INDEX );
+  private static final int SLOT_ITEM_COUNT = getSlot( PROP_ITEM_COUNT );
+  private static final int SLOT_TEXTS = getSlot( PROP_TEXTS );
+  private static final int SLOT_IMAGES = getSlot( PROP_IMAGES );
+  private static final int SLOT_CELL_BACKGROUNDS = getSlot( PROP_CELL_BACKGROUNDS );
+  private static final int SLOT_CELL_FOREGROUNDS = getSlot( PROP_CELL_FOREGROUNDS );
+  private static final int SLOT_CELL_FONTS = getSlot( PROP_CELL_FONTS );
+  private static final int SLOT_EXPANDED = getSlot( PROP_EXPANDED );
+  private static final int SLOT_CHECKED = getSlot( PROP_CHECKED );
+  private static final int SLOT_GRAYED = getSlot( PROP_GRAYED );
+  private static final int SLOT_CACHED = getSlot( PROP_CACHED );
+
   private static final int DEFAULT_ITEM_COUNT = 0;
 
   @Override
   public void preserveValues( TreeItem item ) {
-    preserveProperty( item, PROP_INDEX, getIndex( item ) );
-    preserveProperty( item, PROP_CACHED, isCached( item ) );
+    preserveProperty( item, SLOT_INDEX, getIndex( item ) );
+    preserveProperty( item, SLOT_CACHED, isCached( item ) );
     if( isCached( item ) ) {
-      preserveProperty( item, PROP_ITEM_COUNT, item.getItemCount() );
-      preserveProperty( item, PROP_TEXTS, getTexts( item ) );
-      preserveProperty( item, PROP_IMAGES, getImages( item ) );
+      preserveProperty( item, SLOT_ITEM_COUNT, item.getItemCount() );
+      preserveProperty( item, SLOT_TEXTS, getTexts( item ) );
+      preserveProperty( item, SLOT_IMAGES, getImages( item ) );
       WidgetLCAUtil.preserveBackground( item, getUserBackground( item ) );
       WidgetLCAUtil.preserveForeground( item, getUserForeground( item ) );
       WidgetLCAUtil.preserveFont( item, getUserFont( item ) );
-      preserveProperty( item, PROP_CELL_BACKGROUNDS, getCellBackgrounds( item ) );
-      preserveProperty( item, PROP_CELL_FOREGROUNDS, getCellForegrounds( item ) );
-      preserveProperty( item, PROP_CELL_FONTS, getCellFonts( item ) );
-      preserveProperty( item, PROP_EXPANDED, item.getExpanded() );
-      preserveProperty( item, PROP_CHECKED, item.getChecked() );
-      preserveProperty( item, PROP_GRAYED, item.getGrayed() );
+      preserveProperty( item, SLOT_CELL_BACKGROUNDS, getCellBackgrounds( item ) );
+      preserveProperty( item, SLOT_CELL_FOREGROUNDS, getCellForegrounds( item ) );
+      preserveProperty( item, SLOT_CELL_FONTS, getCellFonts( item ) );
+      preserveProperty( item, SLOT_EXPANDED, item.getExpanded() );
+      preserveProperty( item, SLOT_CHECKED, item.getChecked() );
+      preserveProperty( item, SLOT_GRAYED, item.getGrayed() );
     }
   }
 
@@ -86,7 +98,7 @@ public final class TreeItemLCA extends WidgetLCA<TreeItem> {
 
   @Override
   public void renderChanges( final TreeItem item ) throws IOException {
-    renderProperty( item, PROP_INDEX, getIndex( item ), -1 );
+    renderProperty( item, SLOT_INDEX, getIndex( item ), -1 );
     if( wasCleared( item ) ) {
       renderClear( item );
     } else if( isCached( item ) ) {
@@ -109,7 +121,7 @@ public final class TreeItemLCA extends WidgetLCA<TreeItem> {
   }
 
   private static void renderProperties( TreeItem item ) {
-    renderProperty( item, PROP_ITEM_COUNT, item.getItemCount(), DEFAULT_ITEM_COUNT );
+    renderProperty( item, SLOT_ITEM_COUNT, item.getItemCount(), DEFAULT_ITEM_COUNT );
     renderProperty( item, PROP_TEXTS, getTexts( item ), null );
     renderProperty( item, PROP_IMAGES, getImages( item ), null );
     WidgetLCAUtil.renderBackground( item, getUserBackground( item ) );
@@ -120,9 +132,9 @@ public final class TreeItemLCA extends WidgetLCA<TreeItem> {
     renderProperty( item, PROP_CELL_BACKGROUNDS, getCellBackgrounds( item ), null );
     renderProperty( item, PROP_CELL_FOREGROUNDS, getCellForegrounds( item ), null );
     renderProperty( item, PROP_CELL_FONTS, getCellFonts( item ), null );
-    renderProperty( item, PROP_EXPANDED, item.getExpanded(), false );
-    renderProperty( item, PROP_CHECKED, item.getChecked(), false );
-    renderProperty( item, PROP_GRAYED, item.getGrayed(), false );
+    renderProperty( item, SLOT_EXPANDED, item.getExpanded(), false );
+    renderProperty( item, SLOT_CHECKED, item.getChecked(), false );
+    renderProperty( item, SLOT_GRAYED, item.getGrayed(), false );
   }
 
   @Override
@@ -155,9 +167,9 @@ public final class TreeItemLCA extends WidgetLCA<TreeItem> {
   }
 
   private static boolean wasCached( TreeItem item ) {
-    RemoteAdapter adapter = WidgetUtil.getAdapter( item );
+    WidgetRemoteAdapter adapter = ( WidgetRemoteAdapter )WidgetUtil.getAdapter( item );
     if( adapter.isInitialized() ) {
-      return Boolean.TRUE.equals( adapter.getPreserved( PROP_CACHED ) );
+      return adapter.isPreserved( SLOT_CACHED, true );
     }
     return false;
   }
@@ -0,0 +1,200 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.ui.internal.registry;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+
+import org.eclipse.core.runtime.IExtensionRegistry;
+import org.eclipse.core.runtime.IRegistryChangeEvent;
+import org.eclipse.core.runtime.IRegistryChangeListener;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.SingletonUtil;
+import org.eclipse.rap.rwt.service.ApplicationContextEvent;
+import org.eclipse.rap.rwt.service.ApplicationContextListener;
+import org.eclipse.ui.PlatformUI;
+
+
+/**
+ * Application wide store for the data that the workbench registries read from the extension
+ * registry. The registries of a session used to read the same contributions again for every
+ * session, now they share immutable snapshots of that data and only keep their session specific
+ * state.
+ * <p>
+ * Snapshots are created on demand for the locale of the current session, since translated
+ * attributes of the contributions may be read while a snapshot is created. A snapshot is
+ * discarded as soon as one of the extension points that it has been read from changes, the next
+ * request for it creates a new snapshot. Snapshots must not be modified after they have been
+ * created.
+ * </p>
+ * <p>
+ * Snapshots are used by the view registry and by the new, import and export wizard registries.
+ * The following registries still read the extension registry per session, because the
+ * descriptors they create are modified by their session:
+ * </p>
+ * <ul>
+ *   <li>{@link ActionSetRegistry}: defines a context per action set in the context service of the
+ *   session and its descriptors keep the initial visibility of the action sets</li>
+ *   <li>{@link PerspectiveRegistry}: its descriptors are customized, saved and reverted by the
+ *   session</li>
+ *   <li>{@link EditorRegistry}: the file editor mappings and the default editors are changed and
+ *   persisted by the session</li>
+ *   <li><code>DecoratorManager</code>: its decorator definitions keep the enablement of the
+ *   session</li>
+ * </ul>
+ */
+public final class RegistrySnapshots {
+
+  /**
+   * Creates a snapshot, called at most once per snapshot type and locale as long as the
+   * extension points of the snapshot do not change.
+   */
+  public interface SnapshotFactory {
+    Object createSnapshot();
+  }
+
+  private final Map snapshots;
+  private final IRegistryChangeListener registryListener;
+  private long generation;
+
+  /**
+   * Returns the snapshots of the current application.
+   */
+  public static RegistrySnapshots getInstance() {
+    return SingletonUtil.getUniqueInstance( RegistrySnapshots.class,
+                                            RWT.getApplicationContext() );
+  }
+
+  private RegistrySnapshots() {
+    snapshots = new HashMap();
+    registryListener = new IRegistryChangeListener() {
+      public void registryChanged( IRegistryChangeEvent event ) {
+        discardChangedSnapshots( event );
+      }
+    };
+    final IExtensionRegistry registry = Platform.getExtensionRegistry();
+    registry.addRegistryChangeListener( registryListener,
+                                        PlatformUI.PLUGIN_EXTENSION_NAME_SPACE );
+    RWT.getApplicationContext().addApplicationContextListener( new ApplicationContextListener() {
+      public void beforeDestroy( ApplicationContextEvent event ) {
+        registry.removeRegistryChangeListener( registryListener );
+      }
+    } );
+  }
+
+  /**
+   * Returns the snapshot of the given type for the locale of the current session. A new snapshot
+   * is created with the given factory if there is none yet.
+   *
+   * @param type the type of the snapshot
+   * @param extensionPoints the simple ids of the workbench extension points that the snapshot is
+   *        read from
+   * @param factory the factory to create the snapshot with
+   * @return the snapshot, never <code>null</code>
+   */
+  public Object getSnapshot( Class type, String[] extensionPoints, SnapshotFactory factory ) {
+    Key key = new Key( type, RWT.getLocale() );
+    long expectedGeneration;
+    synchronized( snapshots ) {
+      Entry entry = ( Entry )snapshots.get( key );
+      if( entry != null ) {
+        return entry.snapshot;
+      }
+      expectedGeneration = generation;
+    }
+    // creating a snapshot reads the extension registry and must not block other snapshots
+    Object snapshot = factory.createSnapshot();
+    synchronized( snapshots ) {
+      Entry entry = ( Entry )snapshots.get( key );
+      if( entry != null ) {
+        return entry.snapshot;
+      }
+      // a snapshot that was created while the registry changed may already be outdated
+      if( generation == expectedGeneration ) {
+        snapshots.put( key, new Entry( extensionPoints, snapshot ) );
+      }
+    }
+    return snapshot;
+  }
+
+  /**
+   * Returns the number of snapshots that are currently held.
+   */
+  public int getSnapshotCount() {
+    synchronized( snapshots ) {
+      return snapshots.size();
+    }
+  }
+
+  void discardChangedSnapshots( IRegistryChangeEvent event ) {
+    synchronized( snapshots ) {
+      generation++;
+      Iterator iterator = snapshots.values().iterator();
+      while( iterator.hasNext() ) {
+        Entry entry = ( Entry )iterator.next();
+        if( entry.isAffectedBy( event ) ) {
+          iterator.remove();
+        }
+      }
+    }
+  }
+
+  private static final class Entry {
+
+    private final String[] extensionPoints;
+    final Object snapshot;
+
+    Entry( String[] extensionPoints, Object snapshot ) {
+      this.extensionPoints = extensionPoints;
+      this.snapshot = snapshot;
+    }
+
+    boolean isAffectedBy( IRegistryChangeEvent event ) {
+      for( int i = 0; i < extensionPoints.length; i++ ) {
+        String namespace = PlatformUI.PLUGIN_EXTENSION_NAME_SPACE;
+        if( event.getExtensionDeltas( namespace, extensionPoints[ i ] ).length > 0 ) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+  }
+
+  private static final class Key {
+
+    private final Class type;
+    private final Locale locale;
+
+    Key( Class type, Locale locale ) {
+      this.type = type;
+      this.locale = locale;
+    }
+
+    public boolean equals( Object object ) {
+      boolean result = object == this;
+      if( !result && object instanceof Key ) {
+        Key other = ( Key )object;
+        result = type == other.type && locale.equals( other.locale );
+      }
+      return result;
+    }
+
+    public int hashCode() {
+      return type.hashCode() * 31 + locale.hashCode();
+    }
+
+  }
+
+}
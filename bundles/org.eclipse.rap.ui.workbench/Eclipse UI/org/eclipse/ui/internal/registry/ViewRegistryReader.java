@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2008 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -26,7 +26,7 @@ public class ViewRegistryReader extends RegistryReader {
 	 */
 	public static String GENERAL_VIEW_ID = "org.eclipse.ui";	//$NON-NLS-1$
 	
-	private ViewRegistry viewRegistry;
+	private ViewRegistrySnapshot viewRegistry;
 
     /**
      * RegistryViewReader constructor comment.
@@ -100,9 +100,9 @@ public class ViewRegistryReader extends RegistryReader {
     /**
      * Read the view extensions within a registry.
      * @param in the extension registry
-     * @param out the view registry
+     * @param out the snapshot to add the descriptors to
      */
-    public void readViews(IExtensionRegistry in, ViewRegistry out) {
+    void readViews(IExtensionRegistry in, ViewRegistrySnapshot out) {
         // this does not seem to really ever be throwing an the exception
         viewRegistry = out;
         // RAP [bm]: namespace
@@ -0,0 +1,161 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.ui.internal.registry;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import org.eclipse.core.runtime.IExtensionRegistry;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.ui.internal.WorkbenchPlugin;
+import org.eclipse.ui.views.IViewDescriptor;
+
+import com.ibm.icu.text.MessageFormat;
+
+
+/**
+ * The view, category and sticky view descriptors that are contributed to the views extension
+ * point, shared by the view registries of all sessions. The views are mapped to their categories
+ * when the snapshot is read, a snapshot is not modified afterwards.
+ */
+final class ViewRegistrySnapshot {
+
+  static final String[] EXTENSION_POINTS = new String[] {
+    IWorkbenchRegistryConstants.PL_VIEWS
+  };
+
+  private final SortedSet views;
+  private final Map viewsById;
+  private final List categories;
+  private final List sticky;
+  private Category miscCategory;
+
+  /**
+   * Returns the snapshot for the current session, the views extension point is read if there is
+   * no snapshot yet.
+   */
+  static ViewRegistrySnapshot getInstance() {
+    RegistrySnapshots.SnapshotFactory factory = new RegistrySnapshots.SnapshotFactory() {
+      public Object createSnapshot() {
+        return read( Platform.getExtensionRegistry() );
+      }
+    };
+    RegistrySnapshots snapshots = RegistrySnapshots.getInstance();
+    Class type = ViewRegistrySnapshot.class;
+    return ( ViewRegistrySnapshot )snapshots.getSnapshot( type, EXTENSION_POINTS, factory );
+  }
+
+  static ViewRegistrySnapshot read( IExtensionRegistry registry ) {
+    ViewRegistrySnapshot result = new ViewRegistrySnapshot();
+    new ViewRegistryReader().readViews( registry, result );
+    result.mapViewsToCategories();
+    return result;
+  }
+
+  private ViewRegistrySnapshot() {
+    views = new TreeSet( new ViewRegistry.ViewDescriptorComparator() );
+    viewsById = new HashMap();
+    categories = new ArrayList();
+    sticky = new ArrayList();
+  }
+
+  void add( Category category ) {
+    if( findCategory( category.getId() ) == null ) {
+      categories.add( category );
+    }
+  }
+
+  void add( ViewDescriptor view ) {
+    if( views.add( view ) ) {
+      viewsById.put( view.getId(), view );
+    }
+  }
+
+  void add( StickyViewDescriptor stickyView ) {
+    if( !sticky.contains( stickyView ) ) {
+      sticky.add( stickyView );
+    }
+  }
+
+  /**
+   * Returns the views ordered by their id.
+   */
+  SortedSet getViews() {
+    return Collections.unmodifiableSortedSet( views );
+  }
+
+  IViewDescriptor findView( String id ) {
+    return ( IViewDescriptor )viewsById.get( id );
+  }
+
+  List getCategories() {
+    return Collections.unmodifiableList( categories );
+  }
+
+  Category findCategory( String id ) {
+    for( Iterator iterator = categories.iterator(); iterator.hasNext(); ) {
+      Category category = ( Category )iterator.next();
+      if( id.equals( category.getRootPath() ) ) {
+        return category;
+      }
+    }
+    return null;
+  }
+
+  List getStickyViews() {
+    return Collections.unmodifiableList( sticky );
+  }
+
+  Category getMiscCategory() {
+    return miscCategory;
+  }
+
+  private void mapViewsToCategories() {
+    for( Iterator iterator = views.iterator(); iterator.hasNext(); ) {
+      IViewDescriptor view = ( IViewDescriptor )iterator.next();
+      Category category = null;
+      String[] categoryPath = view.getCategoryPath();
+      if( categoryPath != null ) {
+        category = findCategory( categoryPath[ 0 ] );
+      }
+      if( category != null ) {
+        if( !category.hasElement( view ) ) {
+          category.addElement( view );
+        }
+      } else {
+        if( miscCategory == null ) {
+          miscCategory = new Category();
+          add( miscCategory );
+        }
+        if( categoryPath != null ) {
+          // the view specified a category that does not exist, it is added to the 'Other'
+          // category and a message is logged
+          String pattern = "Category {0} not found for view {1}.  " //$NON-NLS-1$
+                           + "This view added to ''{2}'' category."; //$NON-NLS-1$
+          Object[] arguments = new Object[] {
+            categoryPath[ 0 ],
+            view.getId(),
+            miscCategory.getLabel()
+          };
+          WorkbenchPlugin.log( MessageFormat.format( pattern, arguments ) );
+        }
+        miscCategory.addElement( view );
+      }
+    }
+  }
+
+}
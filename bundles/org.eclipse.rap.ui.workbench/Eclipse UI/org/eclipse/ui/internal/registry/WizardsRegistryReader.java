@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2008 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -486,6 +486,20 @@ public class WizardsRegistryReader extends RegistryReader {
         return (WorkbenchWizardElement[]) WorkbenchActivityHelper.restrictArray(primaryWizards);
     }
 
+    /**
+     * Returns the list of wizards that are considered 'primary', including
+     * the wizards that are restricted by the activities of the current
+     * session.
+     * 
+     * @return the primary wizards
+     */
+    public WorkbenchWizardElement [] getAllPrimaryWizards() {
+        if (!areWizardsRead()) {
+            readWizards();
+        }
+        return (WorkbenchWizardElement[]) primaryWizards.clone();
+    }
+
 
     /**
      * Returns whether the wizards have been read already
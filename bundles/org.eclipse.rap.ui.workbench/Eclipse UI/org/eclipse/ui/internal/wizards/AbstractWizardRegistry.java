@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2006 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -117,7 +117,7 @@ public abstract class AbstractWizardRegistry implements IWizardRegistry {
 	 * 
 	 * @return whether the registry has been read
 	 */
-	private boolean isInitialized() {
+	protected boolean isInitialized() {
 		return initialized;
 	}
 
@@ -0,0 +1,347 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.e4.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.Dictionary;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.e4.core.contexts.ContextInjectionFactory;
+import org.eclipse.e4.core.contexts.EclipseContextFactory;
+import org.eclipse.e4.core.contexts.IEclipseContext;
+import org.eclipse.e4.core.services.events.IEventBroker;
+import org.eclipse.e4.core.services.log.Logger;
+import org.eclipse.e4.ui.di.UISynchronize;
+import org.eclipse.e4.ui.internal.workbench.swt.E4Application;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.ServiceRegistration;
+import org.osgi.service.event.Event;
+import org.osgi.service.event.EventAdmin;
+import org.osgi.service.event.EventConstants;
+import org.osgi.service.event.EventHandler;
+
+
+@SuppressWarnings( "restriction" )
+public class RAPEventBroker_Test {
+
+  private static final String INSTANCE_ID = "instance";
+
+  private EventAdmin eventAdmin;
+  private BundleContext bundleContext;
+  private ServiceRegistration<?> serviceRegistration;
+  private Activator activator;
+  private List<Runnable> asyncRunnables;
+  private IEclipseContext context;
+  private RAPEventBroker broker;
+
+  @Before
+  public void setUp() throws Exception {
+    eventAdmin = mock( EventAdmin.class );
+    bundleContext = mock( BundleContext.class );
+    serviceRegistration = mock( ServiceRegistration.class );
+    doReturn( serviceRegistration ).when( bundleContext )
+      .registerService( anyString(), any(), any( Dictionary.class ) );
+    activator = new Activator() {
+      @Override
+      public EventAdmin getEventAdmin() {
+        return eventAdmin;
+      }
+    };
+    activator.start( bundleContext );
+    asyncRunnables = new ArrayList<Runnable>();
+    context = EclipseContextFactory.create();
+    context.set( E4Application.INSTANCEID, INSTANCE_ID );
+    context.set( Logger.class, mock( Logger.class ) );
+    context.set( UISynchronize.class, createUISynchronize() );
+    broker = createBroker( context );
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    System.clearProperty( RAPEventBroker.ENABLE_SELECTIVE_EVENT_ADMIN );
+    context.dispose();
+    activator.stop( bundleContext );
+  }
+
+  @Test
+  public void testSend_deliversToSubscriber() {
+    List<Event> events = subscribe( "a/b" );
+
+    assertTrue( broker.send( "a/b", "data" ) );
+
+    assertEquals( 1, events.size() );
+    assertEquals( INSTANCE_ID + "/a/b", events.get( 0 ).getTopic() );
+    assertEquals( "data", events.get( 0 ).getProperty( IEventBroker.DATA ) );
+  }
+
+  @Test
+  public void testSend_withoutMatchingSubscriber() {
+    List<Event> events = subscribe( "a/b" );
+
+    broker.send( "a/c", "data" );
+
+    assertTrue( events.isEmpty() );
+  }
+
+  @Test
+  public void testSend_withWildcardSubscription() {
+    List<Event> events = subscribe( "a/*" );
+
+    broker.send( "a/b/c", "data" );
+
+    assertEquals( 1, events.size() );
+  }
+
+  @Test
+  public void testSend_withMapData() {
+    List<Event> events = subscribe( "a/b" );
+    Map<String, Object> data = new HashMap<String, Object>();
+    data.put( "key", "value" );
+
+    broker.send( "a/b", data );
+
+    assertEquals( "value", events.get( 0 ).getProperty( "key" ) );
+  }
+
+  @Test
+  public void testSend_forwardsToEventAdmin() {
+    broker.send( "a/b", "data" );
+
+    ArgumentCaptor<Event> captor = ArgumentCaptor.forClass( Event.class );
+    verify( eventAdmin ).sendEvent( captor.capture() );
+    assertEquals( INSTANCE_ID + "/a/b", captor.getValue().getTopic() );
+  }
+
+  @Test
+  public void testSend_withSelectiveEventAdmin_withoutHeadlessSubscription() {
+    System.setProperty( RAPEventBroker.ENABLE_SELECTIVE_EVENT_ADMIN, "true" );
+    broker = createBroker( context );
+    List<Event> events = subscribe( "a/b" );
+
+    broker.send( "a/b", "data" );
+
+    assertEquals( 1, events.size() );
+    verify( eventAdmin, never() ).sendEvent( any( Event.class ) );
+  }
+
+  @Test
+  public void testSend_withSelectiveEventAdmin_withHeadlessSubscription() {
+    System.setProperty( RAPEventBroker.ENABLE_SELECTIVE_EVENT_ADMIN, "true" );
+    broker = createBroker( context );
+    broker.subscribe( "a/*", null, mock( EventHandler.class ), true );
+
+    broker.send( "a/b", "data" );
+
+    verify( eventAdmin ).sendEvent( any( Event.class ) );
+  }
+
+  @Test
+  public void testPost_deliversAsynchronously() {
+    List<Event> events = subscribe( "a/b" );
+
+    assertTrue( broker.post( "a/b", "data" ) );
+
+    assertTrue( events.isEmpty() );
+    runAsyncRunnables();
+    assertEquals( 1, events.size() );
+    assertTrue( RAPEventBroker.isAsyncEvent( events.get( 0 ) ) );
+  }
+
+  @Test
+  public void testPost_forwardsToEventAdmin() {
+    broker.post( "a/b", "data" );
+
+    verify( eventAdmin ).postEvent( any( Event.class ) );
+  }
+
+  @Test
+  public void testSubscribe_headlessRegistersWithEventAdmin() {
+    EventHandler handler = mock( EventHandler.class );
+
+    assertTrue( broker.subscribe( "a/b", null, handler, true ) );
+    broker.send( "a/b", "data" );
+
+    ArgumentCaptor<Dictionary> captor = ArgumentCaptor.forClass( Dictionary.class );
+    verify( bundleContext ).registerService( eq( EventHandler.class.getName() ),
+                                             any(),
+                                             captor.capture() );
+    String[] topics = ( String[] )captor.getValue().get( EventConstants.EVENT_TOPIC );
+    assertEquals( INSTANCE_ID + "/a/b", topics[ 0 ] );
+    // headless handlers receive the event from the EventAdmin only
+    verify( handler, never() ).handleEvent( any( Event.class ) );
+  }
+
+  @Test
+  public void testSubscribe_withoutUISynchronizeRegistersWithEventAdmin() {
+    context.remove( UISynchronize.class );
+    broker = createBroker( context );
+
+    broker.subscribe( "a/b", mock( EventHandler.class ) );
+
+    verify( bundleContext ).registerService( eq( EventHandler.class.getName() ),
+                                             any(),
+                                             any( Dictionary.class ) );
+  }
+
+  @Test
+  public void testSubscribe_withFilter() {
+    List<Event> events = new ArrayList<Event>();
+    broker.subscribe( "a/b", "(key=value)", createHandler( events ), false );
+
+    broker.send( "a/b", createData( "other" ) );
+    broker.send( "a/b", createData( "value" ) );
+
+    assertEquals( 1, events.size() );
+    assertEquals( "value", events.get( 0 ).getProperty( "key" ) );
+  }
+
+  @Test
+  public void testSubscribe_withInvalidFilter() {
+    assertFalse( broker.subscribe( "a/b", "(key=", mock( EventHandler.class ), false ) );
+  }
+
+  @Test
+  public void testSend_deliversToSubscribersOfOtherBrokersOfInstance() {
+    List<Event> events = subscribe( "a/b" );
+    RAPEventBroker otherBroker = createBroker( context.createChild() );
+
+    otherBroker.send( "a/b", "data" );
+
+    assertEquals( 1, events.size() );
+  }
+
+  @Test
+  public void testSend_doesNotDeliverToOtherInstances() {
+    List<Event> events = subscribe( "a/b" );
+    IEclipseContext otherContext = EclipseContextFactory.create();
+    otherContext.set( E4Application.INSTANCEID, "other" );
+    otherContext.set( Logger.class, mock( Logger.class ) );
+    otherContext.set( UISynchronize.class, createUISynchronize() );
+
+    createBroker( otherContext ).send( "a/b", "data" );
+
+    assertTrue( events.isEmpty() );
+    otherContext.dispose();
+  }
+
+  @Test
+  public void testUnsubscribe() {
+    List<Event> events = new ArrayList<Event>();
+    EventHandler handler = createHandler( events );
+    broker.subscribe( "a/b", handler );
+    broker.subscribe( "a/c", handler );
+
+    assertTrue( broker.unsubscribe( handler ) );
+    broker.send( "a/b", "data" );
+    broker.send( "a/c", "data" );
+
+    assertTrue( events.isEmpty() );
+  }
+
+  @Test
+  public void testUnsubscribe_unknownHandler() {
+    assertFalse( broker.unsubscribe( mock( EventHandler.class ) ) );
+  }
+
+  @Test
+  public void testUnsubscribe_headlessHandler() {
+    EventHandler handler = mock( EventHandler.class );
+    broker.subscribe( "a/b", null, handler, true );
+
+    broker.unsubscribe( handler );
+
+    verify( serviceRegistration ).unregister();
+  }
+
+  @Test
+  public void testDispose_removesSubscriptions() {
+    List<Event> events = subscribe( "a/b" );
+    broker.subscribe( "a/c", null, mock( EventHandler.class ), true );
+
+    broker.dispose();
+    createBroker( context ).send( "a/b", "data" );
+
+    assertTrue( events.isEmpty() );
+    verify( serviceRegistration ).unregister();
+  }
+
+  private RAPEventBroker createBroker( IEclipseContext context ) {
+    return ContextInjectionFactory.make( RAPEventBroker.class, context );
+  }
+
+  private List<Event> subscribe( String topic ) {
+    List<Event> result = new ArrayList<Event>();
+    broker.subscribe( topic, createHandler( result ) );
+    return result;
+  }
+
+  private static EventHandler createHandler( final List<Event> events ) {
+    return new EventHandler() {
+      @Override
+      public void handleEvent( Event event ) {
+        events.add( event );
+      }
+    };
+  }
+
+  private static Map<String, Object> createData( String value ) {
+    Map<String, Object> result = new HashMap<String, Object>();
+    result.put( "key", value );
+    return result;
+  }
+
+  private UISynchronize createUISynchronize() {
+    UISynchronize result = mock( UISynchronize.class );
+    doAnswer( new Answer<Object>() {
+      @Override
+      public Object answer( InvocationOnMock invocation ) {
+        ( ( Runnable )invocation.getArgument( 0 ) ).run();
+        return null;
+      }
+    } ).when( result ).syncExec( any( Runnable.class ) );
+    doAnswer( new Answer<Object>() {
+      @Override
+      public Object answer( InvocationOnMock invocation ) {
+        asyncRunnables.add( ( Runnable )invocation.getArgument( 0 ) );
+        return null;
+      }
+    } ).when( result ).asyncExec( any( Runnable.class ) );
+    return result;
+  }
+
+  private void runAsyncRunnables() {
+    for( Runnable runnable : asyncRunnables ) {
+      runnable.run();
+    }
+    asyncRunnables.clear();
+  }
+
+}
@@ -0,0 +1,245 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.e4.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Dictionary;
+import java.util.Hashtable;
+import java.util.List;
+
+import org.eclipse.e4.core.contexts.ContextInjectionFactory;
+import org.eclipse.e4.core.contexts.EclipseContextFactory;
+import org.eclipse.e4.core.contexts.IEclipseContext;
+import org.eclipse.e4.core.di.IInjector;
+import org.eclipse.e4.core.di.extensions.EventTopic;
+import org.eclipse.e4.core.di.suppliers.IObjectDescriptor;
+import org.eclipse.e4.core.di.suppliers.IRequestor;
+import org.eclipse.e4.core.services.events.IEventBroker;
+import org.eclipse.e4.core.services.log.Logger;
+import org.eclipse.e4.ui.internal.workbench.swt.E4Application;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.ServiceRegistration;
+import org.osgi.service.event.Event;
+import org.osgi.service.event.EventAdmin;
+import org.osgi.service.event.EventConstants;
+import org.osgi.service.event.EventHandler;
+
+
+@SuppressWarnings( "restriction" )
+public class RAPEventObjectSupplier_Test {
+
+  private static final String INSTANCE_ID = "instance";
+
+  private BundleContext bundleContext;
+  private ServiceRegistration<?> serviceRegistration;
+  private Activator activator;
+  private IEclipseContext context;
+  private IObjectDescriptor descriptor;
+  private IRequestor requestor;
+
+  @Before
+  public void setUp() throws Exception {
+    final EventAdmin eventAdmin = mock( EventAdmin.class );
+    bundleContext = mock( BundleContext.class );
+    serviceRegistration = mock( ServiceRegistration.class );
+    doReturn( serviceRegistration ).when( bundleContext )
+      .registerService( anyString(), any(), any( Dictionary.class ) );
+    activator = new Activator() {
+      @Override
+      public EventAdmin getEventAdmin() {
+        return eventAdmin;
+      }
+    };
+    activator.start( bundleContext );
+    context = EclipseContextFactory.create();
+    context.set( E4Application.INSTANCEID, INSTANCE_ID );
+    context.set( Logger.class, mock( Logger.class ) );
+    descriptor = createDescriptor( "a/b" );
+    requestor = mock( IRequestor.class );
+    when( Boolean.valueOf( requestor.isValid() ) ).thenReturn( Boolean.TRUE );
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    context.dispose();
+    activator.stop( bundleContext );
+  }
+
+  @Test
+  public void testGet_withoutEvent() {
+    RAPEventObjectSupplier supplier = createSupplier();
+
+    assertSame( IInjector.NOT_A_VALUE, supplier.get( descriptor, requestor, true, false ) );
+  }
+
+  @Test
+  public void testGet_subscribesHeadlessWithEventBroker() {
+    context.set( IEventBroker.class, ContextInjectionFactory.make( RAPEventBroker.class, context ) );
+    RAPEventObjectSupplier supplier = createSupplier();
+
+    supplier.get( descriptor, requestor, true, false );
+
+    assertEquals( INSTANCE_ID + "/a/b", getRegisteredTopic() );
+  }
+
+  @Test
+  public void testGet_withoutRAPEventBroker_registersEventHandler() {
+    context.set( IEventBroker.class, mock( IEventBroker.class ) );
+    RAPEventObjectSupplier supplier = createSupplier();
+
+    supplier.get( descriptor, requestor, true, false );
+
+    assertEquals( INSTANCE_ID + "/a/b", getRegisteredTopic() );
+  }
+
+  @Test
+  public void testGet_withoutEventBroker_registersEventHandler() {
+    RAPEventObjectSupplier supplier = createSupplier();
+
+    supplier.get( descriptor, requestor, true, false );
+
+    assertEquals( INSTANCE_ID + "/a/b", getRegisteredTopic() );
+  }
+
+  @Test
+  public void testGet_subscribesOnce() {
+    RAPEventObjectSupplier supplier = createSupplier();
+
+    supplier.get( descriptor, requestor, true, false );
+    supplier.get( descriptor, requestor, true, false );
+
+    verify( bundleContext ).registerService( anyString(), any(), any( Dictionary.class ) );
+  }
+
+  @Test
+  public void testHandleEvent_injectsEventData() {
+    RAPEventObjectSupplier supplier = createSupplier();
+    supplier.get( descriptor, requestor, true, false );
+    List<Object> resolved = resolveOnEvent( supplier );
+
+    getRegisteredHandler().handleEvent( createEvent( "data" ) );
+
+    assertEquals( 1, resolved.size() );
+    assertEquals( "data", resolved.get( 0 ) );
+    verify( requestor ).execute();
+  }
+
+  @Test
+  public void testHandleEvent_withInvalidRequestor() {
+    RAPEventObjectSupplier supplier = createSupplier();
+    supplier.get( descriptor, requestor, true, false );
+    when( Boolean.valueOf( requestor.isValid() ) ).thenReturn( Boolean.FALSE );
+
+    getRegisteredHandler().handleEvent( createEvent( "data" ) );
+
+    verify( requestor, never() ).execute();
+    verify( serviceRegistration ).unregister();
+  }
+
+  @Test
+  public void testGet_withoutTracking_unsubscribes() {
+    context.set( IEventBroker.class, ContextInjectionFactory.make( RAPEventBroker.class, context ) );
+    RAPEventObjectSupplier supplier = createSupplier();
+    supplier.get( descriptor, requestor, true, false );
+
+    supplier.get( descriptor, requestor, false, false );
+
+    verify( serviceRegistration ).unregister();
+  }
+
+  @Test
+  public void testGet_withoutTracking_unregistersEventHandler() {
+    RAPEventObjectSupplier supplier = createSupplier();
+    supplier.get( descriptor, requestor, true, false );
+
+    supplier.get( descriptor, requestor, false, false );
+
+    verify( serviceRegistration ).unregister();
+  }
+
+  @Test
+  public void testDispose_unsubscribes() {
+    IEventBroker eventBroker = mock( IEventBroker.class );
+    context.set( IEventBroker.class, eventBroker );
+    RAPEventObjectSupplier supplier = createSupplier();
+    supplier.get( descriptor, requestor, true, false );
+
+    supplier.dispose();
+
+    verify( serviceRegistration ).unregister();
+    verify( eventBroker, never() ).unsubscribe( any( EventHandler.class ) );
+  }
+
+  private RAPEventObjectSupplier createSupplier() {
+    return ContextInjectionFactory.make( RAPEventObjectSupplier.class, context );
+  }
+
+  private List<Object> resolveOnEvent( final RAPEventObjectSupplier supplier ) {
+    final List<Object> result = new ArrayList<Object>();
+    doAnswer( new Answer<Object>() {
+      @Override
+      public Object answer( InvocationOnMock invocation ) {
+        result.add( supplier.get( descriptor, requestor, true, false ) );
+        return null;
+      }
+    } ).when( requestor ).resolveArguments( anyBoolean() );
+    return result;
+  }
+
+  private String getRegisteredTopic() {
+    ArgumentCaptor<Dictionary> captor = ArgumentCaptor.forClass( Dictionary.class );
+    verify( bundleContext ).registerService( eq( EventHandler.class.getName() ),
+                                             any(),
+                                             captor.capture() );
+    return ( ( String[] )captor.getValue().get( EventConstants.EVENT_TOPIC ) )[ 0 ];
+  }
+
+  private EventHandler getRegisteredHandler() {
+    ArgumentCaptor<Object> captor = ArgumentCaptor.forClass( Object.class );
+    verify( bundleContext ).registerService( anyString(), captor.capture(), any( Dictionary.class ) );
+    return ( EventHandler )captor.getValue();
+  }
+
+  private static Event createEvent( Object data ) {
+    Dictionary<String, Object> properties = new Hashtable<String, Object>();
+    properties.put( IEventBroker.DATA, data );
+    return new Event( INSTANCE_ID + "/a/b", properties );
+  }
+
+  private static IObjectDescriptor createDescriptor( String topic ) {
+    EventTopic qualifier = mock( EventTopic.class );
+    when( qualifier.value() ).thenReturn( topic );
+    IObjectDescriptor result = mock( IObjectDescriptor.class );
+    when( result.getQualifier( EventTopic.class ) ).thenReturn( qualifier );
+    when( result.getDesiredType() ).thenReturn( String.class );
+    return result;
+  }
+
+}
@@ -0,0 +1,182 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.e4.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Dictionary;
+import java.util.List;
+
+import org.eclipse.e4.core.contexts.ContextInjectionFactory;
+import org.eclipse.e4.core.contexts.EclipseContextFactory;
+import org.eclipse.e4.core.contexts.IEclipseContext;
+import org.eclipse.e4.core.di.suppliers.IObjectDescriptor;
+import org.eclipse.e4.core.di.suppliers.IRequestor;
+import org.eclipse.e4.core.services.events.IEventBroker;
+import org.eclipse.e4.core.services.log.Logger;
+import org.eclipse.e4.ui.di.UIEventTopic;
+import org.eclipse.e4.ui.di.UISynchronize;
+import org.eclipse.e4.ui.internal.workbench.swt.E4Application;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.ServiceRegistration;
+import org.osgi.service.event.EventAdmin;
+import org.osgi.service.event.EventConstants;
+import org.osgi.service.event.EventHandler;
+
+
+@SuppressWarnings( "restriction" )
+public class RAPUIEventObjectSupplier_Test {
+
+  private static final String INSTANCE_ID = "instance";
+
+  private BundleContext bundleContext;
+  private Activator activator;
+  private List<Runnable> asyncRunnables;
+  private IEclipseContext context;
+  private RAPEventBroker broker;
+  private IObjectDescriptor descriptor;
+  private IRequestor requestor;
+
+  @Before
+  public void setUp() throws Exception {
+    final EventAdmin eventAdmin = mock( EventAdmin.class );
+    bundleContext = mock( BundleContext.class );
+    doReturn( mock( ServiceRegistration.class ) ).when( bundleContext )
+      .registerService( anyString(), any(), any( Dictionary.class ) );
+    activator = new Activator() {
+      @Override
+      public EventAdmin getEventAdmin() {
+        return eventAdmin;
+      }
+    };
+    activator.start( bundleContext );
+    asyncRunnables = new ArrayList<Runnable>();
+    context = EclipseContextFactory.create();
+    context.set( E4Application.INSTANCEID, INSTANCE_ID );
+    context.set( Logger.class, mock( Logger.class ) );
+    context.set( UISynchronize.class, createUISynchronize() );
+    broker = ContextInjectionFactory.make( RAPEventBroker.class, context );
+    descriptor = createDescriptor( "a/b" );
+    requestor = mock( IRequestor.class );
+    when( Boolean.valueOf( requestor.isValid() ) ).thenReturn( Boolean.TRUE );
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    context.dispose();
+    activator.stop( bundleContext );
+  }
+
+  @Test
+  public void testGet_subscribesWithEventBrokerOfInstance() {
+    context.set( IEventBroker.class, broker );
+    createSupplier().get( descriptor, requestor, true, false );
+
+    broker.send( "a/b", "data" );
+
+    verify( requestor ).execute();
+    verify( bundleContext, never() ).registerService( anyString(), any(), any( Dictionary.class ) );
+  }
+
+  @Test
+  public void testHandleEvent_postedEventIsExecutedAsynchronously() {
+    context.set( IEventBroker.class, broker );
+    createSupplier().get( descriptor, requestor, true, false );
+
+    broker.post( "a/b", "data" );
+
+    verify( requestor, never() ).execute();
+    runAsyncRunnables();
+    verify( requestor ).execute();
+  }
+
+  @Test
+  public void testGet_withoutTracking_unsubscribes() {
+    context.set( IEventBroker.class, broker );
+    RAPEventObjectSupplier supplier = createSupplier();
+    supplier.get( descriptor, requestor, true, false );
+
+    supplier.get( descriptor, requestor, false, false );
+    broker.send( "a/b", "data" );
+
+    verify( requestor, never() ).execute();
+  }
+
+  @Test
+  public void testGet_withoutRAPEventBroker_registersEventHandler() {
+    context.set( IEventBroker.class, mock( IEventBroker.class ) );
+
+    createSupplier().get( descriptor, requestor, true, false );
+
+    ArgumentCaptor<Dictionary> captor = ArgumentCaptor.forClass( Dictionary.class );
+    verify( bundleContext ).registerService( eq( EventHandler.class.getName() ),
+                                             any(),
+                                             captor.capture() );
+    String[] topics = ( String[] )captor.getValue().get( EventConstants.EVENT_TOPIC );
+    assertEquals( INSTANCE_ID + "/a/b", topics[ 0 ] );
+  }
+
+  private RAPEventObjectSupplier createSupplier() {
+    return ContextInjectionFactory.make( RAPUIEventObjectSupplier.class, context );
+  }
+
+  private static IObjectDescriptor createDescriptor( String topic ) {
+    UIEventTopic qualifier = mock( UIEventTopic.class );
+    when( qualifier.value() ).thenReturn( topic );
+    IObjectDescriptor result = mock( IObjectDescriptor.class );
+    when( result.getQualifier( UIEventTopic.class ) ).thenReturn( qualifier );
+    when( result.getDesiredType() ).thenReturn( String.class );
+    return result;
+  }
+
+  private UISynchronize createUISynchronize() {
+    UISynchronize result = mock( UISynchronize.class );
+    doAnswer( new Answer<Object>() {
+      @Override
+      public Object answer( InvocationOnMock invocation ) {
+        ( ( Runnable )invocation.getArgument( 0 ) ).run();
+        return null;
+      }
+    } ).when( result ).syncExec( any( Runnable.class ) );
+    doAnswer( new Answer<Object>() {
+      @Override
+      public Object answer( InvocationOnMock invocation ) {
+        asyncRunnables.add( ( Runnable )invocation.getArgument( 0 ) );
+        return null;
+      }
+    } ).when( result ).asyncExec( any( Runnable.class ) );
+    return result;
+  }
+
+  private void runAsyncRunnables() {
+    for( Runnable runnable : asyncRunnables ) {
+      runnable.run();
+    }
+    asyncRunnables.clear();
+  }
+
+}
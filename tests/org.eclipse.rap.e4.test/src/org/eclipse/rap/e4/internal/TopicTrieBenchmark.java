@@ -0,0 +1,213 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.e4.internal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Compares the resolution of the subscribers of an event when the subscriptions of all sessions
+ * are kept in one application wide registry with instance prefixed topics, like the EventAdmin
+ * does, and when every session has its own {@link TopicTrie}.
+ * <p>
+ * The application wide registry is measured twice: with a linear scan over all subscriptions and
+ * with a lookup of the exact topic and of all its wildcard prefixes in a hash map, which is what
+ * the Equinox EventAdmin does. The benchmark only measures the resolution, the cost of the
+ * EventAdmin for copying events and for looking up handler services is not included.
+ * </p>
+ * <p>
+ * This is not a unit test, run it as a Java application:
+ * </p>
+ * <pre>
+ * java TopicTrieBenchmark [sessions] [subscriptions] [events]
+ * </pre>
+ */
+public class TopicTrieBenchmark {
+
+  private static final String[] ELEMENTS = {
+    "ElementContainer",
+    "UIElement",
+    "Part",
+    "PartStack",
+    "Window",
+    "TrimBar",
+    "MenuItem",
+    "ToolItem",
+    "Perspective",
+    "Dirtyable"
+  };
+
+  private final int sessionCount;
+  private final int subscriptionCount;
+  private final int eventCount;
+  private final List<Subscription> allSubscriptions;
+  private final Map<String, List<Subscription>> topicMap;
+  private final List<TopicTrie<Subscription>> sessionTries;
+
+  public static void main( String[] args ) {
+    int sessions = args.length > 0 ? Integer.parseInt( args[ 0 ] ) : 1000;
+    int subscriptions = args.length > 1 ? Integer.parseInt( args[ 1 ] ) : 200;
+    int events = args.length > 2 ? Integer.parseInt( args[ 2 ] ) : 20000;
+    System.out.println( "sessions: " + sessions
+                        + ", subscriptions per session: " + subscriptions
+                        + ", events: " + events );
+    TopicTrieBenchmark benchmark = new TopicTrieBenchmark( sessions, subscriptions, events );
+    // warm up before measuring
+    benchmark.run( false );
+    benchmark.run( true );
+  }
+
+  TopicTrieBenchmark( int sessionCount, int subscriptionCount, int eventCount ) {
+    this.sessionCount = sessionCount;
+    this.subscriptionCount = subscriptionCount;
+    this.eventCount = eventCount;
+    allSubscriptions = new ArrayList<Subscription>();
+    topicMap = new HashMap<String, List<Subscription>>();
+    sessionTries = new ArrayList<TopicTrie<Subscription>>();
+    subscribe();
+  }
+
+  void run( boolean report ) {
+    // the linear scan is far slower, it only resolves a fraction of the events
+    int scannedEvents = Math.max( eventCount / 100, 1 );
+    long start = System.nanoTime();
+    int scanMatches = resolveByScan( scannedEvents );
+    long scanDuration = ( System.nanoTime() - start ) * eventCount / scannedEvents;
+    start = System.nanoTime();
+    int mapMatches = resolveByTopicMap();
+    long mapDuration = System.nanoTime() - start;
+    start = System.nanoTime();
+    int trieMatches = resolveBySessionTries();
+    long trieDuration = System.nanoTime() - start;
+    if( mapMatches != trieMatches ) {
+      throw new IllegalStateException( "Different matches: " + mapMatches + ", " + trieMatches );
+    }
+    if( report ) {
+      long extrapolatedMatches = ( long )scanMatches * eventCount / scannedEvents;
+      print( "global scan (extrapolated)", scanDuration, extrapolatedMatches );
+      print( "global topic map", mapDuration, mapMatches );
+      print( "session topic tries", trieDuration, trieMatches );
+    }
+  }
+
+  private int resolveByScan( int events ) {
+    int result = 0;
+    for( int i = 0; i < events; i++ ) {
+      String topic = getInstanceTopic( i % sessionCount, getEventTopic( i ) );
+      for( Subscription subscription : allSubscriptions ) {
+        if( subscription.matches( topic ) ) {
+          result++;
+        }
+      }
+    }
+    return result;
+  }
+
+  private int resolveByTopicMap() {
+    int result = 0;
+    for( int i = 0; i < eventCount; i++ ) {
+      String topic = getInstanceTopic( i % sessionCount, getEventTopic( i ) );
+      result += size( topicMap.get( topic ) );
+      int index = topic.lastIndexOf( '/' );
+      while( index != -1 ) {
+        result += size( topicMap.get( topic.substring( 0, index + 1 ) + "*" ) );
+        index = topic.lastIndexOf( '/', index - 1 );
+      }
+      result += size( topicMap.get( "*" ) );
+    }
+    return result;
+  }
+
+  private int resolveBySessionTries() {
+    int result = 0;
+    List<Subscription> matching = new ArrayList<Subscription>();
+    for( int i = 0; i < eventCount; i++ ) {
+      TopicTrie<Subscription> trie = sessionTries.get( i % sessionCount );
+      trie.collect( getEventTopic( i ), matching );
+      result += matching.size();
+      matching.clear();
+    }
+    return result;
+  }
+
+  private void subscribe() {
+    for( int session = 0; session < sessionCount; session++ ) {
+      TopicTrie<Subscription> trie = new TopicTrie<Subscription>();
+      for( int i = 0; i < subscriptionCount; i++ ) {
+        String topic = getSubscriptionTopic( i );
+        Subscription subscription = new Subscription( getInstanceTopic( session, topic ) );
+        trie.add( topic, subscription );
+        allSubscriptions.add( subscription );
+        List<Subscription> subscriptions = topicMap.get( subscription.topic );
+        if( subscriptions == null ) {
+          subscriptions = new ArrayList<Subscription>();
+          topicMap.put( subscription.topic, subscriptions );
+        }
+        subscriptions.add( subscription );
+      }
+      sessionTries.add( trie );
+    }
+  }
+
+  private static String getSubscriptionTopic( int index ) {
+    String element = "org/eclipse/e4/ui/model/ui/" + ELEMENTS[ index % ELEMENTS.length ];
+    if( index % 20 == 1 ) {
+      return element + "/*";
+    }
+    String attribute = element + "/attribute" + index / ELEMENTS.length % 10;
+    return index % 4 == 0 ? attribute + "/*" : attribute + "/SET";
+  }
+
+  private static String getEventTopic( int index ) {
+    // a fixed stride spreads the events over the elements and attributes
+    return getSubscriptionTopic( index * 7 ).replace( "*", "ADD" );
+  }
+
+  private static String getInstanceTopic( int session, String topic ) {
+    return RAPEventBroker.rapifyTopic( "instance" + session, topic );
+  }
+
+  private static int size( List<Subscription> subscriptions ) {
+    return subscriptions == null ? 0 : subscriptions.size();
+  }
+
+  private void print( String strategy, long duration, long matches ) {
+    StringBuilder line = new StringBuilder( "  " ).append( strategy ).append( ':' );
+    while( line.length() < 32 ) {
+      line.append( ' ' );
+    }
+    line.append( duration / 1000000 ).append( " ms" );
+    long eventsPerSecond = eventCount * 1000000000L / Math.max( duration, 1 );
+    line.append( ", " ).append( eventsPerSecond ).append( " events/s" );
+    line.append( ", " ).append( matches ).append( " handlers" );
+    System.out.println( line );
+  }
+
+  private static final class Subscription {
+
+    final String topic;
+    private final String prefix;
+
+    Subscription( String topic ) {
+      this.topic = topic;
+      prefix = topic.endsWith( "*" ) ? topic.substring( 0, topic.length() - 1 ) : null;
+    }
+
+    boolean matches( String eventTopic ) {
+      return prefix == null ? topic.equals( eventTopic ) : eventTopic.startsWith( prefix );
+    }
+
+  }
+
+}
@@ -0,0 +1,173 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.e4.internal;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class TopicTrie_Test {
+
+  private TopicTrie<String> trie;
+
+  @Before
+  public void setUp() {
+    trie = new TopicTrie<String>();
+  }
+
+  @Test
+  public void testCollect_exactTopic() {
+    trie.add( "a/b/c", "abc" );
+    trie.add( "a/b", "ab" );
+
+    assertEquals( asList( "abc" ), collect( "a/b/c" ) );
+    assertEquals( asList( "ab" ), collect( "a/b" ) );
+  }
+
+  @Test
+  public void testCollect_withoutMatch() {
+    trie.add( "a/b/c", "abc" );
+
+    assertEquals( asList(), collect( "a/b" ) );
+    assertEquals( asList(), collect( "a/b/c/d" ) );
+    assertEquals( asList(), collect( "x" ) );
+  }
+
+  @Test
+  public void testCollect_wildcard() {
+    trie.add( "a/b/*", "ab*" );
+
+    assertEquals( asList( "ab*" ), collect( "a/b/c" ) );
+    assertEquals( asList( "ab*" ), collect( "a/b/c/d" ) );
+  }
+
+  @Test
+  public void testCollect_wildcardRequiresSegment() {
+    trie.add( "a/b/*", "ab*" );
+
+    assertEquals( asList(), collect( "a/b" ) );
+    assertEquals( asList(), collect( "a/bc/d" ) );
+  }
+
+  @Test
+  public void testCollect_rootWildcard() {
+    trie.add( "*", "*" );
+
+    assertEquals( asList( "*" ), collect( "a" ) );
+    assertEquals( asList( "*" ), collect( "a/b/c" ) );
+  }
+
+  @Test
+  public void testCollect_allMatchingSubscriptions() {
+    trie.add( "*", "*" );
+    trie.add( "a/*", "a*" );
+    trie.add( "a/b/*", "ab*" );
+    trie.add( "a/b/c", "abc" );
+    trie.add( "a/x/c", "axc" );
+
+    assertEquals( asList( "*", "a*", "ab*", "abc" ), collect( "a/b/c" ) );
+  }
+
+  @Test
+  public void testCollect_sameSubscriberTwice() {
+    trie.add( "a/b", "ab" );
+    trie.add( "a/b", "ab" );
+
+    assertEquals( asList( "ab", "ab" ), collect( "a/b" ) );
+  }
+
+  @Test
+  public void testCollect_returnsWhetherSubscribersWereAdded() {
+    trie.add( "a/b", "ab" );
+    List<String> result = new ArrayList<String>();
+    result.add( "existing" );
+
+    assertTrue( trie.collect( "a/b", result ) );
+    assertFalse( trie.collect( "a/c", result ) );
+  }
+
+  @Test
+  public void testMatches() {
+    trie.add( "a/*", "a*" );
+
+    assertTrue( trie.matches( "a/b" ) );
+    assertFalse( trie.matches( "b/a" ) );
+  }
+
+  @Test
+  public void testRemove() {
+    trie.add( "a/b/c", "abc" );
+    trie.add( "a/b/*", "ab*" );
+
+    assertTrue( trie.remove( "a/b/c", "abc" ) );
+    assertTrue( trie.remove( "a/b/*", "ab*" ) );
+
+    assertEquals( asList(), collect( "a/b/c" ) );
+    assertEquals( 0, trie.size() );
+  }
+
+  @Test
+  public void testRemove_keepsOtherSubscriptions() {
+    trie.add( "a/b", "ab" );
+    trie.add( "a/b/c", "abc" );
+    trie.add( "a/b", "other" );
+
+    trie.remove( "a/b", "ab" );
+
+    assertEquals( asList( "other" ), collect( "a/b" ) );
+    assertEquals( asList( "abc" ), collect( "a/b/c" ) );
+    assertEquals( 2, trie.size() );
+  }
+
+  @Test
+  public void testRemove_unknownSubscription() {
+    trie.add( "a/b", "ab" );
+
+    assertFalse( trie.remove( "a/b", "other" ) );
+    assertFalse( trie.remove( "a/c", "ab" ) );
+    assertFalse( trie.remove( "a/*", "ab" ) );
+    assertEquals( 1, trie.size() );
+  }
+
+  @Test
+  public void testSize() {
+    trie.add( "a/b", "ab" );
+    trie.add( "a/*", "a*" );
+
+    assertEquals( 2, trie.size() );
+  }
+
+  @Test
+  public void testClear() {
+    trie.add( "a/b", "ab" );
+    trie.add( "*", "*" );
+
+    trie.clear();
+
+    assertEquals( asList(), collect( "a/b" ) );
+    assertEquals( 0, trie.size() );
+  }
+
+  private List<String> collect( String topic ) {
+    List<String> result = new ArrayList<String>();
+    trie.collect( topic, result );
+    return result;
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2018 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,6 +10,7 @@
  ******************************************************************************/
 package org.eclipse.rap.fileupload;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
@@ -18,7 +19,9 @@ import static org.junit.Assert.assertTrue;
 
 import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 
@@ -107,6 +110,53 @@ public class DiskFileUploadReceiver_Test {
     assertEquals( content, FileUploadTestUtil.getFileContents( createdFile ) );
   }
 
+  @Test
+  public void testReceive_largeContent() throws IOException {
+    DiskFileUploadReceiver receiver = new DiskFileUploadReceiver();
+    byte[] content = createContent( 3 * 1024 * 1024 + 17 );
+
+    FileDetails details = new FileDetailsImpl( "large.bin", null );
+    receiver.receive( new ByteArrayInputStream( content ), details );
+    createdFile = receiver.getTargetFiles()[ 0 ];
+
+    assertArrayEquals( content, Files.readAllBytes( createdFile.toPath() ) );
+  }
+
+  @Test
+  public void testReceive_fromFile() throws IOException {
+    DiskFileUploadReceiver receiver = new DiskFileUploadReceiver();
+    byte[] content = createContent( 100000 );
+    Path source = Files.createTempFile( "_fileupload_test", ".bin" );
+    Files.write( source, content );
+
+    FileDetails details = new FileDetailsImpl( "copy.bin", null );
+    try( InputStream stream = new FileInputStream( source.toFile() ) ) {
+      receiver.receive( stream, details );
+    } finally {
+      Files.delete( source );
+    }
+    createdFile = receiver.getTargetFiles()[ 0 ];
+
+    assertArrayEquals( content, Files.readAllBytes( createdFile.toPath() ) );
+  }
+
+  @Test
+  public void testReceive_replacesExistingContent() throws IOException {
+    DiskFileUploadReceiver receiver = new DiskFileUploadReceiver() {
+      @Override
+      protected File createTargetFile( FileDetails details ) throws IOException {
+        File result = super.createTargetFile( details );
+        Files.write( result.toPath(), "previous content".getBytes() );
+        return result;
+      }
+    };
+
+    receiver.receive( new ByteArrayInputStream( "new".getBytes() ), null );
+    createdFile = receiver.getTargetFiles()[ 0 ];
+
+    assertEquals( "new", FileUploadTestUtil.getFileContents( createdFile ) );
+  }
+
   @Test
   public void testReceiveWithNullDetails() throws IOException {
     DiskFileUploadReceiver receiver = new DiskFileUploadReceiver();
@@ -171,4 +221,12 @@ public class DiskFileUploadReceiver_Test {
     reciever.internalGetUploadDirectory();
   }
 
+  private static byte[] createContent( int length ) {
+    byte[] result = new byte[ length ];
+    for( int i = 0; i < length; i++ ) {
+      result[ i ] = ( byte )( i % 251 );
+    }
+    return result;
+  }
+
 }
@@ -0,0 +1,350 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.fileupload.internal;
+
+import static org.eclipse.rap.fileupload.internal.ChunkedUploadProcessor.SC_RESUME_INCOMPLETE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.rap.fileupload.FileDetails;
+import org.eclipse.rap.fileupload.FileUploadEvent;
+import org.eclipse.rap.fileupload.FileUploadHandler;
+import org.eclipse.rap.fileupload.TestAdapter;
+import org.eclipse.rap.fileupload.UploadSizeLimitExceededException;
+import org.eclipse.rap.fileupload.UploadTimeLimitExceededException;
+import org.eclipse.rap.fileupload.test.FileUploadTestUtil;
+import org.eclipse.rap.fileupload.test.TestFileUploadListener;
+import org.eclipse.rap.fileupload.test.TestFileUploadReceiver;
+import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.rap.rwt.testfixture.internal.TestRequest;
+import org.eclipse.rap.rwt.testfixture.internal.TestResponse;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+@SuppressWarnings( "restriction" )
+public class ChunkedUploadProcessor_Test {
+
+  private TestFileUploadReceiver testReceiver;
+  private TestFileUploadListener testListener;
+  private FileUploadHandler uploadHandler;
+
+  @Before
+  public void setUp() {
+    Fixture.setUp();
+    testReceiver = new TestFileUploadReceiver();
+    uploadHandler = new FileUploadHandler( testReceiver );
+    testListener = new TestFileUploadListener();
+    uploadHandler.addUploadListener( testListener );
+  }
+
+  @After
+  public void tearDown() {
+    uploadHandler.dispose();
+    Fixture.tearDown();
+  }
+
+  @Test
+  public void testIsChunkedUpload() {
+    TestRequest request = fakeChunkRequest( "foo", "test.txt", "bytes 0-2/3" );
+
+    assertTrue( ChunkedUploadProcessor.isChunkedUpload( request ) );
+  }
+
+  @Test
+  public void testIsChunkedUpload_withoutContentRange() {
+    TestRequest request = Fixture.fakeNewRequest();
+
+    assertFalse( ChunkedUploadProcessor.isChunkedUpload( request ) );
+  }
+
+  @Test
+  public void testHandleChunk_withSingleChunk() throws IOException {
+    fakeChunkRequest( "0123456789", "test.txt", "bytes 0-9/10" );
+
+    handleChunk();
+
+    assertEquals( 0, getResponse().getErrorStatus() );
+    assertEquals( "progress.finished.", testListener.getLog() );
+    assertEquals( "0123456789", new String( testReceiver.getContent() ) );
+    FileDetails details = testListener.getLastEvent().getFileDetails()[ 0 ];
+    assertEquals( "test.txt", details.getFileName() );
+    assertEquals( "application/octet-stream", details.getContentType() );
+  }
+
+  @Test
+  public void testHandleChunk_withFirstOfTwoChunks() throws IOException {
+    fakeChunkRequest( "01234", "test.txt", "bytes 0-4/10" );
+
+    handleChunk();
+
+    assertEquals( SC_RESUME_INCOMPLETE, getResponse().getStatus() );
+    assertEquals( "bytes=0-4", getResponse().getHeader( "Range" ) );
+    assertEquals( "progress.", testListener.getLog() );
+    assertNull( testReceiver.getContent() );
+  }
+
+  @Test
+  public void testHandleChunk_withTwoChunks() throws IOException {
+    fakeChunkRequest( "01234", "test.txt", "bytes 0-4/10" );
+    handleChunk();
+
+    fakeChunkRequest( "56789", "test.txt", "bytes 5-9/10" );
+    handleChunk();
+
+    assertEquals( 0, getResponse().getErrorStatus() );
+    assertEquals( "0123456789", new String( testReceiver.getContent() ) );
+    assertTrue( testListener.getLog().endsWith( "progress.finished." ) );
+    FileUploadEvent event = testListener.getLastEvent();
+    assertEquals( 10, event.getContentLength() );
+    assertEquals( 10, event.getBytesRead() );
+  }
+
+  @Test
+  public void testHandleChunk_withChunkOutOfOrder() throws IOException {
+    fakeChunkRequest( "01234", "test.txt", "bytes 0-4/10" );
+    handleChunk();
+
+    fakeChunkRequest( "9", "test.txt", "bytes 9-9/10" );
+    handleChunk();
+
+    assertEquals( SC_RESUME_INCOMPLETE, getResponse().getStatus() );
+    assertEquals( "bytes=0-4", getResponse().getHeader( "Range" ) );
+    assertNull( testReceiver.getContent() );
+  }
+
+  @Test
+  public void testHandleChunk_withFirstChunkMissing() throws IOException {
+    fakeChunkRequest( "56789", "test.txt", "bytes 5-9/10" );
+
+    handleChunk();
+
+    assertEquals( SC_RESUME_INCOMPLETE, getResponse().getStatus() );
+    assertNull( getResponse().getHeader( "Range" ) );
+  }
+
+  @Test
+  public void testHandleChunk_withStateQuery() throws IOException {
+    fakeChunkRequest( "012", "test.txt", "bytes 0-2/10" );
+    handleChunk();
+
+    fakeChunkRequest( "", "test.txt", "bytes */10" );
+    handleChunk();
+
+    assertEquals( SC_RESUME_INCOMPLETE, getResponse().getStatus() );
+    assertEquals( "bytes=0-2", getResponse().getHeader( "Range" ) );
+  }
+
+  @Test
+  public void testHandleChunk_withStateQueryForUnknownUpload() throws IOException {
+    fakeChunkRequest( "", "test.txt", "bytes */10" );
+
+    handleChunk();
+
+    assertEquals( SC_RESUME_INCOMPLETE, getResponse().getStatus() );
+    assertNull( getResponse().getHeader( "Range" ) );
+    String token = TestAdapter.getTokenFor( uploadHandler );
+    assertNull( FileUploadHandlerStore.getInstance().findChunkedUpload( token, "test.txt" ) );
+  }
+
+  @Test
+  public void testHandleChunk_withChunkLargerThanSlice() throws IOException {
+    int length = 200 * 1024;
+    String content = createContent( length );
+    fakeChunkRequest( content, "test.txt", "bytes 0-" + ( length - 1 ) + "/" + length );
+
+    handleChunk();
+
+    assertEquals( 0, getResponse().getErrorStatus() );
+    assertEquals( content, new String( testReceiver.getContent() ) );
+  }
+
+  @Test
+  public void testHandleChunk_exceedsTimeLimitAcrossChunks() throws Exception {
+    fakeChunkRequest( "01234", "test.txt", "bytes 0-4/10" );
+    handleChunk();
+    uploadHandler.setUploadTimeLimit( 1 );
+    Thread.sleep( 10 );
+
+    fakeChunkRequest( "56789", "test.txt", "bytes 5-9/10" );
+    handleChunk();
+
+    assertEquals( HttpServletResponse.SC_REQUEST_TIMEOUT, getResponse().getErrorStatus() );
+    assertTrue( testListener.getLog().endsWith( "failed." ) );
+    Exception exception = testListener.getLastEvent().getException();
+    assertTrue( exception instanceof UploadTimeLimitExceededException );
+    assertNull( testReceiver.getContent() );
+  }
+
+  @Test
+  public void testHandleChunk_resumesInterruptedChunk() throws IOException {
+    // the body ends before the announced range, e.g. because the connection was closed
+    fakeChunkRequest( "012", "test.txt", "bytes 0-9/10" );
+    handleChunk();
+
+    fakeChunkRequest( "3456789", "test.txt", "bytes 3-9/10" );
+    handleChunk();
+
+    assertEquals( 0, getResponse().getErrorStatus() );
+    assertEquals( "0123456789", new String( testReceiver.getContent() ) );
+  }
+
+  @Test
+  public void testHandleChunk_withEmptyFile() throws IOException {
+    fakeChunkRequest( "", "empty.txt", "bytes */0" );
+
+    handleChunk();
+
+    assertEquals( 0, getResponse().getErrorStatus() );
+    assertEquals( "finished.", testListener.getLog() );
+    assertEquals( "", new String( testReceiver.getContent() ) );
+  }
+
+  @Test
+  public void testHandleChunk_stripsPathFromFileName() throws IOException {
+    fakeChunkRequest( "012", "C:\\temp\\test.txt", "bytes 0-2/3" );
+
+    handleChunk();
+
+    FileDetails details = testListener.getLastEvent().getFileDetails()[ 0 ];
+    assertEquals( "test.txt", details.getFileName() );
+  }
+
+  @Test
+  public void testHandleChunk_withoutFileName() throws IOException {
+    fakeChunkRequest( "012", null, "bytes 0-2/3" );
+
+    handleChunk();
+
+    assertEquals( HttpServletResponse.SC_BAD_REQUEST, getResponse().getErrorStatus() );
+    assertEquals( "", testListener.getLog() );
+  }
+
+  @Test
+  public void testHandleChunk_withMalformedContentRange() throws IOException {
+    fakeChunkRequest( "012", "test.txt", "bytes=0-2" );
+
+    handleChunk();
+
+    assertEquals( HttpServletResponse.SC_BAD_REQUEST, getResponse().getErrorStatus() );
+  }
+
+  @Test
+  public void testHandleChunk_withRangeBeyondTotalSize() throws IOException {
+    fakeChunkRequest( "012", "test.txt", "bytes 0-2/2" );
+
+    handleChunk();
+
+    assertEquals( HttpServletResponse.SC_BAD_REQUEST, getResponse().getErrorStatus() );
+  }
+
+  @Test
+  public void testHandleChunk_withInvertedRange() throws IOException {
+    fakeChunkRequest( "012", "test.txt", "bytes 2-0/3" );
+
+    handleChunk();
+
+    assertEquals( HttpServletResponse.SC_BAD_REQUEST, getResponse().getErrorStatus() );
+  }
+
+  @Test
+  public void testHandleChunk_exceedsMaxFileSize() throws IOException {
+    uploadHandler.setMaxFileSize( 5 );
+    fakeChunkRequest( "01234", "test.txt", "bytes 0-4/10" );
+
+    handleChunk();
+
+    assertEquals( HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE,
+                  getResponse().getErrorStatus() );
+    assertEquals( "failed.", testListener.getLog() );
+    Exception exception = testListener.getLastEvent().getException();
+    assertTrue( exception instanceof UploadSizeLimitExceededException );
+  }
+
+  @Test
+  public void testHandleChunk_withDifferentTotalSize() throws IOException {
+    fakeChunkRequest( "01234", "test.txt", "bytes 0-4/10" );
+    handleChunk();
+
+    fakeChunkRequest( "56789", "test.txt", "bytes 5-9/20" );
+    handleChunk();
+
+    assertEquals( HttpServletResponse.SC_CONFLICT, getResponse().getErrorStatus() );
+  }
+
+  @Test
+  public void testHandleChunk_withFailingReceiver() throws IOException {
+    FileUploadHandler failingHandler = new FileUploadHandler( new TestFileUploadReceiver() {
+      @Override
+      public void receive( InputStream dataStream, FileDetails details ) throws IOException {
+        throw new IOException( "failed" );
+      }
+    } );
+    failingHandler.addUploadListener( testListener );
+    TestRequest request = fakeChunkRequest( "012", "test.txt", "bytes 0-2/3" );
+    request.setParameter( "token", TestAdapter.getTokenFor( failingHandler ) );
+
+    new ChunkedUploadProcessor( failingHandler, TestAdapter.getTokenFor( failingHandler ) )
+      .handleChunk( RWT.getRequest(), RWT.getResponse() );
+
+    assertEquals( HttpServletResponse.SC_INTERNAL_SERVER_ERROR, getResponse().getErrorStatus() );
+    assertEquals( "progress.failed.", testListener.getLog() );
+    failingHandler.dispose();
+  }
+
+  @Test
+  public void testHandleChunk_restartsUploadAfterCompletion() throws IOException {
+    fakeChunkRequest( "012", "test.txt", "bytes 0-2/3" );
+    handleChunk();
+
+    fakeChunkRequest( "", "test.txt", "bytes */3" );
+    handleChunk();
+
+    // the completed upload has been discarded, a new upload starts from scratch
+    assertEquals( SC_RESUME_INCOMPLETE, getResponse().getStatus() );
+    assertNull( getResponse().getHeader( "Range" ) );
+  }
+
+  private TestRequest fakeChunkRequest( String content, String fileName, String contentRange ) {
+    return FileUploadTestUtil.fakeChunkedUploadRequest( uploadHandler,
+                                                       content,
+                                                       fileName,
+                                                       contentRange );
+  }
+
+  private static String createContent( int length ) {
+    StringBuilder result = new StringBuilder( length );
+    for( int i = 0; i < length; i++ ) {
+      result.append( ( char )( 'a' + i % 26 ) );
+    }
+    return result.toString();
+  }
+
+  private void handleChunk() throws IOException {
+    String token = TestAdapter.getTokenFor( uploadHandler );
+    ChunkedUploadProcessor processor = new ChunkedUploadProcessor( uploadHandler, token );
+    processor.handleChunk( RWT.getRequest(), RWT.getResponse() );
+  }
+
+  private static TestResponse getResponse() {
+    return ( TestResponse )RWT.getResponse();
+  }
+
+}
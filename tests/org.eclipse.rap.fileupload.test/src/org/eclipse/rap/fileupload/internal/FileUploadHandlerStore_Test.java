@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,6 +10,7 @@
  ******************************************************************************/
 package org.eclipse.rap.fileupload.internal;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
@@ -17,6 +18,8 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.io.IOException;
+
 import org.eclipse.rap.fileupload.FileUploadHandler;
 import org.eclipse.rap.fileupload.test.TestFileUploadReceiver;
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
@@ -108,6 +111,55 @@ public class FileUploadHandlerStore_Test {
     assertNull( result );
   }
 
+  @Test
+  public void testGetChunkedUpload_createsUpload() throws IOException {
+    ChunkedUpload upload = handlerStore.getChunkedUpload( "testId", "foo.txt", "text/plain", 10 );
+
+    assertEquals( "foo.txt", upload.getFileName() );
+    assertEquals( "text/plain", upload.getContentType() );
+    assertEquals( 10, upload.getTotalSize() );
+    assertTrue( upload.getPartFile().exists() );
+    upload.discard();
+  }
+
+  @Test
+  public void testGetChunkedUpload_returnsSameUpload() throws IOException {
+    ChunkedUpload upload = handlerStore.getChunkedUpload( "testId", "foo.txt", "text/plain", 10 );
+
+    assertSame( upload, handlerStore.getChunkedUpload( "testId", "foo.txt", "text/plain", 10 ) );
+    assertNotSame( upload, handlerStore.getChunkedUpload( "testId", "bar.txt", "text/plain", 10 ) );
+    assertNotSame( upload, handlerStore.getChunkedUpload( "otherId", "foo.txt", "text/plain", 1 ) );
+    handlerStore.deregisterHandler( "testId" );
+    handlerStore.deregisterHandler( "otherId" );
+  }
+
+  @Test
+  public void testRemoveChunkedUpload() throws IOException {
+    ChunkedUpload upload = handlerStore.getChunkedUpload( "testId", "foo.txt", "text/plain", 10 );
+
+    handlerStore.removeChunkedUpload( "testId", upload );
+
+    assertTrue( upload.isDiscarded() );
+    assertFalse( upload.getPartFile().exists() );
+    assertNotSame( upload, handlerStore.getChunkedUpload( "testId", "foo.txt", "text/plain", 10 ) );
+    handlerStore.deregisterHandler( "testId" );
+  }
+
+  @Test
+  public void testDeregisterHandler_discardsChunkedUploads() throws IOException {
+    handlerStore.registerHandler( "testId", testHandler );
+    ChunkedUpload upload = handlerStore.getChunkedUpload( "testId", "foo.txt", "text/plain", 10 );
+    ChunkedUpload otherUpload
+      = handlerStore.getChunkedUpload( "otherId", "foo.txt", "text/plain", 10 );
+
+    handlerStore.deregisterHandler( "testId" );
+
+    assertTrue( upload.isDiscarded() );
+    assertFalse( upload.getPartFile().exists() );
+    assertFalse( otherUpload.isDiscarded() );
+    handlerStore.deregisterHandler( "otherId" );
+  }
+
   @Test
   public void testCreateToken() {
     String token = FileUploadHandlerStore.createToken();
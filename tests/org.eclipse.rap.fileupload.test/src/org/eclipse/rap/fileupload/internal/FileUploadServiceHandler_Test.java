@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,6 +12,7 @@ package org.eclipse.rap.fileupload.internal;
 
 import static java.util.Arrays.asList;
 import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.endsWith;
 import static org.hamcrest.CoreMatchers.hasItem;
 import static org.hamcrest.CoreMatchers.startsWith;
 import static org.junit.Assert.assertEquals;
@@ -94,8 +95,9 @@ public class FileUploadServiceHandler_Test {
     serviceHandler.service( RWT.getRequest(), RWT.getResponse() );
 
     assertEquals( 0, getResponseErrorStatus() );
-    String expected = "progress(4096/12134).progress(8174/12134).progress(12134/12134).finished.";
-    assertEquals( expected, testListener.getLog() );
+    // intermediate progress events are only sent if the progress interval has elapsed
+    assertThat( testListener.getLog(), startsWith( "progress(4096/12134)." ) );
+    assertThat( testListener.getLog(), endsWith( "progress(12134/12134).finished." ) );
     FileUploadEvent uploadedItem = testListener.getLastEvent();
     assertEquals( content, new String( testReceiver.getContent() ) );
     assertEquals( "text/plain", uploadedItem.getFileDetails()[ 0 ].getContentType() );
@@ -211,6 +213,33 @@ public class FileUploadServiceHandler_Test {
     assertEquals( "some.txt", uploadedItem.getFileDetails()[ 0 ].getFileName() );
   }
 
+  @Test
+  public void testUploadChunks() throws IOException, ServletException {
+    uploadHandler.addUploadListener( testListener );
+
+    fakeChunkedUploadRequest( "Some ", "bytes 0-4/12" );
+    serviceHandler.service( RWT.getRequest(), RWT.getResponse() );
+    fakeChunkedUploadRequest( "content", "bytes 5-11/12" );
+    serviceHandler.service( RWT.getRequest(), RWT.getResponse() );
+
+    assertEquals( 0, getResponseErrorStatus() );
+    assertThat( testListener.getLog(), endsWith( "finished." ) );
+    assertEquals( "Some content", new String( testReceiver.getContent() ) );
+  }
+
+  @Test
+  public void testUploadChunkWithInvalidToken() throws IOException, ServletException {
+    uploadHandler.addUploadListener( testListener );
+
+    fakeChunkedUploadRequest( "Some", "bytes 0-3/4" );
+    TestRequest request = ( TestRequest )RWT.getRequest();
+    request.setParameter( "token", "unknown-id" );
+    serviceHandler.service( RWT.getRequest(), RWT.getResponse() );
+
+    assertEquals( HttpServletResponse.SC_FORBIDDEN, getResponseErrorStatus() );
+    assertEquals( "", testListener.getLog() );
+  }
+
   @Test
   public void testGetURL_returnsAbsoluteUrl() {
     String url = FileUploadServiceHandler.getUrl( "token" );
@@ -237,6 +266,10 @@ public class FileUploadServiceHandler_Test {
     FileUploadTestUtil.fakeUploadRequest( token, content, contentType, fileName );
   }
 
+  private void fakeChunkedUploadRequest( String content, String contentRange ) {
+    FileUploadTestUtil.fakeChunkedUploadRequest( uploadHandler, content, "test.txt", contentRange );
+  }
+
   private static void fakeUploadRequest( String token ) {
     FileUploadTestUtil.fakeUploadRequest( token, "TestContent", "text/plain", "test.txt" );
   }
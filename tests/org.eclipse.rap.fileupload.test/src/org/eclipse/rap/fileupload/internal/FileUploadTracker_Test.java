@@ -0,0 +1,150 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.fileupload.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.rap.fileupload.FileUploadEvent;
+import org.eclipse.rap.fileupload.FileUploadHandler;
+import org.eclipse.rap.fileupload.test.TestFileUploadListener;
+import org.eclipse.rap.fileupload.test.TestFileUploadReceiver;
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+@SuppressWarnings( "restriction" )
+public class FileUploadTracker_Test {
+
+  private FileUploadHandler uploadHandler;
+  private TestFileUploadListener testListener;
+
+  @Before
+  public void setUp() {
+    Fixture.setUp();
+    uploadHandler = new FileUploadHandler( new TestFileUploadReceiver() );
+    testListener = new TestFileUploadListener();
+    uploadHandler.addUploadListener( testListener );
+  }
+
+  @After
+  public void tearDown() {
+    uploadHandler.dispose();
+    Fixture.tearDown();
+  }
+
+  @Test
+  public void testHandleProgress_notifiesFirstProgress() {
+    FileUploadTracker tracker = new FileUploadTracker( uploadHandler, Long.MAX_VALUE );
+    tracker.setContentLength( 100 );
+    tracker.setBytesRead( 10 );
+
+    tracker.handleProgress();
+
+    assertEquals( "progress.", testListener.getLog() );
+  }
+
+  @Test
+  public void testHandleProgress_skipsProgressWithinInterval() {
+    FileUploadTracker tracker = new FileUploadTracker( uploadHandler, Long.MAX_VALUE );
+    tracker.setContentLength( 100 );
+
+    for( int i = 1; i < 10; i++ ) {
+      tracker.setBytesRead( i * 10 );
+      tracker.handleProgress();
+    }
+
+    assertEquals( "progress.", testListener.getLog() );
+  }
+
+  @Test
+  public void testHandleProgress_notifiesLastProgress() {
+    FileUploadTracker tracker = new FileUploadTracker( uploadHandler, Long.MAX_VALUE );
+    tracker.setContentLength( 100 );
+    tracker.setBytesRead( 10 );
+    tracker.handleProgress();
+
+    tracker.setBytesRead( 100 );
+    tracker.handleProgress();
+
+    assertEquals( "progress.progress.", testListener.getLog() );
+    assertEquals( 100, testListener.getLastEvent().getBytesRead() );
+  }
+
+  @Test
+  public void testHandleProgress_notifiesAfterInterval() {
+    FileUploadTracker tracker = new FileUploadTracker( uploadHandler, 0 );
+    tracker.setContentLength( 100 );
+
+    for( int i = 1; i < 10; i++ ) {
+      tracker.setBytesRead( i * 10 );
+      tracker.handleProgress();
+    }
+
+    assertEquals( 9, testListener.getLog().split( "\\." ).length );
+  }
+
+  @Test
+  public void testHandleProgress_withUnknownContentLength() {
+    FileUploadTracker tracker = new FileUploadTracker( uploadHandler, Long.MAX_VALUE );
+    tracker.setContentLength( -1 );
+
+    tracker.setBytesRead( 10 );
+    tracker.handleProgress();
+    tracker.setBytesRead( 20 );
+    tracker.handleProgress();
+
+    assertEquals( "progress.", testListener.getLog() );
+  }
+
+  @Test
+  public void testHandleFinished_isNotThrottled() {
+    FileUploadTracker tracker = new FileUploadTracker( uploadHandler, Long.MAX_VALUE );
+    tracker.setContentLength( 100 );
+    tracker.setBytesRead( 10 );
+    tracker.handleProgress();
+
+    tracker.handleFinished();
+
+    assertEquals( "progress.finished.", testListener.getLog() );
+  }
+
+  @Test
+  public void testGetBytesPerSecond() throws InterruptedException {
+    FileUploadTracker tracker = new FileUploadTracker( uploadHandler, 0 );
+    tracker.setContentLength( 1000 );
+    Thread.sleep( 20 );
+
+    tracker.setBytesRead( 1000 );
+    tracker.handleProgress();
+
+    long bytesPerSecond = testListener.getLastEvent().getBytesPerSecond();
+    assertTrue( bytesPerSecond > 0 );
+    assertTrue( bytesPerSecond <= 1000 * 1000 / 20 );
+  }
+
+  @Test
+  public void testGetBytesPerSecond_ignoresInitialBytes() throws InterruptedException {
+    FileUploadTracker tracker = new FileUploadTracker( uploadHandler, 0 );
+    tracker.setContentLength( 1000 );
+    tracker.setInitialBytesRead( 1000 );
+    Thread.sleep( 20 );
+
+    tracker.handleProgress();
+
+    FileUploadEvent event = testListener.getLastEvent();
+    assertEquals( 1000, event.getBytesRead() );
+    assertEquals( 0, event.getBytesPerSecond() );
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -116,6 +116,24 @@ public final class FileUploadTestUtil {
   }
 
 
+  public static TestRequest fakeChunkedUploadRequest( FileUploadHandler handler,
+                                                      String content,
+                                                      String fileName,
+                                                      String contentRange )
+  {
+    TestRequest request = Fixture.fakeNewRequest();
+    request.setMethod( "POST" );
+    request.setParameter( "servicehandler", "org.eclipse.rap.fileupload" );
+    request.setParameter( "token", TestAdapter.getTokenFor( handler ) );
+    if( fileName != null ) {
+      request.setParameter( "fileName", fileName );
+    }
+    request.setHeader( "Content-Range", contentRange );
+    request.setContentType( "application/octet-stream" );
+    request.setBody( content );
+    return request;
+  }
+
   public static String createMultipartBody( String boundary, FileData... fileData ) {
     StringBuffer buffer = new StringBuffer();
     String newline = "\r\n";
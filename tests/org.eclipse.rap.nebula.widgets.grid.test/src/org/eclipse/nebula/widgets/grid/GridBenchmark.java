@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+
+
+/**
+ * Measures selecting, deselecting and inserting items in grids with many items, the operations
+ * that used to scan the item and selection lists for every item that was looked up.
+ * <p>
+ * This is not a unit test, run it as a Java application:
+ * </p>
+ * <pre>
+ * java GridBenchmark [items]
+ * </pre>
+ */
+public class GridBenchmark {
+
+  private static final int COLUMNS = 5;
+
+  private final int itemCount;
+
+  public static void main( String[] args ) {
+    int items = args.length > 0 ? Integer.parseInt( args[ 0 ] ) : 20000;
+    System.out.println( "items: " + items );
+    GridBenchmark benchmark = new GridBenchmark( items );
+    Fixture.setUp();
+    try {
+      Display display = new Display();
+      Shell shell = new Shell( display );
+      // warm up before measuring
+      benchmark.run( shell, false );
+      benchmark.run( shell, true );
+    } finally {
+      Fixture.tearDown();
+    }
+  }
+
+  GridBenchmark( int itemCount ) {
+    this.itemCount = itemCount;
+  }
+
+  void run( Shell shell, boolean report ) {
+    Grid grid = new Grid( shell, SWT.MULTI | SWT.VIRTUAL );
+    for( int i = 0; i < COLUMNS; i++ ) {
+      new GridColumn( grid, SWT.NONE );
+    }
+    long start = System.nanoTime();
+    for( int i = 0; i < itemCount; i++ ) {
+      new GridItem( grid, SWT.NONE );
+    }
+    long append = System.nanoTime();
+    for( int i = 0; i < itemCount; i += 2 ) {
+      grid.select( i );
+    }
+    long select = System.nanoTime();
+    int[] indices = grid.getSelectionIndices();
+    long selectionIndices = System.nanoTime();
+    for( int i = 0; i < itemCount; i += 4 ) {
+      grid.deselect( i );
+    }
+    long deselect = System.nanoTime();
+    grid.selectAll();
+    long selectAll = System.nanoTime();
+    for( int i = 0; i < 100; i++ ) {
+      new GridItem( grid, SWT.NONE, i * ( itemCount / 100 ) );
+      grid.indexOf( grid.getItem( grid.getItemCount() - 1 ) );
+    }
+    long insert = System.nanoTime();
+    grid.deselectAll();
+    grid.setCellSelectionEnabled( true );
+    for( int i = 0; i < itemCount; i += 2 ) {
+      grid.selectCell( new Point( i % COLUMNS, i ) );
+    }
+    long selectCells = System.nanoTime();
+    int selectionCount = grid.getSelectionCount();
+    for( int i = 0; i < itemCount; i++ ) {
+      grid.isSelected( i );
+    }
+    long cellRows = System.nanoTime();
+    grid.dispose();
+    if( report ) {
+      print( "append items", append - start );
+      print( "select every 2nd", select - append );
+      print( "selection indices (" + indices.length + ")", selectionIndices - select );
+      print( "deselect every 4th", deselect - selectionIndices );
+      print( "select all", selectAll - deselect );
+      print( "insert 100 items", insert - selectAll );
+      print( "select cells", selectCells - insert );
+      print( "rows of cells (" + selectionCount + ")", cellRows - selectCells );
+    }
+  }
+
+  private static void print( String operation, long duration ) {
+    StringBuilder line = new StringBuilder( "  " ).append( operation ).append( ':' );
+    while( line.length() < 36 ) {
+      line.append( ' ' );
+    }
+    System.out.println( line.append( duration / 1000000 ).append( " ms" ) );
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2023 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -293,6 +293,46 @@ public class Grid_Test {
     assertEquals( 2, grid.indexOf( items[ 4 ] ) );
   }
 
+  @Test
+  public void testIndexOf_AfterInsert() {
+    GridItem[] items = createGridItems( grid, 3, 1 );
+
+    GridItem item = new GridItem( grid, SWT.NONE, 1 );
+
+    assertEquals( 0, grid.indexOf( items[ 0 ] ) );
+    assertEquals( 2, grid.indexOf( item ) );
+    assertEquals( 3, grid.indexOf( items[ 2 ] ) );
+    assertEquals( 6, grid.indexOf( items[ 5 ] ) );
+  }
+
+  @Test
+  public void testIndexOf_AfterChildInsert() {
+    GridItem[] items = createGridItems( grid, 3, 1 );
+
+    GridItem item = new GridItem( items[ 0 ], SWT.NONE, 0 );
+
+    assertEquals( 1, grid.indexOf( item ) );
+    assertEquals( 2, grid.indexOf( items[ 1 ] ) );
+    assertEquals( 3, grid.indexOf( items[ 2 ] ) );
+  }
+
+  @Test
+  public void testIndexOf_AfterMixedChanges() {
+    List<GridItem> expected = new ArrayList<GridItem>();
+    expected.addAll( Arrays.asList( createGridItems( grid, 20, 0 ) ) );
+
+    expected.add( 5, new GridItem( grid, SWT.NONE, 5 ) );
+    expected.remove( 10 ).dispose();
+    expected.add( 0, new GridItem( grid, SWT.NONE, 0 ) );
+    expected.remove( 15 ).dispose();
+    expected.add( new GridItem( grid, SWT.NONE ) );
+
+    for( int i = 0; i < expected.size(); i++ ) {
+      assertEquals( i, grid.indexOf( expected.get( i ) ) );
+      assertSame( expected.get( i ), grid.getItem( i ) );
+    }
+  }
+
   @Test
   public void testGetColumnCount() {
     createGridColumns( grid, 5, SWT.NONE );
@@ -1145,6 +1185,60 @@ public class Grid_Test {
     assertTrue( Arrays.equals( expected, grid.getSelection() ) );
   }
 
+  @Test
+  public void testSelectAll_WithManyItems() {
+    grid = new Grid( shell, SWT.MULTI );
+    GridItem[] items = createGridItems( grid, 10000, 0 );
+
+    grid.selectAll();
+    grid.deselect( 5000 );
+
+    assertEquals( 9999, grid.getSelectionCount() );
+    assertFalse( grid.isSelected( items[ 5000 ] ) );
+    assertTrue( grid.isSelected( 9999 ) );
+  }
+
+  @Test
+  public void testSelect_KeepsSelectionOrder() {
+    grid = new Grid( shell, SWT.MULTI );
+    GridItem[] items = createGridItems( grid, 5, 0 );
+
+    grid.select( 3 );
+    grid.select( 1 );
+    grid.select( 3 );
+
+    assertArrayEquals( new GridItem[] { items[ 3 ], items[ 1 ] }, grid.getSelection() );
+    assertArrayEquals( new int[] { 3, 1 }, grid.getSelectionIndices() );
+    assertEquals( 3, grid.getSelectionIndex() );
+  }
+
+  @Test
+  public void testGetSelectionIndices_AfterInsert() {
+    grid = new Grid( shell, SWT.MULTI );
+    createGridItems( grid, 5, 0 );
+    grid.select( new int[] { 1, 3 } );
+
+    new GridItem( grid, SWT.NONE, 2 );
+
+    assertArrayEquals( new int[] { 1, 4 }, grid.getSelectionIndices() );
+  }
+
+  @Test
+  public void testGetSelection_WithCellSelectionInSameRow() {
+    grid = new Grid( shell, SWT.MULTI );
+    grid.setCellSelectionEnabled( true );
+    createGridColumns( grid, 3, SWT.NONE );
+    GridItem[] items = createGridItems( grid, 3, 0 );
+
+    grid.selectCells( new Point[] { new Point( 0, 2 ), new Point( 1, 0 ), new Point( 2, 2 ) } );
+    grid.deselectCell( new Point( 0, 2 ) );
+
+    assertArrayEquals( new GridItem[] { items[ 2 ], items[ 0 ] }, grid.getSelection() );
+    assertEquals( 2, grid.getSelectionCount() );
+    assertTrue( grid.isSelected( 2 ) );
+    assertFalse( grid.isSelected( items[ 1 ] ) );
+  }
+
   @Test
   public void testSelectAllCells_WithCollapsedItems() {
     grid = new Grid( shell, SWT.MULTI );
@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.grid.internal;
+
+import static org.eclipse.rap.rwt.testfixture.internal.SerializationTestUtil.serializeAndDeserialize;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.swt.graphics.Point;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class CellSelection_Test {
+
+  private CellSelection selection;
+
+  @Before
+  public void setUp() {
+    selection = new CellSelection();
+  }
+
+  @Test
+  public void testInitialState() {
+    assertTrue( selection.isEmpty() );
+    assertEquals( 0, selection.size() );
+    assertNull( selection.getFirst() );
+    assertArrayEquals( new int[ 0 ], selection.getRows() );
+  }
+
+  @Test
+  public void testAdd() {
+    assertTrue( selection.add( new Point( 1, 2 ) ) );
+
+    assertEquals( 1, selection.size() );
+    assertTrue( selection.contains( new Point( 1, 2 ) ) );
+    assertTrue( selection.isRowSelected( 2 ) );
+  }
+
+  @Test
+  public void testAdd_duplicate() {
+    selection.add( new Point( 1, 2 ) );
+
+    assertFalse( selection.add( new Point( 1, 2 ) ) );
+    assertEquals( 1, selection.size() );
+  }
+
+  @Test
+  public void testAdd_copiesCell() {
+    Point cell = new Point( 1, 2 );
+    selection.add( cell );
+
+    cell.y = 3;
+
+    assertTrue( selection.contains( new Point( 1, 2 ) ) );
+    assertFalse( selection.isRowSelected( 3 ) );
+  }
+
+  @Test
+  public void testRemove() {
+    selection.add( new Point( 0, 2 ) );
+    selection.add( new Point( 1, 2 ) );
+
+    assertTrue( selection.remove( new Point( 0, 2 ) ) );
+
+    assertFalse( selection.contains( new Point( 0, 2 ) ) );
+    assertTrue( selection.isRowSelected( 2 ) );
+  }
+
+  @Test
+  public void testRemove_lastCellOfRow() {
+    selection.add( new Point( 0, 2 ) );
+
+    selection.remove( new Point( 0, 2 ) );
+
+    assertFalse( selection.isRowSelected( 2 ) );
+    assertTrue( selection.isEmpty() );
+  }
+
+  @Test
+  public void testRemove_unselectedCell() {
+    selection.add( new Point( 0, 2 ) );
+
+    assertFalse( selection.remove( new Point( 1, 2 ) ) );
+    assertTrue( selection.isRowSelected( 2 ) );
+  }
+
+  @Test
+  public void testClear() {
+    selection.add( new Point( 0, 2 ) );
+
+    selection.clear();
+
+    assertTrue( selection.isEmpty() );
+    assertFalse( selection.isRowSelected( 2 ) );
+  }
+
+  @Test
+  public void testGetFirst() {
+    selection.add( new Point( 2, 5 ) );
+    selection.add( new Point( 0, 1 ) );
+
+    Point first = selection.getFirst();
+    first.x = 7;
+
+    assertEquals( new Point( 2, 5 ), selection.getFirst() );
+  }
+
+  @Test
+  public void testToArray_keepsSelectionOrder() {
+    Point cell = new Point( 2, 5 );
+    selection.add( cell );
+    selection.add( new Point( 0, 1 ) );
+
+    Point[] cells = selection.toArray();
+
+    assertArrayEquals( new Point[] { new Point( 2, 5 ), new Point( 0, 1 ) }, cells );
+    assertNotSame( cell, cells[ 0 ] );
+  }
+
+  @Test
+  public void testGetRows() {
+    selection.add( new Point( 0, 5 ) );
+    selection.add( new Point( 0, 1 ) );
+    selection.add( new Point( 1, 5 ) );
+
+    assertArrayEquals( new int[] { 5, 1 }, selection.getRows() );
+  }
+
+  @Test
+  public void testRemoveColumn() {
+    selection.add( new Point( 0, 0 ) );
+    selection.add( new Point( 1, 1 ) );
+    selection.add( new Point( 2, 2 ) );
+
+    selection.removeColumn( 1 );
+
+    Point[] expected = new Point[] { new Point( 0, 0 ), new Point( 1, 2 ) };
+    assertArrayEquals( expected, selection.toArray() );
+    assertFalse( selection.isRowSelected( 1 ) );
+    assertTrue( selection.contains( new Point( 1, 2 ) ) );
+  }
+
+  @Test
+  public void testSerialization() throws Exception {
+    selection.add( new Point( 0, 3 ) );
+    selection.add( new Point( 1, 3 ) );
+
+    CellSelection deserialized = serializeAndDeserialize( selection );
+
+    assertEquals( 2, deserialized.size() );
+    assertTrue( deserialized.contains( new Point( 1, 3 ) ) );
+    assertArrayEquals( new int[] { 3 }, deserialized.getRows() );
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 Frank Appel and others.
+ * Copyright (c) 2011, 2026 Frank Appel and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -27,11 +27,14 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.File;
+import java.util.Dictionary;
 
 import javax.servlet.*;
 import javax.servlet.http.HttpServlet;
 
 import org.eclipse.rap.rwt.application.*;
+import org.eclipse.rap.rwt.internal.RWTProperties;
+import org.eclipse.rap.rwt.internal.resources.ResourceServlet;
 import org.eclipse.rap.rwt.osgi.ApplicationReference;
 import org.eclipse.rap.rwt.testfixture.internal.FileUtil;
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
@@ -74,6 +77,8 @@ public class ApplicationLauncherImpl_Test {
   public void tearDown() {
     FileUtil.delete( Fixture.WEB_CONTEXT_DIR );
     Fixture.resetSkipResourceDeletion();
+    System.getProperties().remove( RWTProperties.ENABLE_HASHED_RESOURCES );
+    System.getProperties().remove( RWTProperties.ENABLE_ASYNC_SERVER_PUSH );
   }
 
   @Test
@@ -105,6 +110,55 @@ public class ApplicationLauncherImpl_Test {
     checkDefaultAliasHasBeenRegistered();
   }
 
+  @Test
+  public void testLaunchWithHashedResources() throws Exception {
+    System.setProperty( RWTProperties.ENABLE_HASHED_RESOURCES, "true" );
+
+    launchApplication();
+
+    String alias = getResourcesDirectory( ApplicationReferenceImpl.DEFAULT_ALIAS );
+    verify( httpService ).registerServlet( eq( alias ),
+                                           any( ResourceServlet.class ),
+                                           isNull(),
+                                           any( HttpContext.class ) );
+    verify( httpService, never() ).registerResources( eq( alias ),
+                                                      any( String.class ),
+                                                      any( HttpContext.class ) );
+  }
+
+  @Test
+  public void testLaunchWithAsyncServerPush() throws Exception {
+    System.setProperty( RWTProperties.ENABLE_ASYNC_SERVER_PUSH, "true" );
+    ServiceRegistration<?> contextRegistration = mockHttpWhiteboardRuntime();
+    ServiceRegistration<?> servletRegistration = mockWhiteboardServletRegistration();
+
+    ApplicationReference applicationReference = launchApplication();
+    applicationReference.stopApplication();
+
+    verify( bundleContext ).registerService( eq( Servlet.class.getName() ),
+                                             any( HttpServlet.class ),
+                                             any( Dictionary.class ) );
+    verify( httpService, never() ).registerServlet( eq( ApplicationReferenceImpl.DEFAULT_ALIAS ),
+                                                    any( HttpServlet.class ),
+                                                    isNull(),
+                                                    any( HttpContext.class ) );
+    verify( servletRegistration ).unregister();
+    verify( contextRegistration ).unregister();
+    verify( httpService, never() ).unregister( ApplicationReferenceImpl.DEFAULT_ALIAS );
+  }
+
+  @Test
+  public void testLaunchWithAsyncServerPush_withoutHttpWhiteboardRuntime() throws Exception {
+    System.setProperty( RWTProperties.ENABLE_ASYNC_SERVER_PUSH, "true" );
+
+    launchApplication();
+
+    checkDefaultAliasHasBeenRegistered();
+    verify( bundleContext, never() ).registerService( eq( Servlet.class.getName() ),
+                                                      any( HttpServlet.class ),
+                                                      any( Dictionary.class ) );
+  }
+
   @Test
   public void testLaunchWithProblem() {
     prepareConfiguratorToThrowException();
@@ -534,6 +588,29 @@ public class ApplicationLauncherImpl_Test {
                                               isNull() );
   }
 
+  private ServiceRegistration<?> mockHttpWhiteboardRuntime() throws InvalidSyntaxException {
+    when( httpServiceReference.getProperty( Constants.SERVICE_ID ) ).thenReturn( Long.valueOf( 1 ) );
+    doReturn( new ServiceReference<?>[] { httpServiceReference } )
+      .when( bundleContext ).getServiceReferences( HttpService.class.getName(), null );
+    String runtimeClass = HttpWhiteboardContext.HTTP_SERVICE_RUNTIME_CLASS_NAME;
+    doReturn( new ServiceReference<?>[] { mock( ServiceReference.class ) } )
+      .when( bundleContext ).getServiceReferences( runtimeClass, "(osgi.http.service.id=1)" );
+    String helperClass = HttpWhiteboardContext.SERVLET_CONTEXT_HELPER_CLASS_NAME;
+    ServiceRegistration<?> result = mock( ServiceRegistration.class );
+    doReturn( result )
+      .when( bundleContext ).registerService( eq( helperClass ), any(), any( Dictionary.class ) );
+    return result;
+  }
+
+  private ServiceRegistration<?> mockWhiteboardServletRegistration() {
+    ServiceRegistration<?> result = mock( ServiceRegistration.class );
+    doReturn( result )
+      .when( bundleContext ).registerService( eq( Servlet.class.getName() ),
+                                              any( HttpServlet.class ),
+                                              any( Dictionary.class ) );
+    return result;
+  }
+
   private ApplicationReference launchApplication() {
     String location = applicationLauncher.getLocation( null, configuration, httpService );
     return launchApplicationReference( location );
@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.osgi.internal;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Dictionary;
+
+import javax.servlet.Servlet;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.Constants;
+import org.osgi.framework.ServiceReference;
+import org.osgi.framework.ServiceRegistration;
+import org.osgi.service.http.HttpContext;
+import org.osgi.service.http.HttpService;
+import org.osgi.service.http.context.ServletContextHelper;
+
+
+public class HttpWhiteboardContext_Test {
+
+  private static final String TARGET = "(osgi.http.service.id=1)";
+
+  private BundleContext bundleContext;
+  private HttpService httpService;
+  private HttpContext httpContext;
+  private ServiceRegistration<?> contextRegistration;
+
+  @Before
+  public void setUp() throws Exception {
+    bundleContext = mock( BundleContext.class );
+    httpService = mock( HttpService.class );
+    httpContext = mock( HttpContext.class );
+    ServiceReference<?> httpServiceReference = mock( ServiceReference.class );
+    Long serviceId = Long.valueOf( 1 );
+    when( httpServiceReference.getProperty( Constants.SERVICE_ID ) ).thenReturn( serviceId );
+    doReturn( httpService ).when( bundleContext ).getService( httpServiceReference );
+    doReturn( new ServiceReference<?>[] { httpServiceReference } )
+      .when( bundleContext ).getServiceReferences( HttpService.class.getName(), null );
+    contextRegistration = mock( ServiceRegistration.class );
+    doReturn( contextRegistration ).when( bundleContext ).registerService( eq( getHelperClass() ),
+                                                                          any(),
+                                                                          any( Dictionary.class ) );
+  }
+
+  @Test
+  public void testCreate_withoutHttpWhiteboardRuntime() {
+    assertNull( HttpWhiteboardContext.create( bundleContext, httpService, httpContext ) );
+  }
+
+  @Test
+  public void testCreate_withUnknownHttpService() throws Exception {
+    mockHttpWhiteboardRuntime();
+
+    HttpService unknown = mock( HttpService.class );
+
+    assertNull( HttpWhiteboardContext.create( bundleContext, unknown, httpContext ) );
+  }
+
+  @Test
+  public void testCreate_registersServletContextHelper() throws Exception {
+    mockHttpWhiteboardRuntime();
+
+    HttpWhiteboardContext context
+      = HttpWhiteboardContext.create( bundleContext, httpService, httpContext );
+
+    assertNotNull( context );
+    Dictionary<?, ?> properties = getHelperProperties();
+    assertEquals( TARGET, properties.get( "osgi.http.whiteboard.target" ) );
+    assertEquals( "/", properties.get( "osgi.http.whiteboard.context.path" ) );
+    String name = ( String )properties.get( "osgi.http.whiteboard.context.name" );
+    assertTrue( name.startsWith( HttpWhiteboardContext.CONTEXT_NAME_PREFIX ) );
+  }
+
+  @Test
+  public void testRegisterAsyncServlet() throws Exception {
+    mockHttpWhiteboardRuntime();
+    HttpWhiteboardContext context
+      = HttpWhiteboardContext.create( bundleContext, httpService, httpContext );
+    HttpServlet servlet = mock( HttpServlet.class );
+
+    context.registerAsyncServlet( "/rap", servlet );
+
+    ArgumentCaptor<Dictionary> captor = ArgumentCaptor.forClass( Dictionary.class );
+    verify( bundleContext ).registerService( eq( Servlet.class.getName() ),
+                                             eq( servlet ),
+                                             captor.capture() );
+    Dictionary<?, ?> properties = captor.getValue();
+    String contextName = ( String )getHelperProperties().get( "osgi.http.whiteboard.context.name" );
+    assertArrayEquals( new String[] { "/rap", "/rap/*" },
+                       ( String[] )properties.get( "osgi.http.whiteboard.servlet.pattern" ) );
+    assertSame( Boolean.TRUE, properties.get( "osgi.http.whiteboard.servlet.asyncSupported" ) );
+    assertEquals( TARGET, properties.get( "osgi.http.whiteboard.target" ) );
+    assertEquals( "(osgi.http.whiteboard.context.name=" + contextName + ")",
+                  properties.get( "osgi.http.whiteboard.context.select" ) );
+  }
+
+  @Test
+  public void testHandleSecurity_delegatesToHttpContext() throws Exception {
+    mockHttpWhiteboardRuntime();
+    HttpServletRequest request = mock( HttpServletRequest.class );
+    HttpServletResponse response = mock( HttpServletResponse.class );
+    when( Boolean.valueOf( httpContext.handleSecurity( request, response ) ) )
+      .thenReturn( Boolean.TRUE );
+    HttpWhiteboardContext.create( bundleContext, httpService, httpContext );
+
+    ServletContextHelper helper = getHelper();
+
+    assertTrue( helper.handleSecurity( request, response ) );
+  }
+
+  @Test
+  public void testDispose_unregistersServletContextHelper() throws Exception {
+    mockHttpWhiteboardRuntime();
+    HttpWhiteboardContext context
+      = HttpWhiteboardContext.create( bundleContext, httpService, httpContext );
+
+    context.dispose();
+
+    verify( contextRegistration ).unregister();
+  }
+
+  private void mockHttpWhiteboardRuntime() throws Exception {
+    String runtimeClass = HttpWhiteboardContext.HTTP_SERVICE_RUNTIME_CLASS_NAME;
+    doReturn( new ServiceReference<?>[] { mock( ServiceReference.class ) } )
+      .when( bundleContext ).getServiceReferences( runtimeClass, TARGET );
+  }
+
+  private Dictionary<?, ?> getHelperProperties() {
+    ArgumentCaptor<Dictionary> captor = ArgumentCaptor.forClass( Dictionary.class );
+    verify( bundleContext ).registerService( eq( getHelperClass() ), any(), captor.capture() );
+    return captor.getValue();
+  }
+
+  private ServletContextHelper getHelper() {
+    ArgumentCaptor<Object> captor = ArgumentCaptor.forClass( Object.class );
+    verify( bundleContext ).registerService( eq( getHelperClass() ),
+                                             captor.capture(),
+                                             any( Dictionary.class ) );
+    return ( ServletContextHelper )captor.getValue();
+  }
+
+  private static String getHelperClass() {
+    return HttpWhiteboardContext.SERVLET_CONTEXT_HELPER_CLASS_NAME;
+  }
+
+}
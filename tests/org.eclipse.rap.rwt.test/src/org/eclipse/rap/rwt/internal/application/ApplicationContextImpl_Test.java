@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 Frank Appel and others.
+ * Copyright (c) 2011, 2026 Frank Appel and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -38,12 +38,15 @@ import javax.servlet.ServletContext;
 
 import org.eclipse.rap.rwt.application.Application;
 import org.eclipse.rap.rwt.application.ApplicationConfiguration;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.lifecycle.DefaultEntryPointFactory;
 import org.eclipse.rap.rwt.internal.lifecycle.TestEntryPoint;
 import org.eclipse.rap.rwt.internal.resources.ResourceDirectory;
 import org.eclipse.rap.rwt.internal.serverpush.ServerPushServiceHandler;
 import org.eclipse.rap.rwt.internal.service.ServiceManagerImpl;
 import org.eclipse.rap.rwt.internal.service.StartupPageTestUtil;
+import org.eclipse.rap.rwt.internal.textsize.FileTextSizePersistence;
+import org.eclipse.rap.rwt.internal.textsize.TextSizePersistence;
 import org.eclipse.rap.rwt.internal.theme.Theme;
 import org.eclipse.rap.rwt.internal.theme.ThemeManager;
 import org.eclipse.rap.rwt.service.ApplicationContextEvent;
@@ -57,6 +60,7 @@ import org.eclipse.rap.rwt.service.UIThreadListener;
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.widgets.Composite;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
@@ -85,6 +89,11 @@ public class ApplicationContextImpl_Test {
     uiThreadListener = mock( UIThreadListener.class );
   }
 
+  @After
+  public void tearDown() {
+    System.getProperties().remove( RWTProperties.TEXT_SIZE_STORE_FILE );
+  }
+
   @Test
   public void testApplicationContextSingletons() {
     applicationContext = new ApplicationContextImpl( null, null );
@@ -145,6 +154,10 @@ public class ApplicationContextImpl_Test {
     assertNotNull( applicationContext.getDisplaysHolder() );
     assertSame( applicationContext.getDisplaysHolder(), applicationContext.getDisplaysHolder() );
 
+    assertNotNull( applicationContext.getTimerExecService() );
+    assertSame( applicationContext.getTimerExecService(),
+                applicationContext.getTimerExecService() );
+
     assertNotNull( applicationContext.getTextSizeStorage() );
     assertSame( applicationContext.getTextSizeStorage(), applicationContext.getTextSizeStorage() );
 
@@ -274,6 +287,43 @@ public class ApplicationContextImpl_Test {
     checkStartupPageTemplateHasBeenReset();
   }
 
+  @Test
+  public void testActivate_loadsPersistedTextSizes() throws IOException {
+    final TextSizePersistence persistence = mock( TextSizePersistence.class );
+    applicationContext = new ApplicationContextImpl( createConfiguration(),
+                                                     createServletContext() )
+    {
+      @Override
+      protected TextSizePersistence createTextSizePersistence() {
+        return persistence;
+      }
+    };
+
+    applicationContext.activate();
+    applicationContext.deactivate();
+
+    verify( persistence ).load();
+    verify( persistence, never() ).save( any( byte[].class ) );
+  }
+
+  @Test
+  public void testCreateTextSizePersistence_withoutSystemProperty() {
+    applicationContext = new ApplicationContextImpl( null, null );
+
+    assertNull( applicationContext.createTextSizePersistence() );
+  }
+
+  @Test
+  public void testCreateTextSizePersistence_fromSystemProperty() {
+    File file = new File( Fixture.TEMP_DIR, "textsizes.bin" );
+    System.setProperty( RWTProperties.TEXT_SIZE_STORE_FILE, file.getPath() );
+    applicationContext = new ApplicationContextImpl( null, null );
+
+    TextSizePersistence persistence = applicationContext.createTextSizePersistence();
+
+    assertEquals( file, ( ( FileTextSizePersistence )persistence ).getFile() );
+  }
+
   @Test
   public void testSetToServletContext() {
     ServletContext servletContext = Fixture.createServletContext();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2014 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -23,12 +23,15 @@ import org.eclipse.rap.rwt.application.Application.OperationMode;
 import org.eclipse.rap.rwt.application.ApplicationConfiguration;
 import org.eclipse.rap.rwt.application.ExceptionHandler;
 import org.eclipse.rap.rwt.engine.RWTServlet;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.engine.RWTClusterSupport;
 import org.eclipse.rap.rwt.internal.lifecycle.LifeCycle;
 import org.eclipse.rap.rwt.internal.lifecycle.RWTLifeCycle;
 import org.eclipse.rap.rwt.internal.lifecycle.SimpleLifeCycle;
+import org.eclipse.rap.rwt.internal.lifecycle.VirtualThreadLifeCycle;
 import org.eclipse.rap.rwt.service.ResourceLoader;
 import org.eclipse.rap.rwt.testfixture.internal.TestServletContext;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -48,6 +51,11 @@ public class ApplicationImpl_Test {
     application = new ApplicationImpl( applicationContext, applicationConfiguration );
   }
 
+  @After
+  public void tearDown() {
+    System.clearProperty( RWTProperties.ENABLE_VIRTUAL_UI_THREADS );
+  }
+
   @Test
   public void testDefaultOperationMode() {
     applicationContext.activate();
@@ -74,6 +82,17 @@ public class ApplicationImpl_Test {
     assertSame( RWTLifeCycle.class, lifeCycle.getClass() );
   }
 
+  @Test
+  public void testSetOperationModeToSWTCompatibility_withVirtualUIThreads() {
+    System.setProperty( RWTProperties.ENABLE_VIRTUAL_UI_THREADS, "true" );
+
+    application.setOperationMode( OperationMode.SWT_COMPATIBILITY );
+    applicationContext.activate();
+
+    LifeCycle lifeCycle = applicationContext.getLifeCycleFactory().getLifeCycle();
+    assertSame( VirtualThreadLifeCycle.class, lifeCycle.getClass() );
+  }
+
   @Test
   public void testSetOperationModeToJEECompatibility() {
     application.setOperationMode( OperationMode.JEE_COMPATIBILITY );
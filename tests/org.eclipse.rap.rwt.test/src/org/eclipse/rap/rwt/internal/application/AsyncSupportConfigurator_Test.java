@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.application;
+
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.servlet.ServletContext;
+import javax.servlet.ServletRegistration;
+import javax.servlet.http.HttpServlet;
+
+import org.eclipse.rap.rwt.engine.RWTServlet;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class AsyncSupportConfigurator_Test {
+
+  private ServletContext servletContext;
+  private Map<String, ServletRegistration> registrations;
+  private AsyncSupportConfigurator configurator;
+
+  @Before
+  public void setUp() {
+    servletContext = mock( ServletContext.class );
+    when( Integer.valueOf( servletContext.getMajorVersion() ) ).thenReturn( Integer.valueOf( 3 ) );
+    registrations = new HashMap<>();
+    doReturn( registrations ).when( servletContext ).getServletRegistrations();
+    configurator = new AsyncSupportConfigurator( servletContext );
+  }
+
+  @Test
+  public void testConfigure_enablesAsyncSupportForRWTServlet() {
+    ServletRegistration.Dynamic registration = addRegistration( RWTServlet.class );
+
+    configurator.configure();
+
+    verify( registration ).setAsyncSupported( true );
+  }
+
+  @Test
+  public void testConfigure_ignoresOtherServlets() {
+    ServletRegistration.Dynamic registration = addRegistration( HttpServlet.class );
+
+    configurator.configure();
+
+    verify( registration, never() ).setAsyncSupported( anyBoolean() );
+  }
+
+  @Test
+  public void testConfigure_withInitializedServletContext() {
+    ServletRegistration.Dynamic registration = addRegistration( RWTServlet.class );
+    doThrow( new IllegalStateException() ).when( registration ).setAsyncSupported( true );
+
+    configurator.configure();
+  }
+
+  @Test
+  public void testConfigure_withoutServletRegistrations() {
+    doReturn( null ).when( servletContext ).getServletRegistrations();
+
+    configurator.configure();
+  }
+
+  @Test
+  public void testConfigure_withInsufficientServletVersion() {
+    when( Integer.valueOf( servletContext.getMajorVersion() ) ).thenReturn( Integer.valueOf( 2 ) );
+    ServletRegistration.Dynamic registration = addRegistration( RWTServlet.class );
+
+    configurator.configure();
+
+    verify( registration, never() ).setAsyncSupported( anyBoolean() );
+  }
+
+  private ServletRegistration.Dynamic addRegistration( Class<?> servletClass ) {
+    ServletRegistration.Dynamic result = mock( ServletRegistration.Dynamic.class );
+    when( result.getClassName() ).thenReturn( servletClass.getName() );
+    registrations.put( servletClass.getName(), result );
+    return result;
+  }
+
+}
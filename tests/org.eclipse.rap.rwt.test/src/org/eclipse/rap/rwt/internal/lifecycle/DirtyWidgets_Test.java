@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.lifecycle;
+
+import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getAdapter;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.internal.widgets.IDisplayAdapter;
+import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class DirtyWidgets_Test {
+
+  private Display display;
+  private Shell shell;
+  private Composite composite;
+  private Button button;
+  private DirtyWidgets dirtyWidgets;
+
+  @Before
+  public void setUp() {
+    Fixture.setUp();
+    display = new Display();
+    shell = new Shell( display );
+    composite = new Composite( shell, SWT.NONE );
+    button = new Button( composite, SWT.PUSH );
+    button.setText( "foo" );
+    Fixture.markInitialized( shell );
+    Fixture.markInitialized( composite );
+    Fixture.markInitialized( button );
+    dirtyWidgets = new DirtyWidgets();
+  }
+
+  @After
+  public void tearDown() {
+    Fixture.tearDown();
+  }
+
+  @Test
+  public void testMarkDirty_ignoredWithoutTracking() {
+    dirtyWidgets.markDirty( button );
+
+    assertFalse( dirtyWidgets.isDirty( button ) );
+    assertTrue( dirtyWidgets.getAll().isEmpty() );
+  }
+
+  @Test
+  public void testMarkDirty_marksParent() {
+    dirtyWidgets.startTracking();
+
+    dirtyWidgets.markDirty( button );
+
+    assertTrue( dirtyWidgets.isDirty( button ) );
+    assertTrue( dirtyWidgets.isDirty( composite ) );
+  }
+
+  @Test
+  public void testMarkDirty_preservesValues() {
+    dirtyWidgets.startTracking();
+
+    dirtyWidgets.markDirty( button );
+    button.setText( "bar" );
+
+    assertEquals( "foo", getAdapter( button ).getPreserved( "text" ) );
+  }
+
+  @Test
+  public void testMarkDirty_preservesOnlyOnce() {
+    dirtyWidgets.startTracking();
+
+    dirtyWidgets.markDirty( button );
+    button.setText( "bar" );
+    dirtyWidgets.markDirty( button );
+
+    assertEquals( "foo", getAdapter( button ).getPreserved( "text" ) );
+  }
+
+  @Test
+  public void testMarkDirty_doesNotPreserveUninitializedWidget() {
+    Button newButton = new Button( composite, SWT.PUSH );
+    newButton.setText( "foo" );
+    dirtyWidgets.startTracking();
+
+    dirtyWidgets.markDirty( newButton );
+
+    assertTrue( dirtyWidgets.isDirty( newButton ) );
+    assertNull( getAdapter( newButton ).getPreserved( "text" ) );
+  }
+
+  @Test
+  public void testMarkDirtyOnStart() {
+    dirtyWidgets.markDirtyOnStart( button );
+
+    dirtyWidgets.startTracking();
+
+    assertTrue( dirtyWidgets.isDirty( button ) );
+  }
+
+  @Test
+  public void testMarkDirtyOnStart_ignoresDisposedWidgets() {
+    dirtyWidgets.markDirtyOnStart( button );
+    button.dispose();
+
+    dirtyWidgets.startTracking();
+
+    assertFalse( dirtyWidgets.isDirty( button ) );
+  }
+
+  @Test
+  public void testStopTracking() {
+    dirtyWidgets.startTracking();
+
+    dirtyWidgets.stopTracking();
+    dirtyWidgets.markDirty( button );
+
+    assertFalse( dirtyWidgets.isTracking() );
+    assertTrue( dirtyWidgets.hasStarted() );
+    assertFalse( dirtyWidgets.isDirty( button ) );
+  }
+
+  @Test
+  public void testCheckWidget_marksWidgetDirty() {
+    dirtyWidgets.startTracking();
+    display.getAdapter( IDisplayAdapter.class ).setDirtyWidgets( dirtyWidgets );
+
+    button.getText();
+
+    assertTrue( dirtyWidgets.isDirty( button ) );
+  }
+
+  @Test
+  public void testCreateWidget_marksParentDirty() {
+    dirtyWidgets.startTracking();
+    display.getAdapter( IDisplayAdapter.class ).setDirtyWidgets( dirtyWidgets );
+
+    new Button( shell, SWT.PUSH );
+
+    assertTrue( dirtyWidgets.isDirty( shell ) );
+  }
+
+}
@@ -0,0 +1,255 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.lifecycle;
+
+import static org.eclipse.rap.rwt.testfixture.internal.ConcurrencyTestUtil.runInThread;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.rap.rwt.internal.lifecycle.UIThread.UIThreadTerminatedError;
+import org.eclipse.rap.rwt.internal.service.ContextProvider;
+import org.eclipse.rap.rwt.service.UISession;
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+@SuppressWarnings( "deprecation" )
+public class ParkingUIThread_Test {
+
+  private StringBuffer log;
+
+  @Before
+  public void setUp() {
+    Fixture.setUp();
+    log = new StringBuffer();
+  }
+
+  @After
+  public void tearDown() {
+    Fixture.tearDown();
+  }
+
+  @Test
+  public void testSwitchThread_runsThreadsAlternately() throws InterruptedException {
+    final AtomicReference<ParkingUIThread> uiThread = new AtomicReference<>();
+    uiThread.set( new ParkingUIThread( new Runnable() {
+      @Override
+      public void run() {
+        log.append( "ui1 " );
+        uiThread.get().switchThread();
+        log.append( "ui2 " );
+      }
+    } ) );
+
+    uiThread.get().getThread().start();
+    uiThread.get().switchThread();
+    log.append( "request1 " );
+    uiThread.get().switchThread();
+    log.append( "request2" );
+    uiThread.get().getThread().join( 5000 );
+
+    assertEquals( "ui1 request1 ui2 request2", log.toString() );
+    assertFalse( uiThread.get().getThread().isAlive() );
+  }
+
+  @Test
+  public void testStart_doesNotRunBeforeSwitchThread() throws InterruptedException {
+    ParkingUIThread uiThread = new ParkingUIThread( new Runnable() {
+      @Override
+      public void run() {
+        log.append( "ui" );
+      }
+    } );
+
+    uiThread.getThread().start();
+    Thread.sleep( 50 );
+
+    assertEquals( "", log.toString() );
+    uiThread.switchThread();
+    assertEquals( "ui", log.toString() );
+  }
+
+  @Test
+  public void testSwitchThread_returnsWhenUIThreadFails() throws InterruptedException {
+    ParkingUIThread uiThread = new ParkingUIThread( new Runnable() {
+      @Override
+      public void run() {
+        throw new RuntimeException();
+      }
+    } );
+    uiThread.getThread().setUncaughtExceptionHandler( mock( Thread.UncaughtExceptionHandler.class ) );
+
+    uiThread.getThread().start();
+    uiThread.switchThread();
+    uiThread.getThread().join( 5000 );
+
+    assertFalse( uiThread.getThread().isAlive() );
+  }
+
+  @Test
+  public void testGetCurrent() {
+    final AtomicReference<ParkingUIThread> current = new AtomicReference<>();
+    ParkingUIThread uiThread = new ParkingUIThread( new Runnable() {
+      @Override
+      public void run() {
+        current.set( ParkingUIThread.getCurrent() );
+      }
+    } );
+
+    uiThread.getThread().start();
+    uiThread.switchThread();
+
+    assertSame( uiThread, current.get() );
+    assertNull( ParkingUIThread.getCurrent() );
+  }
+
+  @Test
+  public void testGetThread_isVirtualIfSupported() throws Exception {
+    ParkingUIThread uiThread = new ParkingUIThread( null );
+
+    boolean virtual = isVirtual( uiThread.getThread() );
+
+    assertEquals( ParkingUIThread.isVirtualThreadSupported(), virtual );
+  }
+
+  @Test
+  public void testGetThread_platformThread() throws Exception {
+    ParkingUIThread uiThread = new ParkingUIThread( null, false );
+
+    assertFalse( isVirtual( uiThread.getThread() ) );
+  }
+
+  @Test
+  public void testSwitchThread_cannotBeInterrupted() throws Exception {
+    final AtomicBoolean returned = new AtomicBoolean();
+    final AtomicReference<ParkingUIThread> uiThread = new AtomicReference<>();
+    uiThread.set( new ParkingUIThread( new Runnable() {
+      @Override
+      public void run() {
+        uiThread.get().switchThread();
+        returned.set( true );
+      }
+    } ) );
+    uiThread.get().getThread().start();
+    uiThread.get().switchThread();
+
+    uiThread.get().getThread().interrupt();
+    Thread.sleep( 50 );
+
+    assertFalse( "switchThread must not return when thread is interrupted", returned.get() );
+    uiThread.get().switchThread();
+    assertTrue( returned.get() );
+  }
+
+  @Test
+  public void testTerminateThread_throwsErrorInUIThread() throws Exception {
+    final AtomicReference<Throwable> error = new AtomicReference<>();
+    final AtomicReference<ParkingUIThread> uiThread = new AtomicReference<>();
+    uiThread.set( new ParkingUIThread( new Runnable() {
+      @Override
+      public void run() {
+        try {
+          uiThread.get().switchThread();
+        } catch( Throwable throwable ) {
+          error.set( throwable );
+        }
+      }
+    } ) );
+    uiThread.get().setUISession( ContextProvider.getUISession() );
+    uiThread.get().getThread().start();
+    uiThread.get().switchThread();
+
+    uiThread.get().terminateThread();
+
+    assertTrue( error.get() instanceof UIThreadTerminatedError );
+    assertFalse( uiThread.get().getThread().isAlive() );
+  }
+
+  @Test
+  public void testTerminateThread_doesNotInterruptRunningUIThread() throws Exception {
+    final AtomicBoolean interrupted = new AtomicBoolean();
+    final AtomicReference<Throwable> error = new AtomicReference<>();
+    final AtomicReference<ParkingUIThread> uiThread = new AtomicReference<>();
+    final CountDownLatch running = new CountDownLatch( 1 );
+    uiThread.set( new ParkingUIThread( new Runnable() {
+      @Override
+      public void run() {
+        running.countDown();
+        try {
+          Thread.sleep( 200 );
+        } catch( @SuppressWarnings( "unused" ) InterruptedException exception ) {
+          interrupted.set( true );
+        }
+        try {
+          uiThread.get().switchThread();
+        } catch( Throwable throwable ) {
+          error.set( throwable );
+        }
+      }
+    } ) );
+    uiThread.get().setUISession( ContextProvider.getUISession() );
+    uiThread.get().getThread().start();
+    Thread requestThread = new Thread( new Runnable() {
+      @Override
+      public void run() {
+        uiThread.get().switchThread();
+      }
+    } );
+    requestThread.start();
+    running.await();
+
+    uiThread.get().terminateThread();
+    requestThread.join();
+
+    assertFalse( interrupted.get() );
+    assertTrue( error.get() instanceof UIThreadTerminatedError );
+    assertFalse( uiThread.get().getThread().isAlive() );
+  }
+
+  @Test
+  public void testProcessShutdown_runsShutdownCallback() throws Throwable {
+    final ParkingUIThread uiThread = new ParkingUIThread( null );
+    Runnable callback = mock( Runnable.class );
+    UISession uiSession = ContextProvider.getUISession();
+    uiThread.setUISession( uiSession );
+    uiThread.setShutdownCallback( callback );
+    uiThread.setServiceContext( ContextUtil.createFakeContext( uiSession ) );
+
+    runInThread( new Runnable() {
+      @Override
+      public void run() {
+        uiThread.processShutdown();
+      }
+    } );
+
+    verify( callback ).run();
+  }
+
+  private static boolean isVirtual( Thread thread ) throws Exception {
+    try {
+      return ( ( Boolean )Thread.class.getMethod( "isVirtual" ).invoke( thread ) ).booleanValue();
+    } catch( NoSuchMethodException exception ) {
+      return false;
+    }
+  }
+
+}
@@ -0,0 +1,250 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.lifecycle;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+
+/**
+ * Compares the monitor based {@link UIThread} with the {@link ParkingUIThread} (which uses virtual
+ * threads if the runtime supports them). For a number of simulated sessions, a UI thread is
+ * started and a number of requests is handed over to it from a pool of request threads, like a
+ * servlet container would do. The benchmark reports the number of live platform threads, the
+ * heap used by the parked UI threads and the latency of a request round-trip.
+ * <p>
+ * This is not a unit test, run it as a Java application:
+ * </p>
+ * <pre>
+ * java UIThreadBenchmark [sessions] [requestsPerSession] [requestThreads]
+ * </pre>
+ */
+public class UIThreadBenchmark {
+
+  private final int sessionCount;
+  private final int requestCount;
+  private final int requestThreadCount;
+
+  public static void main( String[] args ) throws Exception {
+    int sessions = args.length > 0 ? Integer.parseInt( args[ 0 ] ) : 2000;
+    int requests = args.length > 1 ? Integer.parseInt( args[ 1 ] ) : 20;
+    int requestThreads = args.length > 2 ? Integer.parseInt( args[ 2 ] ) : 32;
+    UIThreadBenchmark benchmark = new UIThreadBenchmark( sessions, requests, requestThreads );
+    System.out.println( "sessions: " + sessions
+                        + ", requests per session: " + requests
+                        + ", request threads: " + requestThreads
+                        + ", virtual threads supported: "
+                        + ParkingUIThread.isVirtualThreadSupported() );
+    // warm up both models before measuring
+    benchmark.run( new MonitorModel(), false );
+    benchmark.run( new ParkingModel(), false );
+    benchmark.run( new MonitorModel(), true );
+    benchmark.run( new ParkingModel(), true );
+  }
+
+  UIThreadBenchmark( int sessionCount, int requestCount, int requestThreadCount ) {
+    this.sessionCount = sessionCount;
+    this.requestCount = requestCount;
+    this.requestThreadCount = requestThreadCount;
+  }
+
+  void run( Model model, boolean report ) throws Exception {
+    ExecutorService requestThreads = Executors.newFixedThreadPool( requestThreadCount );
+    Session[] sessions = new Session[ sessionCount ];
+    long heapBefore = usedHeap();
+    int threadsBefore = ManagementFactory.getThreadMXBean().getThreadCount();
+    for( int i = 0; i < sessionCount; i++ ) {
+      sessions[ i ] = new Session( model );
+    }
+    // first request starts the UI thread of every session
+    long[] startLatencies = executeRequests( requestThreads, sessions );
+    int threadsWithSessions = ManagementFactory.getThreadMXBean().getThreadCount();
+    long heapWithSessions = usedHeap();
+    long[] latencies = new long[ sessionCount * requestCount ];
+    for( int i = 0; i < requestCount; i++ ) {
+      long[] roundLatencies = executeRequests( requestThreads, sessions );
+      System.arraycopy( roundLatencies, 0, latencies, i * sessionCount, sessionCount );
+    }
+    for( Session session : sessions ) {
+      session.running = false;
+    }
+    executeRequests( requestThreads, sessions );
+    requestThreads.shutdown();
+    for( Session session : sessions ) {
+      session.uiThread.getThread().join();
+    }
+    if( report ) {
+      Arrays.sort( latencies );
+      System.out.println( model.getName() + ":" );
+      System.out.println( "  platform threads:      " + ( threadsWithSessions - threadsBefore ) );
+      System.out.println( "  heap per session:      "
+                          + ( ( heapWithSessions - heapBefore ) / sessionCount ) + " bytes" );
+      System.out.println( "  mean start latency:    " + mean( startLatencies ) / 1000 + " us" );
+      System.out.println( "  mean request latency:  " + mean( latencies ) / 1000 + " us" );
+      System.out.println( "  p99 request latency:   "
+                          + latencies[ ( int )( latencies.length * 0.99 ) ] / 1000 + " us" );
+    }
+  }
+
+  private static long[] executeRequests( ExecutorService requestThreads, Session[] sessions )
+    throws InterruptedException
+  {
+    final long[] latencies = new long[ sessions.length ];
+    final CountDownLatch latch = new CountDownLatch( sessions.length );
+    for( int i = 0; i < sessions.length; i++ ) {
+      final int index = i;
+      final Session session = sessions[ i ];
+      requestThreads.execute( new Runnable() {
+        @Override
+        public void run() {
+          long start = System.nanoTime();
+          session.request();
+          latencies[ index ] = System.nanoTime() - start;
+          latch.countDown();
+        }
+      } );
+    }
+    latch.await();
+    return latencies;
+  }
+
+  private static long mean( long[] values ) {
+    long sum = 0;
+    for( long value : values ) {
+      sum += value;
+    }
+    return values.length == 0 ? 0 : sum / values.length;
+  }
+
+  private static long usedHeap() throws InterruptedException {
+    Runtime runtime = Runtime.getRuntime();
+    for( int i = 0; i < 3; i++ ) {
+      System.gc();
+      Thread.sleep( 50 );
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+
+  private static final class Session {
+
+    private final Model model;
+    final IUIThreadHolder uiThread;
+    volatile boolean running;
+    private boolean started;
+    int processed;
+
+    Session( Model model ) {
+      this.model = model;
+      running = true;
+      final AtomicReference<IUIThreadHolder> holder = new AtomicReference<>();
+      uiThread = model.createUIThread( new Runnable() {
+        @Override
+        public void run() {
+          model.runUIThread( holder.get(), new Runnable() {
+            @Override
+            public void run() {
+              while( running ) {
+                // simulates the work done by the life cycle
+                processed++;
+                holder.get().switchThread();
+              }
+            }
+          } );
+        }
+      } );
+      holder.set( uiThread );
+      uiThread.getThread().setDaemon( true );
+    }
+
+    void request() {
+      if( !started ) {
+        started = true;
+        model.startUIThread( uiThread );
+      } else {
+        uiThread.switchThread();
+      }
+    }
+
+  }
+
+  static abstract class Model {
+
+    abstract String getName();
+
+    abstract IUIThreadHolder createUIThread( Runnable runnable );
+
+    abstract void startUIThread( IUIThreadHolder uiThread );
+
+    abstract void runUIThread( IUIThreadHolder uiThread, Runnable body );
+
+  }
+
+  static final class MonitorModel extends Model {
+
+    @Override
+    String getName() {
+      return "UIThread (monitor)";
+    }
+
+    @Override
+    IUIThreadHolder createUIThread( Runnable runnable ) {
+      return new UIThread( runnable );
+    }
+
+    @Override
+    void startUIThread( IUIThreadHolder uiThread ) {
+      synchronized( uiThread.getLock() ) {
+        uiThread.getThread().start();
+        uiThread.switchThread();
+      }
+    }
+
+    @Override
+    void runUIThread( IUIThreadHolder uiThread, Runnable body ) {
+      synchronized( uiThread.getLock() ) {
+        body.run();
+      }
+    }
+
+  }
+
+  static final class ParkingModel extends Model {
+
+    @Override
+    String getName() {
+      return "ParkingUIThread ("
+             + ( ParkingUIThread.isVirtualThreadSupported() ? "virtual" : "platform" )
+             + " threads)";
+    }
+
+    @Override
+    IUIThreadHolder createUIThread( Runnable runnable ) {
+      return new ParkingUIThread( runnable );
+    }
+
+    @Override
+    void startUIThread( IUIThreadHolder uiThread ) {
+      uiThread.getThread().start();
+      uiThread.switchThread();
+    }
+
+    @Override
+    void runUIThread( IUIThreadHolder uiThread, Runnable body ) {
+      body.run();
+    }
+
+  }
+
+}
@@ -0,0 +1,189 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.lifecycle;
+
+import static org.eclipse.rap.rwt.internal.service.ContextProvider.getApplicationContext;
+import static org.eclipse.rap.rwt.testfixture.internal.ConcurrencyTestUtil.runInThread;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.rap.rwt.application.EntryPoint;
+import org.eclipse.rap.rwt.internal.service.ContextProvider;
+import org.eclipse.rap.rwt.service.UISession;
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.rap.rwt.testfixture.internal.TestRequest;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Listener;
+import org.eclipse.swt.widgets.Shell;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class VirtualThreadLifeCycle_Test {
+
+  private static final String ERR_MSG = "TEST_ERROR";
+
+  private static StringBuffer log = new StringBuffer();
+  private EntryPointManager entryPointManager;
+  private VirtualThreadLifeCycle lifeCycle;
+
+  @Before
+  public void setUp() {
+    log.setLength( 0 );
+    Fixture.setUp();
+    Fixture.fakeNewRequest();
+    Fixture.fakeResponseWriter();
+    entryPointManager = getApplicationContext().getEntryPointManager();
+    lifeCycle = new VirtualThreadLifeCycle( getApplicationContext() );
+  }
+
+  @After
+  public void tearDown() {
+    Fixture.tearDown();
+  }
+
+  @Test
+  public void testExecute_createsParkingUIThread() throws IOException {
+    register( TestEntryPoint.class );
+
+    lifeCycle.execute();
+
+    IUIThreadHolder uiThread = LifeCycleUtil.getUIThread( ContextProvider.getUISession() );
+    assertTrue( uiThread instanceof ParkingUIThread );
+    assertEquals( "createUI", log.toString() );
+  }
+
+  @Test
+  public void testExecute_runsEntryPointOnUIThread() throws IOException {
+    final AtomicReference<Thread> entryPointThread = new AtomicReference<>();
+    lifeCycle.addPhaseListener( new PhaseListener() {
+      private static final long serialVersionUID = 1L;
+      @Override
+      public PhaseId getPhaseId() {
+        return PhaseId.PREPARE_UI_ROOT;
+      }
+      @Override
+      public void beforePhase( PhaseEvent event ) {
+      }
+      @Override
+      public void afterPhase( PhaseEvent event ) {
+        entryPointThread.set( Thread.currentThread() );
+      }
+    } );
+    register( TestEntryPoint.class );
+
+    lifeCycle.execute();
+
+    Thread uiThread = LifeCycleUtil.getUIThread( ContextProvider.getUISession() ).getThread();
+    assertSame( uiThread, entryPointThread.get() );
+    assertFalse( uiThread == Thread.currentThread() );
+  }
+
+  @Test
+  public void testExecute_rethrowsExceptionFromCreateUI() throws IOException {
+    register( ErrorEntryPoint.class );
+
+    try {
+      lifeCycle.execute();
+      fail();
+    } catch( RuntimeException expected ) {
+      assertEquals( ERR_MSG, expected.getMessage() );
+    }
+  }
+
+  @Test
+  public void testSessionInvalidate_withRunningEventLoop() throws Throwable {
+    UISession uiSession = ContextProvider.getUISession();
+    register( EventLoopEntryPoint.class );
+    lifeCycle.execute();
+    Thread uiThread = LifeCycleUtil.getUIThread( uiSession ).getThread();
+
+    invalidateSession( uiSession );
+
+    assertFalse( uiThread.isAlive() );
+    assertFalse( uiSession.isBound() );
+    assertEquals( "display disposed", log.toString() );
+  }
+
+  @Test
+  public void testSessionInvalidate_withoutRunningEventLoop() throws Throwable {
+    UISession uiSession = ContextProvider.getUISession();
+    register( TestEntryPoint.class );
+    lifeCycle.execute();
+    Thread uiThread = LifeCycleUtil.getUIThread( uiSession ).getThread();
+
+    invalidateSession( uiSession );
+
+    assertFalse( uiThread.isAlive() );
+    assertFalse( uiSession.isBound() );
+  }
+
+  private void register( Class<? extends EntryPoint> entryPointClass ) {
+    entryPointManager.register( TestRequest.DEFAULT_SERVLET_PATH, entryPointClass, null );
+  }
+
+  private static void invalidateSession( final UISession uiSession ) throws Throwable {
+    runInThread( new Runnable() {
+      @Override
+      public void run() {
+        uiSession.getHttpSession().invalidate();
+      }
+    } );
+  }
+
+  public static class TestEntryPoint implements EntryPoint {
+    @Override
+    public int createUI() {
+      new Display();
+      log.append( "createUI" );
+      return 0;
+    }
+  }
+
+  public static class ErrorEntryPoint implements EntryPoint {
+    @Override
+    public int createUI() {
+      throw new RuntimeException( ERR_MSG );
+    }
+  }
+
+  public static class EventLoopEntryPoint implements EntryPoint {
+    @Override
+    public int createUI() {
+      Display display = new Display();
+      display.addListener( SWT.Dispose, new Listener() {
+        @Override
+        public void handleEvent( Event event ) {
+          log.append( "display disposed" );
+        }
+      } );
+      Shell shell = new Shell( display );
+      shell.open();
+      while( !shell.isDisposed() ) {
+        if( !display.readAndDispatch() ) {
+          display.sleep();
+        }
+      }
+      log.append( "regular end of createUI" );
+      return 0;
+    }
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -36,6 +36,7 @@ import org.eclipse.rap.rwt.testfixture.internal.TestMessage;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.internal.widgets.IWidgetGraphicsAdapter;
+import org.eclipse.swt.internal.widgets.PreservedValues;
 import org.eclipse.swt.internal.widgets.Props;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
@@ -1040,4 +1041,93 @@ public class WidgetLCAUtil_Test {
     assertEquals( JsonValue.TRUE, operation.getProperties().get( "foo" ) );
   }
 
+  @Test
+  public void testRenderProperty_intSlot() {
+    int slot = PreservedValues.getSlot( "foo" );
+
+    WidgetLCAUtil.renderProperty( widget, slot, 23, 0 );
+
+    SetOperation operation = ( SetOperation )getProtocolMessage().getOperation( 0 );
+    assertEquals( JsonValue.valueOf( 23 ), operation.getProperties().get( "foo" ) );
+  }
+
+  @Test
+  public void testRenderProperty_booleanSlot() {
+    int slot = PreservedValues.getSlot( "foo" );
+
+    WidgetLCAUtil.renderProperty( widget, slot, true, false );
+
+    SetOperation operation = ( SetOperation )getProtocolMessage().getOperation( 0 );
+    assertEquals( JsonValue.TRUE, operation.getProperties().get( "foo" ) );
+  }
+
+  @Test
+  public void testRenderProperty_stringSlot() {
+    int slot = PreservedValues.getSlot( "foo" );
+
+    WidgetLCAUtil.renderProperty( widget, slot, "bar", null );
+
+    SetOperation operation = ( SetOperation )getProtocolMessage().getOperation( 0 );
+    assertEquals( JsonValue.valueOf( "bar" ), operation.getProperties().get( "foo" ) );
+  }
+
+  @Test
+  public void testHasChanged_intSlot() {
+    int slot = PreservedValues.getSlot( "foo" );
+    Fixture.markInitialized( widget );
+
+    WidgetLCAUtil.preserveProperty( widget, slot, 1000 );
+
+    assertFalse( WidgetLCAUtil.hasChanged( widget, slot, 1000, 0 ) );
+    assertTrue( WidgetLCAUtil.hasChanged( widget, slot, 1001, 0 ) );
+  }
+
+  @Test
+  public void testHasChanged_intSlot_notPreserved() {
+    int slot = PreservedValues.getSlot( "foo" );
+    Fixture.markInitialized( widget );
+
+    assertTrue( WidgetLCAUtil.hasChanged( widget, slot, 0, 0 ) );
+  }
+
+  @Test
+  public void testHasChanged_intSlot_uninitialized() {
+    int slot = PreservedValues.getSlot( "foo" );
+
+    assertFalse( WidgetLCAUtil.hasChanged( widget, slot, 0, 0 ) );
+    assertTrue( WidgetLCAUtil.hasChanged( widget, slot, 1, 0 ) );
+  }
+
+  @Test
+  public void testHasChanged_booleanSlot() {
+    int slot = PreservedValues.getSlot( "foo" );
+    Fixture.markInitialized( widget );
+
+    WidgetLCAUtil.preserveProperty( widget, slot, true );
+
+    assertFalse( WidgetLCAUtil.hasChanged( widget, slot, true, false ) );
+    assertTrue( WidgetLCAUtil.hasChanged( widget, slot, false, false ) );
+  }
+
+  @Test
+  public void testHasChanged_objectSlot() {
+    int slot = PreservedValues.getSlot( "foo" );
+    Fixture.markInitialized( widget );
+
+    WidgetLCAUtil.preserveProperty( widget, slot, new String[] { "a" } );
+
+    assertFalse( WidgetLCAUtil.hasChanged( widget, slot, new String[] { "a" }, null ) );
+    assertTrue( WidgetLCAUtil.hasChanged( widget, slot, new String[] { "b" }, null ) );
+  }
+
+  @Test
+  public void testHasChanged_intPreservedByName() {
+    Fixture.markInitialized( widget );
+
+    WidgetLCAUtil.preserveProperty( widget, "foo", 1000 );
+
+    assertEquals( Integer.valueOf( 1000 ), WidgetUtil.getAdapter( widget ).getPreserved( "foo" ) );
+    assertFalse( WidgetLCAUtil.hasChanged( widget, PreservedValues.getSlot( "foo" ), 1000, 0 ) );
+  }
+
 }
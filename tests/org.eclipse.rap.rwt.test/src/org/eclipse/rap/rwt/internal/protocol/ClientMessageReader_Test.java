@@ -0,0 +1,390 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.protocol;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.rap.json.JsonArray;
+import org.eclipse.rap.json.JsonObject;
+import org.eclipse.rap.json.JsonValue;
+import org.eclipse.rap.rwt.internal.protocol.Operation.CallOperation;
+import org.eclipse.rap.rwt.internal.protocol.Operation.CreateOperation;
+import org.eclipse.rap.rwt.internal.protocol.Operation.DestroyOperation;
+import org.eclipse.rap.rwt.internal.protocol.Operation.ListenOperation;
+import org.eclipse.rap.rwt.internal.protocol.Operation.NotifyOperation;
+import org.eclipse.rap.rwt.internal.protocol.Operation.SetOperation;
+import org.junit.Test;
+
+
+public class ClientMessageReader_Test {
+
+  @Test( expected = NullPointerException.class )
+  public void testReadFrom_withNull() throws IOException {
+    ClientMessageReader.readFrom( null );
+  }
+
+  @Test
+  public void testReadFrom_readsHead() throws IOException {
+    String json = "{ \"head\" : { \"requestCounter\" : 3 }, \"operations\" : [] }";
+
+    ClientMessage message = read( json );
+
+    assertEquals( new JsonObject().add( "requestCounter", 3 ), message.getHead() );
+    assertTrue( message.getOperations().isEmpty() );
+  }
+
+  @Test
+  public void testReadFrom_readsAllOperationTypes() throws IOException {
+    String json = "{ \"head\" : {}, \"operations\" : ["
+                + "[ \"create\", \"w3\", \"Type\", { \"foo\" : 1 } ],"
+                + "[ \"set\", \"w3\", { \"foo\" : 2 } ],"
+                + "[ \"call\", \"w3\", \"method\", { \"foo\" : 3 } ],"
+                + "[ \"listen\", \"w3\", { \"foo\" : true } ],"
+                + "[ \"notify\", \"w3\", \"event\", { \"foo\" : 4 } ],"
+                + "[ \"destroy\", \"w3\" ]"
+                + "] }";
+
+    List<Operation> operations = read( json ).getOperations();
+
+    assertEquals( 6, operations.size() );
+    assertEquals( "Type", ( ( CreateOperation )operations.get( 0 ) ).getType() );
+    assertEquals( 2, ( ( SetOperation )operations.get( 1 ) ).getProperties().get( "foo" ).asInt() );
+    assertEquals( "method", ( ( CallOperation )operations.get( 2 ) ).getMethodName() );
+    assertTrue( operations.get( 3 ) instanceof ListenOperation );
+    assertEquals( "event", ( ( NotifyOperation )operations.get( 4 ) ).getEventName() );
+    assertTrue( operations.get( 5 ) instanceof DestroyOperation );
+    assertEquals( "w3", operations.get( 5 ).getTarget() );
+  }
+
+  @Test
+  public void testReadFrom_createsIndex() throws IOException {
+    String json = "{ \"head\" : {}, \"operations\" : ["
+                + "[ \"set\", \"w3\", { \"foo\" : 1 } ],"
+                + "[ \"set\", \"w4\", { \"foo\" : 2 } ],"
+                + "[ \"set\", \"w3\", { \"bar\" : 3 } ]"
+                + "] }";
+
+    ClientMessage message = read( json );
+
+    SetOperation operation = message.getLastSetOperationFor( "w3", "foo" );
+    assertSame( message.getOperations().get( 0 ), operation );
+    assertEquals( 2, message.getAllOperationsFor( "w3" ).size() );
+  }
+
+  @Test
+  public void testReadFrom_readsMembersInAnyOrder() throws IOException {
+    String json = "{ \"operations\" : [ [ \"destroy\", \"w3\" ] ], \"foo\" : [ 1, {} ],"
+                + " \"head\" : {} }";
+
+    ClientMessage message = read( json );
+
+    assertEquals( 1, message.getOperations().size() );
+  }
+
+  @Test
+  public void testReadFrom_ignoresAdditionalOperationElements() throws IOException {
+    String json = "{ \"head\" : {}, \"operations\" : ["
+                + "[ \"set\", \"w3\", { \"foo\" : 1 }, [ 2 ], \"bar\" ]"
+                + "] }";
+
+    ClientMessage message = read( json );
+
+    assertEquals( 1, message.getLastSetOperationFor( "w3", "foo" ).getProperties().size() );
+  }
+
+  @Test
+  public void testReadFrom_readsStrings() throws IOException {
+    String json = "{ \"head\" : {}, \"operations\" : ["
+                + "[ \"set\", \"w\\u00e43\", { \"f\\\"oo\" : \"a\\\\b\\/c\\n\\t\\u20AC\u00fc\" } ]"
+                + "] }";
+
+    SetOperation operation = ( SetOperation )read( json ).getOperations().get( 0 );
+
+    assertEquals( "w\u00e43", operation.getTarget() );
+    assertEquals( "a\\b/c\n\t\u20ac\u00fc", operation.getProperties().get( "f\"oo" ).asString() );
+  }
+
+  @Test
+  public void testReadFrom_readsNumbers() throws IOException {
+    String json = "{ \"head\" : {}, \"operations\" : ["
+                + "[ \"set\", \"w3\", { \"a\" : 0, \"b\" : -23, \"c\" : 1.50, \"d\" : -0,"
+                + " \"e\" : 2E-3, \"f\" : 123456789012345678901 } ]"
+                + "] }";
+
+    JsonObject properties = read( json ).getLastSetOperationFor( "w3", null ).getProperties();
+
+    assertEquals( "0", properties.get( "a" ).toString() );
+    assertEquals( -23, properties.get( "b" ).asInt() );
+    assertEquals( "1.50", properties.get( "c" ).toString() );
+    assertEquals( "-0", properties.get( "d" ).toString() );
+    assertEquals( 0.002, properties.get( "e" ).asDouble(), 0 );
+    assertEquals( "123456789012345678901", properties.get( "f" ).toString() );
+  }
+
+  @Test
+  public void testReadFrom_readsNestedValues() throws IOException {
+    String json = "{ \"head\" : {}, \"operations\" : ["
+                + "[ \"set\", \"w3\", { \"foo\" : "
+                + "[ null, true, false, [], {}, { \"a\" : [ 1 ] } ] } ]"
+                + "] }";
+
+    SetOperation operation = read( json ).getLastSetOperationFor( "w3", "foo" );
+    JsonValue value = operation.getProperties().get( "foo" );
+
+    JsonArray expected = new JsonArray()
+      .add( JsonValue.NULL )
+      .add( true )
+      .add( false )
+      .add( new JsonArray() )
+      .add( new JsonObject() )
+      .add( new JsonObject().add( "a", new JsonArray().add( 1 ) ) );
+    assertEquals( expected, value );
+  }
+
+  @Test
+  public void testReadFrom_readsLongMessagesInChunks() throws IOException {
+    StringBuilder json = new StringBuilder( "{ \"head\" : {}, \"operations\" : [" );
+    for( int i = 0; i < 500; i++ ) {
+      json.append( i == 0 ? "" : "," );
+      json.append( "[ \"set\", \"w" + i + "\", " );
+      json.append( "{ \"text\" : \"a\\nb" + i + "\", \"n\" : " + i + " } ]" );
+    }
+    json.append( "] }" );
+
+    ClientMessage message = ClientMessageReader.readFrom( new SlowReader( json.toString() ) );
+
+    assertEquals( 500, message.getOperations().size() );
+    JsonObject properties = message.getLastSetOperationFor( "w499", "text" ).getProperties();
+    assertEquals( "a\nb499", properties.get( "text" ).asString() );
+    assertEquals( 499, properties.get( "n" ).asInt() );
+  }
+
+  @Test
+  public void testReadFrom_matchesJsonObjectMessage() throws IOException {
+    Random random = new Random( 4711 );
+    for( int i = 0; i < 200; i++ ) {
+      String json = createRandomMessage( random ).toString();
+
+      ClientMessage expected = new ClientMessage( JsonObject.readFrom( json ) );
+      ClientMessage actual = ClientMessageReader.readFrom( new SlowReader( json ) );
+
+      assertEquals( expected.toJson(), actual.toJson() );
+    }
+  }
+
+  @Test
+  public void testReadFrom_withoutHead() throws IOException {
+    try {
+      read( "{ \"operations\" : [] }" );
+      fail();
+    } catch( IllegalArgumentException exception ) {
+      assertEquals( "Failed to read head from JSON message", exception.getMessage() );
+    }
+  }
+
+  @Test
+  public void testReadFrom_withoutOperations() throws IOException {
+    try {
+      read( "{ \"head\" : {} }" );
+      fail();
+    } catch( IllegalArgumentException exception ) {
+      assertEquals( "Failed to read operations from JSON message", exception.getMessage() );
+    }
+  }
+
+  @Test
+  public void testReadFrom_withInvalidHead() throws IOException {
+    try {
+      read( "{ \"head\" : [], \"operations\" : [] }" );
+      fail();
+    } catch( IllegalArgumentException exception ) {
+      assertEquals( "Failed to read head from JSON message", exception.getMessage() );
+    }
+  }
+
+  @Test
+  public void testReadFrom_withUnknownOperationType() throws IOException {
+    try {
+      read( "{ \"head\" : {}, \"operations\" : [ [ \"foo\", \"w3\" ] ] }" );
+      fail();
+    } catch( IllegalArgumentException exception ) {
+      assertEquals( "Unknown operation type: foo", exception.getMessage() );
+    }
+  }
+
+  @Test
+  public void testReadFrom_withMissingProperties() throws IOException {
+    try {
+      read( "{ \"head\" : {}, \"operations\" : [ [ \"set\", \"w3\" ] ] }" );
+      fail();
+    } catch( IllegalArgumentException exception ) {
+      assertEquals( "Expected ',' at offset 46", exception.getMessage() );
+    }
+  }
+
+  @Test
+  public void testReadFrom_withInvalidPropertiesType() throws IOException {
+    try {
+      read( "{ \"head\" : {}, \"operations\" : [ [ \"set\", \"w3\", [] ] ] }" );
+      fail();
+    } catch( IllegalArgumentException exception ) {
+      assertEquals( "Expected object at offset 47", exception.getMessage() );
+    }
+  }
+
+  @Test
+  public void testReadFrom_withTruncatedInput() throws IOException {
+    try {
+      read( "{ \"head\" : {}, \"operations\" : [ [ \"set\", \"w3\", { \"foo\" : \"ba" );
+      fail();
+    } catch( IllegalArgumentException exception ) {
+      assertEquals( "Unexpected end of input at offset 60", exception.getMessage() );
+    }
+  }
+
+  @Test
+  public void testReadFrom_withTrailingText() throws IOException {
+    try {
+      read( "{ \"head\" : {}, \"operations\" : [] } x" );
+      fail();
+    } catch( IllegalArgumentException exception ) {
+      assertEquals( "Unexpected character at offset 35", exception.getMessage() );
+    }
+  }
+
+  @Test
+  public void testReadFrom_withInvalidEscape() throws IOException {
+    try {
+      read( "{ \"head\" : { \"a\" : \"\\x\" }, \"operations\" : [] }" );
+      fail();
+    } catch( IllegalArgumentException exception ) {
+      assertEquals( "Expected valid escape sequence at offset 21", exception.getMessage() );
+    }
+  }
+
+  private static ClientMessage read( String json ) throws IOException {
+    return ClientMessageReader.readFrom( new StringReader( json ) );
+  }
+
+  private static JsonObject createRandomMessage( Random random ) {
+    JsonArray operations = new JsonArray();
+    int count = random.nextInt( 30 );
+    for( int i = 0; i < count; i++ ) {
+      String target = "w" + random.nextInt( 5 );
+      switch( random.nextInt( 6 ) ) {
+        case 0:
+          operations.add( new JsonArray().add( "create" ).add( target ).add( "rwt.Type" )
+                                         .add( createRandomObject( random, 2 ) ) );
+        break;
+        case 1:
+          operations.add( new JsonArray().add( "destroy" ).add( target ) );
+        break;
+        case 2:
+          operations.add( new JsonArray().add( "call" ).add( target )
+                                         .add( "m" + random.nextInt( 3 ) )
+                                         .add( createRandomObject( random, 2 ) ) );
+        break;
+        case 3:
+          operations.add( new JsonArray().add( "listen" ).add( target )
+                                         .add( createRandomObject( random, 2 ) ) );
+        break;
+        case 4:
+          operations.add( new JsonArray().add( "notify" ).add( target )
+                                         .add( "e" + random.nextInt( 3 ) )
+                                         .add( createRandomObject( random, 2 ) ) );
+        break;
+        default:
+          operations.add( new JsonArray().add( "set" ).add( target )
+                                         .add( createRandomObject( random, 2 ) ) );
+      }
+    }
+    return new JsonObject().add( "head", createRandomObject( random, 1 ) )
+                           .add( "operations", operations );
+  }
+
+  private static JsonObject createRandomObject( Random random, int depth ) {
+    JsonObject object = new JsonObject();
+    int count = random.nextInt( 4 );
+    for( int i = 0; i < count; i++ ) {
+      object.add( "p" + random.nextInt( 5 ), createRandomValue( random, depth ) );
+    }
+    return object;
+  }
+
+  private static JsonValue createRandomValue( Random random, int depth ) {
+    switch( random.nextInt( depth > 0 ? 8 : 6 ) ) {
+      case 0:
+        return JsonValue.NULL;
+      case 1:
+        return JsonValue.valueOf( random.nextBoolean() );
+      case 2:
+        return JsonValue.valueOf( random.nextLong() );
+      case 3:
+        return JsonValue.valueOf( random.nextDouble() * 1000 );
+      case 4:
+        return JsonValue.valueOf( createRandomString( random ) );
+      case 5:
+        return JsonValue.valueOf( random.nextInt( 1000 ) - 500 );
+      case 6:
+        JsonArray array = new JsonArray();
+        int count = random.nextInt( 4 );
+        for( int i = 0; i < count; i++ ) {
+          array.add( createRandomValue( random, depth - 1 ) );
+        }
+        return array;
+      default:
+        return createRandomObject( random, depth - 1 );
+    }
+  }
+
+  private static String createRandomString( Random random ) {
+    String characters = "ab \"\\/\n\t\u0001\u00e4\u20ac";
+    StringBuilder builder = new StringBuilder();
+    int length = random.nextInt( 10 );
+    for( int i = 0; i < length; i++ ) {
+      builder.append( characters.charAt( random.nextInt( characters.length() ) ) );
+    }
+    return builder.toString();
+  }
+
+  /*
+   * Returns only a few characters per read to exercise reads across buffer boundaries.
+   */
+  private static class SlowReader extends Reader {
+
+    private final StringReader reader;
+
+    SlowReader( String string ) {
+      reader = new StringReader( string );
+    }
+
+    @Override
+    public int read( char[] buffer, int offset, int length ) throws IOException {
+      return reader.read( buffer, offset, Math.min( length, 7 ) );
+    }
+
+    @Override
+    public void close() {
+      reader.close();
+    }
+
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
-* Copyright (c) 2011, 2014 EclipseSource and others.
+* Copyright (c) 2011, 2026 EclipseSource and others.
 * All rights reserved. This program and the accompanying materials
 * are made available under the terms of the Eclipse Public License v1.0
 * which accompanies this distribution, and is available at
@@ -15,6 +15,7 @@ import static org.eclipse.rap.rwt.testfixture.internal.TestMessage.getParent;
 import static org.eclipse.rap.rwt.testfixture.internal.TestMessage.getStyles;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -407,6 +408,119 @@ public class ProtocolMessageWriter_Test {
     assertEquals( "Hello", property.get( 1 ).asString() );
   }
 
+  @Test
+  public void testIsStreaming_falseByDefault() {
+    assertFalse( writer.isStreaming() );
+  }
+
+  @Test
+  public void testStreaming_createsStreamedResponseMessage() {
+    writer = new ProtocolMessageWriter( true );
+
+    assertTrue( writer.isStreaming() );
+    assertTrue( writer.createMessage() instanceof StreamedResponseMessage );
+  }
+
+  @Test
+  public void testStreaming_emptyMessage() {
+    writer = new ProtocolMessageWriter( true );
+
+    Message message = writer.createMessage();
+
+    assertTrue( message.getHead().isEmpty() );
+    assertTrue( message.getOperations().isEmpty() );
+  }
+
+  @Test
+  public void testStreaming_mergesSetIntoPendingCreate() {
+    writer = new ProtocolMessageWriter( true );
+
+    writer.appendCreate( shellId, "rwt.widgets.Shell" );
+    writer.appendSet( shellId, "key1", "a" );
+    writer.appendSet( shellId, "key2", 2 );
+
+    List<Operation> operations = createMessage().getOperations();
+    assertEquals( 1, operations.size() );
+    CreateOperation operation = ( CreateOperation )operations.get( 0 );
+    assertEquals( "a", operation.getProperties().get( "key1" ).asString() );
+    assertEquals( 2, operation.getProperties().get( "key2" ).asInt() );
+  }
+
+  @Test
+  public void testStreaming_mergesListenIntoPendingListen() {
+    writer = new ProtocolMessageWriter( true );
+
+    writer.appendListen( shellId, "Selection", true );
+    writer.appendListen( shellId, "Resize", false );
+
+    List<Operation> operations = createMessage().getOperations();
+    assertEquals( 1, operations.size() );
+    ListenOperation operation = ( ListenOperation )operations.get( 0 );
+    assertEquals( JsonValue.TRUE, operation.getProperties().get( "Selection" ) );
+    assertEquals( JsonValue.FALSE, operation.getProperties().get( "Resize" ) );
+  }
+
+  @Test
+  public void testStreaming_doesNotMergeOperationsForDifferentTargets() {
+    writer = new ProtocolMessageWriter( true );
+
+    writer.appendSet( shellId, "key", "a" );
+    writer.appendSet( "w99", "key", "b" );
+    writer.appendSet( shellId, "key", "c" );
+
+    assertEquals( 3, createMessage().getOperations().size() );
+  }
+
+  @Test
+  public void testStreaming_writesSameJsonAsDefaultMode() {
+    ProtocolMessageWriter streamingWriter = new ProtocolMessageWriter( true );
+
+    appendExampleOperations( writer );
+    appendExampleOperations( streamingWriter );
+
+    JsonObject expected = writer.createMessage().toJson();
+    assertEquals( expected, streamingWriter.createMessage().toJson() );
+  }
+
+  @Test
+  public void testStreaming_appendAfterCreate() {
+    writer = new ProtocolMessageWriter( true );
+    writer.createMessage();
+    try {
+      writer.appendSet( shellId, "key", "a" );
+      fail();
+    } catch( IllegalStateException expected ) {
+    }
+  }
+
+  @Test
+  public void testStreaming_headCanBeAppendedAfterOperations() {
+    writer = new ProtocolMessageWriter( true );
+
+    writer.appendSet( shellId, "key", "a" );
+    writer.appendHead( "requestCounter", 3 );
+
+    Message message = createMessage();
+    assertEquals( 3, message.getHead().get( "requestCounter" ).asInt() );
+    assertNull( message.getHead().get( "key" ) );
+    assertEquals( 1, message.getOperations().size() );
+  }
+
+  private void appendExampleOperations( ProtocolMessageWriter writer ) {
+    writer.appendHead( "requestCounter", 1 );
+    writer.appendCreate( shellId, "rwt.widgets.Shell" );
+    writer.appendSet( shellId, "style", new JsonArray().add( "BORDER" ) );
+    writer.appendSet( shellId, "text", "\u00e4\u20ac \"quoted\"\n" );
+    writer.appendSet( shellId, "visible", true );
+    writer.appendSet( shellId, "alpha", 0.5 );
+    writer.appendListen( shellId, "Selection", true );
+    writer.appendListen( shellId, "Resize", false );
+    writer.appendCall( shellId, "focus", null );
+    writer.appendCall( shellId, "method", new JsonObject().add( "key", 23 ) );
+    writer.appendSet( shellId, "bounds", new JsonArray().add( 0 ).add( 0 ).add( 10 ).add( 10 ) );
+    writer.appendDestroy( "w2" );
+  }
+
   private Message createMessage() {
     return writer.createMessage();
   }
@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.protocol;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.eclipse.rap.rwt.testfixture.internal.SerializationTestUtil.serializeAndDeserialize;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import org.eclipse.rap.json.JsonObject;
+import org.eclipse.rap.rwt.internal.protocol.Operation.SetOperation;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class StreamedResponseMessage_Test {
+
+  private ProtocolMessageWriter writer;
+
+  @Before
+  public void setUp() {
+    writer = new ProtocolMessageWriter( true );
+  }
+
+  @Test
+  public void testWriteTo_emptyMessage() throws IOException {
+    String json = write( createMessage() );
+
+    assertEquals( "{\"head\":{},\"operations\":[]}", json );
+  }
+
+  @Test
+  public void testWriteTo() throws IOException {
+    writer.appendHead( "requestCounter", 2 );
+    writer.appendSet( "w1", "text", "foo" );
+    writer.appendDestroy( "w2" );
+
+    String json = write( createMessage() );
+
+    String expected = "{\"head\":{\"requestCounter\":2},"
+                    + "\"operations\":[[\"set\",\"w1\",{\"text\":\"foo\"}],[\"destroy\",\"w2\"]]}";
+    assertEquals( expected, json );
+  }
+
+  @Test
+  public void testWriteTo_isEqualToJson() throws IOException {
+    writer.appendCreate( "w1", "rwt.widgets.Label" );
+    writer.appendSet( "w1", "text", "\u00e4\u20ac " );
+    writer.appendCall( "w1", "focus", null );
+    StreamedResponseMessage message = createMessage();
+
+    String json = write( message );
+
+    assertEquals( message.toJson(), JsonObject.readFrom( json ) );
+  }
+
+  @Test
+  public void testWriteTo_encodesUTF8() throws IOException {
+    writer.appendSet( "w1", "text", "\u20ac" );
+    ByteArrayOutputStream stream = new ByteArrayOutputStream();
+
+    createMessage().writeTo( stream );
+
+    String json = new String( stream.toByteArray(), UTF_8 );
+    assertEquals( "\u20ac", JsonObject.readFrom( json )
+      .get( "operations" ).asArray().get( 0 ).asArray().get( 2 ).asObject()
+      .get( "text" ).asString() );
+  }
+
+  @Test
+  public void testWriteTo_canBeRepeated() throws IOException {
+    writer.appendSet( "w1", "text", "foo" );
+    StreamedResponseMessage message = createMessage();
+
+    assertEquals( write( message ), write( message ) );
+  }
+
+  @Test
+  public void testGetOperations() {
+    writer.appendSet( "w1", "text", "foo" );
+
+    List<Operation> operations = createMessage().getOperations();
+
+    assertEquals( 1, operations.size() );
+    SetOperation operation = ( SetOperation )operations.get( 0 );
+    assertEquals( "w1", operation.getTarget() );
+    assertEquals( "foo", operation.getProperties().get( "text" ).asString() );
+  }
+
+  @Test
+  public void testIsSerializable() throws Exception {
+    writer.appendHead( "requestCounter", 2 );
+    writer.appendSet( "w1", "text", "foo" );
+    StreamedResponseMessage message = createMessage();
+
+    StreamedResponseMessage deserialized = serializeAndDeserialize( message );
+
+    assertEquals( write( message ), write( deserialized ) );
+  }
+
+  private StreamedResponseMessage createMessage() {
+    return ( StreamedResponseMessage )writer.createMessage();
+  }
+
+  private static String write( StreamedResponseMessage message ) throws IOException {
+    ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    message.writeTo( stream );
+    return new String( stream.toByteArray(), UTF_8 );
+  }
+
+}
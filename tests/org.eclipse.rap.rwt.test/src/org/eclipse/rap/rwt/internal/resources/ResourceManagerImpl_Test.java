@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2014 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -26,11 +26,14 @@ import static org.mockito.Mockito.verify;
 
 import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.zip.GZIPInputStream;
 
 import org.eclipse.rap.rwt.service.ResourceLoader;
 import org.eclipse.rap.rwt.testfixture.internal.FileUtil;
@@ -391,6 +394,151 @@ public class ResourceManagerImpl_Test {
     }
   }
 
+  @Test
+  public void testIsContentHashingEnabled_defaultsToFalse() {
+    assertFalse( resourceManager.isContentHashingEnabled() );
+  }
+
+  @Test
+  public void testGetLocation_withoutContentHashing() {
+    resourceManager.register( "foo.js", createInputStream() );
+
+    assertEquals( "rwt-resources/foo.js", resourceManager.getLocation( "foo.js" ) );
+    assertNull( resourceManager.getContentHash( "foo.js" ) );
+    assertNull( resourceManager.getResourceName( "foo.js" ) );
+  }
+
+  @Test
+  public void testGetLocation_withContentHashing() {
+    ResourceManagerImpl hashingManager = createHashingResourceManager();
+
+    hashingManager.register( "foo.js", createInputStream() );
+
+    String contentHash = hashingManager.getContentHash( "foo.js" );
+    assertEquals( 16, contentHash.length() );
+    assertEquals( "rwt-resources/foo.js?h=" + contentHash, hashingManager.getLocation( "foo.js" ) );
+  }
+
+  @Test
+  public void testGetContentHash_changesWithContent() {
+    ResourceManagerImpl hashingManager = createHashingResourceManager();
+    hashingManager.register( "foo.js", createInputStream() );
+    String contentHash = hashingManager.getContentHash( "foo.js" );
+
+    hashingManager.register( "foo.js", new ByteArrayInputStream( new byte[] { 4, 5 } ) );
+
+    assertFalse( contentHash.equals( hashingManager.getContentHash( "foo.js" ) ) );
+  }
+
+  @Test
+  public void testGetContentHash_isEqualForEqualContent() {
+    ResourceManagerImpl hashingManager = createHashingResourceManager();
+
+    hashingManager.register( "foo.js", createInputStream() );
+    hashingManager.register( "bar.js", createInputStream() );
+
+    assertEquals( hashingManager.getContentHash( "foo.js" ),
+                  hashingManager.getContentHash( "bar.js" ) );
+  }
+
+  @Test
+  public void testGetResourceName_withContentHashing() {
+    ResourceManagerImpl hashingManager = createHashingResourceManager();
+
+    hashingManager.register( "path/to/foo:bar.js", createInputStream() );
+
+    assertEquals( "path/to/foo:bar.js", hashingManager.getResourceName( "path/to/foo$1bar.js" ) );
+    assertNull( hashingManager.getResourceName( "path/to/foo:bar.js" ) );
+  }
+
+  @Test
+  public void testGetResourceFile_withContentHashing() throws IOException {
+    ResourceManagerImpl hashingManager = createHashingResourceManager();
+
+    hashingManager.register( "foo.js", createInputStream() );
+
+    assertArrayEquals( new byte[] { 1, 2, 3 }, read( hashingManager.getResourceFile( "foo.js" ) ) );
+  }
+
+  @Test
+  public void testGetCompressedResourceFile_withCompressibleContent() throws IOException {
+    ResourceManagerImpl hashingManager = createHashingResourceManager();
+    byte[] content = createCompressibleContent();
+
+    hashingManager.register( "foo.js", new ByteArrayInputStream( content ) );
+
+    File compressedFile = hashingManager.getCompressedResourceFile( "foo.js" );
+    assertEquals( getResourceCopyFile( "foo.js.gz" ), compressedFile );
+    assertArrayEquals( content, readCompressed( compressedFile ) );
+  }
+
+  @Test
+  public void testGetCompressedResourceFile_withIncompressibleContent() {
+    ResourceManagerImpl hashingManager = createHashingResourceManager();
+
+    hashingManager.register( "foo.js", createInputStream() );
+
+    assertNull( hashingManager.getCompressedResourceFile( "foo.js" ) );
+    assertFalse( getResourceCopyFile( "foo.js.gz" ).exists() );
+  }
+
+  @Test
+  public void testGetCompressedResourceFile_withIncompressibleType() {
+    ResourceManagerImpl hashingManager = createHashingResourceManager();
+
+    hashingManager.register( "foo.png", new ByteArrayInputStream( createCompressibleContent() ) );
+
+    assertNull( hashingManager.getCompressedResourceFile( "foo.png" ) );
+    assertFalse( getResourceCopyFile( "foo.png.gz" ).exists() );
+  }
+
+  @Test
+  public void testGetCompressedResourceFile_withoutContentHashing() {
+    resourceManager.register( "foo.js", new ByteArrayInputStream( createCompressibleContent() ) );
+
+    assertNull( resourceManager.getCompressedResourceFile( "foo.js" ) );
+    assertFalse( getResourceCopyFile( "foo.js.gz" ).exists() );
+  }
+
+  @Test
+  public void testUnregister_withContentHashing() {
+    ResourceManagerImpl hashingManager = createHashingResourceManager();
+    hashingManager.register( "foo.js", new ByteArrayInputStream( createCompressibleContent() ) );
+
+    hashingManager.unregister( "foo.js" );
+
+    assertNull( hashingManager.getContentHash( "foo.js" ) );
+    assertNull( hashingManager.getResourceName( "foo.js" ) );
+    assertNull( hashingManager.getCompressedResourceFile( "foo.js" ) );
+    assertFalse( getResourceCopyFile( "foo.js.gz" ).exists() );
+  }
+
+  private static ResourceManagerImpl createHashingResourceManager() {
+    ResourceDirectory resourceDirectory = getApplicationContext().getResourceDirectory();
+    return new ResourceManagerImpl( resourceDirectory, true );
+  }
+
+  private static byte[] readCompressed( File file ) throws IOException {
+    try( InputStream inputStream = new GZIPInputStream( new FileInputStream( file ) ) ) {
+      ByteArrayOutputStream result = new ByteArrayOutputStream();
+      byte[] buffer = new byte[ 256 ];
+      int read = inputStream.read( buffer );
+      while( read != -1 ) {
+        result.write( buffer, 0, read );
+        read = inputStream.read( buffer );
+      }
+      return result.toByteArray();
+    }
+  }
+
+  private static byte[] createCompressibleContent() {
+    StringBuilder content = new StringBuilder();
+    for( int i = 0; i < 100; i++ ) {
+      content.append( "var foo = bar;\n" );
+    }
+    return content.toString().getBytes( StandardCharsets.UTF_8 );
+  }
+
   private static byte[] read( File file ) throws IOException {
     FileInputStream inputStream = new FileInputStream( file );
     try {
@@ -0,0 +1,249 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.resources;
+
+import static javax.servlet.http.HttpServletResponse.SC_NOT_FOUND;
+import static javax.servlet.http.HttpServletResponse.SC_NOT_MODIFIED;
+import static org.eclipse.rap.rwt.internal.resources.ResourceServlet.CACHE_CONTROL_IMMUTABLE;
+import static org.eclipse.rap.rwt.internal.resources.ResourceServlet.CACHE_CONTROL_REVALIDATE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+
+import javax.servlet.ServletContext;
+
+import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
+import org.eclipse.rap.rwt.testfixture.internal.FileUtil;
+import org.eclipse.rap.rwt.testfixture.internal.TestRequest;
+import org.eclipse.rap.rwt.testfixture.internal.TestResponse;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class ResourceServlet_Test {
+
+  private static final String CONTENT = createContent();
+
+  private File tempDir;
+  private ApplicationContextImpl applicationContext;
+  private ResourceManagerImpl resourceManager;
+  private ResourceServlet servlet;
+  private TestRequest request;
+  private TestResponse response;
+  private String contentHash;
+
+  @Before
+  public void setUp() {
+    tempDir = FileUtil.createTempDir();
+    ResourceDirectory resourceDirectory = new ResourceDirectory();
+    resourceDirectory.configure( tempDir.getAbsolutePath() );
+    resourceManager = new ResourceManagerImpl( resourceDirectory, true );
+    resourceManager.register( "foo.js", createInputStream( CONTENT ) );
+    contentHash = resourceManager.getContentHash( "foo.js" );
+    applicationContext = mock( ApplicationContextImpl.class );
+    when( applicationContext.isActive() ).thenReturn( Boolean.TRUE );
+    when( applicationContext.getResourceManager() ).thenReturn( resourceManager );
+    final ServletContext servletContext = mock( ServletContext.class );
+    when( servletContext.getAttribute( anyString() ) ).thenReturn( applicationContext );
+    when( servletContext.getMimeType( "foo.js" ) ).thenReturn( "application/javascript" );
+    servlet = new ResourceServlet() {
+      @Override
+      public ServletContext getServletContext() {
+        return servletContext;
+      }
+    };
+    request = new TestRequest();
+    request.setPathInfo( "/foo.js" );
+    response = new TestResponse();
+  }
+
+  @After
+  public void tearDown() {
+    FileUtil.delete( tempDir );
+  }
+
+  @Test
+  public void testDoGet() throws Exception {
+    servlet.doGet( request, response );
+
+    assertEquals( "application/javascript", response.getContentType() );
+    assertEquals( String.valueOf( CONTENT.length() ), response.getHeader( "Content-Length" ) );
+    assertEquals( CONTENT, response.getContent() );
+  }
+
+  @Test
+  public void testDoGet_setsETag() throws Exception {
+    servlet.doGet( request, response );
+
+    assertEquals( "\"" + contentHash + "\"", response.getHeader( "ETag" ) );
+  }
+
+  @Test
+  public void testDoGet_withContentHash() throws Exception {
+    request.setParameter( "h", contentHash );
+
+    servlet.doGet( request, response );
+
+    assertEquals( CACHE_CONTROL_IMMUTABLE, response.getHeader( "Cache-Control" ) );
+  }
+
+  @Test
+  public void testDoGet_withoutContentHash() throws Exception {
+    servlet.doGet( request, response );
+
+    assertEquals( CACHE_CONTROL_REVALIDATE, response.getHeader( "Cache-Control" ) );
+  }
+
+  @Test
+  public void testDoGet_withOutdatedContentHash() throws Exception {
+    request.setParameter( "h", "0000000000000000" );
+
+    servlet.doGet( request, response );
+
+    assertEquals( CACHE_CONTROL_REVALIDATE, response.getHeader( "Cache-Control" ) );
+  }
+
+  @Test
+  public void testDoGet_withMatchingIfNoneMatch() throws Exception {
+    request.setHeader( "If-None-Match", "\"foo\", W/\"" + contentHash + "\"" );
+
+    servlet.doGet( request, response );
+
+    assertEquals( SC_NOT_MODIFIED, response.getStatus() );
+    assertEquals( "", response.getContent() );
+  }
+
+  @Test
+  public void testDoGet_withDifferentIfNoneMatch() throws Exception {
+    request.setHeader( "If-None-Match", "\"foo\"" );
+
+    servlet.doGet( request, response );
+
+    assertEquals( CONTENT, response.getContent() );
+  }
+
+  @Test
+  public void testDoGet_withAcceptedGzip() throws Exception {
+    request.setHeader( "Accept-Encoding", "deflate, gzip" );
+
+    servlet.doGet( request, response );
+
+    File compressedFile = resourceManager.getCompressedResourceFile( "foo.js" );
+    assertEquals( "gzip", response.getHeader( "Content-Encoding" ) );
+    assertEquals( "Accept-Encoding", response.getHeader( "Vary" ) );
+    assertEquals( String.valueOf( compressedFile.length() ),
+                  response.getHeader( "Content-Length" ) );
+  }
+
+  @Test
+  public void testDoGet_withRejectedGzip() throws Exception {
+    request.setHeader( "Accept-Encoding", "gzip;q=0" );
+
+    servlet.doGet( request, response );
+
+    assertNull( response.getHeader( "Content-Encoding" ) );
+    assertEquals( "Accept-Encoding", response.getHeader( "Vary" ) );
+    assertEquals( CONTENT, response.getContent() );
+  }
+
+  @Test
+  public void testDoGet_withoutCompressedVariant() throws Exception {
+    resourceManager.register( "bar.js", createInputStream( "bar" ) );
+    request.setPathInfo( "/bar.js" );
+    request.setHeader( "Accept-Encoding", "gzip" );
+
+    servlet.doGet( request, response );
+
+    assertNull( response.getHeader( "Content-Encoding" ) );
+    assertNull( response.getHeader( "Vary" ) );
+    assertEquals( "bar", response.getContent() );
+  }
+
+  @Test
+  public void testDoGet_withUnknownMimeType() throws Exception {
+    resourceManager.register( "bar.foo", createInputStream( "bar" ) );
+    request.setPathInfo( "/bar.foo" );
+
+    servlet.doGet( request, response );
+
+    assertEquals( "application/octet-stream", response.getContentType() );
+  }
+
+  @Test
+  public void testDoGet_withUnknownResource() throws Exception {
+    request.setPathInfo( "/bar.js" );
+
+    servlet.doGet( request, response );
+
+    assertEquals( SC_NOT_FOUND, response.getErrorStatus() );
+  }
+
+  @Test
+  public void testDoGet_withoutPathInfo() throws Exception {
+    request.setPathInfo( null );
+
+    servlet.doGet( request, response );
+
+    assertEquals( SC_NOT_FOUND, response.getErrorStatus() );
+  }
+
+  @Test
+  public void testDoGet_withInactiveApplicationContext() throws Exception {
+    when( applicationContext.isActive() ).thenReturn( Boolean.FALSE );
+
+    servlet.doGet( request, response );
+
+    assertEquals( SC_NOT_FOUND, response.getErrorStatus() );
+  }
+
+  @Test
+  public void testDoGet_withResourceRegisteredWithoutContentHashing() throws Exception {
+    ResourceDirectory resourceDirectory = new ResourceDirectory();
+    resourceDirectory.configure( tempDir.getAbsolutePath() );
+    ResourceManagerImpl plainManager = new ResourceManagerImpl( resourceDirectory, false );
+    plainManager.register( "bar.js", createInputStream( "bar" ) );
+    when( applicationContext.getResourceManager() ).thenReturn( plainManager );
+    request.setPathInfo( "/bar.js" );
+
+    servlet.doGet( request, response );
+
+    assertEquals( SC_NOT_FOUND, response.getErrorStatus() );
+  }
+
+  @Test
+  public void testDoHead() throws Exception {
+    servlet.doHead( request, response );
+
+    assertEquals( "\"" + contentHash + "\"", response.getHeader( "ETag" ) );
+    assertEquals( String.valueOf( CONTENT.length() ), response.getHeader( "Content-Length" ) );
+    assertEquals( "", response.getContent() );
+  }
+
+  private static ByteArrayInputStream createInputStream( String content ) {
+    return new ByteArrayInputStream( content.getBytes( StandardCharsets.UTF_8 ) );
+  }
+
+  private static String createContent() {
+    StringBuilder result = new StringBuilder();
+    for( int i = 0; i < 100; i++ ) {
+      result.append( "var foo = bar;\n" );
+    }
+    return result.toString();
+  }
+
+}
@@ -0,0 +1,303 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.serverpush;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.rap.rwt.internal.RWTProperties;
+import org.eclipse.rap.rwt.internal.service.ContextProvider;
+import org.eclipse.rap.rwt.internal.service.UISessionImpl;
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.rap.rwt.testfixture.internal.TestResponse;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class AsyncServerPushRequest_Test {
+
+  private static final Object HANDLE = new Object();
+
+  private ServerPushManager manager;
+
+  @Before
+  public void setUp() {
+    Fixture.setUp();
+    System.setProperty( RWTProperties.ENABLE_ASYNC_SERVER_PUSH, "true" );
+    manager = ServerPushManager.getInstance();
+  }
+
+  @After
+  public void tearDown() {
+    System.clearProperty( RWTProperties.ENABLE_ASYNC_SERVER_PUSH );
+    Fixture.tearDown();
+  }
+
+  @Test
+  public void testProcessRequest_suspendsRequest() {
+    manager.activateServerPushFor( HANDLE );
+    HttpServletRequest request = mockRequest( true );
+    AsyncContext asyncContext = mockAsyncContext( request, new TestResponse() );
+
+    manager.processRequest( request, ContextProvider.getResponse() );
+
+    verify( asyncContext ).setTimeout( 0 );
+    verify( asyncContext ).addListener( manager.getAsyncRequest() );
+    verify( asyncContext, never() ).complete();
+    assertNotNull( manager.getAsyncRequest() );
+  }
+
+  @Test
+  public void testProcessRequest_suspendedRequestDoesNotBlock() {
+    manager.activateServerPushFor( HANDLE );
+    HttpServletRequest request = mockRequest( true );
+    mockAsyncContext( request, new TestResponse() );
+    boolean blocked = manager.isCallBackRequestBlocked();
+
+    manager.processRequest( request, ContextProvider.getResponse() );
+
+    // the blocking state only reflects requests that wait in a container thread
+    assertEquals( Boolean.valueOf( blocked ), Boolean.valueOf( manager.isCallBackRequestBlocked() ) );
+  }
+
+  @Test
+  public void testProcessRequest_withoutActiveServerPush() {
+    HttpServletRequest request = mockRequest( true );
+
+    manager.processRequest( request, ContextProvider.getResponse() );
+
+    verify( request, never() ).startAsync( any( ServletRequest.class ),
+                                           any( ServletResponse.class ) );
+    assertNull( manager.getAsyncRequest() );
+  }
+
+  @Test
+  public void testProcessRequest_withoutAsyncSupport() {
+    HttpServletRequest request = mockRequest( false );
+
+    manager.processRequest( request, ContextProvider.getResponse() );
+
+    verify( request, never() ).startAsync( any( ServletRequest.class ),
+                                           any( ServletResponse.class ) );
+  }
+
+  @Test
+  public void testProcessRequest_whenDisabled() {
+    System.clearProperty( RWTProperties.ENABLE_ASYNC_SERVER_PUSH );
+    HttpServletRequest request = mockRequest( true );
+
+    manager.processRequest( request, ContextProvider.getResponse() );
+
+    verify( request, never() ).startAsync( any( ServletRequest.class ),
+                                           any( ServletResponse.class ) );
+  }
+
+  @Test
+  public void testWakeClient_completesRequest() {
+    manager.activateServerPushFor( HANDLE );
+    HttpServletRequest request = mockRequest( true );
+    AsyncContext asyncContext = mockAsyncContext( request, new TestResponse() );
+    manager.processRequest( request, ContextProvider.getResponse() );
+
+    manager.setHasRunnables( true );
+    manager.wakeClient();
+
+    verify( asyncContext ).complete();
+    assertNull( manager.getAsyncRequest() );
+  }
+
+  @Test
+  public void testWakeClient_withoutRunnables() {
+    manager.activateServerPushFor( HANDLE );
+    HttpServletRequest request = mockRequest( true );
+    AsyncContext asyncContext = mockAsyncContext( request, new TestResponse() );
+    manager.processRequest( request, ContextProvider.getResponse() );
+
+    manager.wakeClient();
+
+    verify( asyncContext, never() ).complete();
+    assertNotNull( manager.getAsyncRequest() );
+  }
+
+  @Test
+  public void testDeactivateServerPush_completesRequest() {
+    manager.activateServerPushFor( HANDLE );
+    HttpServletRequest request = mockRequest( true );
+    AsyncContext asyncContext = mockAsyncContext( request, new TestResponse() );
+    manager.processRequest( request, ContextProvider.getResponse() );
+
+    manager.deactivateServerPushFor( HANDLE );
+
+    verify( asyncContext ).complete();
+    assertNull( manager.getAsyncRequest() );
+  }
+
+  @Test
+  public void testProcessRequest_supersedesPreviousRequest() {
+    manager.activateServerPushFor( HANDLE );
+    HttpServletRequest request1 = mockRequest( true );
+    AsyncContext asyncContext1 = mockAsyncContext( request1, new TestResponse() );
+    HttpServletRequest request2 = mockRequest( true );
+    AsyncContext asyncContext2 = mockAsyncContext( request2, new TestResponse() );
+    manager.processRequest( request1, ContextProvider.getResponse() );
+    AsyncServerPushRequest asyncRequest1 = manager.getAsyncRequest();
+
+    manager.processRequest( request2, ContextProvider.getResponse() );
+
+    verify( asyncContext1 ).complete();
+    verify( asyncContext2, never() ).complete();
+    assertNotNull( manager.getAsyncRequest() );
+    assertFalse( asyncRequest1 == manager.getAsyncRequest() );
+  }
+
+  @Test
+  public void testOnError_completesRequest() {
+    manager.activateServerPushFor( HANDLE );
+    HttpServletRequest request = mockRequest( true );
+    AsyncContext asyncContext = mockAsyncContext( request, new TestResponse() );
+    manager.processRequest( request, ContextProvider.getResponse() );
+
+    manager.getAsyncRequest().onError( mock( AsyncEvent.class ) );
+
+    verify( asyncContext ).complete();
+    assertNull( manager.getAsyncRequest() );
+  }
+
+  @Test
+  public void testOnTimeout_completesRequest() {
+    manager.activateServerPushFor( HANDLE );
+    HttpServletRequest request = mockRequest( true );
+    AsyncContext asyncContext = mockAsyncContext( request, new TestResponse() );
+    manager.processRequest( request, ContextProvider.getResponse() );
+
+    manager.getAsyncRequest().onTimeout( mock( AsyncEvent.class ) );
+
+    verify( asyncContext ).complete();
+    assertNull( manager.getAsyncRequest() );
+  }
+
+  @Test
+  public void testSessionShutdown_completesRequest() {
+    manager.activateServerPushFor( HANDLE );
+    HttpServletRequest request = mockRequest( true );
+    AsyncContext asyncContext = mockAsyncContext( request, new TestResponse() );
+    manager.processRequest( request, ContextProvider.getResponse() );
+
+    ( ( UISessionImpl )ContextProvider.getUISession() ).shutdown();
+
+    verify( asyncContext ).complete();
+  }
+
+  @Test
+  public void testPeriodicCheck_completesRequestWhenConnectionBreaks() {
+    manager.setRequestCheckInterval( 10 );
+    manager.activateServerPushFor( HANDLE );
+    HttpServletRequest request = mockRequest( true );
+    AsyncContext asyncContext = mockAsyncContext( request, createBrokenResponse() );
+
+    manager.processRequest( request, ContextProvider.getResponse() );
+
+    verify( asyncContext, timeout( 5000 ) ).complete();
+  }
+
+  @Test
+  public void testPeriodicCheck_keepsRequestWhileConnectionAlive() throws InterruptedException {
+    manager.setRequestCheckInterval( 10 );
+    manager.activateServerPushFor( HANDLE );
+    HttpServletRequest request = mockRequest( true );
+    AsyncContext asyncContext = mockAsyncContext( request, new TestResponse() );
+
+    manager.processRequest( request, ContextProvider.getResponse() );
+    Thread.sleep( 100 );
+
+    verify( asyncContext, never() ).complete();
+    assertNotNull( manager.getAsyncRequest() );
+  }
+
+  @Test
+  public void testComplete_isIdempotent() {
+    manager.activateServerPushFor( HANDLE );
+    HttpServletRequest request = mockRequest( true );
+    AsyncContext asyncContext = mockAsyncContext( request, new TestResponse() );
+    manager.processRequest( request, ContextProvider.getResponse() );
+    AsyncServerPushRequest asyncRequest = manager.getAsyncRequest();
+
+    asyncRequest.complete();
+    asyncRequest.complete();
+
+    verify( asyncContext, times( 1 ) ).complete();
+    assertTrue( asyncRequest.isCompleted() );
+  }
+
+  @Test
+  public void testComplete_ignoresAlreadyCompletedContext() {
+    manager.activateServerPushFor( HANDLE );
+    HttpServletRequest request = mockRequest( true );
+    AsyncContext asyncContext = mockAsyncContext( request, new TestResponse() );
+    doThrow( new IllegalStateException() ).when( asyncContext ).complete();
+    manager.processRequest( request, ContextProvider.getResponse() );
+
+    manager.getAsyncRequest().onError( mock( AsyncEvent.class ) );
+
+    assertNull( manager.getAsyncRequest() );
+  }
+
+  private static HttpServletRequest mockRequest( boolean asyncSupported ) {
+    HttpServletRequest request = mock( HttpServletRequest.class );
+    Boolean supported = Boolean.valueOf( asyncSupported );
+    when( Boolean.valueOf( request.isAsyncSupported() ) ).thenReturn( supported );
+    return request;
+  }
+
+  private static AsyncContext mockAsyncContext( HttpServletRequest request,
+                                                HttpServletResponse response )
+  {
+    AsyncContext asyncContext = mock( AsyncContext.class );
+    when( asyncContext.getResponse() ).thenReturn( response );
+    when( request.startAsync( any( ServletRequest.class ), any( ServletResponse.class ) ) )
+      .thenReturn( asyncContext );
+    return asyncContext;
+  }
+
+  private static HttpServletResponse createBrokenResponse() {
+    return new TestResponse() {
+      @Override
+      public PrintWriter getWriter() throws IOException {
+        PrintWriter failingWriter = mock( PrintWriter.class );
+        when( Boolean.valueOf( failingWriter.checkError() ) ).thenReturn( Boolean.TRUE );
+        return failingWriter;
+      }
+    };
+  }
+
+}
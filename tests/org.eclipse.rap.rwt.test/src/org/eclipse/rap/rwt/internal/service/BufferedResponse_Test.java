@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.eclipse.rap.rwt.testfixture.internal.SerializationTestUtil.serializeAndDeserialize;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.junit.Test;
+
+
+public class BufferedResponse_Test {
+
+  private static final byte[] CONTENT = createContent();
+
+  @Test
+  public void testCreate_uncompressed() {
+    BufferedResponse response = BufferedResponse.create( CONTENT, false );
+
+    assertFalse( response.isCompressed() );
+    assertEquals( CONTENT.length, response.getSize() );
+  }
+
+  @Test
+  public void testCreate_compressed() {
+    BufferedResponse response = BufferedResponse.create( CONTENT, true );
+
+    assertTrue( response.isCompressed() );
+    assertTrue( response.getSize() < CONTENT.length );
+  }
+
+  @Test
+  public void testCreate_doesNotCompressWhenContentDoesNotShrink() {
+    byte[] content = "{}".getBytes( UTF_8 );
+
+    BufferedResponse response = BufferedResponse.create( content, true );
+
+    assertFalse( response.isCompressed() );
+    assertEquals( 2, response.getSize() );
+  }
+
+  @Test
+  public void testWriteTo_uncompressed() throws IOException {
+    BufferedResponse response = BufferedResponse.create( CONTENT, false );
+
+    assertArrayEquals( CONTENT, write( response ) );
+  }
+
+  @Test
+  public void testWriteTo_compressed() throws IOException {
+    BufferedResponse response = BufferedResponse.create( CONTENT, true );
+
+    assertArrayEquals( CONTENT, write( response ) );
+  }
+
+  @Test
+  public void testWriteTo_canBeRepeated() throws IOException {
+    BufferedResponse response = BufferedResponse.create( CONTENT, true );
+
+    write( response );
+
+    assertArrayEquals( CONTENT, write( response ) );
+  }
+
+  @Test
+  public void testIsSerializable() throws Exception {
+    BufferedResponse response = BufferedResponse.create( CONTENT, true );
+
+    BufferedResponse deserialized = serializeAndDeserialize( response );
+
+    assertArrayEquals( CONTENT, write( deserialized ) );
+  }
+
+  private static byte[] write( BufferedResponse response ) throws IOException {
+    ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    response.writeTo( stream );
+    return stream.toByteArray();
+  }
+
+  private static byte[] createContent() {
+    StringBuilder builder = new StringBuilder( "{\"head\":{},\"operations\":[" );
+    for( int i = 0; i < 1000; i++ ) {
+      builder.append( i == 0 ? "" : "," );
+      builder.append( "[\"set\",\"w" + i + "\",{\"text\":\"\u20ac item " + i + "\"}]" );
+    }
+    return builder.append( "]}" ).toString().getBytes( UTF_8 );
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -23,12 +23,16 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import javax.servlet.http.HttpServletRequest;
@@ -37,9 +41,12 @@ import javax.servlet.http.HttpSession;
 
 import org.eclipse.rap.json.JsonArray;
 import org.eclipse.rap.json.JsonObject;
+import org.eclipse.rap.json.JsonValue;
 import org.eclipse.rap.rwt.client.WebClient;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.lifecycle.RequestCounter;
 import org.eclipse.rap.rwt.internal.protocol.ClientMessageConst;
+import org.eclipse.rap.rwt.internal.protocol.ProtocolMessageWriter;
 import org.eclipse.rap.rwt.internal.protocol.RequestMessage;
 import org.eclipse.rap.rwt.internal.protocol.ResponseMessage;
 import org.eclipse.rap.rwt.internal.remote.MessageChainElement;
@@ -83,6 +90,9 @@ public class LifeCycleServiceHandler_Test {
 
   @After
   public void tearDown() {
+    System.clearProperty( RWTProperties.ENABLE_BUFFERED_RESPONSE );
+    System.clearProperty( RWTProperties.BUFFERED_RESPONSE_LIMIT );
+    System.clearProperty( RWTProperties.COMPRESS_BUFFERED_RESPONSE );
     Fixture.tearDown();
   }
 
@@ -279,6 +289,86 @@ public class LifeCycleServiceHandler_Test {
     assertEquals( firstResponse, secondResponse );
   }
 
+  @Test
+  public void testSendBufferedResponse_withBufferedResponse() throws IOException {
+    System.setProperty( RWTProperties.ENABLE_BUFFERED_RESPONSE, "true" );
+    simulateUiRequest();
+    RequestCounter.getInstance().nextRequestId();
+    int requestCounter = RequestCounter.getInstance().nextRequestId();
+    Fixture.fakeHeadParameter( "requestCounter", requestCounter );
+    service( serviceHandler );
+    String firstResponse = getResponse().getContent();
+
+    simulateUiRequest();
+    Fixture.fakeHeadParameter( "requestCounter", requestCounter );
+    service( serviceHandler );
+
+    assertEquals( firstResponse, getResponse().getContent() );
+  }
+
+  @Test
+  public void testSendBufferedResponse_withCompression() throws IOException {
+    System.setProperty( RWTProperties.ENABLE_BUFFERED_RESPONSE, "true" );
+    System.setProperty( RWTProperties.COMPRESS_BUFFERED_RESPONSE, "true" );
+    simulateUiRequest();
+    RequestCounter.getInstance().nextRequestId();
+    int requestCounter = RequestCounter.getInstance().nextRequestId();
+    Fixture.fakeHeadParameter( "requestCounter", requestCounter );
+    service( serviceHandler );
+    String firstResponse = getResponse().getContent();
+
+    simulateUiRequest();
+    Fixture.fakeHeadParameter( "requestCounter", requestCounter );
+    service( serviceHandler );
+
+    assertEquals( firstResponse, getResponse().getContent() );
+  }
+
+  @Test
+  public void testSendBufferedResponse_withBufferedResponse_doesNotKeepMessageObject()
+    throws IOException
+  {
+    System.setProperty( RWTProperties.ENABLE_BUFFERED_RESPONSE, "true" );
+    simulateUiRequest();
+
+    service( serviceHandler );
+
+    for( String name : Collections.list( getUISession().getAttributeNames() ) ) {
+      assertFalse( getUISession().getAttribute( name ) instanceof ResponseMessage );
+    }
+  }
+
+  @Test
+  public void testSendBufferedResponse_exceedingLimit() throws IOException {
+    System.setProperty( RWTProperties.ENABLE_BUFFERED_RESPONSE, "true" );
+    System.setProperty( RWTProperties.BUFFERED_RESPONSE_LIMIT, "10" );
+    simulateUiRequest();
+    RequestCounter.getInstance().nextRequestId();
+    int requestCounter = RequestCounter.getInstance().nextRequestId();
+    Fixture.fakeHeadParameter( "requestCounter", requestCounter );
+    service( serviceHandler );
+
+    simulateUiRequest();
+    Fixture.fakeHeadParameter( "requestCounter", requestCounter );
+    service( serviceHandler );
+
+    JsonObject message = JsonObject.readFrom( getResponse().getContent() );
+    assertEquals( "invalid request counter", getError( message ) );
+  }
+
+  @Test
+  public void testWriteResponse_withoutBufferedResponse_writesToWriter() throws IOException {
+    simulateUiRequest();
+    HttpServletResponse response = mock( HttpServletResponse.class );
+    StringWriter content = new StringWriter();
+    when( response.getWriter() ).thenReturn( new PrintWriter( content ) );
+
+    serviceHandler.service( getRequest(), response );
+
+    verify( response, never() ).getOutputStream();
+    JsonObject.readFrom( content.toString() );
+  }
+
   @Test
   public void testWritesValidJson() throws IOException {
     simulateUiRequest();
@@ -288,6 +378,44 @@ public class LifeCycleServiceHandler_Test {
     JsonObject.readFrom( getResponse().getContent() );
   }
 
+  @Test
+  public void testWritesStreamedResponseMessage() throws IOException {
+    ProtocolMessageWriter writer = new ProtocolMessageWriter( true );
+    writer.appendHead( "test", JsonValue.TRUE );
+    writer.appendSet( "w1", "text", "\u20ac" );
+    when( filter.handleMessage( any( RequestMessage.class ), isNull() ) )
+      .thenReturn( writer.createMessage() );
+    simulateUiRequest();
+
+    service( serviceHandler );
+
+    JsonObject message = JsonObject.readFrom( getResponse().getContent() );
+    assertTrue( message.get( "head" ).asObject().get( "test" ).asBoolean() );
+    JsonArray operation = message.get( "operations" ).asArray().get( 0 ).asArray();
+    assertEquals( "\u20ac", operation.get( 2 ).asObject().get( "text" ).asString() );
+  }
+
+  @Test
+  public void testSendBufferedResponse_withStreamedResponseMessage() throws IOException {
+    ProtocolMessageWriter writer = new ProtocolMessageWriter( true );
+    writer.appendSet( "w1", "text", "foo" );
+    when( filter.handleMessage( any( RequestMessage.class ), isNull() ) )
+      .thenReturn( writer.createMessage() );
+    simulateUiRequest();
+    RequestCounter.getInstance().nextRequestId();
+    int requestCounter = RequestCounter.getInstance().nextRequestId();
+    Fixture.fakeHeadParameter( "requestCounter", requestCounter );
+    service( serviceHandler );
+    JsonObject firstResponse = JsonObject.readFrom( getResponse().getContent() );
+
+    simulateUiRequest();
+    Fixture.fakeHeadParameter( "requestCounter", requestCounter );
+    service( serviceHandler );
+    JsonObject secondResponse = JsonObject.readFrom( getResponse().getContent() );
+
+    assertEquals( firstResponse, secondResponse );
+  }
+
   @Test
   public void testIsRequestCounterValid_trueWithValidParameter() {
     int nextRequestId = RequestCounter.getInstance().nextRequestId();
@@ -366,6 +494,7 @@ public class LifeCycleServiceHandler_Test {
     simulateUiRequest();
     HttpServletResponse response = mock( HttpServletResponse.class );
     doThrow( new IOException() ).when( response ).getWriter();
+    doThrow( new IOException() ).when( response ).getOutputStream();
 
     try {
       serviceHandler.service( getRequest(), response );
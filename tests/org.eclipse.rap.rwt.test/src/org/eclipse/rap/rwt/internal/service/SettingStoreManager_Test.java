@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2020 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -20,13 +20,20 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
+import java.io.File;
+import java.util.UUID;
 import java.util.regex.Pattern;
 
 import javax.servlet.http.Cookie;
 
+import org.eclipse.rap.rwt.service.FileSettingStore;
+import org.eclipse.rap.rwt.service.JournalingSettingStoreFactory;
 import org.eclipse.rap.rwt.service.SettingStore;
 import org.eclipse.rap.rwt.service.SettingStoreFactory;
+import org.eclipse.rap.rwt.testfixture.internal.FileUtil;
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
 import org.eclipse.rap.rwt.testfixture.internal.TestRequest;
 import org.eclipse.rap.rwt.testfixture.internal.TestResponse;
@@ -169,6 +176,37 @@ public class SettingStoreManager_Test {
     assertFalse( settingStoreManager.hasFactory() );
   }
 
+  @Test
+  public void testDeregisterFactory_shutsDownFactory() {
+    SettingStoreManager settingStoreManager = new SettingStoreManager();
+    SettingStoreFactory factory = mock( SettingStoreFactory.class );
+    settingStoreManager.register( factory );
+
+    settingStoreManager.deregisterFactory();
+
+    verify( factory ).shutdown();
+  }
+
+  @Test
+  public void testDeregisterFactory_flushesJournalingSettingStores() throws Exception {
+    File directory = new File( Fixture.TEMP_DIR, UUID.randomUUID().toString() );
+    Fixture.getServletContext().setInitParameter( FileSettingStore.FILE_SETTING_STORE_DIR,
+                                                  directory.getAbsolutePath() );
+    try {
+      SettingStoreManager settingStoreManager = new SettingStoreManager();
+      settingStoreManager.register( new JournalingSettingStoreFactory( 60000, 1000 ) );
+      SettingStore store = settingStoreManager.getStore();
+      store.setAttribute( "key", "value" );
+
+      settingStoreManager.deregisterFactory();
+
+      SettingStoreFactory factory = new JournalingSettingStoreFactory();
+      assertEquals( "value", factory.createSettingStore( store.getId() ).getAttribute( "key" ) );
+    } finally {
+      FileUtil.delete( directory );
+    }
+  }
+
   @Test
   public void testDeregisterFactoryIfNoFactoryHasBeenRegistered() {
     try {
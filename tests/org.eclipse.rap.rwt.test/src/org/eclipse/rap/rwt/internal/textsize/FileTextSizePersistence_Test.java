@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.textsize;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.eclipse.rap.rwt.testfixture.internal.FileUtil;
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.FontData;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class FileTextSizePersistence_Test {
+
+  private File directory;
+  private File file;
+  private FileTextSizePersistence persistence;
+
+  @Before
+  public void setUp() {
+    directory = new File( Fixture.TEMP_DIR, FileTextSizePersistence_Test.class.getName() );
+    file = new File( new File( directory, "store" ), "textsizes.bin" );
+    persistence = new FileTextSizePersistence( file );
+  }
+
+  @After
+  public void tearDown() {
+    FileUtil.delete( directory );
+  }
+
+  @Test( expected = NullPointerException.class )
+  public void testCreate_withNullFile() {
+    new FileTextSizePersistence( null );
+  }
+
+  @Test
+  public void testLoad_withoutFile() throws IOException {
+    assertNull( persistence.load() );
+  }
+
+  @Test
+  public void testSaveAndLoad() throws IOException {
+    byte[] content = { 1, 2, 3, 4, 5 };
+
+    persistence.save( content );
+
+    assertArrayEquals( content, persistence.load() );
+    assertEquals( 5, file.length() );
+  }
+
+  @Test
+  public void testSave_replacesContent() throws IOException {
+    persistence.save( new byte[] { 1, 2, 3, 4, 5 } );
+
+    persistence.save( new byte[] { 6, 7 } );
+
+    assertArrayEquals( new byte[] { 6, 7 }, persistence.load() );
+  }
+
+  @Test
+  public void testSave_replacesLoadedContent() throws IOException {
+    persistence.save( new byte[] { 1, 2, 3, 4, 5 } );
+    persistence.load();
+
+    persistence.save( new byte[] { 6, 7 } );
+
+    assertArrayEquals( new byte[] { 6, 7 }, persistence.load() );
+  }
+
+  @Test
+  public void testSave_leavesNoTemporaryFiles() throws IOException {
+    persistence.save( new byte[] { 1, 2, 3 } );
+
+    assertArrayEquals( new String[] { file.getName() }, file.getParentFile().list() );
+  }
+
+  @Test
+  public void testSaveAndLoad_withTextSizeStorage() throws IOException {
+    TextSizeStorage storage = new TextSizeStorage();
+    storage.storeFont( new FontData( "arial", 10, SWT.NORMAL ) );
+
+    persistence.save( TextSizeStorageCodec.encode( storage ) );
+    TextSizeStorage loaded = new TextSizeStorage();
+    TextSizeStorageCodec.decode( persistence.load(), loaded );
+
+    assertArrayEquals( storage.getFontList(), loaded.getFontList() );
+  }
+
+}
@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.textsize;
+
+import static org.eclipse.rap.rwt.testfixture.internal.SerializationTestUtil.serializeAndDeserialize;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.FontData;
+import org.eclipse.swt.graphics.Point;
+import org.junit.Test;
+
+
+public class TextSizeKey_Test {
+
+  private static final FontData FONT_DATA = new FontData( "arial", 10, SWT.NORMAL );
+  private static final Point PROBE_SIZE = new Point( 2, 10 );
+
+  @Test
+  public void testEquals() {
+    TextSizeKey key1 = createKey( "foo", SWT.DEFAULT, 1 );
+    TextSizeKey key2 = createKey( "foo", SWT.DEFAULT, 1 );
+
+    assertEquals( key1, key2 );
+    assertEquals( key1.hashCode(), key2.hashCode() );
+  }
+
+  @Test
+  public void testEquals_differentComponents() {
+    TextSizeKey key = createKey( "foo", SWT.DEFAULT, 1 );
+
+    assertFalse( key.equals( createKey( "bar", SWT.DEFAULT, 1 ) ) );
+    assertFalse( key.equals( createKey( "foo", 100, 1 ) ) );
+    assertFalse( key.equals( createKey( "foo", SWT.DEFAULT, 2 ) ) );
+    assertFalse( key.equals( new TextSizeKey( new FontData( "arial", 12, SWT.NORMAL ),
+                                              "probe",
+                                              PROBE_SIZE,
+                                              "foo",
+                                              SWT.DEFAULT,
+                                              1 ) ) );
+  }
+
+  @Test
+  public void testEquals_withCollidingHashCodes() {
+    // "Aa" and "BB" have the same hash code
+    TextSizeKey key1 = createKey( "Aa", SWT.DEFAULT, 1 );
+    TextSizeKey key2 = createKey( "BB", SWT.DEFAULT, 1 );
+
+    assertEquals( key1.hashCode(), key2.hashCode() );
+    assertFalse( key1.equals( key2 ) );
+  }
+
+  @Test
+  public void testIsSerializable() throws Exception {
+    TextSizeKey key = createKey( "foo", SWT.DEFAULT, 1 );
+
+    TextSizeKey deserialized = serializeAndDeserialize( key );
+
+    assertEquals( key, deserialized );
+  }
+
+  private static TextSizeKey createKey( String string, int wrapWidth, int mode ) {
+    return new TextSizeKey( FONT_DATA, "probe", PROBE_SIZE, string, wrapWidth, mode );
+  }
+
+}
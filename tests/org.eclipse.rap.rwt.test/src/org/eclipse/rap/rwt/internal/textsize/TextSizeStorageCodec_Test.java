@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.textsize;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.FontData;
+import org.eclipse.swt.graphics.Point;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class TextSizeStorageCodec_Test {
+
+  private static final FontData FONT_DATA = new FontData( "arial", 10, SWT.BOLD );
+
+  private TextSizeStorage storage;
+
+  @Before
+  public void setUp() {
+    storage = new TextSizeStorage();
+  }
+
+  @Test
+  public void testEncodeAndDecode_fonts() throws IOException {
+    storage.storeFont( FONT_DATA );
+
+    TextSizeStorage decoded = encodeAndDecode( storage );
+
+    assertArrayEquals( new FontData[] { FONT_DATA }, decoded.getFontList() );
+  }
+
+  @Test
+  public void testEncodeAndDecode_textSizes() throws IOException {
+    TextSizeKey key1 = createKey( "foo", SWT.DEFAULT );
+    TextSizeKey key2 = createKey( "\u00e4\u20ac bar", 100 );
+    storage.storeTextSize( key1, new Point( 10, 12 ) );
+    storage.storeTextSize( key2, new Point( 20, 24 ) );
+
+    TextSizeStorage decoded = encodeAndDecode( storage );
+
+    assertEquals( 2, decoded.size() );
+    assertEquals( new Point( 10, 12 ), decoded.lookupTextSize( createKey( "foo", SWT.DEFAULT ) ) );
+    assertEquals( new Point( 20, 24 ), decoded.lookupTextSize( createKey( "\u00e4\u20ac bar", 100 ) ) );
+  }
+
+  @Test
+  public void testEncodeAndDecode_longText() throws IOException {
+    char[] chars = new char[ 70000 ];
+    Arrays.fill( chars, 'a' );
+    String text = new String( chars );
+    storage.storeTextSize( createKey( text, SWT.DEFAULT ), new Point( 1, 2 ) );
+
+    TextSizeStorage decoded = encodeAndDecode( storage );
+
+    assertEquals( new Point( 1, 2 ), decoded.lookupTextSize( createKey( text, SWT.DEFAULT ) ) );
+  }
+
+  @Test
+  public void testEncode_skipsOtherKeys() throws IOException {
+    storage.storeTextSize( Integer.valueOf( 1 ), new Point( 1, 2 ) );
+
+    TextSizeStorage decoded = encodeAndDecode( storage );
+
+    assertEquals( 0, decoded.size() );
+    assertNull( decoded.lookupTextSize( Integer.valueOf( 1 ) ) );
+  }
+
+  @Test( expected = IOException.class )
+  public void testDecode_withInvalidContent() throws IOException {
+    TextSizeStorageCodec.decode( new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 }, storage );
+  }
+
+  @Test( expected = IOException.class )
+  public void testDecode_withTruncatedContent() throws IOException {
+    storage.storeTextSize( createKey( "foo", SWT.DEFAULT ), new Point( 1, 2 ) );
+    byte[] content = TextSizeStorageCodec.encode( storage );
+
+    byte[] truncated = Arrays.copyOf( content, content.length - 4 );
+    TextSizeStorageCodec.decode( truncated, new TextSizeStorage() );
+  }
+
+  private static TextSizeStorage encodeAndDecode( TextSizeStorage storage ) throws IOException {
+    TextSizeStorage result = new TextSizeStorage();
+    TextSizeStorageCodec.decode( TextSizeStorageCodec.encode( storage ), result );
+    return result;
+  }
+
+  private static TextSizeKey createKey( String string, int wrapWidth ) {
+    return new TextSizeKey( FONT_DATA, "probe", new Point( 2, 10 ), string, wrapWidth, 1 );
+  }
+
+}
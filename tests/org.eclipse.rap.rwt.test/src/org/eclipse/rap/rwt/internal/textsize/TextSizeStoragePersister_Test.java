@@ -0,0 +1,173 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.textsize;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.FontData;
+import org.eclipse.swt.graphics.Point;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class TextSizeStoragePersister_Test {
+
+  private static final FontData FONT_DATA = new FontData( "arial", 10, SWT.NORMAL );
+
+  private TextSizeStorage storage;
+  private TextSizePersistence persistence;
+  private TextSizeStoragePersister persister;
+
+  @Before
+  public void setUp() {
+    storage = new TextSizeStorage();
+    persistence = mock( TextSizePersistence.class );
+    persister = new TextSizeStoragePersister( storage, persistence, 60000 );
+  }
+
+  @After
+  public void tearDown() {
+    persister.deactivate();
+  }
+
+  @Test( expected = NullPointerException.class )
+  public void testCreate_withNullStorage() {
+    new TextSizeStoragePersister( null, persistence, 1000 );
+  }
+
+  @Test( expected = NullPointerException.class )
+  public void testCreate_withNullPersistence() {
+    new TextSizeStoragePersister( storage, null, 1000 );
+  }
+
+  @Test
+  public void testActivate_loadsPersistedContent() throws IOException {
+    TextSizeStorage persisted = new TextSizeStorage();
+    persisted.storeFont( FONT_DATA );
+    persisted.storeTextSize( createKey(), new Point( 1, 2 ) );
+    when( persistence.load() ).thenReturn( TextSizeStorageCodec.encode( persisted ) );
+
+    persister.activate();
+
+    assertArrayEquals( new FontData[] { FONT_DATA }, storage.getFontList() );
+    assertEquals( new Point( 1, 2 ), storage.lookupTextSize( createKey() ) );
+  }
+
+  @Test
+  public void testActivate_withoutPersistedContent() throws IOException {
+    when( persistence.load() ).thenReturn( null );
+
+    persister.activate();
+
+    assertEquals( 0, storage.size() );
+  }
+
+  @Test
+  public void testActivate_withCorruptedContent() throws IOException {
+    when( persistence.load() ).thenReturn( new byte[] { 1, 2, 3 } );
+
+    persister.activate();
+
+    assertEquals( 0, storage.size() );
+  }
+
+  @Test
+  public void testDeactivate_doesNotSaveLoadedContent() throws IOException {
+    persister.activate();
+
+    persister.deactivate();
+
+    verify( persistence, never() ).save( any( byte[].class ) );
+  }
+
+  @Test
+  public void testDeactivate_savesChanges() throws IOException {
+    persister.activate();
+    storage.storeTextSize( createKey(), new Point( 1, 2 ) );
+
+    persister.deactivate();
+
+    verify( persistence ).save( any( byte[].class ) );
+  }
+
+  @Test
+  public void testFlush_savesOnlyOnce() throws IOException {
+    persister.activate();
+    storage.storeFont( FONT_DATA );
+
+    persister.flush();
+    persister.flush();
+
+    verify( persistence, times( 1 ) ).save( any( byte[].class ) );
+  }
+
+  @Test
+  public void testFlush_retriesAfterFailure() throws IOException {
+    doThrow( new IOException() ).doNothing().when( persistence ).save( any( byte[].class ) );
+    persister.activate();
+    storage.storeFont( FONT_DATA );
+
+    persister.flush();
+    persister.flush();
+
+    verify( persistence, times( 2 ) ).save( any( byte[].class ) );
+  }
+
+  @Test
+  public void testFlush_inBackground() throws IOException {
+    persister = new TextSizeStoragePersister( storage, persistence, 10 );
+    persister.activate();
+
+    storage.storeFont( FONT_DATA );
+
+    verify( persistence, timeout( 2000 ) ).save( any( byte[].class ) );
+  }
+
+  @Test
+  public void testFlush_withoutFlushInterval() throws IOException {
+    persister = new TextSizeStoragePersister( storage, persistence, 0 );
+    persister.activate();
+    storage.storeFont( FONT_DATA );
+
+    persister.deactivate();
+
+    verify( persistence ).save( any( byte[].class ) );
+  }
+
+  @Test
+  public void testFlush_withNegativeFlushInterval() throws IOException {
+    persister = new TextSizeStoragePersister( storage, persistence, -1000 );
+    persister.activate();
+    storage.storeFont( FONT_DATA );
+
+    persister.deactivate();
+
+    verify( persistence ).save( any( byte[].class ) );
+  }
+
+  private static TextSizeKey createKey() {
+    return new TextSizeKey( FONT_DATA, "probe", new Point( 2, 10 ), "foo", SWT.DEFAULT, 1 );
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 Frank Appel and others.
+ * Copyright (c) 2011, 2026 Frank Appel and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -146,4 +146,74 @@ public class TextSizeStorage_Test {
   private void forceOverflow() {
     storage.storeTextSize( KEY_OVERFLOW, SIZE_OVERFLOW );
   }
+
+  @Test
+  public void testLookupTextSize_countsHitsAndMisses() {
+    storage.storeTextSize( KEY_FIRST, SIZE_FIRST );
+
+    storage.lookupTextSize( KEY_FIRST );
+    storage.lookupTextSize( KEY_FIRST );
+    storage.lookupTextSize( KEY_OVERFLOW );
+
+    assertEquals( 2, storage.getHitCount() );
+    assertEquals( 1, storage.getMissCount() );
+  }
+
+  @Test
+  public void testStorageOverflowHandling_countsEvictions() {
+    populateUntilOverflowThresholdIsReached();
+
+    forceOverflow();
+
+    assertEquals( 100, storage.getEvictionCount() );
+    assertEquals( TextSizeStorage.MIN_STORE_SIZE - 100, storage.size() );
+  }
+
+  @Test
+  public void testStorageOverflowHandling_staysBounded() {
+    storage.setMaximumStoreSize( TextSizeStorage.MIN_STORE_SIZE );
+
+    for( int i = 0; i < TextSizeStorage.MIN_STORE_SIZE * 10; i++ ) {
+      storage.storeTextSize( Integer.valueOf( i ), new Point( i, i ) );
+    }
+
+    assertTrue( storage.size() < TextSizeStorage.MIN_STORE_SIZE );
+    assertEquals( new Point( 9999, 9999 ), storage.lookupTextSize( Integer.valueOf( 9999 ) ) );
+  }
+
+  @Test
+  public void testStoreTextSize_concurrently() throws InterruptedException {
+    storage.setMaximumStoreSize( TextSizeStorage.MIN_STORE_SIZE );
+    Thread[] threads = new Thread[ 4 ];
+    for( int i = 0; i < threads.length; i++ ) {
+      final int offset = i * 100000;
+      threads[ i ] = new Thread( new Runnable() {
+        @Override
+        public void run() {
+          for( int j = 0; j < 5000; j++ ) {
+            Integer key = Integer.valueOf( offset + j );
+            storage.storeTextSize( key, new Point( j, j ) );
+            storage.lookupTextSize( key );
+          }
+        }
+      } );
+      threads[ i ].start();
+    }
+    for( Thread thread : threads ) {
+      thread.join();
+    }
+
+    assertTrue( storage.size() <= TextSizeStorage.MIN_STORE_SIZE );
+    assertEquals( 20000, storage.getHitCount() + storage.getMissCount() );
+  }
+
+  @Test
+  public void testSelect() {
+    long[] values = { 5, 3, 9, 1, 7, 2, 8 };
+
+    assertEquals( 1, TextSizeStorage.select( values.clone(), 0 ) );
+    assertEquals( 5, TextSizeStorage.select( values.clone(), 3 ) );
+    assertEquals( 9, TextSizeStorage.select( values.clone(), 6 ) );
+  }
+
 }
@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.theme;
+
+import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.internal.RWTProperties;
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.layout.GridLayout;
+import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Text;
+
+
+/**
+ * Measures layouts that compute the size of many controls, which reads the padding, border,
+ * spacing and font of every control from the theme, with and without the cache of resolved theme
+ * values.
+ * <p>
+ * This is not a unit test, run it as a Java application:
+ * </p>
+ * <pre>
+ * java ThemeValueBenchmark [controls] [layouts]
+ * </pre>
+ */
+public class ThemeValueBenchmark {
+
+  private static final String[] VARIANTS = { null, "primary", "secondary" };
+
+  private final int controlCount;
+  private final int layoutCount;
+
+  public static void main( String[] args ) {
+    int controls = args.length > 0 ? Integer.parseInt( args[ 0 ] ) : 500;
+    int layouts = args.length > 1 ? Integer.parseInt( args[ 1 ] ) : 200;
+    System.out.println( "controls: " + controls + ", layouts: " + layouts );
+    ThemeValueBenchmark benchmark = new ThemeValueBenchmark( controls, layouts );
+    // warm up before measuring
+    benchmark.run( 0, false );
+    benchmark.run( WidgetMatcher.DEFAULT_CACHE_SIZE, false );
+    benchmark.run( 0, true );
+    benchmark.run( WidgetMatcher.DEFAULT_CACHE_SIZE, true );
+  }
+
+  ThemeValueBenchmark( int controlCount, int layoutCount ) {
+    this.controlCount = controlCount;
+    this.layoutCount = layoutCount;
+  }
+
+  void run( int cacheSize, boolean report ) {
+    System.setProperty( RWTProperties.THEME_VALUE_CACHE_SIZE, String.valueOf( cacheSize ) );
+    // the theme adapters and their matchers are created per application
+    Fixture.setUp();
+    try {
+      Display display = new Display();
+      Shell shell = new Shell( display );
+      shell.setLayout( new GridLayout( 4, false ) );
+      createControls( shell );
+      long start = System.nanoTime();
+      for( int i = 0; i < layoutCount; i++ ) {
+        shell.layout( true, true );
+        shell.computeSize( SWT.DEFAULT, SWT.DEFAULT, true );
+      }
+      long duration = System.nanoTime() - start;
+      if( report ) {
+        print( cacheSize == 0 ? "layouts without cache" : "layouts with cache", duration );
+      }
+    } finally {
+      Fixture.tearDown();
+      System.clearProperty( RWTProperties.THEME_VALUE_CACHE_SIZE );
+    }
+  }
+
+  private void createControls( Shell shell ) {
+    Composite parent = shell;
+    for( int i = 0; i < controlCount; i++ ) {
+      if( i % 50 == 0 ) {
+        parent = new Composite( shell, SWT.BORDER );
+        parent.setLayout( new GridLayout( 3, false ) );
+      }
+      Control control;
+      switch( i % 4 ) {
+        case 0:
+          control = new Button( parent, SWT.PUSH );
+          ( ( Button )control ).setText( "Button " + i );
+          break;
+        case 1:
+          control = new Button( parent, SWT.CHECK | SWT.BORDER );
+          ( ( Button )control ).setText( "Check " + i );
+          break;
+        case 2:
+          control = new Label( parent, SWT.NONE );
+          ( ( Label )control ).setText( "Label " + i );
+          break;
+        default:
+          control = new Text( parent, SWT.BORDER );
+          ( ( Text )control ).setText( "Text " + i );
+          break;
+      }
+      control.setData( RWT.CUSTOM_VARIANT, VARIANTS[ i % VARIANTS.length ] );
+    }
+  }
+
+  private static void print( String operation, long duration ) {
+    StringBuilder line = new StringBuilder( "  " ).append( operation ).append( ':' );
+    while( line.length() < 36 ) {
+      line.append( ' ' );
+    }
+    System.out.println( line.append( duration / 1000000 ).append( " ms" ) );
+  }
+
+}
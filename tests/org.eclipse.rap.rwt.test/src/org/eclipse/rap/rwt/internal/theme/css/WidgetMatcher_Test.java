@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2008, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -14,10 +14,16 @@ package org.eclipse.rap.rwt.internal.theme.css;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Random;
 
 import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.theme.CssColor;
 import org.eclipse.rap.rwt.internal.theme.CssValue;
 import org.eclipse.rap.rwt.internal.theme.WidgetMatcher;
@@ -168,4 +174,191 @@ public class WidgetMatcher_Test {
     assertEquals( BLUE, result );
   }
 
+  @Test
+  public void testSelect_afterVariantChange() {
+    Widget widget = new Button( shell, SWT.PUSH );
+    ConditionalValue[] values = {
+      new ConditionalValue( RED, ".special" ),
+      new ConditionalValue( BLUE )
+    };
+    matcher.select( widget, values );
+
+    widget.setData( RWT.CUSTOM_VARIANT, "special" );
+    CssValue result = matcher.select( widget, values );
+
+    assertSame( RED, result );
+  }
+
+  @Test
+  public void testSelect_withDifferentStyles() {
+    matcher.addStyle( "BORDER", SWT.BORDER );
+    ConditionalValue[] values = {
+      new ConditionalValue( RED, "[BORDER" ),
+      new ConditionalValue( BLUE )
+    };
+    Widget border = new Button( shell, SWT.PUSH | SWT.BORDER );
+    Widget noBorder = new Button( shell, SWT.PUSH );
+
+    assertSame( RED, matcher.select( border, values ) );
+    assertSame( BLUE, matcher.select( noBorder, values ) );
+    assertSame( RED, matcher.select( border, values ) );
+  }
+
+  @Test
+  public void testSelect_withDifferentValues() {
+    Widget widget = new Button( shell, SWT.PUSH );
+    ConditionalValue[] values = { new ConditionalValue( RED ) };
+    ConditionalValue[] otherValues = { new ConditionalValue( BLUE ) };
+
+    assertSame( RED, matcher.select( widget, values ) );
+    assertSame( BLUE, matcher.select( widget, otherValues ) );
+  }
+
+  @Test
+  public void testSelect_afterStateChange() {
+    Constraint constraint = mock( Constraint.class );
+    Widget widget = new Button( shell, SWT.PUSH );
+    matcher.addState( "selected", constraint );
+    ConditionalValue[] values = {
+      new ConditionalValue( RED, ":selected" ),
+      new ConditionalValue( BLUE )
+    };
+    assertSame( BLUE, matcher.select( widget, values ) );
+
+    when( Boolean.valueOf( constraint.matches( widget ) ) ).thenReturn( Boolean.TRUE );
+    CssValue result = matcher.select( widget, values );
+
+    assertSame( RED, result );
+    verify( constraint, times( 2 ) ).matches( widget );
+  }
+
+  @Test
+  public void testSelect_doesNotCheckStatesOfMismatchingStyles() {
+    Constraint constraint = mock( Constraint.class );
+    matcher.addStyle( "BORDER", SWT.BORDER );
+    matcher.addState( "selected", constraint );
+    ConditionalValue[] values = { new ConditionalValue( RED, "[BORDER", ":selected" ) };
+    Widget widget = new Button( shell, SWT.PUSH );
+
+    matcher.select( widget, values );
+
+    verify( constraint, times( 0 ) ).matches( widget );
+  }
+
+  @Test
+  public void testSelect_afterAddStyle() {
+    Widget widget = new Button( shell, SWT.PUSH );
+    ConditionalValue[] values = { new ConditionalValue( RED, "[PUSH" ) };
+    assertNull( matcher.select( widget, values ) );
+
+    matcher.addStyle( "PUSH", SWT.PUSH );
+    CssValue result = matcher.select( widget, values );
+
+    assertSame( RED, result );
+  }
+
+  @Test
+  public void testSelect_skipsNullValue() {
+    Widget widget = new Button( shell, SWT.PUSH );
+    ConditionalValue[] values = {
+      new ConditionalValue( null ),
+      new ConditionalValue( RED )
+    };
+
+    CssValue result = matcher.select( widget, values );
+
+    assertSame( RED, result );
+  }
+
+  @Test
+  public void testSelect_withDisabledCache() {
+    System.setProperty( RWTProperties.THEME_VALUE_CACHE_SIZE, "0" );
+    try {
+      matcher = new WidgetMatcher();
+    } finally {
+      System.clearProperty( RWTProperties.THEME_VALUE_CACHE_SIZE );
+    }
+    Widget widget = new Button( shell, SWT.PUSH );
+    ConditionalValue[] values = { new ConditionalValue( RED, ".special" ) };
+    assertNull( matcher.select( widget, values ) );
+
+    widget.setData( RWT.CUSTOM_VARIANT, "special" );
+    CssValue result = matcher.select( widget, values );
+
+    assertSame( RED, result );
+  }
+
+  @Test
+  public void testSelect_exceedingCacheSize() {
+    System.setProperty( RWTProperties.THEME_VALUE_CACHE_SIZE, "3" );
+    try {
+      matcher = new WidgetMatcher();
+    } finally {
+      System.clearProperty( RWTProperties.THEME_VALUE_CACHE_SIZE );
+    }
+    matcher.addStyle( "BORDER", SWT.BORDER );
+    Widget widget = new Button( shell, SWT.PUSH );
+    Widget borderWidget = new Button( shell, SWT.PUSH | SWT.BORDER );
+    ConditionalValue[][] valueSets = new ConditionalValue[ 10 ][];
+    for( int i = 0; i < valueSets.length; i++ ) {
+      valueSets[ i ] = new ConditionalValue[] {
+        new ConditionalValue( RED, "[BORDER" ),
+        new ConditionalValue( BLUE )
+      };
+    }
+
+    for( ConditionalValue[] values : valueSets ) {
+      assertSame( BLUE, matcher.select( widget, values ) );
+      assertSame( RED, matcher.select( borderWidget, values ) );
+      assertTrue( matcher.getCachedResolutionCount() <= 3 );
+    }
+
+    assertTrue( matcher.getCachedResolutionCount() > 0 );
+  }
+
+  @Test
+  public void testSelect_matchesUncachedSelection() {
+    WidgetMatcher uncachedMatcher;
+    System.setProperty( RWTProperties.THEME_VALUE_CACHE_SIZE, "0" );
+    try {
+      uncachedMatcher = new WidgetMatcher();
+    } finally {
+      System.clearProperty( RWTProperties.THEME_VALUE_CACHE_SIZE );
+    }
+    Random random = new Random( 4711 );
+    String[] constraints = { "[BORDER", "[PUSH", "[CHECK", ":on", ":off", ".a", ".b", "[UNKNOWN" };
+    int[] styles = { SWT.PUSH, SWT.CHECK, SWT.PUSH | SWT.BORDER, SWT.CHECK | SWT.BORDER };
+    String[] variants = { null, "a", "b" };
+    CssValue[] cssValues = { RED, BLUE, GREEN };
+    for( WidgetMatcher widgetMatcher : new WidgetMatcher[] { matcher, uncachedMatcher } ) {
+      widgetMatcher.addStyle( "BORDER", SWT.BORDER );
+      widgetMatcher.addStyle( "PUSH", SWT.PUSH );
+      widgetMatcher.addStyle( "CHECK", SWT.CHECK );
+      widgetMatcher.addState( "on", ALWAYS_TRUE );
+      widgetMatcher.addState( "off", ALWAYS_FALSE );
+    }
+    ConditionalValue[][] valueSets = new ConditionalValue[ 50 ][];
+    for( int i = 0; i < valueSets.length; i++ ) {
+      valueSets[ i ] = new ConditionalValue[ random.nextInt( 5 ) ];
+      for( int j = 0; j < valueSets[ i ].length; j++ ) {
+        String[] valueConstraints = new String[ random.nextInt( 3 ) ];
+        for( int k = 0; k < valueConstraints.length; k++ ) {
+          valueConstraints[ k ] = constraints[ random.nextInt( constraints.length ) ];
+        }
+        CssValue value = cssValues[ random.nextInt( cssValues.length ) ];
+        valueSets[ i ][ j ] = new ConditionalValue( value, valueConstraints );
+      }
+    }
+    for( int i = 0; i < 2000; i++ ) {
+      Widget widget = new Button( shell, styles[ random.nextInt( styles.length ) ] );
+      widget.setData( RWT.CUSTOM_VARIANT, variants[ random.nextInt( variants.length ) ] );
+      ConditionalValue[] values = valueSets[ random.nextInt( valueSets.length ) ];
+
+      CssValue expected = uncachedMatcher.select( widget, values );
+
+      assertSame( expected, matcher.select( widget, values ) );
+      widget.dispose();
+    }
+  }
+
 }
@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+
+public class LRUCache_Test {
+
+  @Test( expected = IllegalArgumentException.class )
+  public void testCreate_withNegativeMaxWeight() {
+    new LRUCache<String, String>( -1 );
+  }
+
+  @Test
+  public void testGet_countsHitsAndMisses() {
+    LRUCache<String, String> cache = new LRUCache<>( 10 );
+    cache.put( "a", "A" );
+
+    assertEquals( "A", cache.get( "a" ) );
+    assertNull( cache.get( "b" ) );
+
+    assertEquals( 1, cache.getHitCount() );
+    assertEquals( 1, cache.getMissCount() );
+  }
+
+  @Test
+  public void testPut_returnsReplacedValue() {
+    LRUCache<String, String> cache = new LRUCache<>( 10 );
+
+    assertNull( cache.put( "a", "A" ) );
+    assertEquals( "A", cache.put( "a", "B" ) );
+    assertEquals( 1, cache.size() );
+    assertEquals( 1, cache.getWeight() );
+  }
+
+  @Test
+  public void testPut_evictsLeastRecentlyUsed() {
+    LRUCache<String, String> cache = new LRUCache<>( 2 );
+    cache.put( "a", "A" );
+    cache.put( "b", "B" );
+    cache.get( "a" );
+
+    cache.put( "c", "C" );
+
+    assertEquals( "A", cache.get( "a" ) );
+    assertNull( cache.get( "b" ) );
+    assertEquals( "C", cache.get( "c" ) );
+    assertEquals( 1, cache.getEvictionCount() );
+    assertEquals( 2, cache.size() );
+  }
+
+  @Test
+  public void testPut_withWeight() {
+    LRUCache<String, String> cache = createWeightedCache( 5 );
+    cache.put( "a", "aaa" );
+    cache.put( "b", "bb" );
+
+    cache.put( "c", "c" );
+
+    assertNull( cache.get( "a" ) );
+    assertEquals( 3, cache.getWeight() );
+    assertEquals( 1, cache.getEvictionCount() );
+  }
+
+  @Test
+  public void testPut_replacingValueUpdatesWeight() {
+    LRUCache<String, String> cache = createWeightedCache( 10 );
+    cache.put( "a", "aaa" );
+
+    cache.put( "a", "a" );
+
+    assertEquals( 1, cache.getWeight() );
+  }
+
+  @Test
+  public void testPut_withZeroMaxWeight() {
+    LRUCache<String, String> cache = new LRUCache<>( 0 );
+
+    cache.put( "a", "A" );
+
+    assertEquals( 0, cache.size() );
+    assertEquals( 0, cache.getWeight() );
+  }
+
+  @Test
+  public void testClear() {
+    LRUCache<String, String> cache = new LRUCache<>( 10 );
+    cache.put( "a", "A" );
+
+    cache.clear();
+
+    assertEquals( 0, cache.size() );
+    assertEquals( 0, cache.getWeight() );
+    assertEquals( 0, cache.getEvictionCount() );
+  }
+
+  private static LRUCache<String, String> createWeightedCache( long maxWeight ) {
+    return new LRUCache<String, String>( maxWeight ) {
+      @Override
+      protected long getWeight( String key, String value ) {
+        return value.length();
+      }
+    };
+  }
+
+}
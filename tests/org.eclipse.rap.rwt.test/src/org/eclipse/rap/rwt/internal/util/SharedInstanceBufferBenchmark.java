@@ -0,0 +1,302 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer.InstanceCreator;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.FontData;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.ImageLoader;
+import org.eclipse.swt.graphics.RGB;
+
+
+/**
+ * Measures the contention of the {@link SharedInstanceBuffer} compared to the former
+ * implementation that created all instances while holding a global write lock. A number of
+ * threads requests a mix of fonts, colors and images, like sessions do when creating their UI.
+ * Creating an image decodes and encodes a PNG image, similar to the InternalImageFactory that
+ * decodes an image and registers it with the resource manager.
+ * <p>
+ * This is not a unit test, run it as a Java application:
+ * </p>
+ * <pre>
+ * java SharedInstanceBufferBenchmark [threads] [requestsPerThread] [distinctKeys]
+ * </pre>
+ */
+public class SharedInstanceBufferBenchmark {
+
+  private static final String IMAGE = "resources/images/image-sample2.png";
+
+  private final int threadCount;
+  private final int requestCount;
+  private final int keyCount;
+  private final byte[] imageBytes;
+
+  public static void main( String[] args ) throws Exception {
+    int threads = args.length > 0 ? Integer.parseInt( args[ 0 ] ) : 32;
+    int requests = args.length > 1 ? Integer.parseInt( args[ 1 ] ) : 2000;
+    int keys = args.length > 2 ? Integer.parseInt( args[ 2 ] ) : 500;
+    SharedInstanceBufferBenchmark benchmark
+      = new SharedInstanceBufferBenchmark( threads, requests, keys );
+    System.out.println( "threads: " + threads
+                        + ", requests per thread: " + requests
+                        + ", distinct keys per type: " + keys );
+    // warm up both implementations before measuring
+    benchmark.run( new LockingBuffer(), false );
+    benchmark.run( new ConcurrentBuffer(), false );
+    benchmark.run( new LockingBuffer(), true );
+    benchmark.run( new ConcurrentBuffer(), true );
+  }
+
+  SharedInstanceBufferBenchmark( int threadCount, int requestCount, int keyCount )
+    throws IOException
+  {
+    this.threadCount = threadCount;
+    this.requestCount = requestCount;
+    this.keyCount = keyCount;
+    imageBytes = readImage();
+  }
+
+  void run( final Buffer buffer, boolean report ) throws InterruptedException {
+    final CountDownLatch start = new CountDownLatch( 1 );
+    final CountDownLatch done = new CountDownLatch( threadCount );
+    final long[][] hitLatencies = new long[ threadCount ][];
+    for( int i = 0; i < threadCount; i++ ) {
+      final int index = i;
+      Thread thread = new Thread( new Runnable() {
+        @Override
+        public void run() {
+          awaitStart( start );
+          hitLatencies[ index ] = requestInstances( buffer, index );
+          done.countDown();
+        }
+      } );
+      thread.setDaemon( true );
+      thread.start();
+    }
+    long startTime = System.nanoTime();
+    start.countDown();
+    done.await();
+    long duration = System.nanoTime() - startTime;
+    if( report ) {
+      long[] latencies = merge( hitLatencies );
+      Arrays.sort( latencies );
+      long operations = ( long )threadCount * requestCount;
+      System.out.println( buffer.getName() + ":" );
+      System.out.println( "  total time:           " + duration / 1000000 + " ms" );
+      System.out.println( "  throughput:           "
+                          + operations * 1000000000L / duration + " ops/s" );
+      System.out.println( "  p99.9 cached lookup:  "
+                          + latencies[ ( int )( latencies.length * 0.999 ) ] / 1000 + " us" );
+      System.out.println( "  max cached lookup:    "
+                          + latencies[ latencies.length - 1 ] / 1000 + " us" );
+    }
+  }
+
+  /*
+   * Returns the latencies of the lookups for keys that this thread has requested before, i.e.
+   * lookups of instances that already exist.
+   */
+  private long[] requestInstances( Buffer buffer, int threadIndex ) {
+    long[] result = new long[ requestCount ];
+    int hitCount = 0;
+    Set<String> requestedKeys = new HashSet<>();
+    int seed = threadIndex * 7919;
+    for( int i = 0; i < requestCount; i++ ) {
+      seed = seed * 1103515245 + 12345;
+      int key = ( seed >>> 8 ) % keyCount;
+      String name;
+      InstanceCreator<String, Object> instanceCreator;
+      switch( i % 3 ) {
+        case 0:
+          name = "font-" + key;
+          instanceCreator = new FontCreator( key );
+        break;
+        case 1:
+          name = "color-" + key;
+          instanceCreator = new ColorCreator( key );
+        break;
+        default:
+          name = "image-" + key;
+          instanceCreator = new ImageCreator( imageBytes );
+        break;
+      }
+      long start = System.nanoTime();
+      buffer.get( name, instanceCreator );
+      long latency = System.nanoTime() - start;
+      if( !requestedKeys.add( name ) ) {
+        result[ hitCount++ ] = latency;
+      }
+    }
+    return Arrays.copyOf( result, hitCount );
+  }
+
+  private static long[] merge( long[][] arrays ) {
+    int length = 0;
+    for( long[] array : arrays ) {
+      length += array.length;
+    }
+    long[] result = new long[ length ];
+    int position = 0;
+    for( long[] array : arrays ) {
+      System.arraycopy( array, 0, result, position, array.length );
+      position += array.length;
+    }
+    return result;
+  }
+
+  private static byte[] readImage() throws IOException {
+    ClassLoader classLoader = SharedInstanceBufferBenchmark.class.getClassLoader();
+    try( InputStream stream = classLoader.getResourceAsStream( IMAGE ) ) {
+      ByteArrayOutputStream result = new ByteArrayOutputStream();
+      byte[] buffer = new byte[ 8192 ];
+      int read = stream.read( buffer );
+      while( read != -1 ) {
+        result.write( buffer, 0, read );
+        read = stream.read( buffer );
+      }
+      return result.toByteArray();
+    }
+  }
+
+  private static void awaitStart( CountDownLatch start ) {
+    try {
+      start.await();
+    } catch( InterruptedException exception ) {
+      throw new RuntimeException( exception );
+    }
+  }
+
+  private static final class FontCreator implements InstanceCreator<String, Object> {
+
+    private final int key;
+
+    FontCreator( int key ) {
+      this.key = key;
+    }
+
+    @Override
+    public Object createInstance( String name ) {
+      return new FontData( "font" + key % 20, 8 + key % 16, SWT.NORMAL );
+    }
+
+  }
+
+  private static final class ColorCreator implements InstanceCreator<String, Object> {
+
+    private final int key;
+
+    ColorCreator( int key ) {
+      this.key = key;
+    }
+
+    @Override
+    public Object createInstance( String name ) {
+      return new RGB( key & 0xFF, ( key >> 8 ) & 0xFF, 128 );
+    }
+
+  }
+
+  private static final class ImageCreator implements InstanceCreator<String, Object> {
+
+    private final byte[] imageBytes;
+
+    ImageCreator( byte[] imageBytes ) {
+      this.imageBytes = imageBytes;
+    }
+
+    @Override
+    public Object createInstance( String name ) {
+      ImageData imageData = new ImageData( new ByteArrayInputStream( imageBytes ) );
+      ImageLoader imageLoader = new ImageLoader();
+      imageLoader.data = new ImageData[] { imageData };
+      imageLoader.save( new ByteArrayOutputStream(), SWT.IMAGE_PNG );
+      return imageData;
+    }
+
+  }
+
+  static abstract class Buffer {
+
+    abstract String getName();
+
+    abstract Object get( String key, InstanceCreator<String, Object> instanceCreator );
+
+  }
+
+  static final class ConcurrentBuffer extends Buffer {
+
+    private final SharedInstanceBuffer<String, Object> buffer = new SharedInstanceBuffer<>();
+
+    @Override
+    String getName() {
+      return "SharedInstanceBuffer (per key)";
+    }
+
+    @Override
+    Object get( String key, InstanceCreator<String, Object> instanceCreator ) {
+      return buffer.get( key, instanceCreator );
+    }
+
+  }
+
+  /*
+   * The former implementation that holds a global write lock while creating an instance.
+   */
+  static final class LockingBuffer extends Buffer {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Object> store = new HashMap<>();
+
+    @Override
+    String getName() {
+      return "global write lock";
+    }
+
+    @Override
+    Object get( String key, InstanceCreator<String, Object> instanceCreator ) {
+      lock.readLock().lock();
+      Object result;
+      try {
+        result = store.get( key );
+      } finally {
+        lock.readLock().unlock();
+      }
+      if( result == null ) {
+        lock.writeLock().lock();
+        try {
+          result = store.get( key );
+          if( result == null ) {
+            result = instanceCreator.createInstance( key );
+            store.put( key, result );
+          }
+        } finally {
+          lock.writeLock().unlock();
+        }
+      }
+      return result;
+    }
+
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,14 +10,23 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.util;
 
+import static org.eclipse.rap.rwt.testfixture.internal.SerializationTestUtil.serializeAndDeserialize;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
 import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer.InstanceCreator;
 import org.junit.Before;
 import org.junit.Test;
@@ -106,6 +115,140 @@ public class SharedInstanceBuffer_Test {
     assertSame( value, removed );
   }
 
+  @Test
+  public void testGet_doesNotCacheNullValue() {
+    InstanceCreator<Object, Object> instanceCreator = mockInstanceCreator( null );
+
+    keyValueStore.get( key, instanceCreator );
+    keyValueStore.get( key, instanceCreator );
+
+    verify( instanceCreator, times( 2 ) ).createInstance( key );
+  }
+
+  @Test
+  public void testGet_retriesAfterFailingInstanceCreator() {
+    InstanceCreator<Object, Object> failingCreator = mockInstanceCreator( null );
+    when( failingCreator.createInstance( any() ) ).thenThrow( new IllegalArgumentException() );
+    try {
+      keyValueStore.get( key, failingCreator );
+      fail();
+    } catch( @SuppressWarnings( "unused" ) IllegalArgumentException expected ) {
+    }
+
+    Object returnedValue = keyValueStore.get( key, mockInstanceCreator( value ) );
+
+    assertSame( value, returnedValue );
+  }
+
+  @Test( expected = IllegalStateException.class )
+  public void testGet_failsWithRecursiveCreation() {
+    keyValueStore.get( key, new InstanceCreator<Object, Object>() {
+      @Override
+      public Object createInstance( Object key ) {
+        return keyValueStore.get( key, this );
+      }
+    } );
+  }
+
+  @Test
+  public void testGet_createsDifferentKeysInParallel() throws Exception {
+    final CountDownLatch blockCreation = new CountDownLatch( 1 );
+    final CountDownLatch creationStarted = new CountDownLatch( 1 );
+    Thread thread = new Thread( new Runnable() {
+      @Override
+      public void run() {
+        keyValueStore.get( "slow", new InstanceCreator<Object, Object>() {
+          @Override
+          public Object createInstance( Object key ) {
+            creationStarted.countDown();
+            await( blockCreation );
+            return value;
+          }
+        } );
+      }
+    } );
+    thread.start();
+    creationStarted.await();
+
+    Object returnedValue = keyValueStore.get( key, mockInstanceCreator( value ) );
+    blockCreation.countDown();
+    thread.join();
+
+    assertSame( value, returnedValue );
+  }
+
+  @Test
+  public void testGet_createsSameKeyOnceWhenCalledConcurrently() throws Exception {
+    final AtomicInteger creationCount = new AtomicInteger();
+    final InstanceCreator<Object, Object> instanceCreator = new InstanceCreator<Object, Object>() {
+      @Override
+      public Object createInstance( Object key ) {
+        creationCount.incrementAndGet();
+        return new Object();
+      }
+    };
+    final CountDownLatch start = new CountDownLatch( 1 );
+    final AtomicReference<Object> firstValue = new AtomicReference<>();
+    final AtomicInteger mismatchCount = new AtomicInteger();
+    Thread[] threads = new Thread[ 8 ];
+    for( int i = 0; i < threads.length; i++ ) {
+      threads[ i ] = new Thread( new Runnable() {
+        @Override
+        public void run() {
+          await( start );
+          Object returned = keyValueStore.get( key, instanceCreator );
+          if( !firstValue.compareAndSet( null, returned ) && firstValue.get() != returned ) {
+            mismatchCount.incrementAndGet();
+          }
+        }
+      } );
+      threads[ i ].start();
+    }
+
+    start.countDown();
+    for( Thread thread : threads ) {
+      thread.join();
+    }
+
+    assertEquals( 1, creationCount.get() );
+    assertEquals( 0, mismatchCount.get() );
+  }
+
+  @Test
+  public void testIsSerializable() throws Exception {
+    SharedInstanceBuffer<String, String> buffer = new SharedInstanceBuffer<>();
+    buffer.get( "key", new TestInstanceCreator( "value" ) );
+    buffer.get( null, new TestInstanceCreator( "null value" ) );
+
+    SharedInstanceBuffer<String, String> deserialized = serializeAndDeserialize( buffer );
+
+    assertEquals( "value", deserialized.get( "key", new TestInstanceCreator( "other" ) ) );
+    assertEquals( "null value", deserialized.get( null, new TestInstanceCreator( "other" ) ) );
+  }
+
+  private static void await( CountDownLatch latch ) {
+    try {
+      assertTrue( latch.await( 10, TimeUnit.SECONDS ) );
+    } catch( InterruptedException exception ) {
+      throw new RuntimeException( exception );
+    }
+  }
+
+  private static class TestInstanceCreator implements InstanceCreator<String, String> {
+
+    private final String value;
+
+    TestInstanceCreator( String value ) {
+      this.value = value;
+    }
+
+    @Override
+    public String createInstance( String key ) {
+      return value;
+    }
+
+  }
+
   @SuppressWarnings( "unchecked" )
   private static InstanceCreator<Object, Object> mockInstanceCreator( Object value ) {
     InstanceCreator mock = mock( InstanceCreator.class );
@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.service;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class JournalRecord_Test {
+
+  private Map<String, String> attributes;
+
+  @Before
+  public void setUp() {
+    attributes = new HashMap<>();
+  }
+
+  @Test
+  public void testAppend_set() {
+    StringBuilder builder = new StringBuilder();
+
+    JournalRecord.append( builder, "key", "value" );
+
+    assertEquals( "+key=value\n", builder.toString() );
+  }
+
+  @Test
+  public void testAppend_remove() {
+    StringBuilder builder = new StringBuilder();
+
+    JournalRecord.append( builder, "key", null );
+
+    assertEquals( "-key\n", builder.toString() );
+  }
+
+  @Test
+  public void testAppend_escapes() {
+    StringBuilder builder = new StringBuilder();
+
+    JournalRecord.append( builder, "a=b", "c\\d\ne\rf" );
+
+    assertEquals( "+a\\=b=c\\\\d\\ne\\rf\n", builder.toString() );
+  }
+
+  @Test
+  public void testReplay() {
+    attributes.put( "removed", "value" );
+
+    int count = JournalRecord.replay( "+key=value\n+key=changed\n-removed\n", attributes );
+
+    assertEquals( 3, count );
+    assertEquals( 1, attributes.size() );
+    assertEquals( "changed", attributes.get( "key" ) );
+  }
+
+  @Test
+  public void testReplay_empty() {
+    assertEquals( 0, JournalRecord.replay( "", attributes ) );
+  }
+
+  @Test
+  public void testReplay_emptyValue() {
+    JournalRecord.replay( "+key=\n", attributes );
+
+    assertEquals( "", attributes.get( "key" ) );
+  }
+
+  @Test
+  public void testReplay_unescapes() {
+    StringBuilder builder = new StringBuilder();
+    JournalRecord.append( builder, "a=b\\", "=c\\d\ne\rf" );
+
+    JournalRecord.replay( builder.toString(), attributes );
+
+    assertEquals( "=c\\d\ne\rf", attributes.get( "a=b\\" ) );
+  }
+
+  @Test
+  public void testReplay_stopsAtIncompleteRecord() {
+    int count = JournalRecord.replay( "+key=value\n+other=val", attributes );
+
+    assertEquals( -1, count );
+    assertEquals( 1, attributes.size() );
+  }
+
+  @Test
+  public void testReplay_stopsAtMalformedRecord() {
+    String[] malformed = { "*key=value\n", "+key\n", "-key=value\n", "+\\x=value\n", "+key=a\\\n",
+                           "\n", "+\n", "+key=a=b\n" };
+    for( String record : malformed ) {
+      assertEquals( record, -1, JournalRecord.replay( "+a=b\n" + record + "+c=d\n", attributes ) );
+      assertEquals( record, 1, attributes.size() );
+    }
+  }
+
+}
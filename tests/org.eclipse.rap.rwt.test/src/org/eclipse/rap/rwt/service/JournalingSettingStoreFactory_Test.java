@@ -0,0 +1,180 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.util.UUID;
+
+import org.eclipse.rap.rwt.testfixture.internal.FileUtil;
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class JournalingSettingStoreFactory_Test {
+
+  private File directory;
+  private JournalingSettingStoreFactory factory;
+
+  @Before
+  public void setUp() {
+    Fixture.setUp();
+    directory = new File( Fixture.TEMP_DIR, UUID.randomUUID().toString() );
+    factory = new JournalingSettingStoreFactory( directory, 60000, 1000 );
+  }
+
+  @After
+  public void tearDown() {
+    factory.flush();
+    FileUtil.delete( directory );
+    Fixture.tearDown();
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void testCreate_failsWithNegativeFlushDelay() {
+    new JournalingSettingStoreFactory( -1, 1000 );
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void testCreate_failsWithZeroCompactionThreshold() {
+    new JournalingSettingStoreFactory( 500, 0 );
+  }
+
+  @Test
+  public void testCreateSettingStore_failsWithNullId() {
+    try {
+      factory.createSettingStore( null );
+      fail();
+    } catch( NullPointerException exception ) {
+      assertTrue( exception.getMessage().contains( "id" ) );
+    }
+  }
+
+  @Test
+  public void testCreateSettingStore_failsWithEmptyId() {
+    try {
+      factory.createSettingStore( "" );
+      fail();
+    } catch( IllegalArgumentException exception ) {
+      assertTrue( exception.getMessage().contains( "empty" ) );
+    }
+  }
+
+  @Test
+  public void testCreateSettingStore_createsInstancesWithCorrectType() {
+    SettingStore store = factory.createSettingStore( "id" );
+
+    assertSame( JournalingSettingStore.class, store.getClass() );
+    assertEquals( "id", store.getId() );
+  }
+
+  @Test
+  public void testCreateSettingStore_createsDirectory() {
+    factory.createSettingStore( "id" );
+
+    assertTrue( directory.isDirectory() );
+  }
+
+  @Test
+  public void testCreateSettingStore_usesConfiguredDirectory() throws Exception {
+    Fixture.getServletContext().setInitParameter( FileSettingStore.FILE_SETTING_STORE_DIR,
+                                                  directory.getAbsolutePath() );
+    SettingStore store = new JournalingSettingStoreFactory().createSettingStore( "id" );
+
+    store.setAttribute( "key", "value" );
+    ( ( JournalingSettingStore )store ).flush();
+
+    assertTrue( new File( directory, "id" + JournalingSettingStore.JOURNAL_SUFFIX ).exists() );
+  }
+
+  @Test
+  public void testFlush_writesPendingChangesOfAllStores() throws Exception {
+    factory.createSettingStore( "id1" ).setAttribute( "key", "value1" );
+    factory.createSettingStore( "id2" ).setAttribute( "key", "value2" );
+
+    factory.flush();
+
+    SettingStoreFactory otherFactory = new JournalingSettingStoreFactory( directory, 60000, 1000 );
+    assertEquals( "value1", otherFactory.createSettingStore( "id1" ).getAttribute( "key" ) );
+    assertEquals( "value2", otherFactory.createSettingStore( "id2" ).getAttribute( "key" ) );
+  }
+
+  @Test
+  public void testFlush_allowsFurtherChanges() throws Exception {
+    SettingStore store = factory.createSettingStore( "id" );
+    factory.flush();
+
+    store.setAttribute( "key", "value" );
+    factory.flush();
+
+    SettingStoreFactory otherFactory = new JournalingSettingStoreFactory( directory, 60000, 1000 );
+    assertEquals( "value", otherFactory.createSettingStore( "id" ).getAttribute( "key" ) );
+  }
+
+  @Test
+  public void testShutdown_writesPendingChanges() throws Exception {
+    factory.createSettingStore( "id" ).setAttribute( "key", "value" );
+
+    factory.shutdown();
+
+    SettingStoreFactory otherFactory = new JournalingSettingStoreFactory( directory, 60000, 1000 );
+    assertEquals( "value", otherFactory.createSettingStore( "id" ).getAttribute( "key" ) );
+  }
+
+  @Test
+  public void testShutdown_waitsForWriteInProgress() throws Exception {
+    factory = new JournalingSettingStoreFactory( directory, 0, 1000 );
+    final SettingStore store = factory.createSettingStore( "id" );
+    Thread shutdownThread = new Thread( new Runnable() {
+      @Override
+      public void run() {
+        factory.shutdown();
+      }
+    } );
+    // the writer thread blocks on the monitor of the store while it is held here
+    synchronized( store ) {
+      store.setAttribute( "key", "value" );
+      waitForBlockedWriterThread();
+      shutdownThread.start();
+      shutdownThread.join( 200 );
+
+      assertTrue( shutdownThread.isAlive() );
+    }
+    shutdownThread.join( 5000 );
+
+    assertFalse( shutdownThread.isAlive() );
+    SettingStoreFactory otherFactory = new JournalingSettingStoreFactory( directory, 60000, 1000 );
+    assertEquals( "value", otherFactory.createSettingStore( "id" ).getAttribute( "key" ) );
+  }
+
+  private static void waitForBlockedWriterThread() throws InterruptedException {
+    long timeout = System.currentTimeMillis() + 5000;
+    while( System.currentTimeMillis() < timeout ) {
+      for( Thread thread : Thread.getAllStackTraces().keySet() ) {
+        if(    "RAP setting store writer".equals( thread.getName() )
+            && thread.getState() == Thread.State.BLOCKED )
+        {
+          return;
+        }
+      }
+      Thread.sleep( 10 );
+    }
+    fail( "Writer thread did not start writing" );
+  }
+
+}
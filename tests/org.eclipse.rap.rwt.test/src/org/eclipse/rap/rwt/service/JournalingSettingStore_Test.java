@@ -0,0 +1,319 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Properties;
+
+import org.eclipse.rap.rwt.testfixture.internal.FileUtil;
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.junit.After;
+import org.junit.Test;
+
+
+public class JournalingSettingStore_Test extends FileSettingStore_Test {
+
+  private static final long NO_BACKGROUND_FLUSH = 60 * 60 * 1000;
+
+  private final File directory
+    = new File( Fixture.TEMP_DIR, JournalingSettingStore_Test.class.getName() );
+  private final JournalingSettingStoreFactory factory = createFactory( NO_BACKGROUND_FLUSH, 1000 );
+
+  @After
+  public void deleteDirectory() {
+    factory.flush();
+    FileUtil.delete( directory );
+  }
+
+  @Override
+  protected SettingStoreFactory getFactory() {
+    return factory;
+  }
+
+  @Test
+  public void testSetAttribute_doesNotWriteImmediately() throws IOException {
+    JournalingSettingStore store = createStore( factory, "id" );
+
+    store.setAttribute( "key", "value" );
+
+    assertFalse( getJournalFile( "id" ).exists() );
+  }
+
+  @Test
+  public void testFlush_appendsToJournal() throws IOException {
+    JournalingSettingStore store = createStore( factory, "id" );
+    store.setAttribute( "key", "value" );
+
+    store.flush();
+
+    assertEquals( "+key=value", readJournal( "id" ).get( 0 ) );
+  }
+
+  @Test
+  public void testFlush_coalescesChangesOfAttribute() throws IOException {
+    JournalingSettingStore store = createStore( factory, "id" );
+    for( int i = 0; i < 100; i++ ) {
+      store.setAttribute( "key", "value" + i );
+    }
+    store.setAttribute( "other", "value" );
+    store.removeAttribute( "other" );
+
+    store.flush();
+
+    List<String> records = readJournal( "id" );
+    assertEquals( 2, records.size() );
+    assertEquals( "+key=value99", records.get( 0 ) );
+    assertEquals( "-other", records.get( 1 ) );
+  }
+
+  @Test
+  public void testFlush_inBackground() throws Exception {
+    JournalingSettingStoreFactory backgroundFactory = createFactory( 0, 1000 );
+    JournalingSettingStore store = createStore( backgroundFactory, "id" );
+
+    store.setAttribute( "key", "value" );
+
+    long timeout = System.currentTimeMillis() + 10000;
+    while( !getJournalFile( "id" ).exists() && System.currentTimeMillis() < timeout ) {
+      Thread.sleep( 10 );
+    }
+    assertEquals( "value", createStore( createFactory( 0, 1000 ), "id" ).getAttribute( "key" ) );
+  }
+
+  @Test
+  public void testFlush_compactsJournal() throws IOException {
+    JournalingSettingStore store = createStore( createFactory( NO_BACKGROUND_FLUSH, 4 ), "id" );
+    for( int i = 0; i < 4; i++ ) {
+      store.setAttribute( "key", "value" + i );
+      store.flush();
+    }
+
+    assertFalse( getJournalFile( "id" ).exists() );
+    assertEquals( "value3", loadProperties( "id" ).getProperty( "key" ) );
+  }
+
+  @Test
+  public void testFlush_doesNotCompactJournalSmallerThanStore() throws IOException {
+    JournalingSettingStore store = createStore( createFactory( NO_BACKGROUND_FLUSH, 4 ), "id" );
+    for( int i = 0; i < 8; i++ ) {
+      store.setAttribute( "key" + i, "value" );
+    }
+
+    store.flush();
+
+    assertEquals( 8, readJournal( "id" ).size() );
+  }
+
+  @Test
+  public void testFlush_escapesRecords() throws IOException {
+    JournalingSettingStore store = createStore( factory, "id" );
+    store.setAttribute( "a=b\\c", "line\nbreak\r=" );
+    store.flush();
+
+    SettingStore loadedStore = createStore( createFactory( NO_BACKGROUND_FLUSH, 1000 ), "id" );
+
+    assertEquals( "line\nbreak\r=", loadedStore.getAttribute( "a=b\\c" ) );
+    assertEquals( 1, readJournal( "id" ).size() );
+  }
+
+  @Test
+  public void testFactoryFlush_writesPendingChanges() throws IOException {
+    JournalingSettingStore store = createStore( factory, "id" );
+    store.setAttribute( "key", "value" );
+
+    factory.flush();
+
+    assertEquals( 1, readJournal( "id" ).size() );
+  }
+
+  @Test
+  public void testLoadById_readsFileSettingStore() throws IOException {
+    FileSettingStore fileStore = new FileSettingStore( directory );
+    fileStore.loadById( "id" );
+    fileStore.setAttribute( "key", "value" );
+
+    JournalingSettingStore store = createStore( factory, "id" );
+
+    assertEquals( "value", store.getAttribute( "key" ) );
+  }
+
+  @Test
+  public void testLoadById_writesPendingChangesOfPreviousId() throws IOException {
+    JournalingSettingStore store = createStore( factory, "id" );
+    store.setAttribute( "key", "value" );
+
+    store.loadById( "other" );
+
+    assertEquals( "+key=value", readJournal( "id" ).get( 0 ) );
+  }
+
+  @Test
+  public void testRecover_keepsFlushedChangesOnly() throws IOException {
+    JournalingSettingStore store = createStore( factory, "id" );
+    store.setAttribute( "flushed", "value" );
+    store.flush();
+    store.setAttribute( "pending", "value" );
+
+    // simulates a restart after a crash, the pending change is lost
+    SettingStore recoveredStore = createStore( createFactory( NO_BACKGROUND_FLUSH, 1000 ), "id" );
+
+    assertEquals( "value", recoveredStore.getAttribute( "flushed" ) );
+    assertNull( recoveredStore.getAttribute( "pending" ) );
+  }
+
+  @Test
+  public void testRecover_ignoresIncompleteRecord() throws IOException {
+    JournalingSettingStore store = createStore( factory, "id" );
+    store.setAttribute( "key", "value" );
+    store.flush();
+    appendToJournal( "id", "+torn=val" );
+
+    SettingStore recoveredStore = createStore( createFactory( NO_BACKGROUND_FLUSH, 1000 ), "id" );
+
+    assertEquals( "value", recoveredStore.getAttribute( "key" ) );
+    assertNull( recoveredStore.getAttribute( "torn" ) );
+  }
+
+  @Test
+  public void testRecover_compactsJournalWithIncompleteRecord() throws IOException {
+    JournalingSettingStore store = createStore( factory, "id" );
+    store.setAttribute( "key", "value" );
+    store.flush();
+    appendToJournal( "id", "+torn=val" );
+    JournalingSettingStore recoveredStore
+      = createStore( createFactory( NO_BACKGROUND_FLUSH, 1000 ), "id" );
+
+    recoveredStore.setAttribute( "other", "value" );
+    recoveredStore.flush();
+
+    assertFalse( getJournalFile( "id" ).exists() );
+    SettingStore reloadedStore = createStore( createFactory( NO_BACKGROUND_FLUSH, 1000 ), "id" );
+    assertEquals( "value", reloadedStore.getAttribute( "key" ) );
+    assertEquals( "value", reloadedStore.getAttribute( "other" ) );
+  }
+
+  @Test
+  public void testRecover_ignoresMalformedRecord() throws IOException {
+    JournalingSettingStore store = createStore( factory, "id" );
+    store.setAttribute( "key", "value" );
+    store.flush();
+    appendToJournal( "id", "?garbage\n+after=value\n" );
+
+    SettingStore recoveredStore = createStore( createFactory( NO_BACKGROUND_FLUSH, 1000 ), "id" );
+
+    assertEquals( "value", recoveredStore.getAttribute( "key" ) );
+    assertNull( recoveredStore.getAttribute( "after" ) );
+  }
+
+  @Test
+  public void testRecover_discardsIncompleteSnapshot() throws IOException {
+    JournalingSettingStore store = createStore( factory, "id" );
+    store.setAttribute( "key", "value" );
+    store.flush();
+    // crash while the new snapshot was written, the journal still exists
+    writeFile( getTempFile( "id" ), "key=incompl" );
+
+    SettingStore recoveredStore = createStore( createFactory( NO_BACKGROUND_FLUSH, 1000 ), "id" );
+
+    assertEquals( "value", recoveredStore.getAttribute( "key" ) );
+    assertFalse( getTempFile( "id" ).exists() );
+  }
+
+  @Test
+  public void testRecover_completesCompaction() throws IOException {
+    JournalingSettingStore store = createStore( factory, "id" );
+    store.setAttribute( "key", "old" );
+    store.flush();
+    // crash after the journal was deleted, the new snapshot has not been moved yet
+    writeFile( getTempFile( "id" ), "key=new\n" );
+    Files.delete( getJournalFile( "id" ).toPath() );
+
+    SettingStore recoveredStore = createStore( createFactory( NO_BACKGROUND_FLUSH, 1000 ), "id" );
+
+    assertEquals( "new", recoveredStore.getAttribute( "key" ) );
+    assertFalse( getTempFile( "id" ).exists() );
+    assertEquals( "new", loadProperties( "id" ).getProperty( "key" ) );
+  }
+
+  @Test
+  public void testRecover_afterRandomCrashes() throws IOException {
+    // a crash can truncate the journal anywhere within the last batch
+    JournalingSettingStore store = createStore( factory, "id" );
+    store.setAttribute( "a", "1" );
+    store.setAttribute( "b", "2" );
+    store.flush();
+    long length = getJournalFile( "id" ).length();
+    store.setAttribute( "a", "3" );
+    store.removeAttribute( "b" );
+    store.flush();
+    byte[] journal = Files.readAllBytes( getJournalFile( "id" ).toPath() );
+
+    for( int i = ( int )length; i < journal.length; i++ ) {
+      writeFile( getJournalFile( "id" ), new String( journal, 0, i, UTF_8 ) );
+      SettingStore recoveredStore = createStore( createFactory( NO_BACKGROUND_FLUSH, 1000 ), "id" );
+      String a = recoveredStore.getAttribute( "a" );
+      String b = recoveredStore.getAttribute( "b" );
+      assertTrue( "1".equals( a ) && "2".equals( b ) || "3".equals( a ) && "2".equals( b ) );
+    }
+  }
+
+  private JournalingSettingStoreFactory createFactory( long flushDelay, int compactionThreshold ) {
+    return new JournalingSettingStoreFactory( directory, flushDelay, compactionThreshold );
+  }
+
+  private static JournalingSettingStore createStore( SettingStoreFactory factory, String id ) {
+    return ( JournalingSettingStore )factory.createSettingStore( id );
+  }
+
+  private File getJournalFile( String id ) {
+    return new File( directory, id + JournalingSettingStore.JOURNAL_SUFFIX );
+  }
+
+  private File getTempFile( String id ) {
+    return new File( directory, id + JournalingSettingStore.TEMP_SUFFIX );
+  }
+
+  private List<String> readJournal( String id ) throws IOException {
+    return Files.readAllLines( getJournalFile( id ).toPath(), UTF_8 );
+  }
+
+  private void appendToJournal( String id, String content ) throws IOException {
+    try( OutputStream outputStream = new FileOutputStream( getJournalFile( id ), true ) ) {
+      outputStream.write( content.getBytes( UTF_8 ) );
+    }
+  }
+
+  private static void writeFile( File file, String content ) throws IOException {
+    Files.write( file.toPath(), content.getBytes( UTF_8 ) );
+  }
+
+  private Properties loadProperties( String id ) throws IOException {
+    Properties properties = new Properties();
+    try( InputStream inputStream = new FileInputStream( new File( directory, id ) ) ) {
+      properties.load( inputStream );
+    }
+    return properties;
+  }
+
+}
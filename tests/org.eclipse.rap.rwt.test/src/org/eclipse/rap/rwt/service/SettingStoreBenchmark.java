@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.service;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.eclipse.rap.rwt.testfixture.internal.FileUtil;
+
+
+/**
+ * Compares the throughput of the {@link FileSettingStore} and the {@link JournalingSettingStore}
+ * when UI state like column widths is saved on every interaction. Every store holds a number of
+ * attributes, a few of them are changed over and over again.
+ * <p>
+ * This is not a unit test, run it as a Java application:
+ * </p>
+ * <pre>
+ * java SettingStoreBenchmark [attributes] [changes]
+ * </pre>
+ */
+public class SettingStoreBenchmark {
+
+  private static final int CHANGED_ATTRIBUTES = 10;
+
+  private final int attributeCount;
+  private final int changeCount;
+  private final File directory;
+
+  public static void main( String[] args ) throws IOException {
+    int attributes = args.length > 0 ? Integer.parseInt( args[ 0 ] ) : 200;
+    int changes = args.length > 1 ? Integer.parseInt( args[ 1 ] ) : 5000;
+    System.out.println( "attributes: " + attributes + ", changes: " + changes );
+    File directory = Files.createTempDirectory( "settingstore" ).toFile();
+    try {
+      SettingStoreBenchmark benchmark = new SettingStoreBenchmark( attributes, changes, directory );
+      // warm up before measuring
+      benchmark.run( false );
+      benchmark.run( true );
+    } finally {
+      FileUtil.delete( directory );
+    }
+  }
+
+  SettingStoreBenchmark( int attributeCount, int changeCount, File directory ) {
+    this.attributeCount = attributeCount;
+    this.changeCount = changeCount;
+    this.directory = directory;
+  }
+
+  void run( boolean report ) throws IOException {
+    FileSettingStore fileStore = new FileSettingStore( directory );
+    fileStore.loadById( "file" );
+    long fileDuration = change( fileStore );
+    long flushDelay = JournalingSettingStoreFactory.DEFAULT_FLUSH_DELAY;
+    int compactionThreshold = JournalingSettingStoreFactory.DEFAULT_COMPACTION_THRESHOLD;
+    JournalingSettingStoreFactory factory
+      = new JournalingSettingStoreFactory( directory, flushDelay, compactionThreshold );
+    SettingStore journalingStore = factory.createSettingStore( "journaling" );
+    long journalingDuration = change( journalingStore );
+    long start = System.nanoTime();
+    factory.flush();
+    long flushDuration = System.nanoTime() - start;
+    SettingStore forcedStore = factory.createSettingStore( "forced" );
+    long forcedDuration = changeAndFlush( ( JournalingSettingStore )forcedStore );
+    if( report ) {
+      print( "FileSettingStore", fileDuration, true );
+      print( "JournalingSettingStore", journalingDuration, true );
+      print( "  final flush", flushDuration, false );
+      print( "  flush after each change", forcedDuration, true );
+    }
+  }
+
+  private long change( SettingStore store ) throws IOException {
+    fill( store );
+    long start = System.nanoTime();
+    for( int i = 0; i < changeCount; i++ ) {
+      store.setAttribute( "column" + i % CHANGED_ATTRIBUTES, String.valueOf( i ) );
+    }
+    return System.nanoTime() - start;
+  }
+
+  private long changeAndFlush( JournalingSettingStore store ) throws IOException {
+    fill( store );
+    long start = System.nanoTime();
+    for( int i = 0; i < changeCount; i++ ) {
+      store.setAttribute( "column" + i % CHANGED_ATTRIBUTES, String.valueOf( i ) );
+      store.flush();
+    }
+    return System.nanoTime() - start;
+  }
+
+  private void fill( SettingStore store ) throws IOException {
+    for( int i = 0; i < attributeCount; i++ ) {
+      store.setAttribute( "column" + i, "100" );
+    }
+  }
+
+  private void print( String operation, long duration, boolean throughput ) {
+    StringBuilder line = new StringBuilder( "  " ).append( operation ).append( ':' );
+    while( line.length() < 36 ) {
+      line.append( ' ' );
+    }
+    line.append( duration / 1000000 ).append( " ms" );
+    if( throughput ) {
+      long changesPerSecond = changeCount * 1000000000L / Math.max( duration, 1 );
+      line.append( ", " ).append( changesPerSecond ).append( " changes/s" );
+    }
+    System.out.println( line );
+  }
+
+}
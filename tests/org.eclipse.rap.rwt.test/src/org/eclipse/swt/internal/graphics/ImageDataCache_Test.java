@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2014 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,6 +13,8 @@
 package org.eclipse.swt.internal.graphics;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
@@ -46,8 +48,7 @@ public class ImageDataCache_Test {
   public void testSmallImageIsCached() throws IOException {
     ImageDataCache cache = new ImageDataCache();
     ImageData imageData = getImageData( Fixture.IMAGE1 ); // 129 bytes
-    InternalImage internalImage
-      = new InternalImage( "testpath", imageData.width, imageData.height, false );
+    InternalImage internalImage = createInternalImage( imageData );
     cache.putImageData( internalImage, imageData );
     assertEqualsImageData( imageData, cache.getImageData( internalImage ) );
   }
@@ -56,18 +57,44 @@ public class ImageDataCache_Test {
   public void testBigImageIsNotCached() throws IOException {
     ImageDataCache cache = new ImageDataCache();
     ImageData imageData = getImageData( Fixture.IMAGE_100x50 ); // 1281 bytes
-    InternalImage internalImage
-      = new InternalImage( "testpath", imageData.width, imageData.height, false );
-    cache.putImageData( internalImage, imageData );
+    InternalImage internalImage = createInternalImage( imageData );
+
+    boolean cached = cache.putImageData( internalImage, imageData );
+
+    assertFalse( cached );
     assertNull( cache.getImageData( internalImage ) );
   }
 
+  @Test
+  public void testBigImageIsCached_withBudget() throws IOException {
+    ImageDataCache cache = new ImageDataCache( 1024 * 1024 );
+    ImageData imageData = getImageData( Fixture.IMAGE_100x50 ); // 1281 bytes
+    InternalImage internalImage = createInternalImage( imageData );
+
+    boolean cached = cache.putImageData( internalImage, imageData );
+
+    assertTrue( cached );
+    assertEqualsImageData( imageData, cache.getImageData( internalImage ) );
+  }
+
+  @Test
+  public void testBigImageIsNotCached_withSmallBudget() throws IOException {
+    ImageDataCache cache = new ImageDataCache( 8 * 1024 );
+    ImageData imageData = getImageData( Fixture.IMAGE_100x50 ); // 1281 bytes
+    InternalImage internalImage = createInternalImage( imageData );
+
+    boolean cached = cache.putImageData( internalImage, imageData );
+
+    assertFalse( cached );
+    assertNull( cache.getImageData( internalImage ) );
+    assertEquals( 0, cache.getSize() );
+  }
+
   @Test
   public void testSafeCopiesReturned() throws IOException {
     ImageDataCache cache = new ImageDataCache();
     ImageData originalData = getImageData( Fixture.IMAGE1 );
-    InternalImage internalImage
-      = new InternalImage( "testpath", originalData.width, originalData.height, false );
+    InternalImage internalImage = createInternalImage( originalData );
     cache.putImageData( internalImage, originalData );
     ImageData copyData = cache.getImageData( internalImage );
     assertNotSame( originalData, copyData );
@@ -75,17 +102,118 @@ public class ImageDataCache_Test {
   }
 
   @Test
-  public void testSafeCopiesStored() throws IOException {
+  public void testReturnedCopiesCanBeModified() throws IOException {
     ImageDataCache cache = new ImageDataCache();
     ImageData originalData = getImageData( Fixture.IMAGE1 );
-    InternalImage internalImage
-      = new InternalImage( "testpath", originalData.width, originalData.height, false );
+    InternalImage internalImage = createInternalImage( originalData );
     cache.putImageData( internalImage, originalData );
     ImageData copyData1 = cache.getImageData( internalImage );
-    // modify original data
-    originalData.setPixel( 0, 0, 23 );
+
+    copyData1.setPixel( 0, 0, 23 );
+
     ImageData copyData2 = cache.getImageData( internalImage );
-    assertEqualsImageData( copyData1, copyData2 );
+    assertEqualsImageData( originalData, copyData2 );
+  }
+
+  @Test
+  public void testLeastRecentlyUsedImageIsEvicted() throws IOException {
+    ImageData imageData = getImageData( Fixture.IMAGE1 );
+    long entrySize = ImageDataCache.estimateSize( imageData );
+    ImageDataCache cache = new ImageDataCache( entrySize * 8 );
+    InternalImage[] internalImages = new InternalImage[ 9 ];
+    for( int i = 0; i < 8; i++ ) {
+      internalImages[ i ] = createInternalImage( imageData );
+      cache.putImageData( internalImages[ i ], imageData );
+    }
+    cache.getImageData( internalImages[ 0 ] );
+
+    internalImages[ 8 ] = createInternalImage( imageData );
+    cache.putImageData( internalImages[ 8 ], imageData );
+
+    assertNotNull( cache.getImageData( internalImages[ 0 ] ) );
+    assertNull( cache.getImageData( internalImages[ 1 ] ) );
+    assertNotNull( cache.getImageData( internalImages[ 8 ] ) );
+    assertEquals( 1, cache.getEvictionCount() );
+    assertEquals( 8, cache.getCount() );
+  }
+
+  @Test
+  public void testSizeStaysWithinBudget() throws IOException {
+    ImageData imageData = getImageData( Fixture.IMAGE1 );
+    long entrySize = ImageDataCache.estimateSize( imageData );
+    ImageDataCache cache = new ImageDataCache( entrySize * 10 );
+
+    for( int i = 0; i < 100; i++ ) {
+      cache.putImageData( createInternalImage( imageData ), imageData );
+    }
+
+    assertEquals( entrySize * 10, cache.getSize() );
+    assertEquals( 10, cache.getCount() );
+    assertEquals( 90, cache.getEvictionCount() );
+  }
+
+  @Test
+  public void testReplacingImageDataUpdatesSize() throws IOException {
+    ImageDataCache cache = new ImageDataCache( 1024 * 1024 );
+    ImageData smallData = getImageData( Fixture.IMAGE1 );
+    ImageData bigData = getImageData( Fixture.IMAGE_100x50 );
+    InternalImage internalImage = createInternalImage( smallData );
+    cache.putImageData( internalImage, smallData );
+
+    cache.putImageData( internalImage, bigData );
+
+    assertEquals( ImageDataCache.estimateSize( bigData ), cache.getSize() );
+    assertEquals( 1, cache.getCount() );
+  }
+
+  @Test
+  public void testHitAndMissCount() throws IOException {
+    ImageDataCache cache = new ImageDataCache();
+    ImageData imageData = getImageData( Fixture.IMAGE1 );
+    InternalImage internalImage = createInternalImage( imageData );
+
+    cache.getImageData( internalImage );
+    cache.putImageData( internalImage, imageData );
+    cache.getImageData( internalImage );
+    cache.getImageData( internalImage );
+
+    assertEquals( 2, cache.getHitCount() );
+    assertEquals( 1, cache.getMissCount() );
+  }
+
+  @Test
+  public void testEstimateSize() throws IOException {
+    ImageData imageData = getImageData( Fixture.IMAGE_100x50 );
+
+    long size = ImageDataCache.estimateSize( imageData );
+
+    assertTrue( size > imageData.data.length );
+  }
+
+  @Test
+  public void testGetMaxSize() {
+    assertEquals( -1, new ImageDataCache().getMaxSize() );
+    assertEquals( 1024, new ImageDataCache( 1024 ).getMaxSize() );
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void testCreateWithNegativeSize() {
+    new ImageDataCache( -1 );
+  }
+
+  @Test
+  public void testZeroSizeCachesNothing() throws IOException {
+    ImageDataCache cache = new ImageDataCache( 0 );
+    ImageData imageData = getImageData( Fixture.IMAGE1 );
+    InternalImage internalImage = createInternalImage( imageData );
+
+    cache.putImageData( internalImage, imageData );
+
+    assertNull( cache.getImageData( internalImage ) );
+  }
+
+  private static InternalImage createInternalImage( ImageData imageData ) {
+    return new InternalImage( "testpath", imageData.width, imageData.height, false );
   }
 
   private ImageData getImageData( String resource ) throws IOException {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2014 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -74,6 +74,31 @@ public class ImageDataFactory_Test {
     assertEquals( imageData1.data.length, imageData2.data.length );
   }
 
+  @Test
+  public void testFindImageData_modificationDoesNotAffectCache() throws IOException {
+    Image image = createImage( display, Fixture.IMAGE_50x100 );
+    ImageData imageData1 = imageDataFactory.findImageData( image.internalImage );
+    int pixel = imageData1.getPixel( 0, 0 );
+
+    imageData1.setPixel( 0, 0, pixel + 1 );
+
+    ImageData imageData2 = imageDataFactory.findImageData( image.internalImage );
+    assertEquals( pixel, imageData2.getPixel( 0, 0 ) );
+  }
+
+  @Test
+  public void testFindImageData_countsCacheHits() throws IOException {
+    Image image = createImage( display, Fixture.IMAGE1 );
+
+    imageDataFactory.findImageData( image.internalImage );
+    imageDataFactory.findImageData( image.internalImage );
+
+    ImageDataCache imageDataCache = imageDataFactory.getImageDataCache();
+    assertEquals( 1, imageDataCache.getMissCount() );
+    assertEquals( 1, imageDataCache.getHitCount() );
+    assertEquals( 1, imageDataCache.getCount() );
+  }
+
   @Test
   public void testFindImageDataWithBlankImage() throws IOException {
     InputStream stream = CLASS_LOADER.getResourceAsStream( "resources/images/blank.gif" );
@@ -0,0 +1,331 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.widgets;
+
+import static org.eclipse.rap.rwt.testfixture.internal.SerializationTestUtil.serializeAndDeserialize;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class IndexSelection_Test {
+
+  private IndexSelection selection;
+
+  @Before
+  public void setUp() {
+    selection = new IndexSelection();
+  }
+
+  @Test
+  public void testInitialState() {
+    assertTrue( selection.isEmpty() );
+    assertEquals( 0, selection.size() );
+    assertFalse( selection.contains( 0 ) );
+    assertEquals( -1, selection.nextSelected( 0 ) );
+    assertArrayEquals( new int[ 0 ], selection.toArray() );
+  }
+
+  @Test
+  public void testAdd() {
+    assertTrue( selection.add( 70 ) );
+    assertFalse( selection.add( 70 ) );
+
+    assertEquals( 1, selection.size() );
+    assertTrue( selection.contains( 70 ) );
+    assertFalse( selection.contains( 6 ) );
+  }
+
+  @Test
+  public void testRemove() {
+    selection.add( 3 );
+    selection.add( 130 );
+
+    assertTrue( selection.remove( 130 ) );
+    assertFalse( selection.remove( 130 ) );
+
+    assertArrayEquals( new int[] { 3 }, selection.toArray() );
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void testContains_withNegativeIndex() {
+    selection.contains( -1 );
+  }
+
+  @Test
+  public void testAddRange() {
+    selection.addRange( 60, 200 );
+
+    assertEquals( 141, selection.size() );
+    assertFalse( selection.contains( 59 ) );
+    assertTrue( selection.contains( 60 ) );
+    assertTrue( selection.contains( 200 ) );
+    assertFalse( selection.contains( 201 ) );
+  }
+
+  @Test
+  public void testAddRange_countsSelectedIndicesOnce() {
+    selection.add( 5 );
+    selection.add( 100 );
+
+    selection.addRange( 0, 63 );
+
+    assertEquals( 65, selection.size() );
+  }
+
+  @Test
+  public void testRemoveRange() {
+    selection.addRange( 0, 300 );
+
+    selection.removeRange( 10, 280 );
+
+    assertEquals( 30, selection.size() );
+    assertEquals( 281, selection.nextSelected( 10 ) );
+  }
+
+  @Test
+  public void testRemoveRange_beyondSelection() {
+    selection.add( 5 );
+
+    selection.removeRange( 0, 100000 );
+
+    assertTrue( selection.isEmpty() );
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void testAddRange_withInvalidRange() {
+    selection.addRange( 5, 4 );
+  }
+
+  @Test
+  public void testNextSelected() {
+    selection.add( 3 );
+    selection.add( 200 );
+
+    assertEquals( 3, selection.nextSelected( 0 ) );
+    assertEquals( 3, selection.nextSelected( 3 ) );
+    assertEquals( 200, selection.nextSelected( 4 ) );
+    assertEquals( -1, selection.nextSelected( 201 ) );
+  }
+
+  @Test
+  public void testInsert() {
+    selection.add( 2 );
+    selection.add( 63 );
+    selection.add( 64 );
+
+    selection.insert( 3 );
+
+    assertArrayEquals( new int[] { 2, 64, 65 }, selection.toArray() );
+  }
+
+  @Test
+  public void testInsert_atSelectedIndex() {
+    selection.add( 2 );
+
+    selection.insert( 2 );
+
+    assertArrayEquals( new int[] { 3 }, selection.toArray() );
+  }
+
+  @Test
+  public void testDelete() {
+    selection.add( 2 );
+    selection.add( 64 );
+    selection.add( 128 );
+
+    selection.delete( 1 );
+
+    assertArrayEquals( new int[] { 1, 63, 127 }, selection.toArray() );
+  }
+
+  @Test
+  public void testDelete_selectedIndex() {
+    selection.add( 2 );
+    selection.add( 3 );
+
+    selection.delete( 2 );
+
+    assertArrayEquals( new int[] { 2 }, selection.toArray() );
+    assertEquals( 1, selection.size() );
+  }
+
+  @Test
+  public void testCopy() {
+    selection.addRange( 3, 90 );
+
+    IndexSelection copy = new IndexSelection( selection );
+    selection.remove( 4 );
+
+    assertEquals( 88, copy.size() );
+    assertTrue( copy.contains( 4 ) );
+  }
+
+  @Test
+  public void testEquals() {
+    selection.add( 5 );
+    IndexSelection copy = new IndexSelection( selection );
+
+    assertEquals( selection, copy );
+    assertEquals( selection.hashCode(), copy.hashCode() );
+  }
+
+  @Test
+  public void testEquals_afterDeselectAndSelect() {
+    selection.add( 5 );
+    IndexSelection copy = new IndexSelection( selection );
+
+    selection.clear();
+    selection.add( 5 );
+
+    assertEquals( copy, selection );
+  }
+
+  @Test
+  public void testEquals_afterInsertAndDelete() {
+    selection.add( 5 );
+    IndexSelection copy = new IndexSelection( selection );
+
+    selection.insert( 0 );
+    selection.delete( 0 );
+
+    assertEquals( copy, selection );
+    assertEquals( copy.hashCode(), selection.hashCode() );
+  }
+
+  @Test
+  public void testEquals_differentIndices() {
+    selection.add( 5 );
+    IndexSelection copy = new IndexSelection( selection );
+
+    selection.insert( 0 );
+
+    assertNotEquals( copy, selection );
+  }
+
+  @Test
+  public void testGetMoveCount() {
+    selection.add( 5 );
+    IndexSelection copy = new IndexSelection( selection );
+
+    selection.insert( 0 );
+    selection.delete( 5 );
+
+    assertEquals( 0, copy.getMoveCount() );
+    assertEquals( 2, selection.getMoveCount() );
+  }
+
+  @Test
+  public void testGetMoveCount_ignoresIndicesAboveSelection() {
+    selection.add( 5 );
+
+    selection.insert( 6 );
+    selection.delete( 7 );
+
+    assertEquals( 0, selection.getMoveCount() );
+  }
+
+  @Test
+  public void testGetMoveCount_countsIndicesBelowFormerSelection() {
+    selection.add( 5 );
+    selection.clear();
+    selection.add( 1 );
+
+    selection.insert( 3 );
+
+    assertEquals( 1, selection.getMoveCount() );
+  }
+
+  @Test
+  public void testEquals_emptySelections() {
+    selection.add( 5 );
+    selection.insert( 0 );
+    selection.clear();
+
+    assertEquals( new IndexSelection(), selection );
+    assertEquals( new IndexSelection().hashCode(), selection.hashCode() );
+  }
+
+  @Test
+  public void testRandomOperations_matchList() {
+    Random random = new Random( 4711 );
+    List<Boolean> expected = new ArrayList<>();
+    for( int i = 0; i < 3000; i++ ) {
+      int size = expected.size();
+      int operation = random.nextInt( 6 );
+      if( operation == 0 || size == 0 ) {
+        int index = random.nextInt( size + 1 );
+        expected.add( index, Boolean.FALSE );
+        selection.insert( index );
+      } else if( operation == 1 ) {
+        int index = random.nextInt( size );
+        expected.remove( index );
+        selection.delete( index );
+      } else if( operation == 2 ) {
+        int index = random.nextInt( size );
+        expected.set( index, Boolean.TRUE );
+        selection.add( index );
+      } else if( operation == 3 ) {
+        int index = random.nextInt( size );
+        expected.set( index, Boolean.FALSE );
+        selection.remove( index );
+      } else {
+        int start = random.nextInt( size );
+        int end = start + random.nextInt( size - start );
+        boolean selected = operation == 4;
+        for( int j = start; j <= end; j++ ) {
+          expected.set( j, Boolean.valueOf( selected ) );
+        }
+        if( selected ) {
+          selection.addRange( start, end );
+        } else {
+          selection.removeRange( start, end );
+        }
+      }
+      assertMatches( expected );
+    }
+  }
+
+  @Test
+  public void testSerialization() throws Exception {
+    selection.addRange( 10, 100 );
+
+    IndexSelection deserialized = serializeAndDeserialize( selection );
+
+    assertEquals( selection, deserialized );
+    assertEquals( 91, deserialized.size() );
+  }
+
+  private void assertMatches( List<Boolean> expected ) {
+    List<Integer> indices = new ArrayList<>();
+    for( int i = 0; i < expected.size(); i++ ) {
+      if( expected.get( i ).booleanValue() ) {
+        indices.add( Integer.valueOf( i ) );
+      }
+    }
+    int[] actual = selection.toArray();
+    assertEquals( indices.size(), selection.size() );
+    assertEquals( indices.size(), actual.length );
+    for( int i = 0; i < actual.length; i++ ) {
+      assertEquals( indices.get( i ).intValue(), actual[ i ] );
+    }
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2018 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,12 +10,17 @@
  ******************************************************************************/
 package org.eclipse.swt.internal.widgets;
 
+import static org.eclipse.swt.internal.widgets.MarkupValidator.isAcceptedByScanner;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.util.Random;
+
 import org.eclipse.swt.widgets.Widget;
 import org.junit.Before;
 import org.junit.Test;
@@ -172,4 +177,105 @@ public class MarkupValidator_Test {
       assertTrue( MarkupValidator.isValidationDisabledFor( widget ) );
     }
 
+  @Test
+  public void testValidate_withComment() {
+    String markup = "<b>foo</b><!-- bar -->";
+
+    validator.validate( markup );
+  }
+
+  @Test
+  public void testIsAcceptedByScanner_withCommonMarkup() {
+    assertTrue( isAcceptedByScanner( "" ) );
+    assertTrue( isAcceptedByScanner( "foo &amp; bar &#38; &#x26;" ) );
+    assertTrue( isAcceptedByScanner( "<b>foo</b><br/><i>bar</i>" ) );
+    assertTrue( isAcceptedByScanner( "<span style='color:red' id=\"x\">a</span >" ) );
+    assertTrue( isAcceptedByScanner( "<a href=\"http://x?a=1&amp;b=2\">a</a>" ) );
+    assertTrue( isAcceptedByScanner( "<img src=\"a.png\" width=\"10\" height=\"5\"/>" ) );
+  }
+
+  @Test
+  public void testIsAcceptedByScanner_leavesOtherMarkupToParser() {
+    assertFalse( isAcceptedByScanner( "<!-- foo -->" ) );
+    assertFalse( isAcceptedByScanner( "<![CDATA[foo]]>" ) );
+    assertFalse( isAcceptedByScanner( "<?foo bar?>" ) );
+    assertFalse( isAcceptedByScanner( "<img src=\"a.png\" width=\"&#49;\" height=\"5\"/>" ) );
+  }
+
+  @Test
+  public void testIsAcceptedByScanner_withInvalidMarkup() {
+    assertFalse( isAcceptedByScanner( "<b>foo" ) );
+    assertFalse( isAcceptedByScanner( "<b>foo</i>" ) );
+    assertFalse( isAcceptedByScanner( "</html><html>" ) );
+    assertFalse( isAcceptedByScanner( "<ul>foo</ul>" ) );
+    assertFalse( isAcceptedByScanner( "<span href=\"x\">foo</span>" ) );
+    assertFalse( isAcceptedByScanner( "<b id=\"1\" id=\"2\">foo</b>" ) );
+    assertFalse( isAcceptedByScanner( "<b id=\"1\"class=\"2\">foo</b>" ) );
+    assertFalse( isAcceptedByScanner( "<img width=\"10\"/>" ) );
+    assertFalse( isAcceptedByScanner( "a & b" ) );
+    assertFalse( isAcceptedByScanner( "&foo;" ) );
+    assertFalse( isAcceptedByScanner( "&#0;" ) );
+    assertFalse( isAcceptedByScanner( "a ]]> b" ) );
+    assertFalse( isAcceptedByScanner( "\u0001" ) );
+    assertFalse( isAcceptedByScanner( "\ud800" ) );
+  }
+
+  @Test
+  public void testValidate_matchesParserOnRandomMarkup() {
+    String[] fragments = {
+      "foo", " ", "\n", "\t", "\r\n", "\u00e4", "\ud83d\ude00", "\ud800", "\u0001", "\ufffe",
+      "<", ">", "/", "=", "\"", "'", "&", ";", "]]>", "]]", "]",
+      "&amp;", "&lt;", "&gt;", "&quot;", "&apos;", "&nbsp;", "&mdash;", "&ndash;", "&emsp;",
+      "&ensp;", "&foo;", "&#38;", "&#x26;", "&#X26;", "&#0;", "&#xD800;", "&#1114112;", "&#;",
+      "<b>", "</b>", "<i>", "</i>", "<b/>", "<br/>", "<br>", "</br>", "<html>", "</html>",
+      "<span style=\"color: red\">", "</span>", "<span title='a&amp;b'>", "<span href='x'>",
+      "<span id=\"a\" id=\"b\">", "<span id=\"a\"class=\"b\">", "<span id=a>", "<span id>",
+      "<a href=\"x\" target=\"_blank\">", "</a>", "<A>", "</A>", "<ul>", "</ul>", "< b>",
+      "</ b>", "<b >", "</b >", "<b\tid='x'\n>", "<span title=\"<\">", "<span title=\">\">",
+      "<img src=\"a.png\" width=\"10\" height=\"5\"/>", "<img width=\"10\"/>",
+      "<img width=\" 1\" height=\"2\"/>", "<img width=\"+1\" height=\"2\"/>",
+      "<img width=\"&#49;\" height=\"2\"/>", "<img width=\"1\" height=\"x\"/>",
+      "<img width=\"1\" height=\"99999999999\"/>", "<img width='1' height='2'></img>",
+      "<!-- c -->", "<!-- a -- b -->", "<![CDATA[<b>]]>", "<?pi x?>", "<?xml x?>",
+      "<!DOCTYPE x>", "<b:x>", "<b1>", "<_b>"
+    };
+    Random random = new Random( 4711 );
+    int acceptedByScanner = 0;
+    for( int i = 0; i < 5000; i++ ) {
+      StringBuilder markup = new StringBuilder();
+      int count = random.nextInt( 8 );
+      for( int j = 0; j < count; j++ ) {
+        markup.append( fragments[ random.nextInt( fragments.length ) ] );
+      }
+      String text = markup.toString();
+
+      String expected = getParseResult( text );
+
+      assertEquals( text, expected, getValidateResult( text ) );
+      if( isAcceptedByScanner( text ) ) {
+        assertNull( text, expected );
+        acceptedByScanner++;
+      }
+    }
+    assertTrue( acceptedByScanner > 100 );
+  }
+
+  private String getParseResult( String text ) {
+    try {
+      new MarkupValidator().parse( text );
+      return null;
+    } catch( IllegalArgumentException exception ) {
+      return exception.getMessage();
+    }
+  }
+
+  private String getValidateResult( String text ) {
+    try {
+      validator.validate( text );
+      return null;
+    } catch( IllegalArgumentException exception ) {
+      return exception.getMessage();
+    }
+  }
+
 }
@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.widgets;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import org.eclipse.rap.rwt.internal.lifecycle.DisplayUtil;
+import org.eclipse.rap.rwt.internal.lifecycle.PhaseId;
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.internal.widgets.displaykit.DisplayLCA;
+import org.eclipse.swt.layout.FillLayout;
+import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Tree;
+import org.eclipse.swt.widgets.TreeColumn;
+import org.eclipse.swt.widgets.TreeItem;
+
+
+/**
+ * Measures the memory allocated by preserving and rendering the values of all widgets of a UI
+ * with many widgets, as the life cycle does in every request. Half of the widgets are tree items
+ * with texts in several columns, the other half are buttons and labels.
+ * <p>
+ * This is not a unit test, run it as a Java application:
+ * </p>
+ * <pre>
+ * java PreservedValuesBenchmark [widgets] [requests]
+ * </pre>
+ */
+public class PreservedValuesBenchmark {
+
+  private static final int COLUMNS = 3;
+
+  private final int widgetCount;
+  private final int requestCount;
+
+  public static void main( String[] args ) throws IOException {
+    int widgets = args.length > 0 ? Integer.parseInt( args[ 0 ] ) : 10000;
+    int requests = args.length > 1 ? Integer.parseInt( args[ 1 ] ) : 50;
+    System.out.println( "widgets: " + widgets + ", requests: " + requests );
+    PreservedValuesBenchmark benchmark = new PreservedValuesBenchmark( widgets, requests );
+    Fixture.setUp();
+    try {
+      Display display = new Display();
+      benchmark.createWidgets( display );
+      // warm up before measuring
+      benchmark.run( display, false );
+      benchmark.run( display, true );
+    } finally {
+      Fixture.tearDown();
+    }
+  }
+
+  PreservedValuesBenchmark( int widgetCount, int requestCount ) {
+    this.widgetCount = widgetCount;
+    this.requestCount = requestCount;
+  }
+
+  void createWidgets( Display display ) {
+    Shell shell = new Shell( display );
+    shell.setLayout( new FillLayout() );
+    Tree tree = new Tree( shell, SWT.CHECK );
+    for( int i = 0; i < COLUMNS; i++ ) {
+      new TreeColumn( tree, SWT.NONE );
+    }
+    for( int i = 0; i < widgetCount / 2; i++ ) {
+      TreeItem item = new TreeItem( tree, SWT.NONE );
+      for( int j = 0; j < COLUMNS; j++ ) {
+        item.setText( j, "Item " + i + "/" + j );
+      }
+    }
+    Composite composite = new Composite( shell, SWT.NONE );
+    for( int i = 0; i < widgetCount / 2; i++ ) {
+      if( i % 2 == 0 ) {
+        new Button( composite, SWT.PUSH ).setText( "Button " + i );
+      } else {
+        new Label( composite, SWT.NONE ).setText( "Label " + i );
+      }
+    }
+    shell.open();
+  }
+
+  void run( Display display, boolean report ) throws IOException {
+    DisplayLCA displayLCA = DisplayUtil.getLCA( display );
+    long preserveBytes = 0;
+    long renderBytes = 0;
+    long start = System.nanoTime();
+    for( int i = 0; i < requestCount; i++ ) {
+      Fixture.fakeNewRequest();
+      long before = allocatedBytes();
+      Fixture.preserveWidgets();
+      long preserved = allocatedBytes();
+      Fixture.fakePhase( PhaseId.RENDER );
+      displayLCA.render( display );
+      preserveBytes += preserved - before;
+      renderBytes += allocatedBytes() - preserved;
+    }
+    long duration = System.nanoTime() - start;
+    if( report ) {
+      print( "preserve per request", preserveBytes / requestCount / 1024, "KB" );
+      print( "render per request", renderBytes / requestCount / 1024, "KB" );
+      print( "time per request", duration / requestCount / 1000000, "ms" );
+    }
+  }
+
+  private static long allocatedBytes() {
+    ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+    long threadId = Thread.currentThread().getId();
+    return ( ( com.sun.management.ThreadMXBean )threadBean ).getThreadAllocatedBytes( threadId );
+  }
+
+  private static void print( String operation, long value, String unit ) {
+    StringBuilder line = new StringBuilder( "  " ).append( operation ).append( ':' );
+    while( line.length() < 36 ) {
+      line.append( ' ' );
+    }
+    System.out.println( line.append( value ).append( ' ' ).append( unit ) );
+  }
+
+}
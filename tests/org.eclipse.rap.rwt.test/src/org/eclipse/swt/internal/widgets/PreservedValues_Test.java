@@ -0,0 +1,154 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.widgets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class PreservedValues_Test {
+
+  private PreservedValues values;
+
+  @Before
+  public void setUp() {
+    values = new PreservedValues();
+  }
+
+  @Test
+  public void testGetSlot_isStable() {
+    int slot = PreservedValues.getSlot( "preservedValuesTest" );
+
+    assertEquals( slot, PreservedValues.getSlot( "preservedValuesTest" ) );
+    assertNotEquals( slot, PreservedValues.getSlot( "preservedValuesTest2" ) );
+  }
+
+  @Test
+  public void testGetProperty() {
+    int slot = PreservedValues.getSlot( "preservedValuesTest" );
+
+    assertEquals( "preservedValuesTest", PreservedValues.getProperty( slot ) );
+  }
+
+  @Test
+  public void testInitialState() {
+    assertFalse( values.contains( 0 ) );
+    assertNull( values.get( 0 ) );
+    assertFalse( values.containsInt( 0, 0 ) );
+    assertFalse( values.containsBoolean( 0, false ) );
+  }
+
+  @Test
+  public void testPut() {
+    Object value = new Object();
+
+    values.put( 3, value );
+
+    assertTrue( values.contains( 3 ) );
+    assertSame( value, values.get( 3 ) );
+  }
+
+  @Test
+  public void testPut_null() {
+    values.put( 3, null );
+
+    assertTrue( values.contains( 3 ) );
+    assertNull( values.get( 3 ) );
+  }
+
+  @Test
+  public void testPut_replacesValue() {
+    values.put( 3, "foo" );
+
+    values.put( 3, "bar" );
+
+    assertEquals( "bar", values.get( 3 ) );
+  }
+
+  @Test
+  public void testPutInt() {
+    values.putInt( 3, 1000 );
+
+    assertTrue( values.containsInt( 3, 1000 ) );
+    assertFalse( values.containsInt( 3, 1001 ) );
+    assertFalse( values.containsBoolean( 3, true ) );
+    assertEquals( Integer.valueOf( 1000 ), values.get( 3 ) );
+  }
+
+  @Test
+  public void testPutBoolean() {
+    values.putBoolean( 3, true );
+
+    assertTrue( values.containsBoolean( 3, true ) );
+    assertFalse( values.containsBoolean( 3, false ) );
+    assertFalse( values.containsInt( 3, 1 ) );
+    assertEquals( Boolean.TRUE, values.get( 3 ) );
+  }
+
+  @Test
+  public void testPut_boxedValuesAreStoredAsPrimitives() {
+    values.put( 3, Integer.valueOf( 23 ) );
+    values.put( 4, Boolean.FALSE );
+
+    assertTrue( values.containsInt( 3, 23 ) );
+    assertTrue( values.containsBoolean( 4, false ) );
+  }
+
+  @Test
+  public void testPut_objectReplacesPrimitive() {
+    values.putInt( 3, 23 );
+
+    values.put( 3, "foo" );
+
+    assertFalse( values.containsInt( 3, 23 ) );
+    assertEquals( "foo", values.get( 3 ) );
+  }
+
+  @Test
+  public void testPut_manySlots() {
+    for( int i = 0; i < 100; i++ ) {
+      values.putInt( i, i * 2 );
+    }
+
+    for( int i = 0; i < 100; i++ ) {
+      assertTrue( values.containsInt( i, i * 2 ) );
+    }
+  }
+
+  @Test
+  public void testClear() {
+    values.put( 3, "foo" );
+    values.putInt( 4, 23 );
+
+    values.clear();
+
+    assertFalse( values.contains( 3 ) );
+    assertFalse( values.containsInt( 4, 23 ) );
+  }
+
+  @Test
+  public void testClear_valuesCanBePreservedAgain() {
+    values.put( 3, "foo" );
+    values.clear();
+
+    values.putBoolean( 3, true );
+
+    assertEquals( Boolean.TRUE, values.get( 3 ) );
+  }
+
+}
@@ -0,0 +1,235 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.widgets;
+
+import static org.eclipse.rap.rwt.testfixture.internal.SerializationTestUtil.serializeAndDeserialize;
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class RowCountIndex_Test {
+
+  private RowCountIndex index;
+
+  @Before
+  public void setUp() {
+    index = new RowCountIndex();
+  }
+
+  @Test
+  public void testInitialState() {
+    assertEquals( 0, index.size() );
+    assertEquals( 0, index.getTotal() );
+    assertEquals( -1, index.indexOf( 0 ) );
+  }
+
+  @Test
+  public void testInsert_append() {
+    index.insert( 0, 1 );
+    index.insert( 1, 3 );
+    index.insert( 2, 2 );
+
+    assertEquals( 3, index.size() );
+    assertEquals( 6, index.getTotal() );
+    assertEquals( 4, index.sumBefore( 2 ) );
+  }
+
+  @Test
+  public void testInsert_inTheMiddle() {
+    index.insert( 0, 1 );
+    index.insert( 1, 2 );
+    index.sumBefore( 2 );
+
+    index.insert( 1, 5 );
+
+    assertEquals( 5, index.get( 1 ) );
+    assertEquals( 2, index.get( 2 ) );
+    assertEquals( 6, index.sumBefore( 2 ) );
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void testInsert_withInvalidIndex() {
+    index.insert( 1, 1 );
+  }
+
+  @Test
+  public void testRemove() {
+    index.setSize( 3, 1 );
+    index.set( 1, 4 );
+
+    int removed = index.remove( 1 );
+
+    assertEquals( 4, removed );
+    assertEquals( 2, index.size() );
+    assertEquals( 2, index.getTotal() );
+    assertEquals( 1, index.sumBefore( 1 ) );
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void testRemove_withInvalidIndex() {
+    index.remove( 0 );
+  }
+
+  @Test
+  public void testAdd() {
+    index.setSize( 4, 1 );
+
+    index.add( 2, 5 );
+
+    assertEquals( 6, index.get( 2 ) );
+    assertEquals( 9, index.getTotal() );
+    assertEquals( 8, index.sumBefore( 3 ) );
+  }
+
+  @Test
+  public void testSet_returnsDelta() {
+    index.setSize( 2, 3 );
+
+    assertEquals( -2, index.set( 0, 1 ) );
+    assertEquals( 4, index.getTotal() );
+  }
+
+  @Test
+  public void testSetSize_grow() {
+    index.insert( 0, 5 );
+
+    int delta = index.setSize( 3, 1 );
+
+    assertEquals( 2, delta );
+    assertEquals( 7, index.getTotal() );
+    assertEquals( 6, index.sumBefore( 2 ) );
+  }
+
+  @Test
+  public void testSetSize_shrink() {
+    index.setSize( 5, 2 );
+    index.sumBefore( 5 );
+
+    int delta = index.setSize( 2, 1 );
+
+    assertEquals( -6, delta );
+    assertEquals( 4, index.getTotal() );
+    assertEquals( 2, index.sumBefore( 1 ) );
+  }
+
+  @Test
+  public void testSetSize_shrinkAndAppend() {
+    index.setSize( 8, 2 );
+    index.sumBefore( 8 );
+    index.setSize( 3, 1 );
+
+    index.insert( 3, 7 );
+
+    assertEquals( 13, index.getTotal() );
+    assertEquals( 6, index.sumBefore( 3 ) );
+    assertEquals( 13, index.sumBefore( 4 ) );
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void testSumBefore_withInvalidIndex() {
+    index.sumBefore( 1 );
+  }
+
+  @Test
+  public void testIndexOf() {
+    index.insert( 0, 1 );
+    index.insert( 1, 3 );
+    index.insert( 2, 1 );
+
+    assertEquals( 0, index.indexOf( 0 ) );
+    assertEquals( 1, index.indexOf( 1 ) );
+    assertEquals( 1, index.indexOf( 3 ) );
+    assertEquals( 2, index.indexOf( 4 ) );
+    assertEquals( -1, index.indexOf( 5 ) );
+    assertEquals( -1, index.indexOf( -1 ) );
+  }
+
+  @Test
+  public void testIndexOf_skipsEmptyRows() {
+    index.setSize( 3, 1 );
+    index.set( 1, 0 );
+
+    assertEquals( 2, index.indexOf( 1 ) );
+  }
+
+  @Test
+  public void testRandomOperations_matchLinearSums() {
+    Random random = new Random( 4711 );
+    List<Integer> expected = new ArrayList<>();
+    for( int i = 0; i < 5000; i++ ) {
+      int operation = random.nextInt( 5 );
+      if( operation == 0 || expected.isEmpty() ) {
+        int position = random.nextInt( expected.size() + 1 );
+        int count = 1 + random.nextInt( 10 );
+        expected.add( position, Integer.valueOf( count ) );
+        index.insert( position, count );
+      } else if( operation == 1 ) {
+        int count = 1 + random.nextInt( 10 );
+        expected.add( Integer.valueOf( count ) );
+        index.insert( index.size(), count );
+      } else if( operation == 2 ) {
+        int position = random.nextInt( expected.size() );
+        assertEquals( expected.remove( position ).intValue(), index.remove( position ) );
+      } else if( operation == 3 ) {
+        int position = random.nextInt( expected.size() );
+        int count = 1 + random.nextInt( 10 );
+        expected.set( position, Integer.valueOf( count ) );
+        index.set( position, count );
+      } else {
+        int size = random.nextInt( expected.size() + 5 );
+        while( expected.size() > size ) {
+          expected.remove( expected.size() - 1 );
+        }
+        while( expected.size() < size ) {
+          expected.add( Integer.valueOf( 1 ) );
+        }
+        index.setSize( size, 1 );
+      }
+      assertMatches( expected );
+    }
+  }
+
+  @Test
+  public void testSerialization() throws Exception {
+    index.setSize( 10, 2 );
+    index.set( 4, 7 );
+    index.sumBefore( 10 );
+
+    RowCountIndex deserialized = serializeAndDeserialize( index );
+
+    assertEquals( 25, deserialized.getTotal() );
+    assertEquals( 15, deserialized.sumBefore( 5 ) );
+    assertEquals( 4, deserialized.indexOf( 8 ) );
+  }
+
+  private void assertMatches( List<Integer> expected ) {
+    assertEquals( expected.size(), index.size() );
+    int sum = 0;
+    for( int i = 0; i < expected.size(); i++ ) {
+      assertEquals( sum, index.sumBefore( i ) );
+      int count = expected.get( i ).intValue();
+      if( count > 0 ) {
+        assertEquals( i, index.indexOf( sum ) );
+        assertEquals( i, index.indexOf( sum + count - 1 ) );
+      }
+      sum += count;
+    }
+    assertEquals( sum, index.getTotal() );
+    assertEquals( sum, index.sumBefore( expected.size() ) );
+  }
+
+}
@@ -0,0 +1,167 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.widgets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class TimerExecService_Test {
+
+  private TimerExecService service;
+
+  @Before
+  public void setUp() {
+    service = new TimerExecService();
+  }
+
+  @After
+  public void tearDown() {
+    service.deactivate();
+  }
+
+  @Test( expected = NullPointerException.class )
+  public void testSchedule_failsWithNullRunnable() {
+    service.schedule( null, 0 );
+  }
+
+  @Test
+  public void testSchedule_executesRunnable() throws InterruptedException {
+    CountDownLatch latch = new CountDownLatch( 1 );
+
+    service.schedule( countDown( latch ), 10 );
+
+    assertTrue( latch.await( 5, TimeUnit.SECONDS ) );
+  }
+
+  @Test
+  public void testSchedule_withNegativeDelay() throws InterruptedException {
+    CountDownLatch latch = new CountDownLatch( 1 );
+
+    service.schedule( countDown( latch ), -10 );
+
+    assertTrue( latch.await( 5, TimeUnit.SECONDS ) );
+  }
+
+  @Test
+  public void testSchedule_executesRunnablesOnSharedThread() throws InterruptedException {
+    final AtomicReference<Thread> firstThread = new AtomicReference<>();
+    final AtomicReference<Thread> secondThread = new AtomicReference<>();
+    CountDownLatch latch = new CountDownLatch( 2 );
+
+    service.schedule( recordThread( firstThread, latch ), 0 );
+    service.schedule( recordThread( secondThread, latch ), 10 );
+
+    assertTrue( latch.await( 5, TimeUnit.SECONDS ) );
+    assertSame( firstThread.get(), secondThread.get() );
+    assertEquals( "RWT timerExec scheduler", firstThread.get().getName() );
+    assertTrue( firstThread.get().isDaemon() );
+  }
+
+  @Test
+  public void testSchedule_continuesAfterFailingRunnable() throws InterruptedException {
+    CountDownLatch latch = new CountDownLatch( 1 );
+
+    service.schedule( new Runnable() {
+      @Override
+      public void run() {
+        throw new RuntimeException( "expected" );
+      }
+    }, 0 );
+    service.schedule( countDown( latch ), 10 );
+
+    assertTrue( latch.await( 5, TimeUnit.SECONDS ) );
+  }
+
+  @Test
+  public void testGetScheduledCount() {
+    service.schedule( mustNotRun(), 60000 );
+    service.schedule( mustNotRun(), 60000 );
+
+    assertEquals( 2, service.getScheduledCount() );
+  }
+
+  @Test
+  public void testGetScheduledCount_withoutScheduledRunnables() {
+    assertEquals( 0, service.getScheduledCount() );
+  }
+
+  @Test
+  public void testCancel_removesRunnableFromQueue() {
+    Future<?> future = service.schedule( mustNotRun(), 60000 );
+
+    future.cancel( false );
+
+    assertEquals( 0, service.getScheduledCount() );
+  }
+
+  @Test
+  public void testDeactivate_discardsScheduledRunnables() {
+    service.schedule( mustNotRun(), 60000 );
+
+    service.deactivate();
+
+    assertEquals( 0, service.getScheduledCount() );
+  }
+
+  @Test
+  public void testSchedule_afterDeactivate() throws InterruptedException {
+    service.schedule( mustNotRun(), 60000 );
+    service.deactivate();
+    CountDownLatch latch = new CountDownLatch( 1 );
+
+    service.schedule( countDown( latch ), 0 );
+
+    assertTrue( latch.await( 5, TimeUnit.SECONDS ) );
+  }
+
+  private static Runnable countDown( final CountDownLatch latch ) {
+    return new Runnable() {
+      @Override
+      public void run() {
+        latch.countDown();
+      }
+    };
+  }
+
+  private static Runnable recordThread( final AtomicReference<Thread> thread,
+                                        final CountDownLatch latch )
+  {
+    return new Runnable() {
+      @Override
+      public void run() {
+        thread.set( Thread.currentThread() );
+        latch.countDown();
+      }
+    };
+  }
+
+  private static Runnable mustNotRun() {
+    return new Runnable() {
+      @Override
+      public void run() {
+        fail( "must not be executed" );
+      }
+    };
+  }
+
+}
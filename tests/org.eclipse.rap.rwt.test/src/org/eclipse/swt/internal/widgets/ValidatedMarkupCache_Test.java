@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.widgets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.rap.rwt.testfixture.TestContext;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+
+public class ValidatedMarkupCache_Test {
+
+  @Rule
+  public TestContext context = new TestContext();
+
+  private ValidatedMarkupCache cache;
+
+  @Before
+  public void setUp() {
+    cache = new ValidatedMarkupCache( 128 );
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void testCreate_withNegativeMaxSize() {
+    new ValidatedMarkupCache( -1 );
+  }
+
+  @Test
+  public void testGetInstance_isApplicationScoped() {
+    assertSame( ValidatedMarkupCache.getInstance(), ValidatedMarkupCache.getInstance() );
+    assertEquals( ValidatedMarkupCache.DEFAULT_MAX_SIZE,
+                  ValidatedMarkupCache.getInstance().getMaxSize() );
+  }
+
+  @Test
+  public void testContains_initially() {
+    assertFalse( cache.contains( "<!-- foo -->" ) );
+    assertEquals( 1, cache.getMissCount() );
+    assertEquals( 0, cache.getHitCount() );
+  }
+
+  @Test
+  public void testAdd() {
+    cache.add( "<!-- foo -->" );
+
+    assertTrue( cache.contains( "<!-- foo -->" ) );
+    assertEquals( 1, cache.getHitCount() );
+    assertEquals( 1, cache.getCount() );
+    assertEquals( 12, cache.getSize() );
+  }
+
+  @Test
+  public void testAdd_twice() {
+    cache.add( "<!-- foo -->" );
+    cache.add( "<!-- foo -->" );
+
+    assertEquals( 1, cache.getCount() );
+    assertEquals( 12, cache.getSize() );
+  }
+
+  @Test
+  public void testAdd_tooLarge() {
+    cache.add( "<!-- foo bar baz -->" );
+
+    assertFalse( cache.contains( "<!-- foo bar baz -->" ) );
+    assertEquals( 0, cache.getSize() );
+  }
+
+  @Test
+  public void testAdd_evictsLeastRecentlyUsed() {
+    for( int i = 0; i < 16; i++ ) {
+      cache.add( "<!--" + ( char )( 'a' + i ) + "-->" );
+    }
+    cache.contains( "<!--a-->" );
+
+    cache.add( "<!--x-->" );
+
+    assertTrue( cache.contains( "<!--a-->" ) );
+    assertFalse( cache.contains( "<!--b-->" ) );
+    assertEquals( 1, cache.getEvictionCount() );
+    assertEquals( 128, cache.getSize() );
+  }
+
+  @Test
+  public void testValidate_cachesMarkupValidatedByParser() {
+    new MarkupValidator().validate( "<b>foo</b><!-- bar -->" );
+
+    assertTrue( ValidatedMarkupCache.getInstance().contains( "<b>foo</b><!-- bar -->" ) );
+  }
+
+  @Test
+  public void testValidate_doesNotCacheMarkupAcceptedByScanner() {
+    new MarkupValidator().validate( "<b>foo</b>" );
+
+    assertEquals( 0, ValidatedMarkupCache.getInstance().getCount() );
+  }
+
+  @Test
+  public void testValidate_doesNotCacheInvalidMarkup() {
+    try {
+      new MarkupValidator().validate( "<b>foo<!-- bar -->" );
+    } catch( @SuppressWarnings( "unused" ) IllegalArgumentException expected ) {
+    }
+
+    assertEquals( 0, ValidatedMarkupCache.getInstance().getCount() );
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -115,6 +115,27 @@ public class WidgetRemoteAdapter_Test {
     assertNull( adapter.getPreserved( "prop" ) );
   }
 
+  @Test
+  public void testPreserveSlot() {
+    int slot = PreservedValues.getSlot( "prop" );
+
+    adapter.preserve( slot, 1000 );
+
+    assertTrue( adapter.isPreserved( slot, 1000 ) );
+    assertEquals( Integer.valueOf( 1000 ), adapter.getPreserved( "prop" ) );
+  }
+
+  @Test
+  public void testPreserveSlot_booleanIsCleared() {
+    int slot = PreservedValues.getSlot( "prop" );
+    adapter.preserve( slot, true );
+
+    adapter.clearPreserved();
+
+    assertFalse( adapter.isPreserved( slot, true ) );
+    assertNull( adapter.getPreserved( slot ) );
+  }
+
   @Test
   public void testPreserveProperty_isTransient() throws Exception {
     adapter.preserve( "prop", new Object() );
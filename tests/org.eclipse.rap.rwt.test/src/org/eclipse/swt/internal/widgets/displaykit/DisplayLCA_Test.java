@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2022 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -29,6 +29,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -45,6 +46,7 @@ import org.eclipse.rap.rwt.RWT;
 import org.eclipse.rap.rwt.application.EntryPoint;
 import org.eclipse.rap.rwt.client.WebClient;
 import org.eclipse.rap.rwt.client.service.ExitConfirmation;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
 import org.eclipse.rap.rwt.internal.lifecycle.DisplayUtil;
 import org.eclipse.rap.rwt.internal.lifecycle.EntryPointManager;
@@ -79,6 +81,7 @@ import org.eclipse.swt.widgets.Button;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Label;
 import org.eclipse.swt.widgets.Listener;
 import org.eclipse.swt.widgets.Shell;
 import org.eclipse.swt.widgets.Widget;
@@ -107,6 +110,7 @@ public class DisplayLCA_Test {
   public void tearDown() {
     Fixture.tearDown();
     setEnableUiTests( false );
+    System.clearProperty( RWTProperties.ENABLE_DIRTY_RENDERING );
   }
 
   @Test
@@ -240,6 +244,95 @@ public class DisplayLCA_Test {
     verifyNoMoreInteractions( lca );
   }
 
+  @Test
+  public void testPreserveValues_withDirtyRendering_skipsUntouchedWidgets() {
+    System.setProperty( RWTProperties.ENABLE_DIRTY_RENDERING, "true" );
+    Shell shell = new Shell( display );
+    Button button = new Button( shell, SWT.PUSH );
+    button.setText( "foo" );
+    markInitialized( shell, button );
+
+    Fixture.preserveWidgets();
+
+    assertNull( getAdapter( button ).getPreserved( "text" ) );
+  }
+
+  @Test
+  public void testPreserveValues_withDirtyRendering_preservesOnAccess() {
+    System.setProperty( RWTProperties.ENABLE_DIRTY_RENDERING, "true" );
+    Shell shell = new Shell( display );
+    Button button = new Button( shell, SWT.PUSH );
+    button.setText( "foo" );
+    markInitialized( shell, button );
+    Fixture.preserveWidgets();
+
+    button.setText( "bar" );
+
+    assertEquals( "foo", getAdapter( button ).getPreserved( "text" ) );
+  }
+
+  @Test
+  public void testRender_withDirtyRendering_rendersOnlyDirtyWidgets() throws IOException {
+    System.setProperty( RWTProperties.ENABLE_DIRTY_RENDERING, "true" );
+    WidgetLCA<Widget> lca = mock( TestWidgetLCA.class );
+    Shell shell = new CustomLCAShell( display, lca );
+    Composite composite1 = new CustomLCAWidget( shell, lca );
+    Composite composite2 = new CustomLCAWidget( shell, lca );
+    markInitialized( shell, composite1, composite2 );
+    Fixture.preserveWidgets();
+
+    composite1.setBounds( 1, 2, 3, 4 );
+    displayLCA.render( display );
+
+    verify( lca ).render( shell );
+    verify( lca ).render( composite1 );
+    verify( lca, never() ).render( composite2 );
+  }
+
+  @Test
+  public void testRender_withDirtyRendering_rendersNewWidgets() throws IOException {
+    System.setProperty( RWTProperties.ENABLE_DIRTY_RENDERING, "true" );
+    Shell shell = new Shell( display );
+    Composite composite = new Composite( shell, SWT.NONE );
+    markInitialized( shell, composite );
+    Fixture.preserveWidgets();
+
+    Button button = new Button( composite, SWT.PUSH );
+    displayLCA.render( display );
+
+    TestMessage message = getProtocolMessage();
+    assertNotNull( message.findCreateOperation( button ) );
+  }
+
+  @Test
+  public void testRender_withDirtyRendering_rendersSameAsFullRendering() throws IOException {
+    String fullRendering = renderChangesInInitializedTree();
+    Fixture.tearDown();
+    Fixture.setUp();
+    display = new Display();
+    System.setProperty( RWTProperties.ENABLE_DIRTY_RENDERING, "true" );
+
+    String dirtyRendering = renderChangesInInitializedTree();
+
+    assertEquals( fullRendering, dirtyRendering );
+  }
+
+  @Test
+  public void testClearPreserved_withDirtyRendering() throws IOException {
+    System.setProperty( RWTProperties.ENABLE_DIRTY_RENDERING, "true" );
+    Shell shell = new Shell( display );
+    Button button = new Button( shell, SWT.PUSH );
+    markInitialized( shell, button );
+    Fixture.preserveWidgets();
+    button.setText( "foo" );
+    displayLCA.render( display );
+
+    displayLCA.clearPreserved( display );
+
+    assertNull( getAdapter( button ).getPreserved( "text" ) );
+    assertNull( display.getAdapter( IDisplayAdapter.class ).getDirtyWidgets() );
+  }
+
   @Test
   public void testIsInitializedState() throws IOException {
     final Boolean[] compositeInitState = new Boolean[] { null };
@@ -666,6 +759,32 @@ public class DisplayLCA_Test {
     assertNull( message.findSetOperation( displayId, "disableShutdownRequest" ) );
   }
 
+  private String renderChangesInInitializedTree() throws IOException {
+    Shell shell = new Shell( display );
+    Composite composite = new Composite( shell, SWT.NONE );
+    Button button1 = new Button( composite, SWT.PUSH );
+    button1.setText( "foo" );
+    Button button2 = new Button( composite, SWT.CHECK );
+    Label label = new Label( shell, SWT.NONE );
+    label.setText( "label" );
+    markInitialized( shell, composite, button1, button2, label );
+    Fixture.preserveWidgets();
+
+    button1.setText( "bar" );
+    button2.setSelection( true );
+    new Label( composite, SWT.NONE ).setText( "new" );
+    displayLCA.render( display );
+
+    return getProtocolMessage().toJson().get( "operations" ).toString();
+  }
+
+  private void markInitialized( Widget... widgets ) {
+    Fixture.markInitialized( display );
+    for( Widget widget : widgets ) {
+      Fixture.markInitialized( widget );
+    }
+  }
+
   private static void setEnableUiTests( boolean value ) {
     Field field;
     try {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2018 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -34,6 +34,7 @@ import org.eclipse.rap.json.JsonArray;
 import org.eclipse.rap.json.JsonObject;
 import org.eclipse.rap.json.JsonValue;
 import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.lifecycle.PhaseId;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil;
 import org.eclipse.rap.rwt.internal.protocol.ClientMessageConst;
@@ -92,6 +93,7 @@ public class TableLCA_Test {
   @After
   public void tearDown() {
     Fixture.tearDown();
+    System.clearProperty( RWTProperties.ENABLE_DIRTY_RENDERING );
   }
 
   @Test
@@ -99,6 +101,46 @@ public class TableLCA_Test {
     ControlLCATestUtil.testCommonControlProperties( table );
   }
 
+  @Test
+  public void testRenderClear_withDirtyRendering() throws IOException {
+    System.setProperty( RWTProperties.ENABLE_DIRTY_RENDERING, "true" );
+    table = new Table( shell, SWT.CHECK );
+    TableItem item = new TableItem( table, SWT.NONE );
+    item.setText( "foo" );
+    item.setChecked( true );
+    Fixture.markInitialized( display );
+    Fixture.markInitialized( shell );
+    Fixture.markInitialized( table );
+    Fixture.markInitialized( item );
+    Fixture.preserveWidgets();
+
+    table.clear( 0 );
+    getLCA( display ).render( display );
+
+    TestMessage message = Fixture.getProtocolMessage();
+    assertEquals( JsonValue.FALSE, message.findSetProperty( item, "checked" ) );
+    assertEquals( JsonValue.NULL, message.findSetProperty( item, "texts" ) );
+  }
+
+  @Test
+  public void testRenderClearAll_withDirtyRendering() throws IOException {
+    System.setProperty( RWTProperties.ENABLE_DIRTY_RENDERING, "true" );
+    table = new Table( shell, SWT.CHECK );
+    TableItem item = new TableItem( table, SWT.NONE );
+    item.setChecked( true );
+    Fixture.markInitialized( display );
+    Fixture.markInitialized( shell );
+    Fixture.markInitialized( table );
+    Fixture.markInitialized( item );
+    Fixture.preserveWidgets();
+
+    table.clearAll();
+    getLCA( display ).render( display );
+
+    TestMessage message = Fixture.getProtocolMessage();
+    assertEquals( JsonValue.FALSE, message.findSetProperty( item, "checked" ) );
+  }
+
   @Test
   public void testRedraw() {
     final Table[] table = { null };
@@ -1035,8 +1077,8 @@ public class TableLCA_Test {
 
     TestMessage message = Fixture.getProtocolMessage();
     JsonArray expected = new JsonArray();
-    expected.add( getId( table.getItem( 2 ) ) );
     expected.add( getId( table.getItem( 0 ) ) );
+    expected.add( getId( table.getItem( 2 ) ) );
     assertEquals( expected, message.findSetProperty( table, "selection" ) );
   }
 
@@ -1055,6 +1097,76 @@ public class TableLCA_Test {
     assertNull( message.findSetOperation( table, "selection" ) );
   }
 
+  @Test
+  public void testRenderSelection_afterItemReplaced() throws IOException {
+    table = new Table( shell, SWT.MULTI );
+    createTableItems( table, 3 );
+    Fixture.markInitialized( display );
+    Fixture.markInitialized( table );
+    table.setSelection( 1 );
+    Fixture.preserveWidgets();
+
+    table.remove( 1 );
+    TableItem item = new TableItem( table, SWT.NONE, 1 );
+    table.setSelection( 1 );
+    getLCA( display ).render( display );
+
+    TestMessage message = Fixture.getProtocolMessage();
+    JsonArray expected = new JsonArray().add( getId( item ) );
+    assertEquals( expected, message.findSetProperty( table, "selection" ) );
+  }
+
+  @Test
+  public void testRenderSelection_afterItemAppended() throws IOException {
+    table = new Table( shell, SWT.MULTI );
+    createTableItems( table, 3 );
+    Fixture.markInitialized( display );
+    Fixture.markInitialized( table );
+    table.setSelection( 1 );
+    Fixture.preserveWidgets();
+
+    new TableItem( table, SWT.NONE );
+    getLCA( display ).render( display );
+
+    TestMessage message = Fixture.getProtocolMessage();
+    assertNull( message.findSetOperation( table, "selection" ) );
+  }
+
+  @Test
+  public void testRenderSelection_afterItemInsertedBefore() throws IOException {
+    table = new Table( shell, SWT.MULTI );
+    createTableItems( table, 3 );
+    Fixture.markInitialized( display );
+    Fixture.markInitialized( table );
+    table.setSelection( 1 );
+    Fixture.preserveWidgets();
+
+    table.deselectAll();
+    new TableItem( table, SWT.NONE, 0 );
+    table.setSelection( 1 );
+    getLCA( display ).render( display );
+
+    TestMessage message = Fixture.getProtocolMessage();
+    JsonArray expected = new JsonArray().add( getId( table.getItem( 1 ) ) );
+    assertEquals( expected, message.findSetProperty( table, "selection" ) );
+  }
+
+  @Test
+  public void testRenderSelection_afterDeselectAll() throws IOException {
+    table = new Table( shell, SWT.MULTI );
+    createTableItems( table, 3 );
+    Fixture.markInitialized( display );
+    Fixture.markInitialized( table );
+    table.setSelection( 1 );
+    Fixture.preserveWidgets();
+
+    table.deselectAll();
+    getLCA( display ).render( display );
+
+    TestMessage message = Fixture.getProtocolMessage();
+    assertEquals( new JsonArray(), message.findSetProperty( table, "selection" ) );
+  }
+
   @Test
   public void testRenderInitialSortDirection() throws IOException {
     lca.render( table );
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2015 EclipseSource and others.
+ * Copyright (c) 2013, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -87,7 +87,7 @@ public class TableOperationHandler_Test {
     JsonArray selection = new JsonArray().add( getId( item1 ) ).add( getId( item2 ) );
     handler.handleSet( new JsonObject().add( "selection", selection ) );
 
-    assertArrayEquals( new TableItem[] { item2, item1 }, table.getSelection() );
+    assertArrayEquals( new TableItem[] { item1, item2 }, table.getSelection() );
   }
 
   @Test
@@ -101,7 +101,7 @@ public class TableOperationHandler_Test {
     JsonArray selection = new JsonArray().add( getId( item ) ).add( getId( table ) + "#2" );
     handler.handleSet( new JsonObject().add( "selection", selection ) );
 
-    assertArrayEquals( new int[] { 2, 0 }, table.getSelectionIndices() );
+    assertArrayEquals( new int[] { 0, 2 }, table.getSelectionIndices() );
     assertTrue( isItemVirtual( table, 2 ) );
   }
 
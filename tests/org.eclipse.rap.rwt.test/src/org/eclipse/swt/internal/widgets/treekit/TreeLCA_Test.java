@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2018 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -34,6 +34,7 @@ import org.eclipse.rap.json.JsonArray;
 import org.eclipse.rap.json.JsonObject;
 import org.eclipse.rap.json.JsonValue;
 import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil;
 import org.eclipse.rap.rwt.internal.protocol.ClientMessageConst;
 import org.eclipse.rap.rwt.internal.protocol.Operation;
@@ -90,6 +91,7 @@ public class TreeLCA_Test {
   @After
   public void tearDown() {
     Fixture.tearDown();
+    System.clearProperty( RWTProperties.ENABLE_DIRTY_RENDERING );
   }
 
   @Test
@@ -97,6 +99,53 @@ public class TreeLCA_Test {
     ControlLCATestUtil.testCommonControlProperties( tree );
   }
 
+  @Test
+  public void testRenderClear_withDirtyRendering() throws IOException {
+    System.setProperty( RWTProperties.ENABLE_DIRTY_RENDERING, "true" );
+    tree = new Tree( shell, SWT.CHECK );
+    TreeItem item = createCheckedItem( tree );
+
+    tree.clear( 0, false );
+    getLCA( display ).render( display );
+
+    TestMessage message = Fixture.getProtocolMessage();
+    assertEquals( JsonValue.FALSE, message.findSetProperty( item, "checked" ) );
+  }
+
+  @Test
+  public void testRenderClearAll_withDirtyRendering() throws IOException {
+    System.setProperty( RWTProperties.ENABLE_DIRTY_RENDERING, "true" );
+    tree = new Tree( shell, SWT.CHECK );
+    TreeItem item = createCheckedItem( tree );
+
+    tree.clearAll( true );
+    getLCA( display ).render( display );
+
+    TestMessage message = Fixture.getProtocolMessage();
+    assertEquals( JsonValue.FALSE, message.findSetProperty( item, "checked" ) );
+  }
+
+  @Test
+  public void testRenderClearSubItem_withDirtyRendering() throws IOException {
+    System.setProperty( RWTProperties.ENABLE_DIRTY_RENDERING, "true" );
+    tree = new Tree( shell, SWT.CHECK );
+    TreeItem item = new TreeItem( tree, SWT.NONE );
+    TreeItem subItem = new TreeItem( item, SWT.NONE );
+    subItem.setChecked( true );
+    Fixture.markInitialized( display );
+    Fixture.markInitialized( shell );
+    Fixture.markInitialized( tree );
+    Fixture.markInitialized( item );
+    Fixture.markInitialized( subItem );
+    Fixture.preserveWidgets();
+
+    item.clear( 0, false );
+    getLCA( display ).render( display );
+
+    TestMessage message = Fixture.getProtocolMessage();
+    assertEquals( JsonValue.FALSE, message.findSetProperty( subItem, "checked" ) );
+  }
+
   @Test
   public void testGetItemMetricsImageWidth() throws IOException {
     Image image1 = createImage( display, Fixture.IMAGE_100x50 );
@@ -1471,6 +1520,18 @@ public class TreeLCA_Test {
     Fixture.readDataAndProcessAction( tree );
   }
 
+  private static TreeItem createCheckedItem( Tree tree ) {
+    TreeItem result = new TreeItem( tree, SWT.NONE );
+    result.setText( "foo" );
+    result.setChecked( true );
+    Fixture.markInitialized( tree.getDisplay() );
+    Fixture.markInitialized( tree.getShell() );
+    Fixture.markInitialized( tree );
+    Fixture.markInitialized( result );
+    Fixture.preserveWidgets();
+    return result;
+  }
+
   private static class LoggingSelectionListener extends SelectionAdapter {
     private final List<SelectionEvent> events;
     private LoggingSelectionListener( List<SelectionEvent> events ) {
@@ -0,0 +1,210 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.widgets;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+
+
+/**
+ * Measures the fan-in of many producer threads that post runnables to a single consumer, like
+ * background jobs calling <code>Display.asyncExec()</code> while the UI thread drains the queue.
+ * The {@link Synchronizer} is compared with the array based queue it used before, which grew the
+ * array by four elements and copied the whole queue on every dequeue under a single lock.
+ * <p>
+ * This is not a unit test, run it as a Java application:
+ * </p>
+ * <pre>
+ * java SynchronizerBenchmark [producers] [runnablesPerProducer]
+ * </pre>
+ */
+public class SynchronizerBenchmark {
+
+  private final int producerCount;
+  private final int runnableCount;
+
+  public static void main( String[] args ) throws Exception {
+    int producers = args.length > 0 ? Integer.parseInt( args[ 0 ] ) : 8;
+    int runnables = args.length > 1 ? Integer.parseInt( args[ 1 ] ) : 20000;
+    System.out.println( "producers: " + producers + ", runnables per producer: " + runnables );
+    SynchronizerBenchmark benchmark = new SynchronizerBenchmark( producers, runnables );
+    Fixture.setUp();
+    try {
+      Display display = new Display();
+      // warm up both queues before measuring
+      benchmark.run( new ArrayQueue(), false );
+      benchmark.run( new SynchronizerQueue( display.getSynchronizer() ), false );
+      benchmark.run( new ArrayQueue(), true );
+      benchmark.run( new SynchronizerQueue( display.getSynchronizer() ), true );
+    } finally {
+      Fixture.tearDown();
+    }
+  }
+
+  SynchronizerBenchmark( int producerCount, int runnableCount ) {
+    this.producerCount = producerCount;
+    this.runnableCount = runnableCount;
+  }
+
+  void run( final Queue queue, boolean report ) throws InterruptedException {
+    final int total = producerCount * runnableCount;
+    final AtomicInteger executed = new AtomicInteger();
+    final Runnable runnable = new Runnable() {
+      @Override
+      public void run() {
+        executed.incrementAndGet();
+      }
+    };
+    final CountDownLatch start = new CountDownLatch( 1 );
+    Thread[] producers = new Thread[ producerCount ];
+    for( int i = 0; i < producerCount; i++ ) {
+      producers[ i ] = new Thread( new Runnable() {
+        @Override
+        public void run() {
+          try {
+            start.await();
+          } catch( @SuppressWarnings( "unused" ) InterruptedException exception ) {
+            return;
+          }
+          for( int j = 0; j < runnableCount; j++ ) {
+            queue.add( runnable );
+          }
+        }
+      } );
+      producers[ i ].setDaemon( true );
+      producers[ i ].start();
+    }
+    long startTime = System.nanoTime();
+    start.countDown();
+    int maxQueueLength = 0;
+    while( executed.get() < total ) {
+      maxQueueLength = Math.max( maxQueueLength, queue.size() );
+      queue.drain();
+    }
+    long duration = System.nanoTime() - startTime;
+    for( Thread producer : producers ) {
+      producer.join();
+    }
+    if( report ) {
+      System.out.println( queue.getName() + ":" );
+      System.out.println( "  total time:        " + duration / 1000000 + " ms" );
+      System.out.println( "  throughput:        " + total * 1000000000L / duration + " ops/s" );
+      System.out.println( "  max queue length:  " + maxQueueLength );
+    }
+  }
+
+  interface Queue {
+
+    String getName();
+
+    void add( Runnable runnable );
+
+    void drain();
+
+    int size();
+
+  }
+
+  static final class SynchronizerQueue implements Queue {
+
+    private final Synchronizer synchronizer;
+
+    SynchronizerQueue( Synchronizer synchronizer ) {
+      this.synchronizer = synchronizer;
+    }
+
+    @Override
+    public String getName() {
+      return "Synchronizer (lock-free queue)";
+    }
+
+    @Override
+    public void add( Runnable runnable ) {
+      synchronizer.asyncExec( runnable );
+    }
+
+    @Override
+    public void drain() {
+      synchronizer.runAsyncMessages( true );
+    }
+
+    @Override
+    public int size() {
+      return synchronizer.getMessageCount();
+    }
+
+  }
+
+  /*
+   * The queue as it was implemented in Synchronizer before, without the server push notification.
+   */
+  static final class ArrayQueue implements Queue {
+
+    private final Object lock = new Object();
+    private Runnable[] messages;
+    private int messageCount;
+
+    @Override
+    public String getName() {
+      return "Array queue (previous implementation)";
+    }
+
+    @Override
+    public void add( Runnable runnable ) {
+      synchronized( lock ) {
+        if( messages == null ) {
+          messages = new Runnable[ 4 ];
+        }
+        if( messageCount == messages.length ) {
+          Runnable[] newMessages = new Runnable[ messageCount + 4 ];
+          System.arraycopy( messages, 0, newMessages, 0, messageCount );
+          messages = newMessages;
+        }
+        messages[ messageCount++ ] = runnable;
+      }
+    }
+
+    @Override
+    public void drain() {
+      Runnable runnable = removeFirst();
+      while( runnable != null ) {
+        runnable.run();
+        runnable = removeFirst();
+      }
+    }
+
+    @Override
+    public int size() {
+      synchronized( lock ) {
+        return messageCount;
+      }
+    }
+
+    private Runnable removeFirst() {
+      synchronized( lock ) {
+        if( messageCount == 0 ) {
+          return null;
+        }
+        Runnable result = messages[ 0 ];
+        System.arraycopy( messages, 1, messages, 0, --messageCount );
+        messages[ messageCount ] = null;
+        if( messageCount == 0 && messages.length > 64 ) {
+          messages = null;
+        }
+        return result;
+      }
+    }
+
+  }
+
+}
@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.widgets;
+
+import static org.eclipse.rap.rwt.testfixture.internal.ConcurrencyTestUtil.joinThreads;
+import static org.eclipse.rap.rwt.testfixture.internal.ConcurrencyTestUtil.startThreads;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.rap.rwt.internal.serverpush.ServerPushManager;
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class Synchronizer_Test {
+
+  private Display display;
+  private Synchronizer synchronizer;
+
+  @Before
+  public void setUp() {
+    Fixture.setUp();
+    display = new Display();
+    synchronizer = display.getSynchronizer();
+  }
+
+  @After
+  public void tearDown() {
+    Fixture.tearDown();
+  }
+
+  @Test
+  public void testAddLast_incrementsMessageCount() {
+    synchronizer.addLast( new RunnableLock( mock( Runnable.class ) ) );
+    synchronizer.addLast( new RunnableLock( mock( Runnable.class ) ) );
+
+    assertEquals( 2, synchronizer.getMessageCount() );
+  }
+
+  @Test
+  public void testRemoveFirst_isFifo() {
+    RunnableLock first = new RunnableLock( mock( Runnable.class ) );
+    RunnableLock second = new RunnableLock( mock( Runnable.class ) );
+    synchronizer.addLast( first );
+    synchronizer.addLast( second );
+
+    assertSame( first, synchronizer.removeFirst() );
+    assertSame( second, synchronizer.removeFirst() );
+    assertEquals( 0, synchronizer.getMessageCount() );
+  }
+
+  @Test
+  public void testRemoveFirst_withEmptyQueue() {
+    assertNull( synchronizer.removeFirst() );
+    assertEquals( 0, synchronizer.getMessageCount() );
+  }
+
+  @Test
+  public void testAddLast_setsHasRunnables() {
+    synchronizer.addLast( new RunnableLock( mock( Runnable.class ) ) );
+
+    assertTrue( ServerPushManager.getInstance().hasRunnables() );
+  }
+
+  @Test
+  public void testRemoveFirst_resetsHasRunnablesWhenEmpty() {
+    synchronizer.addLast( new RunnableLock( mock( Runnable.class ) ) );
+    synchronizer.addLast( new RunnableLock( mock( Runnable.class ) ) );
+
+    synchronizer.removeFirst();
+    assertTrue( ServerPushManager.getInstance().hasRunnables() );
+    synchronizer.removeFirst();
+    assertFalse( ServerPushManager.getInstance().hasRunnables() );
+  }
+
+  @Test
+  public void testRunnableAdded_isCalledForEveryRunnable() {
+    final List<Runnable> log = new ArrayList<>();
+    Synchronizer synchronizer = new Synchronizer( display ) {
+      @Override
+      protected void runnableAdded( Runnable runnable ) {
+        log.add( runnable );
+      }
+    };
+    Runnable runnable = mock( Runnable.class );
+
+    synchronizer.asyncExec( runnable );
+    synchronizer.asyncExec( runnable );
+
+    assertEquals( 2, log.size() );
+    assertSame( runnable, log.get( 0 ) );
+  }
+
+  @Test
+  public void testRunAsyncMessages_runsAllMessages() {
+    final AtomicInteger counter = new AtomicInteger();
+    for( int i = 0; i < 100; i++ ) {
+      synchronizer.asyncExec( new Runnable() {
+        @Override
+        public void run() {
+          counter.incrementAndGet();
+        }
+      } );
+    }
+
+    synchronizer.runAsyncMessages( true );
+
+    assertEquals( 100, counter.get() );
+    assertEquals( 0, synchronizer.getMessageCount() );
+    assertFalse( ServerPushManager.getInstance().hasRunnables() );
+  }
+
+  @Test
+  public void testAsyncExec_fromConcurrentThreads() throws InterruptedException {
+    final int threadCount = 8;
+    final int runnableCount = 1000;
+    final AtomicInteger counter = new AtomicInteger();
+    final Runnable runnable = new Runnable() {
+      @Override
+      public void run() {
+        counter.incrementAndGet();
+      }
+    };
+
+    Thread[] threads = startThreads( threadCount, new Runnable() {
+      @Override
+      public void run() {
+        for( int i = 0; i < runnableCount; i++ ) {
+          display.asyncExec( runnable );
+        }
+      }
+    } );
+    // drain the queue while the threads are adding runnables
+    while( counter.get() < threadCount * runnableCount ) {
+      synchronizer.runAsyncMessages( true );
+      Thread.yield();
+    }
+    joinThreads( threads );
+
+    assertEquals( threadCount * runnableCount, counter.get() );
+    assertEquals( 0, synchronizer.getMessageCount() );
+    assertFalse( ServerPushManager.getInstance().hasRunnables() );
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2018 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -32,6 +32,7 @@ import java.util.LinkedList;
 import java.util.List;
 
 import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
 import org.eclipse.rap.rwt.internal.service.ContextProvider;
 import org.eclipse.rap.rwt.internal.service.ServiceStore;
@@ -52,6 +53,7 @@ import org.eclipse.swt.graphics.Font;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.internal.widgets.ICellToolTipAdapter;
+import org.eclipse.swt.internal.widgets.IDisplayAdapter;
 import org.eclipse.swt.internal.widgets.IItemHolderAdapter;
 import org.eclipse.swt.internal.widgets.ITableAdapter;
 import org.eclipse.swt.internal.widgets.MarkupValidator;
@@ -1173,6 +1175,56 @@ public class Table_Test {
     assertEquals( table.getItemCount(), table.getSelectionCount() );
   }
 
+  @Test
+  public void testSelectAll_VIRTUAL() {
+    Table table = createTable( SWT.MULTI | SWT.VIRTUAL, 1 );
+    table.setItemCount( 100000 );
+
+    table.selectAll();
+
+    assertEquals( 100000, table.getSelectionCount() );
+    assertTrue( table.isSelected( 99999 ) );
+    assertEquals( 0, table.getSelectionIndex() );
+    assertTrue( getTableAdapter( table ).isItemVirtual( 50000 ) );
+  }
+
+  @Test
+  public void testSelectRange_MULTI() {
+    Table table = createTable( SWT.MULTI | SWT.VIRTUAL, 1 );
+    table.setItemCount( 1000 );
+
+    table.select( 10, 500 );
+    table.deselect( 100, 199 );
+
+    assertEquals( 391, table.getSelectionCount() );
+    assertTrue( table.isSelected( 99 ) );
+    assertFalse( table.isSelected( 100 ) );
+    assertTrue( table.isSelected( 200 ) );
+    assertFalse( table.isSelected( 501 ) );
+  }
+
+  @Test
+  public void testGetSelectionIndices_isSorted() {
+    Table table = createTable( SWT.MULTI, 1 );
+    createTableItems( table, 5 );
+
+    table.select( new int[] { 4, 1, 3 } );
+
+    assertArrayEquals( new int[] { 1, 3, 4 }, table.getSelectionIndices() );
+  }
+
+  @Test
+  public void testSelection_afterInsertAndRemove() {
+    Table table = createTable( SWT.MULTI, 1 );
+    createTableItems( table, 5 );
+    table.select( new int[] { 1, 3 } );
+
+    new TableItem( table, SWT.NONE, 2 );
+    table.remove( 0 );
+
+    assertArrayEquals( new int[] { 0, 3 }, table.getSelectionIndices() );
+  }
+
   @Test
   public void testDeselect() {
     Table table = createTable( SWT.SINGLE, 1 );
@@ -1397,6 +1449,49 @@ public class Table_Test {
     }
   }
 
+  @Test
+  public void testClear_marksItemDirty() {
+    TableItem[] items = createTableItems( table, 2 );
+    DirtyWidgets dirtyWidgets = startDirtyTracking();
+
+    table.clear( 1 );
+
+    assertTrue( dirtyWidgets.isDirty( items[ 1 ] ) );
+  }
+
+  @Test
+  public void testClearRange_marksItemsDirty() {
+    TableItem[] items = createTableItems( table, 3 );
+    DirtyWidgets dirtyWidgets = startDirtyTracking();
+
+    table.clear( 1, 2 );
+
+    assertTrue( dirtyWidgets.isDirty( items[ 1 ] ) );
+    assertTrue( dirtyWidgets.isDirty( items[ 2 ] ) );
+  }
+
+  @Test
+  public void testClearIndices_marksItemsDirty() {
+    TableItem[] items = createTableItems( table, 3 );
+    DirtyWidgets dirtyWidgets = startDirtyTracking();
+
+    table.clear( new int[] { 0, 2 } );
+
+    assertTrue( dirtyWidgets.isDirty( items[ 0 ] ) );
+    assertTrue( dirtyWidgets.isDirty( items[ 2 ] ) );
+  }
+
+  @Test
+  public void testClearAll_marksItemsDirty() {
+    TableItem[] items = createTableItems( table, 2 );
+    DirtyWidgets dirtyWidgets = startDirtyTracking();
+
+    table.clearAll();
+
+    assertTrue( dirtyWidgets.isDirty( items[ 0 ] ) );
+    assertTrue( dirtyWidgets.isDirty( items[ 1 ] ) );
+  }
+
   @Test
   public void testShowItem() {
     Table table = createTable( SWT.NONE, 1 );
@@ -2980,6 +3075,13 @@ public class Table_Test {
     return result;
   }
 
+  private DirtyWidgets startDirtyTracking() {
+    DirtyWidgets result = new DirtyWidgets();
+    display.getAdapter( IDisplayAdapter.class ).setDirtyWidgets( result );
+    result.startTracking();
+    return result;
+  }
+
   private Table createTable( int style, int columnCount ) {
     Table result = new Table( shell, style );
     for( int i = 0; i < columnCount; i++ ) {
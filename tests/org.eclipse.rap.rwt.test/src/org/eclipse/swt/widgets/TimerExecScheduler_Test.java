@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2014 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -14,24 +14,29 @@ import static org.eclipse.rap.rwt.testfixture.internal.ConcurrencyTestUtil.joinT
 import static org.eclipse.rap.rwt.testfixture.internal.ConcurrencyTestUtil.startThreads;
 import static org.eclipse.rap.rwt.testfixture.internal.SerializationTestUtil.serialize;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
-import java.util.Timer;
+import java.util.List;
 
+import org.eclipse.rap.rwt.internal.service.ContextProvider;
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
 import org.eclipse.rap.rwt.testfixture.internal.NoOpRunnable;
+import org.eclipse.swt.internal.widgets.TimerExecService;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
-import org.mockito.ArgumentCaptor;
 
 
 public class TimerExecScheduler_Test {
@@ -39,22 +44,25 @@ public class TimerExecScheduler_Test {
   private TimerExecScheduler scheduler;
   private Display display;
   private Collection<Throwable> exceptions;
-  private Timer timer;
+  private TimerExecService service;
+  private List<TimerExecTask> createdTasks;
 
   @Before
   public void setUp() {
     Fixture.setUp();
     display = new Display();
-    timer = mock( Timer.class );
+    service = mock( TimerExecService.class );
+    createdTasks = new ArrayList<>();
     scheduler = new TimerExecScheduler( display ) {
       @Override
-      Timer createTimer() {
-        return timer;
+      TimerExecService getTimerExecService() {
+        return service;
       }
       @Override
       TimerExecTask createTask( Runnable runnable ) {
         TimerExecTask task = mock( TimerExecTask.class );
         when( task.getRunnable() ).thenReturn( runnable );
+        createdTasks.add( task );
         return task;
       }
     };
@@ -72,9 +80,9 @@ public class TimerExecScheduler_Test {
 
     scheduler.schedule( 23, runnable );
 
-    ArgumentCaptor<TimerExecTask> taskCaptor = ArgumentCaptor.forClass( TimerExecTask.class );
-    verify( timer ).schedule( taskCaptor.capture(), eq( 23L ) );
-    assertSame( runnable, taskCaptor.getValue().getRunnable() );
+    assertEquals( 1, createdTasks.size() );
+    assertSame( runnable, createdTasks.get( 0 ).getRunnable() );
+    verify( createdTasks.get( 0 ) ).schedule( same( service ), eq( 23L ) );
   }
 
   @Test
@@ -84,10 +92,9 @@ public class TimerExecScheduler_Test {
     scheduler.schedule( 23, runnable );
     scheduler.schedule( 42, runnable );
 
-    ArgumentCaptor<TimerExecTask> taskCaptor = ArgumentCaptor.forClass( TimerExecTask.class );
-    verify( timer ).schedule( taskCaptor.capture(), eq( 23L ) );
-    verify( timer ).schedule( taskCaptor.capture(), eq( 42L ) );
-    assertSame( taskCaptor.getAllValues().get( 0 ), taskCaptor.getAllValues().get( 1 ) );
+    assertEquals( 1, createdTasks.size() );
+    verify( createdTasks.get( 0 ) ).schedule( same( service ), eq( 23L ) );
+    verify( createdTasks.get( 0 ) ).schedule( same( service ), eq( 42L ) );
   }
 
   @Test
@@ -97,9 +104,7 @@ public class TimerExecScheduler_Test {
 
     scheduler.cancel( runnable );
 
-    ArgumentCaptor<TimerExecTask> taskCaptor = ArgumentCaptor.forClass( TimerExecTask.class );
-    verify( timer ).schedule( taskCaptor.capture(), eq( 23L ) );
-    verify( taskCaptor.getValue() ).cancel();
+    verify( createdTasks.get( 0 ) ).cancel();
   }
 
   @Test
@@ -115,10 +120,47 @@ public class TimerExecScheduler_Test {
     scheduler.cancel( runnable );
     scheduler.schedule( 42, runnable );
 
-    ArgumentCaptor<TimerExecTask> taskCaptor = ArgumentCaptor.forClass( TimerExecTask.class );
-    verify( timer ).schedule( taskCaptor.capture(), eq( 23L ) );
-    verify( timer ).schedule( taskCaptor.capture(), eq( 42L ) );
-    assertNotSame( taskCaptor.getAllValues().get( 0 ), taskCaptor.getAllValues().get( 1 ) );
+    assertEquals( 2, createdTasks.size() );
+    assertNotSame( createdTasks.get( 0 ), createdTasks.get( 1 ) );
+    verify( createdTasks.get( 1 ) ).schedule( same( service ), eq( 42L ) );
+  }
+
+  @Test
+  public void testRemoveTask() {
+    Runnable runnable = mock( Runnable.class );
+    scheduler.schedule( 23, runnable );
+
+    assertTrue( scheduler.removeTask( createdTasks.get( 0 ) ) );
+    assertFalse( scheduler.removeTask( createdTasks.get( 0 ) ) );
+  }
+
+  @Test
+  public void testRemoveTask_withCancelledTask() {
+    Runnable runnable = mock( Runnable.class );
+    scheduler.schedule( 23, runnable );
+    scheduler.cancel( runnable );
+
+    assertFalse( scheduler.removeTask( createdTasks.get( 0 ) ) );
+  }
+
+  @Test
+  public void testDispose_cancelsAllTasks() {
+    scheduler.schedule( 23, mock( Runnable.class ) );
+    scheduler.schedule( 42, mock( Runnable.class ) );
+
+    scheduler.dispose();
+
+    verify( createdTasks.get( 0 ) ).cancel();
+    verify( createdTasks.get( 1 ) ).cancel();
+  }
+
+  @Test
+  public void testGetTimerExecService_isSharedByDisplays() {
+    TimerExecScheduler scheduler = new TimerExecScheduler( display );
+
+    TimerExecService timerExecService = scheduler.getTimerExecService();
+
+    assertSame( ContextProvider.getApplicationContext().getTimerExecService(), timerExecService );
   }
 
   @Test
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2014 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -14,22 +14,29 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.util.concurrent.Future;
+
 import org.eclipse.rap.rwt.internal.serverpush.ServerPushManager;
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.swt.internal.widgets.TimerExecService;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 
 
 public class TimerExecTask_Test {
 
   private TimerExecScheduler scheduler;
+  private TimerExecService service;
   private Display display;
 
   @Before
@@ -37,6 +44,8 @@ public class TimerExecTask_Test {
     Fixture.setUp();
     display = spy( new Display() );
     scheduler = spy( new TimerExecScheduler( display ) );
+    service = mock( TimerExecService.class );
+    doReturn( service ).when( scheduler ).getTimerExecService();
   }
 
   @After
@@ -62,10 +71,54 @@ public class TimerExecTask_Test {
     assertTrue( ServerPushManager.getInstance().isServerPushActive() );
   }
 
+  @Test
+  public void testSchedule_schedulesTaskInService() {
+    TimerExecTask task = new TimerExecTask( scheduler, mock( Runnable.class ) );
+
+    task.schedule( service, 23 );
+
+    verify( service ).schedule( same( task ), eq( 23L ) );
+  }
+
+  @Test
+  public void testSchedule_updatesScheduledExecutionTime() {
+    TimerExecTask task = new TimerExecTask( scheduler, mock( Runnable.class ) );
+    long before = System.currentTimeMillis();
+
+    task.schedule( service, 1000 );
+
+    assertTrue( task.getScheduledExecutionTime() >= before + 1000 );
+    assertTrue( task.getScheduledExecutionTime() <= System.currentTimeMillis() + 1000 );
+  }
+
+  @Test
+  public void testSchedule_cancelsPreviousExecution() {
+    Future<?> future = mock( Future.class );
+    doReturn( future ).when( service ).schedule( any( Runnable.class ), eq( 23L ) );
+    TimerExecTask task = new TimerExecTask( scheduler, mock( Runnable.class ) );
+    task.schedule( service, 23 );
+
+    task.schedule( service, 42 );
+
+    verify( future ).cancel( false );
+  }
+
+  @Test
+  public void testCancel_cancelsFuture() {
+    Future<?> future = mock( Future.class );
+    doReturn( future ).when( service ).schedule( any( Runnable.class ), eq( 23L ) );
+    TimerExecTask task = new TimerExecTask( scheduler, mock( Runnable.class ) );
+    task.schedule( service, 23 );
+
+    task.cancel();
+
+    verify( future ).cancel( false );
+  }
+
   @Test
   public void testRun_removesIselfFromScheduler() {
     Runnable runnable = mock( Runnable.class );
-    TimerExecTask task = new TimerExecTask( scheduler, runnable );
+    TimerExecTask task = scheduleTask( runnable );
 
     task.run();
 
@@ -75,7 +128,7 @@ public class TimerExecTask_Test {
   @Test
   public void testRun_addsRunnableToQueue() {
     Runnable runnable = mock( Runnable.class );
-    TimerExecTask task = new TimerExecTask( scheduler, runnable );
+    TimerExecTask task = scheduleTask( runnable );
 
     task.run();
 
@@ -86,7 +139,7 @@ public class TimerExecTask_Test {
   public void testRun_doesNotAddRunnableWhenDisplayDisposed() {
     // Ensure that runnables that were added via timerExec are *not* executed on session shutdown
     Runnable runnable = mock( Runnable.class );
-    TimerExecTask task = new TimerExecTask( scheduler, runnable );
+    TimerExecTask task = scheduleTask( runnable );
     display.dispose();
 
     task.run();
@@ -94,10 +147,22 @@ public class TimerExecTask_Test {
     verify( display, times( 0 ) ).asyncExec( any( Runnable.class ) );
   }
 
+  @Test
+  public void testRun_doesNotAddRunnableWhenCancelled() {
+    // the service may already execute a task when it is cancelled
+    Runnable runnable = mock( Runnable.class );
+    TimerExecTask task = scheduleTask( runnable );
+    scheduler.cancel( runnable );
+
+    task.run();
+
+    verify( display, times( 0 ) ).asyncExec( any( Runnable.class ) );
+  }
+
   @Test
   public void testRun_deactivatesServerPush() {
     Runnable runnable = mock( Runnable.class );
-    TimerExecTask task = new TimerExecTask( scheduler, runnable );
+    TimerExecTask task = scheduleTask( runnable );
 
     task.run();
 
@@ -114,4 +179,11 @@ public class TimerExecTask_Test {
     assertFalse( ServerPushManager.getInstance().isServerPushActive() );
   }
 
+  private TimerExecTask scheduleTask( Runnable runnable ) {
+    scheduler.schedule( 23, runnable );
+    ArgumentCaptor<TimerExecTask> captor = ArgumentCaptor.forClass( TimerExecTask.class );
+    verify( service ).schedule( captor.capture(), eq( 23L ) );
+    return captor.getValue();
+  }
+
 }
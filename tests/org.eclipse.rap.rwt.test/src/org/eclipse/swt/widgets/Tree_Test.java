@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2019 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -29,6 +29,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Random;
 
 import org.eclipse.rap.rwt.RWT;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
@@ -1475,6 +1476,93 @@ public class Tree_Test {
     assertEquals( 30, item.getFlatIndex() );
   }
 
+  @Test
+  public void testGetFlatIndex_afterExpandAndCollapse() {
+    TreeItem[] rootItems = createTreeItems( tree, 3 );
+    for( TreeItem rootItem : rootItems ) {
+      createTreeItems( rootItem, 3 );
+    }
+
+    rootItems[ 0 ].setExpanded( true );
+    rootItems[ 1 ].setExpanded( true );
+
+    assertEquals( 4, rootItems[ 1 ].getFlatIndex() );
+    assertEquals( 7, rootItems[ 1 ].getItem( 2 ).getFlatIndex() );
+    assertEquals( 8, rootItems[ 2 ].getFlatIndex() );
+
+    rootItems[ 0 ].setExpanded( false );
+
+    assertEquals( 1, rootItems[ 1 ].getFlatIndex() );
+    assertEquals( 5, rootItems[ 2 ].getFlatIndex() );
+  }
+
+  @Test
+  public void testGetFlatIndex_afterInsertAndDisposeInExpandedItem() {
+    TreeItem[] rootItems = createTreeItems( tree, 2 );
+    TreeItem[] childItems = createTreeItems( rootItems[ 0 ], 2 );
+    rootItems[ 0 ].setExpanded( true );
+
+    new TreeItem( rootItems[ 0 ], SWT.NONE, 0 );
+    assertEquals( 4, rootItems[ 1 ].getFlatIndex() );
+
+    childItems[ 0 ].dispose();
+    assertEquals( 3, rootItems[ 1 ].getFlatIndex() );
+
+    rootItems[ 0 ].removeAll();
+    assertEquals( 1, rootItems[ 1 ].getFlatIndex() );
+  }
+
+  @Test
+  public void testGetFlatIndex_ignoresChangesInCollapsedItem() {
+    TreeItem[] rootItems = createTreeItems( tree, 2 );
+    TreeItem[] childItems = createTreeItems( rootItems[ 0 ], 2 );
+    rootItems[ 0 ].setExpanded( true );
+    childItems[ 1 ].setItemCount( 5 );
+
+    assertEquals( 3, rootItems[ 1 ].getFlatIndex() );
+
+    childItems[ 1 ].setExpanded( true );
+
+    assertEquals( 8, rootItems[ 1 ].getFlatIndex() );
+  }
+
+  @Test
+  public void testGetFlatIndex_matchesVisibleItemOrder() {
+    Random random = new Random( 4711 );
+    List<TreeItem> allItems = new ArrayList<>();
+    allItems.addAll( Arrays.asList( createTreeItems( tree, 20 ) ) );
+    for( int i = 0; i < 300; i++ ) {
+      TreeItem parentItem = allItems.get( random.nextInt( allItems.size() ) );
+      int index = random.nextInt( parentItem.getItemCount() + 1 );
+      allItems.add( new TreeItem( parentItem, SWT.NONE, index ) );
+    }
+    for( int i = 0; i < 200; i++ ) {
+      TreeItem item = allItems.get( random.nextInt( allItems.size() ) );
+      item.setExpanded( !item.getExpanded() );
+    }
+
+    List<TreeItem> visibleItems = new ArrayList<>();
+    collectVisibleItems( tree.getItems(), visibleItems );
+    for( int i = 0; i < visibleItems.size(); i++ ) {
+      assertEquals( i, visibleItems.get( i ).getFlatIndex() );
+      assertSame( visibleItems.get( i ), tree.getVisibleItem( i, false ) );
+    }
+    assertEquals( visibleItems.size(), tree.getVisibleItemsCount() );
+  }
+
+  @Test
+  public void testGetItemByPoint_withExpandedItem() {
+    tree.setSize( 200, 200 );
+    TreeItem[] rootItems = createTreeItems( tree, 2 );
+    TreeItem[] childItems = createTreeItems( rootItems[ 0 ], 2 );
+    rootItems[ 0 ].setExpanded( true );
+    int itemHeight = tree.getItemHeight();
+
+    assertSame( childItems[ 1 ], tree.getItem( new Point( 10, 2 * itemHeight + 1 ) ) );
+    assertSame( rootItems[ 1 ], tree.getItem( new Point( 10, 3 * itemHeight + 1 ) ) );
+    assertNull( tree.getItem( new Point( 10, 4 * itemHeight + 1 ) ) );
+  }
+
   @Test
   public void testTopItem() {
     tree.setSize( 300, 85 );
@@ -2341,6 +2429,24 @@ public class Tree_Test {
     return result;
   }
 
+  private static TreeItem[] createTreeItems( TreeItem parentItem, int number ) {
+    TreeItem[] result = new TreeItem[ number ];
+    for( int i = 0; i < number; i++ ) {
+      result[ i ] = new TreeItem( parentItem, 0 );
+      result[ i ].setText( parentItem.getText() + " - item" + i );
+    }
+    return result;
+  }
+
+  private static void collectVisibleItems( TreeItem[] items, List<TreeItem> result ) {
+    for( TreeItem item : items ) {
+      result.add( item );
+      if( item.getExpanded() ) {
+        collectVisibleItems( item.getItems(), result );
+      }
+    }
+  }
+
   private static Listener createSetDataListener() {
     return new Listener() {
       @Override
@@ -27,5 +27,7 @@ public class AllTests extends TestSuite {
         addTestSuite(ImageRegistryTest.class);
         addTestSuite(ResourceManagerTest.class);
         addTestSuite(FileImageDescriptorTest.class);
+        addTestSuite(CompositeImageCacheTest.class);
+        addTestSuite(DefaultImageRegistryTest.class);
     }
 }
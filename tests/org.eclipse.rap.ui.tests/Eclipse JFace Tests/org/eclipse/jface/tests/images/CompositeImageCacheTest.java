@@ -0,0 +1,202 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.jface.tests.images;
+
+import junit.framework.TestCase;
+
+import org.eclipse.jface.resource.CompositeImageCache;
+import org.eclipse.jface.resource.CompositeImageDescriptor;
+import org.eclipse.jface.resource.ImageDescriptor;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.PaletteData;
+import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.widgets.Display;
+
+
+public class CompositeImageCacheTest extends TestCase {
+
+  private CompositeImageCache cache;
+  // the cache is shared by all tests of the application, every test uses its own components
+  private Object token;
+  private long hitCount;
+  private long missCount;
+  private long evictionCount;
+
+  protected void setUp() throws Exception {
+    super.setUp();
+    cache = CompositeImageCache.getInstance();
+    token = new Object();
+    hitCount = cache.getHitCount();
+    missCount = cache.getMissCount();
+    evictionCount = cache.getEvictionCount();
+  }
+
+  public void testCreateImage_withEqualComponents() {
+    Image image1 = new TestDescriptor( token, new Point( 16, 16 ) ).createImage();
+    Image image2 = new TestDescriptor( token, new Point( 16, 16 ) ).createImage();
+
+    assertNotSame( image1, image2 );
+    assertSame( image1.internalImage, image2.internalImage );
+    assertEquals( 1, cache.getMissCount() - missCount );
+    assertEquals( 1, cache.getHitCount() - hitCount );
+  }
+
+  public void testCreateImage_withDifferentComponents() {
+    new TestDescriptor( token, "a" ).createImage();
+    new TestDescriptor( token, "b" ).createImage();
+
+    assertEquals( 2, cache.getMissCount() - missCount );
+    assertEquals( 0, cache.getHitCount() - hitCount );
+  }
+
+  public void testCreateImage_withDifferentSizes() {
+    Image image1 = new TestDescriptor( new Point( 16, 16 ), token ).createImage();
+    Image image2 = new TestDescriptor( new Point( 8, 8 ), token ).createImage();
+
+    assertEquals( new Point( 16, 16 ), getSize( image1 ) );
+    assertEquals( new Point( 8, 8 ), getSize( image2 ) );
+    assertEquals( 2, cache.getMissCount() - missCount );
+    assertEquals( 0, cache.getHitCount() - hitCount );
+  }
+
+  public void testCreateImage_withEqualImages() {
+    ImageData imageData = createImageData();
+    Image component1 = new Image( getDisplay(), imageData );
+    Image component2 = new Image( getDisplay(), imageData );
+
+    new TestDescriptor( token, component1 ).createImage();
+    new TestDescriptor( token, component2 ).createImage();
+
+    assertEquals( 1, cache.getHitCount() - hitCount );
+  }
+
+  public void testCreateImage_withEqualFileImageDescriptors() {
+    new TestDescriptor( token, createFileImageDescriptor() ).createImage();
+    new TestDescriptor( token, createFileImageDescriptor() ).createImage();
+
+    assertEquals( 1, cache.getMissCount() - missCount );
+    assertEquals( 1, cache.getHitCount() - hitCount );
+  }
+
+  public void testCreateImage_withEqualNestedComposites() {
+    new TestDescriptor( token, new TestDescriptor( "nested" ) ).createImage();
+    new TestDescriptor( token, new TestDescriptor( "nested" ) ).createImage();
+
+    assertEquals( 1, cache.getMissCount() - missCount );
+    assertEquals( 1, cache.getHitCount() - hitCount );
+  }
+
+  public void testCreateImage_withSessionImageDescriptor() {
+    ImageDescriptor descriptor = ImageDescriptor.createFromImageData( createImageData() );
+
+    Image image = new TestDescriptor( token, descriptor ).createImage();
+    new TestDescriptor( token, descriptor ).createImage();
+
+    assertNotNull( image );
+    assertEquals( 0, cache.getMissCount() - missCount );
+    assertEquals( 0, cache.getHitCount() - hitCount );
+  }
+
+  public void testCreateImage_withoutComponents() {
+    Image image = new TestDescriptor( ( Object[] )null ).createImage();
+
+    assertNotNull( image );
+    assertEquals( 0, cache.getMissCount() - missCount );
+    assertEquals( 0, cache.getHitCount() - hitCount );
+  }
+
+  public void testCreateImage_afterDisposingCachedImage() {
+    Image image1 = new TestDescriptor( token ).createImage();
+    image1.dispose();
+
+    Image image2 = new TestDescriptor( token ).createImage();
+
+    assertFalse( image2.isDisposed() );
+    assertSame( image1.internalImage, image2.internalImage );
+    assertEquals( 1, cache.getHitCount() - hitCount );
+  }
+
+  public void testCreateImage_evictsLeastRecentlyUsed() {
+    Object recentlyUsed = new Object();
+    new TestDescriptor( token ).createImage();
+    new TestDescriptor( recentlyUsed ).createImage();
+    for( int i = 0; i < cache.getMaxCount() - 1; i++ ) {
+      if( i == 1 ) {
+        new TestDescriptor( recentlyUsed ).createImage();
+      }
+      new TestDescriptor( token, Integer.valueOf( i ) ).createImage();
+    }
+    long misses = cache.getMissCount();
+
+    new TestDescriptor( recentlyUsed ).createImage();
+    new TestDescriptor( token ).createImage();
+
+    assertEquals( 1, cache.getMissCount() - misses );
+    assertTrue( cache.getEvictionCount() > evictionCount );
+    assertEquals( cache.getMaxCount(), cache.getCount() );
+  }
+
+  public void testGetHitRate() {
+    new TestDescriptor( token ).createImage();
+    new TestDescriptor( token ).createImage();
+
+    long lookups = cache.getHitCount() + cache.getMissCount();
+    double expected = ( double )cache.getHitCount() / lookups;
+    assertEquals( expected, cache.getHitRate(), 0.0001 );
+    assertTrue( cache.getHitRate() > 0 );
+  }
+
+  private static Point getSize( Image image ) {
+    return new Point( image.getBounds().width, image.getBounds().height );
+  }
+
+  private static Display getDisplay() {
+    return Display.getCurrent();
+  }
+
+  private static ImageData createImageData() {
+    return new ImageData( 4, 4, 24, new PaletteData( 0xFF, 0xFF00, 0xFF0000 ) );
+  }
+
+  private static ImageDescriptor createFileImageDescriptor() {
+    return ImageDescriptor.createFromFile( CompositeImageCacheTest.class, "anything.gif" );
+  }
+
+  private static class TestDescriptor extends CompositeImageDescriptor {
+
+    private final Object[] components;
+    private final Point size;
+
+    TestDescriptor( Object... components ) {
+      this.components = components;
+      Point point = null;
+      if( components != null && components.length > 0 && components[ 0 ] instanceof Point ) {
+        point = ( Point )components[ 0 ];
+      }
+      size = point != null ? point : new Point( 16, 16 );
+    }
+
+    protected void drawCompositeImage( int width, int height ) {
+      // the composed image stays transparent
+    }
+
+    protected Point getSize() {
+      return size;
+    }
+
+    protected Object[] getComponents() {
+      return components;
+    }
+
+  }
+
+}
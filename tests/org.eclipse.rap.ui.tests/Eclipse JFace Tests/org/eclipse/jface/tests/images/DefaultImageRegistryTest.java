@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.jface.tests.images;
+
+import junit.framework.TestCase;
+
+import org.eclipse.jface.dialogs.Dialog;
+import org.eclipse.jface.resource.ImageDescriptor;
+import org.eclipse.jface.resource.ImageRegistry;
+import org.eclipse.jface.resource.JFaceResources;
+import org.eclipse.rap.rwt.internal.service.ContextProvider;
+import org.eclipse.rap.rwt.internal.service.ServiceContext;
+import org.eclipse.rap.rwt.internal.service.UISessionBuilder;
+import org.eclipse.rap.rwt.internal.service.UISessionImpl;
+import org.eclipse.rap.rwt.service.UISession;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.widgets.Display;
+
+
+/*
+ * The JFace image registry is created per session, the default image descriptors that it is
+ * initialized with are shared by all sessions of an application.
+ */
+public class DefaultImageRegistryTest extends TestCase {
+
+  private static final String KEY = Dialog.DLG_IMG_MESSAGE_INFO;
+
+  public void testDefaultDescriptors_areResolvedOncePerApplication() {
+    ImageDescriptor descriptor = JFaceResources.getImageRegistry().getDescriptor( KEY );
+
+    ImageDescriptor otherDescriptor = ( ImageDescriptor )runInOtherSession( new Task() {
+      public Object run() {
+        return JFaceResources.getImageRegistry().getDescriptor( KEY );
+      }
+    } );
+
+    assertNotNull( descriptor );
+    assertSame( descriptor, otherDescriptor );
+  }
+
+  public void testImageRegistry_isCreatedPerSession() {
+    ImageRegistry registry = JFaceResources.getImageRegistry();
+
+    ImageRegistry otherRegistry = ( ImageRegistry )runInOtherSession( new Task() {
+      public Object run() {
+        return JFaceResources.getImageRegistry();
+      }
+    } );
+
+    assertNotSame( registry, otherRegistry );
+  }
+
+  public void testImages_areCreatedPerSession() {
+    Image image = JFaceResources.getImage( KEY );
+
+    Object[] other = ( Object[] )runInOtherSession( new Task() {
+      public Object run() {
+        Image otherImage = JFaceResources.getImage( KEY );
+        return new Object[] { otherImage, otherImage.getDevice() };
+      }
+    } );
+
+    assertNotNull( image );
+    assertNotSame( image, other[ 0 ] );
+    assertSame( Display.getCurrent(), image.getDevice() );
+    assertNotSame( image.getDevice(), other[ 1 ] );
+  }
+
+  public void testChanges_doNotLeakIntoOtherSessions() {
+    final ImageDescriptor descriptor = ImageDescriptor.getMissingImageDescriptor();
+    JFaceResources.getImageRegistry().put( "session.key", descriptor );
+
+    Object[] other = ( Object[] )runInOtherSession( new Task() {
+      public Object run() {
+        ImageRegistry otherRegistry = JFaceResources.getImageRegistry();
+        Object[] result = new Object[] {
+          otherRegistry.getDescriptor( "session.key" ),
+          otherRegistry.getDescriptor( KEY )
+        };
+        otherRegistry.remove( KEY );
+        otherRegistry.put( "other.session.key", descriptor );
+        return result;
+      }
+    } );
+
+    assertNull( other[ 0 ] );
+    assertNotNull( other[ 1 ] );
+    ImageRegistry registry = JFaceResources.getImageRegistry();
+    assertNotNull( registry.getDescriptor( KEY ) );
+    assertNull( registry.getDescriptor( "other.session.key" ) );
+    registry.remove( "session.key" );
+  }
+
+  private static Object runInOtherSession( Task task ) {
+    ServiceContext serviceContext = ContextProvider.getContext();
+    UISession uiSession = serviceContext.getUISession();
+    UISessionImpl otherUISession = new UISessionBuilder( serviceContext ).buildUISession();
+    Display display = new Display();
+    try {
+      return task.run();
+    } finally {
+      display.dispose();
+      otherUISession.shutdown();
+      serviceContext.setUISession( uiSession );
+    }
+  }
+
+  private interface Task {
+    Object run();
+  }
+
+}
@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.ui.tests.internal;
+
+import org.eclipse.ui.internal.WorkbenchPlugin;
+import org.eclipse.ui.internal.registry.RegistrySnapshots;
+import org.eclipse.ui.internal.registry.ViewRegistry;
+import org.eclipse.ui.views.IViewCategory;
+import org.eclipse.ui.views.IViewDescriptor;
+import org.eclipse.ui.wizards.IWizardCategory;
+import org.eclipse.ui.wizards.IWizardRegistry;
+
+import junit.framework.TestCase;
+
+
+public class RegistrySnapshotsTest extends TestCase {
+
+  public RegistrySnapshotsTest( String name ) {
+    super( name );
+  }
+
+  public void testViewRegistriesShareDescriptors() {
+    ViewRegistry registry = ( ViewRegistry )WorkbenchPlugin.getDefault().getViewRegistry();
+    IViewDescriptor[] views = registry.getViews();
+    assertTrue( views.length > 0 );
+
+    ViewRegistry otherRegistry = new ViewRegistry();
+
+    for( int i = 0; i < views.length; i++ ) {
+      assertSame( views[ i ], otherRegistry.findInternal( views[ i ].getId() ) );
+    }
+  }
+
+  public void testViewRegistriesShareCategoryMapping() {
+    ViewRegistry registry = ( ViewRegistry )WorkbenchPlugin.getDefault().getViewRegistry();
+    IViewCategory[] categories = registry.getCategories();
+
+    ViewRegistry otherRegistry = new ViewRegistry();
+
+    for( int i = 0; i < categories.length; i++ ) {
+      IViewCategory otherCategory = otherRegistry.findCategory( categories[ i ].getId() );
+      assertEquals( categories[ i ], otherCategory );
+      assertEquals( categories[ i ].getViews().length, otherCategory.getViews().length );
+    }
+  }
+
+  public void testViewRegistryDoesNotCreateSnapshot() {
+    WorkbenchPlugin.getDefault().getViewRegistry().getViews();
+    int count = RegistrySnapshots.getInstance().getSnapshotCount();
+
+    new ViewRegistry().getViews();
+
+    assertEquals( count, RegistrySnapshots.getInstance().getSnapshotCount() );
+  }
+
+  public void testWizardRegistryReturnsSameRootCategory() {
+    IWizardRegistry registry = WorkbenchPlugin.getDefault().getNewWizardRegistry();
+
+    IWizardCategory rootCategory = registry.getRootCategory();
+
+    assertSame( rootCategory, registry.getRootCategory() );
+  }
+
+}